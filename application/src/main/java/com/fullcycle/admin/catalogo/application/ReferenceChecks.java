@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalogo.application;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.fullcycle.admin.catalogo.application.UseCaseExecutors.await;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+/**
+ * Checks that the categories, genres and cast members an aggregate refers to exist.
+ */
+public final class ReferenceChecks {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final Executor executor;
+
+    public ReferenceChecks(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            final Executor executor
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Runs the three existence checks concurrently and merges their errors in a fixed order
+     * (categories, genres, cast members), regardless of which lookup finishes first.
+     */
+    public Notification validate(
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> members
+    ) {
+        final var categoriesCheck = supplyAsync(
+                () -> validateAggregate("categories", categories, this.categoryGateway::existsByIds), this.executor);
+        final var genresCheck = supplyAsync(
+                () -> validateAggregate("genres", genres, this.genreGateway::existsByIds), this.executor);
+        final var membersCheck = supplyAsync(
+                () -> validateAggregate("cast members", members, this.castMemberGateway::existsByIds), this.executor);
+
+        final var notification = Notification.create();
+        notification.append(await(categoriesCheck));
+        notification.append(await(genresCheck));
+        notification.append(await(membersCheck));
+        return notification;
+    }
+
+    private static <T extends Identifier> ValidationHandler validateAggregate(
+            final String aggregate,
+            final Set<T> ids,
+            final Function<Iterable<T>, List<T>> existsByIds
+    ) {
+        final var notification = Notification.create();
+        if (ids == null || ids.isEmpty()) {
+            return notification;
+        }
+
+        final var retrievedIds = existsByIds.apply(ids);
+
+        if (ids.size() != retrievedIds.size()) {
+            final var missingIds = new ArrayList<>(ids);
+            missingIds.removeAll(retrievedIds);
+
+            final var missingIdsMessage = missingIds.stream()
+                    .map(Identifier::getValue)
+                    .collect(Collectors.joining(", "));
+
+            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage)));
+        }
+
+        return notification;
+    }
+}
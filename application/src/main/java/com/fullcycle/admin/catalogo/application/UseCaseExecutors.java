@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.application;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for the blocking work use cases fan out, such as gateway lookups.
+ * <p>
+ * Uses a virtual thread per task when the running JDK provides them, and falls back to a cached
+ * pool of daemon threads otherwise.
+ */
+public final class UseCaseExecutors {
+
+    private static final ExecutorService IO = newIoExecutor();
+
+    private UseCaseExecutors() {
+    }
+
+    public static ExecutorService io() {
+        return IO;
+    }
+
+    /**
+     * Waits for {@code aFuture} and rethrows the task's own exception instead of the {@link CompletionException}
+     * that wraps it.
+     */
+    public static <T> T await(final CompletableFuture<T> aFuture) {
+        try {
+            return aFuture.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (e.getCause() instanceof Error err) {
+                throw err;
+            }
+            throw e;
+        }
+    }
+
+    private static ExecutorService newIoExecutor() {
+        try {
+            final var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            final var counter = new AtomicInteger();
+            return Executors.newCachedThreadPool(task -> {
+                final var thread = new Thread(task, "use-case-io-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalogo.application.bulk;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record BulkCreateOutput(
+        int created,
+        int failed,
+        List<Item> items
+) {
+
+    public static BulkCreateOutput from(final List<Item> items) {
+        final var created = (int) items.stream().filter(Item::isCreated).count();
+        return new BulkCreateOutput(created, items.size() - created, items);
+    }
+
+    public record Item(
+            int index,
+            String id,
+            List<Error> errors
+    ) {
+
+        public static Item created(final int anIndex, final String anId) {
+            return new Item(anIndex, anId, List.of());
+        }
+
+        public static Item failed(final int anIndex, final List<Error> errors) {
+            return new Item(anIndex, null, List.copyOf(errors));
+        }
+
+        public boolean isCreated() {
+            return this.id != null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalogo.application.bulk;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Persists the aggregates of a bulk create that passed validation in chunks of at most {@code chunkSize}, one
+ * gateway call per chunk, and reports the outcome of every item at the index it was given.
+ * <p>
+ * Each chunk stands on its own: one that fails to persist fails all of its items with the cause, while the chunks
+ * before it stay created and the ones after it are still attempted.
+ */
+public final class BulkCreation {
+
+    private BulkCreation() {
+    }
+
+    public static <A> BulkCreateOutput create(
+            final List<Either<Notification, A>> validated,
+            final int chunkSize,
+            final Function<List<A>, List<A>> persist,
+            final Function<A, String> anId
+    ) {
+        final var items = new BulkCreateOutput.Item[validated.size()];
+        final var pendingIndexes = new ArrayList<Integer>();
+        final var pending = new ArrayList<A>();
+
+        for (int i = 0; i < validated.size(); i++) {
+            final var actual = validated.get(i);
+            if (actual.isLeft()) {
+                items[i] = BulkCreateOutput.Item.failed(i, actual.getLeft().getErrors());
+            } else {
+                pendingIndexes.add(i);
+                pending.add(actual.get());
+            }
+        }
+
+        for (int start = 0; start < pending.size(); start += chunkSize) {
+            final var end = Math.min(start + chunkSize, pending.size());
+            final var chunk = List.copyOf(pending.subList(start, end));
+
+            try {
+                persist.apply(chunk);
+                for (int j = start; j < end; j++) {
+                    final var index = pendingIndexes.get(j);
+                    items[index] = BulkCreateOutput.Item.created(index, anId.apply(pending.get(j)));
+                }
+            } catch (final RuntimeException e) {
+                final var errors = List.of(new Error(e.getMessage()));
+                for (int j = start; j < end; j++) {
+                    final var index = pendingIndexes.get(j);
+                    items[index] = BulkCreateOutput.Item.failed(index, errors);
+                }
+            }
+        }
+
+        return BulkCreateOutput.from(Arrays.asList(items));
+    }
+}
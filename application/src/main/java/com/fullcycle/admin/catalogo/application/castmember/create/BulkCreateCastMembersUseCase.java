@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.application.castmember.create;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.bulk.BulkCreateOutput;
+
+import java.util.List;
+
+public sealed abstract class BulkCreateCastMembersUseCase
+        extends UseCase<List<CreateCastMemberCommand>, BulkCreateOutput>
+        permits DefaultBulkCreateCastMembersUseCase {
+}
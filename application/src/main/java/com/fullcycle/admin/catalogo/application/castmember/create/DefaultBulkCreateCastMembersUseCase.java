@@ -0,0 +1,48 @@
+package com.fullcycle.admin.catalogo.application.castmember.create;
+
+import com.fullcycle.admin.catalogo.application.bulk.BulkCreateOutput;
+import com.fullcycle.admin.catalogo.application.bulk.BulkCreation;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.List;
+import java.util.Objects;
+
+public non-sealed class DefaultBulkCreateCastMembersUseCase extends BulkCreateCastMembersUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+    private final int chunkSize;
+
+    public DefaultBulkCreateCastMembersUseCase(final CastMemberGateway castMemberGateway, final int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("'chunkSize' should be greater than zero");
+        }
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BulkCreateOutput execute(final List<CreateCastMemberCommand> aCommands) {
+        final var validated = aCommands.stream()
+                .map(this::validate)
+                .toList();
+
+        return BulkCreation.create(
+                validated,
+                this.chunkSize,
+                this.castMemberGateway::createAll,
+                aMember -> aMember.getId().getValue()
+        );
+    }
+
+    private Either<Notification, CastMember> validate(final CreateCastMemberCommand aCommand) {
+        final var notification = Notification.create();
+
+        final var aMember = notification.validate(() -> CastMember.newMember(aCommand.name(), aCommand.type()));
+
+        return notification.hasError() ? API.Left(notification) : API.Right(aMember);
+    }
+}
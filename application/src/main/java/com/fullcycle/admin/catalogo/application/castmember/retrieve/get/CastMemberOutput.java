@@ -10,7 +10,8 @@ public record CastMemberOutput(
         String name,
         CastMemberType type,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        long version
 ) {
 
     public static CastMemberOutput from(final CastMember aMember) {
@@ -19,7 +20,8 @@ public record CastMemberOutput(
                 aMember.getName(),
                 aMember.getType(),
                 aMember.getCreatedAt(),
-                aMember.getUpdatedAt()
+                aMember.getUpdatedAt(),
+                aMember.getVersion()
         );
     }
 }
\ No newline at end of file
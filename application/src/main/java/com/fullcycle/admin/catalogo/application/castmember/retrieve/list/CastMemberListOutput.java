@@ -9,7 +9,8 @@ public record CastMemberListOutput(
         String id,
         String name,
         CastMemberType type,
-        Instant createdAt
+        Instant createdAt,
+        Instant updatedAt
 ) {
 
     public static CastMemberListOutput from(final CastMember aMember) {
@@ -17,7 +18,8 @@ public record CastMemberListOutput(
                 aMember.getId().getValue(),
                 aMember.getName(),
                 aMember.getType(),
-                aMember.getCreatedAt()
+                aMember.getCreatedAt(),
+                aMember.getUpdatedAt()
         );
     }
 }
\ No newline at end of file
@@ -25,8 +25,10 @@ public non-sealed class DefaultUpdateCastMemberUseCase extends UpdateCastMemberU
         final var aName = aCommand.name();
         final var aType = aCommand.type();
 
-        final var aMember = this.castMemberGateway.findById(anId)
-                .orElseThrow(notFound(anId));
+        final var aMember = atExpectedVersion(
+                this.castMemberGateway.findById(anId).orElseThrow(notFound(anId)),
+                aCommand.expectedVersion()
+        );
 
         final var notification = Notification.create();
         notification.validate(() -> aMember.update(aName, aType));
@@ -38,6 +40,13 @@ public non-sealed class DefaultUpdateCastMemberUseCase extends UpdateCastMemberU
         return UpdateCastMemberOutput.from(this.castMemberGateway.update(aMember));
     }
 
+    /**
+     * Takes the caller's version on trust: if it is no longer the stored one, the conditional update fails.
+     */
+    private static CastMember atExpectedVersion(final CastMember aMember, final Long anExpectedVersion) {
+        return anExpectedVersion != null ? CastMember.with(aMember, anExpectedVersion) : aMember;
+    }
+
     private void notify(final Identifier anId, final Notification notification) {
         throw new NotificationException("Could not update Aggregate CastMember %s".formatted(anId.getValue()), notification);
     }
@@ -5,13 +5,26 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
 public record UpdateCastMemberCommand(
         String id,
         String name,
-        CastMemberType type
+        CastMemberType type,
+        Long expectedVersion
 ) {
     public static UpdateCastMemberCommand with(
             final String anId,
             final String aName,
             final CastMemberType aType
     ) {
-        return new UpdateCastMemberCommand(anId, aName, aType);
+        return with(anId, aName, aType, null);
+    }
+
+    /**
+     * @param anExpectedVersion the version the caller last read, or {@code null} to update whatever is stored
+     */
+    public static UpdateCastMemberCommand with(
+            final String anId,
+            final String aName,
+            final CastMemberType aType,
+            final Long anExpectedVersion
+    ) {
+        return new UpdateCastMemberCommand(anId, aName, aType, anExpectedVersion);
     }
 }
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.bulk.BulkCreateOutput;
+
+import java.util.List;
+
+public abstract class BulkCreateCategoriesUseCase
+        extends UseCase<List<CreateCategoryCommand>, BulkCreateOutput> {
+}
@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.bulk.BulkCreateOutput;
+import com.fullcycle.admin.catalogo.application.bulk.BulkCreation;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBulkCreateCategoriesUseCase extends BulkCreateCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int chunkSize;
+
+    public DefaultBulkCreateCategoriesUseCase(final CategoryGateway categoryGateway, final int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("'chunkSize' should be greater than zero");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BulkCreateOutput execute(final List<CreateCategoryCommand> aCommands) {
+        final var validated = aCommands.stream()
+                .map(this::validate)
+                .toList();
+
+        return BulkCreation.create(
+                validated,
+                this.chunkSize,
+                this.categoryGateway::createAll,
+                aCategory -> aCategory.getId().getValue()
+        );
+    }
+
+    private Either<Notification, Category> validate(final CreateCategoryCommand aCommand) {
+        final var notification = Notification.create();
+
+        final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+        aCategory.validate(notification);
+
+        return notification.hasError() ? API.Left(notification) : API.Right(aCategory);
+    }
+}
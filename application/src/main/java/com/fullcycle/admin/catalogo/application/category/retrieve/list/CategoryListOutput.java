@@ -11,6 +11,7 @@ public record CategoryListOutput(
         String description,
         boolean isActive,
         Instant createdAt,
+        Instant updatedAt,
         Instant deletedAt
 ) {
     public static CategoryListOutput from(final Category aCategory){
@@ -20,6 +21,7 @@ public record CategoryListOutput(
                 aCategory.getDescription(),
                 aCategory.isActive(),
                 aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
                 aCategory.getDeletedAt()
         );
     }
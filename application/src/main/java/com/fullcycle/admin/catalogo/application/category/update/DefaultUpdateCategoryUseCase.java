@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.application.category.update;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
@@ -27,8 +28,10 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase{
         final var aDescription = aCommand.description();
         final var isActive = aCommand.isActive();
 
-        final var acategory = this.categoryGateway.findById(anId)
-                .orElseThrow(notFound(anId.getValue()));
+        final var acategory = atExpectedVersion(
+                this.categoryGateway.findById(anId).orElseThrow(notFound(anId.getValue())),
+                aCommand.expectedVersion()
+        );
 
         final var notification = Notification.create();
         acategory.update(aName, aDescription, isActive)
@@ -39,9 +42,24 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase{
     private Either<Notification, UpdateCategoryOutput> update(final Category acategory) {
         return API.Try(()-> this.categoryGateway.update(acategory))
                 .toEither()
+                .peekLeft(DefaultUpdateCategoryUseCase::rethrowConflict)
                 .bimap(Notification::create, UpdateCategoryOutput::from);
     }
 
+    /**
+     * Writes at the version the caller expects rather than comparing it to the one just read, which may come from a
+     * cache: the gateway's update only succeeds if it is still the stored one.
+     */
+    private static Category atExpectedVersion(final Category aCategory, final Long anExpectedVersion) {
+        return anExpectedVersion != null ? Category.with(aCategory, anExpectedVersion) : aCategory;
+    }
+
+    private static void rethrowConflict(final Throwable t) {
+        if (t instanceof ConflictException conflict) {
+            throw conflict;
+        }
+    }
+
     private static Supplier<DomainException> notFound(final String anId) {
         return () -> NotFoundException.with(
                 new Error("Category with ID %s was not found".formatted(anId)));
@@ -4,7 +4,8 @@ public record UpdateCategoryCommand(
         String id,
         String name,
         String description,
-        boolean isActive
+        boolean isActive,
+        Long expectedVersion
 ) {
     public static UpdateCategoryCommand with(
             final String anId,
@@ -12,6 +13,19 @@ public record UpdateCategoryCommand(
             final String aDescription,
             final boolean isActive
     ){
-        return new UpdateCategoryCommand(anId, aName, aDescription, isActive);
+        return with(anId, aName, aDescription, isActive, null);
+    }
+
+    /**
+     * @param anExpectedVersion the version the caller last read, or {@code null} to update whatever is stored
+     */
+    public static UpdateCategoryCommand with(
+            final String anId,
+            final String aName,
+            final String aDescription,
+            final boolean isActive,
+            final Long anExpectedVersion
+    ){
+        return new UpdateCategoryCommand(anId, aName, aDescription, isActive, anExpectedVersion);
     }
 }
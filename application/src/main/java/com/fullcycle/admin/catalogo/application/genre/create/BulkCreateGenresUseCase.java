@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.application.genre.create;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.bulk.BulkCreateOutput;
+
+import java.util.List;
+
+public abstract class BulkCreateGenresUseCase
+        extends UseCase<List<CreateGenreCommand>, BulkCreateOutput> {
+}
@@ -0,0 +1,94 @@
+package com.fullcycle.admin.catalogo.application.genre.create;
+
+import com.fullcycle.admin.catalogo.application.bulk.BulkCreateOutput;
+import com.fullcycle.admin.catalogo.application.bulk.BulkCreation;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class DefaultBulkCreateGenresUseCase extends BulkCreateGenresUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final int chunkSize;
+
+    public DefaultBulkCreateGenresUseCase(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final int chunkSize
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("'chunkSize' should be greater than zero");
+        }
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BulkCreateOutput execute(final List<CreateGenreCommand> aCommands) {
+        final var existingCategories = existingCategories(aCommands);
+
+        final var validated = aCommands.stream()
+                .map(aCommand -> validate(aCommand, existingCategories))
+                .toList();
+
+        return BulkCreation.create(
+                validated,
+                this.chunkSize,
+                this.genreGateway::createAll,
+                aGenre -> aGenre.getId().getValue()
+        );
+    }
+
+    private Set<CategoryID> existingCategories(final List<CreateGenreCommand> aCommands) {
+        final var ids = aCommands.stream()
+                .flatMap(aCommand -> toCategoryId(aCommand.categories()).stream())
+                .distinct()
+                .toList();
+
+        return ids.isEmpty() ? Set.of() : new HashSet<>(this.categoryGateway.existsByIds(ids));
+    }
+
+    private Either<Notification, Genre> validate(final CreateGenreCommand aCommand, final Set<CategoryID> existingCategories) {
+        final var categories = toCategoryId(aCommand.categories());
+        final var notification = Notification.create();
+
+        final var missingIdsMessage = categories.stream()
+                .filter(anId -> !existingCategories.contains(anId))
+                .map(CategoryID::getValue)
+                .collect(Collectors.joining(", "));
+        if (!missingIdsMessage.isEmpty()) {
+            notification.append(new Error("Some categories could not be found: %s".formatted(missingIdsMessage)));
+        }
+
+        final var aGenre = notification.validate(() -> Genre.newGenre(aCommand.name(), aCommand.isActive()));
+
+        if (notification.hasError()) {
+            return API.Left(notification);
+        }
+
+        aGenre.addCategories(categories);
+        return API.Right(aGenre);
+    }
+
+    private List<CategoryID> toCategoryId(final List<String> categories) {
+        if (categories == null) {
+            return List.of();
+        }
+        return categories.stream()
+                .map(CategoryID::from)
+                .toList();
+    }
+}
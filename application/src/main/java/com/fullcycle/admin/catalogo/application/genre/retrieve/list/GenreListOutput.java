@@ -12,6 +12,7 @@ public record GenreListOutput(
         boolean isActive,
         List<String> categories,
         Instant createdAt,
+        Instant updatedAt,
         Instant deletedAt
 ) {
 
@@ -22,6 +23,7 @@ public record GenreListOutput(
                 aGenre.isActive(),
                 aGenre.getCategories().stream().map(CategoryID::getValue).toList(),
                 aGenre.getCreatedAt(),
+                aGenre.getUpdatedAt(),
                 aGenre.getDeletedAt()
         );
     }
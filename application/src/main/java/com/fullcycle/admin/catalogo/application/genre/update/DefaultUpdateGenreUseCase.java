@@ -38,7 +38,10 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase{
         final var isActive = aCommand.isActive();
         final var categories = toCategoriesId(aCommand.categories());
 
-        final var aGenre = this.genreGateway.findById(anId).orElseThrow(notFound(anId));
+        final var aGenre = atExpectedVersion(
+                this.genreGateway.findById(anId).orElseThrow(notFound(anId)),
+                aCommand.expectedVersion()
+        );
 
         final var notification = Notification.create();
         notification.append(validateCategories(categories));
@@ -51,6 +54,14 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase{
         return UpdateGenreOutput.from(this.genreGateway.update(aGenre));
     }
 
+    /**
+     * The genre as of the caller's version, so that the stored row, not a possibly cached read, decides whether
+     * that version is still current.
+     */
+    private static Genre atExpectedVersion(final Genre aGenre, final Long anExpectedVersion) {
+        return anExpectedVersion != null ? Genre.with(aGenre, anExpectedVersion) : aGenre;
+    }
+
     private ValidationHandler validateCategories(List<CategoryID> ids) {
         final var notification = Notification.create();
         if (ids == null || ids.isEmpty()){
@@ -6,7 +6,8 @@ public record UpdateGenreCommand(
         String id,
         String name,
         boolean isActive,
-        List<String> categories
+        List<String> categories,
+        Long expectedVersion
 ) {
 
     public static UpdateGenreCommand with(
@@ -15,6 +16,19 @@ public record UpdateGenreCommand(
            final Boolean isActive,
            final List<String> categories
     ){
-        return new UpdateGenreCommand(id, name, isActive != null ? isActive : true , categories);
+        return with(id, name, isActive, categories, null);
+    }
+
+    /**
+     * @param expectedVersion the version the caller last read, or {@code null} to update whatever is stored
+     */
+    public static UpdateGenreCommand with(
+           final String id,
+           final String name,
+           final Boolean isActive,
+           final List<String> categories,
+           final Long expectedVersion
+    ){
+        return new UpdateGenreCommand(id, name, isActive != null ? isActive : true , categories, expectedVersion);
     }
 }
@@ -0,0 +1,191 @@
+package com.fullcycle.admin.catalogo.application.video.create;
+
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Stores the media of a video concurrently, one task per asset.
+ * <p>
+ * {@link #awaitAll()} returns as soon as every store succeeded or the first one failed. On failure the
+ * remaining stores are cancelled (interrupting the ones already running) and the call only returns once
+ * none of them can write anything else, so cleaning up afterwards is safe. The same holds when the executor
+ * rejects a store: {@link #submit} cancels and waits for the ones already running before rethrowing.
+ */
+final class ConcurrentMediaStore {
+
+    private final Executor executor;
+    private final List<StoreTask<?>> tasks = new ArrayList<>();
+    private final BlockingQueue<StoreTask<?>> completed = new LinkedBlockingQueue<>();
+
+    ConcurrentMediaStore(final Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    <T> StoreTask<T> submit(
+            final VideoMediaType aType,
+            final Optional<Resource> aResource,
+            final Function<Resource, T> store
+    ) {
+        final var aTask = new StoreTask<>(aType, new Store<>(aResource.orElse(null), store));
+        if (aResource.isPresent()) {
+            this.tasks.add(aTask);
+            try {
+                this.executor.execute(aTask);
+            } catch (final RejectedExecutionException e) {
+                cancelAll();
+                throw e;
+            }
+        }
+        return aTask;
+    }
+
+    void awaitAll() {
+        try {
+            for (int i = 0; i < this.tasks.size(); i++) {
+                final var aTask = this.completed.take();
+                try {
+                    aTask.get();
+                } catch (final ExecutionException e) {
+                    throw rethrow(e.getCause());
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll();
+            throw new CancellationException("Interrupted while storing video medias");
+        } catch (final RuntimeException | Error e) {
+            cancelAll();
+            throw e;
+        }
+    }
+
+    Map<VideoMediaType, Duration> timings() {
+        final var timings = new EnumMap<VideoMediaType, Duration>(VideoMediaType.class);
+        this.tasks.stream()
+                .filter(it -> it.store.elapsed != null)
+                .forEach(it -> timings.put(it.type, it.store.elapsed));
+        return Collections.unmodifiableMap(timings);
+    }
+
+    private void cancelAll() {
+        this.tasks.forEach(it -> it.cancel(true));
+
+        var interrupted = false;
+        for (final var aTask : this.tasks) {
+            interrupted |= aTask.store.awaitTermination();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable t) {
+        if (t instanceof RuntimeException re) {
+            return re;
+        }
+        if (t instanceof Error err) {
+            throw err;
+        }
+        return new IllegalStateException(t);
+    }
+
+    final class StoreTask<T> extends FutureTask<T> {
+
+        private final VideoMediaType type;
+        private final Store<T> store;
+
+        private StoreTask(final VideoMediaType aType, final Store<T> aStore) {
+            super(aStore);
+            this.type = aType;
+            this.store = aStore;
+        }
+
+        /**
+         * The stored media, or null when there was nothing to store. Only meaningful after {@link #awaitAll()}.
+         */
+        T result() {
+            if (!isDone() || isCancelled()) {
+                return null;
+            }
+            try {
+                return get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (final ExecutionException e) {
+                return null;
+            }
+        }
+
+        @Override
+        protected void done() {
+            completed.add(this);
+        }
+    }
+
+    private static final class Store<T> implements Callable<T> {
+
+        private final Resource resource;
+        private final Function<Resource, T> store;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile Duration elapsed;
+
+        private Store(final Resource aResource, final Function<Resource, T> aStore) {
+            this.resource = aResource;
+            this.store = aStore;
+        }
+
+        @Override
+        public T call() {
+            if (!this.claimed.compareAndSet(false, true)) {
+                throw new CancellationException();
+            }
+            final var startedAt = System.nanoTime();
+            try {
+                return this.store.apply(this.resource);
+            } finally {
+                this.elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+                this.finished.countDown();
+            }
+        }
+
+        /**
+         * Waits for the store to stop if it already started; returns whether the wait was interrupted.
+         */
+        private boolean awaitTermination() {
+            if (this.claimed.compareAndSet(false, true)) {
+                return false;
+            }
+            var interrupted = false;
+            while (true) {
+                try {
+                    this.finished.await();
+                    return interrupted;
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package com.fullcycle.admin.catalogo.application.video.create;
 
 import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 
-public record CreateVideoOutput(String id) {
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * {@code mediaTimings} holds how long storing each uploaded asset took.
+ */
+public record CreateVideoOutput(String id, Map<VideoMediaType, Duration> mediaTimings) {
     public static CreateVideoOutput from(final Video aVideo) {
-        return new CreateVideoOutput(aVideo.getId().getValue());
+        return from(aVideo, Map.of());
+    }
+
+    public static CreateVideoOutput from(final Video aVideo, final Map<VideoMediaType, Duration> mediaTimings) {
+        return new CreateVideoOutput(aVideo.getId().getValue(), mediaTimings);
     }
 }
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.application.video.create;
 
-import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.application.ReferenceChecks;
+import com.fullcycle.admin.catalogo.application.UseCaseExecutors;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
@@ -9,42 +10,56 @@ import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
-import com.fullcycle.admin.catalogo.domain.validation.Error;
-import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
-import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJob;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJobGateway;
 import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
 import com.fullcycle.admin.catalogo.domain.video.Rating;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
 
 import java.time.Year;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.*;
+
 public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
 
-    private final CategoryGateway categoryGateway;
-    private final CastMemberGateway castMemberGateway;
-    private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
     private final VideoGateway videoGateway;
+    private final EncodingJobGateway encodingJobGateway;
+    private final ReferenceChecks references;
+    private final Executor executor;
+
+    public DefaultCreateVideoUseCase(
+            final CategoryGateway categoryGateway,
+            final CastMemberGateway castMemberGateway,
+            final GenreGateway genreGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            final VideoGateway videoGateway,
+            final EncodingJobGateway encodingJobGateway
+    ) {
+        this(categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, videoGateway, encodingJobGateway, UseCaseExecutors.io());
+    }
 
     public DefaultCreateVideoUseCase(
             final CategoryGateway categoryGateway,
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
             final MediaResourceGateway mediaResourceGateway,
-            final VideoGateway videoGateway
+            final VideoGateway videoGateway,
+            final EncodingJobGateway encodingJobGateway,
+            final Executor executor
     ) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.encodingJobGateway = Objects.requireNonNull(encodingJobGateway);
+        this.executor = Objects.requireNonNull(executor);
+        this.references = new ReferenceChecks(categoryGateway, genreGateway, castMemberGateway, executor);
     }
 
     @Override
@@ -55,10 +70,7 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         final var genres = toIdentifier(aCommand.genres(), GenreID::from);
         final var members = toIdentifier(aCommand.members(), CastMemberID::from);
 
-        final var notification = Notification.create();
-        notification.append(validateCategories(categories));
-        notification.append(validateGenres(genres));
-        notification.append(validateMembers(members));
+        final var notification = this.references.validate(categories, genres, members);
 
         final var aVideo = Video.newVideo(
                 aCommand.title(),
@@ -79,40 +91,39 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
             throw new NotificationException("Could not create Aggregate Video", notification);
         }
 
-        return CreateVideoOutput.from(create(aCommand, aVideo));
+        return create(aCommand, aVideo);
     }
 
-    private Video create(final CreateVideoCommand aCommand, final Video aVideo) {
+    private CreateVideoOutput create(final CreateVideoCommand aCommand, final Video aVideo) {
         final var anId = aVideo.getId();
+        final var medias = new ConcurrentMediaStore(this.executor);
+        final Video aCreatedVideo;
 
         try {
-            final var aVideoMedia = aCommand.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, it))
-                    .orElse(null);
+            final var aVideoMedia = medias.submit(VIDEO, aCommand.getVideo(),
+                    it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, VIDEO)));
 
-            final var aTrailerMedia = aCommand.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, it))
-                    .orElse(null);
+            final var aTrailerMedia = medias.submit(TRAILER, aCommand.getTrailer(),
+                    it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, TRAILER)));
 
-            final var aBannerMedia = aCommand.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, it))
-                    .orElse(null);
+            final var aBannerMedia = medias.submit(BANNER, aCommand.getBanner(),
+                    it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, BANNER)));
 
-            final var aThumbnailMedia = aCommand.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, it))
-                    .orElse(null);
+            final var aThumbnailMedia = medias.submit(THUMBNAIL, aCommand.getThumbnail(),
+                    it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, THUMBNAIL)));
 
-            final var aThumbHalfMedia = aCommand.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, it))
-                    .orElse(null);
+            final var aThumbHalfMedia = medias.submit(THUMBNAIL_HALF, aCommand.getThumbnailHalf(),
+                    it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, THUMBNAIL_HALF)));
 
-            return this.videoGateway.create(
+            medias.awaitAll();
+
+            aCreatedVideo = this.videoGateway.create(
                     aVideo
-                            .setVideo(aVideoMedia)
-                            .setTrailer(aTrailerMedia)
-                            .setBanner(aBannerMedia)
-                            .setThumbnail(aThumbnailMedia)
-                            .setThumbnailHalf(aThumbHalfMedia)
+                            .setVideo(aVideoMedia.result())
+                            .setTrailer(aTrailerMedia.result())
+                            .setBanner(aBannerMedia.result())
+                            .setThumbnail(aThumbnailMedia.result())
+                            .setThumbnailHalf(aThumbHalfMedia.result())
             );
         } catch (final Throwable t) {
             this.mediaResourceGateway.clearResources(anId);
@@ -121,44 +132,10 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
                     t
             );
         }
-    }
-
-    private ValidationHandler validateCategories(final Set<CategoryID> ids) {
-        return validateAggregate("categories", ids, categoryGateway::existsByIds);
-    }
-
-    private ValidationHandler validateGenres(final Set<GenreID> ids) {
-        return validateAggregate("genres", ids, genreGateway::existsByIds);
-    }
-
-    private ValidationHandler validateMembers(final Set<CastMemberID> ids) {
-        return validateAggregate("cast members", ids, castMemberGateway::existsByIds);
-    }
-
-    private <T extends Identifier> ValidationHandler validateAggregate(
-            final String aggregate,
-            final Set<T> ids,
-            final Function<Iterable<T>, List<T>> existsByIds
-    ) {
-        final var notification = Notification.create();
-        if (ids == null || ids.isEmpty()) {
-            return notification;
-        }
-
-        final var retrievedIds = existsByIds.apply(ids);
 
-        if (ids.size() != retrievedIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrievedIds);
-
-            final var missingIdsMessage = missingIds.stream()
-                    .map(Identifier::getValue)
-                    .collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage)));
-        }
+        EncodingJob.pendingOf(aCreatedVideo).forEach(this.encodingJobGateway::create);
 
-        return notification;
+        return CreateVideoOutput.from(aCreatedVideo, medias.timings());
     }
 
     private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
@@ -0,0 +1,79 @@
+package com.fullcycle.admin.catalogo.application.video.media.encode;
+
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJob;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJobGateway;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJobID;
+import com.fullcycle.admin.catalogo.domain.video.MediaEncoder;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Runs one {@link EncodingJob}: the media goes to {@link MediaStatus#PROCESSING}, is encoded, and goes to
+ * {@link MediaStatus#COMPLETED} with its encoded location. A job whose media was replaced or removed in the
+ * meantime is discarded, and a failed job is put back to {@link MediaStatus#PENDING} so it can be retried. Once its
+ * attempts run out, the job and the media both end in {@link MediaStatus#ERROR}.
+ */
+public class DefaultEncodeMediaUseCase extends EncodeMediaUseCase {
+
+    private final VideoGateway videoGateway;
+    private final EncodingJobGateway encodingJobGateway;
+    private final MediaEncoder mediaEncoder;
+
+    public DefaultEncodeMediaUseCase(
+            final VideoGateway videoGateway,
+            final EncodingJobGateway encodingJobGateway,
+            final MediaEncoder mediaEncoder
+    ) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.encodingJobGateway = Objects.requireNonNull(encodingJobGateway);
+        this.mediaEncoder = Objects.requireNonNull(mediaEncoder);
+    }
+
+    @Override
+    public void execute(final EncodeMediaCommand aCommand) {
+        final var aJob = this.encodingJobGateway.findById(EncodingJobID.from(aCommand.jobId())).orElse(null);
+        if (aJob == null) {
+            return;
+        }
+
+        final var aVideo = findVideoFor(aJob).orElse(null);
+        if (aVideo == null) {
+            this.encodingJobGateway.deleteById(aJob.getId());
+            return;
+        }
+
+        this.encodingJobGateway.update(aJob.processing());
+        this.videoGateway.update(aVideo.processing(aJob.getMediaType()));
+
+        final String anEncodedLocation;
+        try {
+            anEncodedLocation = this.mediaEncoder.encode(aJob);
+        } catch (final RuntimeException e) {
+            this.encodingJobGateway.update(aJob.failed());
+            if (aJob.isExhausted()) {
+                findVideoFor(aJob)
+                        .ifPresent(it -> this.videoGateway.update(it.failed(aJob.getMediaType())));
+            }
+            throw e;
+        }
+
+        findVideoFor(aJob)
+                .ifPresent(it -> this.videoGateway.update(it.completed(aJob.getMediaType(), anEncodedLocation)));
+
+        this.encodingJobGateway.deleteById(aJob.getId());
+    }
+
+    private Optional<Video> findVideoFor(final EncodingJob aJob) {
+        return this.videoGateway.findById(aJob.getVideoId())
+                .filter(it -> it.getAudioVideo(aJob.getMediaType())
+                        .filter(aJob::isFor)
+                        .map(AudioVideoMedia::status)
+                        .filter(status -> status != MediaStatus.COMPLETED)
+                        .isPresent());
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.video.media.encode;
+
+public record EncodeMediaCommand(String jobId) {
+
+    public static EncodeMediaCommand with(final String aJobId) {
+        return new EncodeMediaCommand(aJobId);
+    }
+}
@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.application.video.media.encode;
+
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+
+public abstract class EncodeMediaUseCase extends UnitUseCase<EncodeMediaCommand> {
+}
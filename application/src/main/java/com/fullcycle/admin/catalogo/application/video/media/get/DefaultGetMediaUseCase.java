@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalogo.application.video.media.get;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.util.Objects;
+import java.util.Optional;
+
+public class DefaultGetMediaUseCase extends GetMediaUseCase {
+
+    private final VideoGateway videoGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+
+    public DefaultGetMediaUseCase(
+            final VideoGateway videoGateway,
+            final MediaResourceGateway mediaResourceGateway
+    ) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public MediaOutput execute(final GetMediaCommand aCommand) {
+        final var aVideoId = VideoID.from(aCommand.videoId());
+        final var aType = VideoMediaType.of(aCommand.mediaType())
+                .orElseThrow(() -> typeNotFound(aCommand.mediaType()));
+
+        final var aVideo = this.videoGateway.findById(aVideoId)
+                .orElseThrow(() -> NotFoundException.with(Video.class, aVideoId));
+
+        final var aMedia = storedMedia(aVideo, aType)
+                .orElseThrow(() -> mediaNotFound(aVideoId, aType));
+
+        final var aContent = this.mediaResourceGateway.getResource(aVideoId, aType)
+                .orElseThrow(() -> mediaNotFound(aVideoId, aType));
+
+        return MediaOutput.with(aContent, aMedia.checksum(), aMedia.name());
+    }
+
+    private static Optional<StoredMedia> storedMedia(final Video aVideo, final VideoMediaType aType) {
+        return switch (aType) {
+            case VIDEO -> aVideo.getVideo().map(it -> new StoredMedia(it.checksum(), it.name()));
+            case TRAILER -> aVideo.getTrailer().map(it -> new StoredMedia(it.checksum(), it.name()));
+            case BANNER -> aVideo.getBanner().map(it -> new StoredMedia(it.checksum(), it.name()));
+            case THUMBNAIL -> aVideo.getThumbnail().map(it -> new StoredMedia(it.checksum(), it.name()));
+            case THUMBNAIL_HALF -> aVideo.getThumbnailHalf().map(it -> new StoredMedia(it.checksum(), it.name()));
+        };
+    }
+
+    private static NotFoundException typeNotFound(final String aType) {
+        return NotFoundException.with(new Error("Media type %s doesn't exists".formatted(aType)));
+    }
+
+    private static NotFoundException mediaNotFound(final VideoID anId, final VideoMediaType aType) {
+        return NotFoundException.with(new Error("Resource %s not found for video %s".formatted(aType.name(), anId.getValue())));
+    }
+
+    private record StoredMedia(String checksum, String name) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.application.video.media.get;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class GetMediaUseCase extends UseCase<GetMediaCommand, MediaOutput> {
+}
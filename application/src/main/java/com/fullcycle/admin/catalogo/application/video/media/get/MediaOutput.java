@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.application.video.media.get;
+
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+
+public record MediaOutput(
+        Resource content,
+        String checksum,
+        String name
+) {
+
+    public static MediaOutput with(final Resource aContent, final String aChecksum, final String aName) {
+        return new MediaOutput(aContent, aChecksum, aName);
+    }
+}
@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+public record CommitMediaUploadCommand(
+        String videoId,
+        String mediaType,
+        String uploadId
+) {
+
+    public static CommitMediaUploadCommand with(final String aVideoId, final String aMediaType, final String anUploadId) {
+        return new CommitMediaUploadCommand(aVideoId, aMediaType, anUploadId);
+    }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+public record CommitMediaUploadOutput(
+        String videoId,
+        VideoMediaType mediaType,
+        String checksum,
+        String name,
+        MediaStatus status
+) {
+
+    public static CommitMediaUploadOutput from(final VideoID aVideoId, final VideoMediaType aType, final AudioVideoMedia aMedia) {
+        return new CommitMediaUploadOutput(aVideoId.getValue(), aType, aMedia.checksum(), aMedia.name(), aMedia.status());
+    }
+}
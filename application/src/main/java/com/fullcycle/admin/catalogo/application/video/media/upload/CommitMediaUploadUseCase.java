@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class CommitMediaUploadUseCase extends UseCase<CommitMediaUploadCommand, CommitMediaUploadOutput> {
+}
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+public record CreateMediaUploadCommand(
+        String videoId,
+        String mediaType,
+        String name,
+        String contentType,
+        long length,
+        Integer chunkSize
+) {
+
+    public static CreateMediaUploadCommand with(
+            final String aVideoId,
+            final String aMediaType,
+            final String aName,
+            final String aContentType,
+            final long aLength,
+            final Integer aChunkSize
+    ) {
+        return new CreateMediaUploadCommand(aVideoId, aMediaType, aName, aContentType, aLength, aChunkSize);
+    }
+}
@@ -0,0 +1,89 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJob;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJobGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadID;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+
+import java.util.Objects;
+
+/**
+ * Streams a complete upload into {@link MediaResourceGateway} and attaches it to its video as a
+ * {@link MediaStatus#PENDING} media, scheduling the {@link EncodingJob} that encodes it.
+ */
+public class DefaultCommitMediaUploadUseCase extends CommitMediaUploadUseCase {
+
+    private final VideoGateway videoGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+    private final MediaUploadGateway mediaUploadGateway;
+    private final EncodingJobGateway encodingJobGateway;
+
+    public DefaultCommitMediaUploadUseCase(
+            final VideoGateway videoGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            final MediaUploadGateway mediaUploadGateway,
+            final EncodingJobGateway encodingJobGateway
+    ) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.encodingJobGateway = Objects.requireNonNull(encodingJobGateway);
+    }
+
+    @Override
+    public CommitMediaUploadOutput execute(final CommitMediaUploadCommand aCommand) {
+        final var anUploadId = MediaUploadID.from(aCommand.uploadId());
+        final var aVideoId = VideoID.from(aCommand.videoId());
+        final var aMediaType = VideoMediaType.of(aCommand.mediaType()).orElse(null);
+
+        final var anUpload = this.mediaUploadGateway.findById(anUploadId)
+                .filter(it -> it.isFor(aVideoId, aMediaType))
+                .orElseThrow(() -> NotFoundException.with(MediaUpload.class, anUploadId));
+
+        final var missingChunks = anUpload.chunkCount() - this.mediaUploadGateway.receivedChunks(anUpload).size();
+        if (missingChunks > 0) {
+            throw DomainException.with(new Error("Upload %s is missing %d of %d chunks".formatted(
+                    anUploadId.getValue(),
+                    missingChunks,
+                    anUpload.chunkCount()
+            )));
+        }
+
+        final var aVideo = this.videoGateway.findById(aVideoId)
+                .orElseThrow(() -> NotFoundException.with(Video.class, aVideoId));
+
+        final var aResource = VideoResource.with(this.mediaUploadGateway.content(anUpload), aMediaType);
+        final var stored = this.mediaResourceGateway.storeAudioVideo(aVideoId, aResource);
+        final var aMedia = AudioVideoMedia.with(
+                stored.checksum(),
+                stored.name(),
+                stored.rawLocation(),
+                stored.encodedLocation(),
+                MediaStatus.PENDING
+        );
+
+        if (aMediaType == VideoMediaType.VIDEO) {
+            aVideo.setVideo(aMedia);
+        } else {
+            aVideo.setTrailer(aMedia);
+        }
+
+        this.videoGateway.update(aVideo);
+        this.encodingJobGateway.create(EncodingJob.newJob(aVideoId, aMediaType, aMedia));
+        this.mediaUploadGateway.deleteById(anUploadId);
+
+        return CommitMediaUploadOutput.from(aVideoId, aMediaType, aMedia);
+    }
+}
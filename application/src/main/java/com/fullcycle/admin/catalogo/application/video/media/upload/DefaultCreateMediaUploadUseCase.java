@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.util.Collections;
+import java.util.Objects;
+
+public class DefaultCreateMediaUploadUseCase extends CreateMediaUploadUseCase {
+
+    private final VideoGateway videoGateway;
+    private final MediaUploadGateway mediaUploadGateway;
+
+    public DefaultCreateMediaUploadUseCase(
+            final VideoGateway videoGateway,
+            final MediaUploadGateway mediaUploadGateway
+    ) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final CreateMediaUploadCommand aCommand) {
+        final var aVideoId = VideoID.from(aCommand.videoId());
+        final var aMediaType = VideoMediaType.of(aCommand.mediaType())
+                .orElseThrow(() -> NotificationException.with(new Error("'mediaType' should be VIDEO or TRAILER")));
+        final var aChunkSize = aCommand.chunkSize() != null ? aCommand.chunkSize() : MediaUpload.DEFAULT_CHUNK_SIZE;
+
+        final var notification = Notification.create();
+
+        final var anUpload = notification.validate(() -> MediaUpload.newUpload(
+                aVideoId,
+                aMediaType,
+                aCommand.name(),
+                aCommand.contentType(),
+                aCommand.length(),
+                aChunkSize
+        ));
+
+        if (notification.hasError()) {
+            throw new NotificationException("Could not create Aggregate MediaUpload", notification);
+        }
+
+        this.videoGateway.findById(aVideoId)
+                .orElseThrow(() -> NotFoundException.with(Video.class, aVideoId));
+
+        return MediaUploadOutput.from(this.mediaUploadGateway.create(anUpload), Collections.emptySortedSet());
+    }
+}
@@ -0,0 +1,32 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadID;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.util.Objects;
+
+public class DefaultGetMediaUploadUseCase extends GetMediaUploadUseCase {
+
+    private final MediaUploadGateway mediaUploadGateway;
+
+    public DefaultGetMediaUploadUseCase(final MediaUploadGateway mediaUploadGateway) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final GetMediaUploadCommand aCommand) {
+        final var anUploadId = MediaUploadID.from(aCommand.uploadId());
+        final var aVideoId = VideoID.from(aCommand.videoId());
+        final var aMediaType = VideoMediaType.of(aCommand.mediaType()).orElse(null);
+
+        final var anUpload = this.mediaUploadGateway.findById(anUploadId)
+                .filter(it -> it.isFor(aVideoId, aMediaType))
+                .orElseThrow(() -> NotFoundException.with(MediaUpload.class, anUploadId));
+
+        return MediaUploadOutput.from(anUpload, this.mediaUploadGateway.receivedChunks(anUpload));
+    }
+}
@@ -0,0 +1,64 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadID;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.util.Objects;
+
+/**
+ * Stores one chunk of an upload. A chunk may be sent again, e.g. after a dropped connection, and only counts as
+ * received once its content matches the checksum the client announced for it.
+ */
+public class DefaultUploadMediaChunkUseCase extends UploadMediaChunkUseCase {
+
+    private final MediaUploadGateway mediaUploadGateway;
+
+    public DefaultUploadMediaChunkUseCase(final MediaUploadGateway mediaUploadGateway) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final UploadMediaChunkCommand aCommand) {
+        final var anUploadId = MediaUploadID.from(aCommand.uploadId());
+        final var aVideoId = VideoID.from(aCommand.videoId());
+        final var aMediaType = VideoMediaType.of(aCommand.mediaType()).orElse(null);
+        final var aChunk = aCommand.chunk();
+        final var aChecksum = aCommand.checksum();
+
+        final var anUpload = this.mediaUploadGateway.findById(anUploadId)
+                .filter(it -> it.isFor(aVideoId, aMediaType))
+                .orElseThrow(() -> NotFoundException.with(MediaUpload.class, anUploadId));
+
+        if (!anUpload.hasChunk(aChunk)) {
+            throw DomainException.with(new Error("'chunk' must be between 0 and %d".formatted(anUpload.chunkCount() - 1)));
+        }
+
+        if (aChecksum == null || aChecksum.isBlank()) {
+            throw DomainException.with(new Error("'checksum' should not be empty"));
+        }
+
+        final var expectedLength = anUpload.chunkLength(aChunk);
+        if (aCommand.content().length() != expectedLength) {
+            throw DomainException.with(new Error("Chunk %d should have %d bytes but has %d".formatted(
+                    aChunk,
+                    expectedLength,
+                    aCommand.content().length()
+            )));
+        }
+
+        final var actualChecksum = this.mediaUploadGateway.storeChunk(anUpload, aChunk, aCommand.content());
+        if (!actualChecksum.equalsIgnoreCase(aChecksum.trim())) {
+            throw DomainException.with(new Error("Chunk %d does not match its checksum".formatted(aChunk)));
+        }
+
+        this.mediaUploadGateway.markChunkReceived(anUpload, aChunk);
+
+        return MediaUploadOutput.from(anUpload, this.mediaUploadGateway.receivedChunks(anUpload));
+    }
+}
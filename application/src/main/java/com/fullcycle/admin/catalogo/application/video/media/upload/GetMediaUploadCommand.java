@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+public record GetMediaUploadCommand(
+        String videoId,
+        String mediaType,
+        String uploadId
+) {
+
+    public static GetMediaUploadCommand with(final String aVideoId, final String aMediaType, final String anUploadId) {
+        return new GetMediaUploadCommand(aVideoId, aMediaType, anUploadId);
+    }
+}
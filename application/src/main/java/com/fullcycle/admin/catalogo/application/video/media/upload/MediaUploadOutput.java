@@ -0,0 +1,75 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+
+public record MediaUploadOutput(
+        String id,
+        String videoId,
+        VideoMediaType mediaType,
+        String name,
+        String contentType,
+        long length,
+        int chunkSize,
+        int chunkCount,
+        List<ReceivedRange> received,
+        boolean complete
+) {
+
+    public static MediaUploadOutput from(final MediaUpload anUpload, final SortedSet<Integer> receivedChunks) {
+        return new MediaUploadOutput(
+                anUpload.getId().getValue(),
+                anUpload.getVideoId().getValue(),
+                anUpload.getMediaType(),
+                anUpload.getName(),
+                anUpload.getContentType(),
+                anUpload.getLength(),
+                anUpload.getChunkSize(),
+                anUpload.chunkCount(),
+                ranges(anUpload, receivedChunks),
+                receivedChunks.size() == anUpload.chunkCount()
+        );
+    }
+
+    private static List<ReceivedRange> ranges(final MediaUpload anUpload, final SortedSet<Integer> receivedChunks) {
+        final var ranges = new ArrayList<ReceivedRange>();
+        int first = -1;
+        int last = -1;
+
+        for (final var chunk : receivedChunks) {
+            if (first >= 0 && chunk == last + 1) {
+                last = chunk;
+                continue;
+            }
+            if (first >= 0) {
+                ranges.add(ReceivedRange.of(anUpload, first, last));
+            }
+            first = chunk;
+            last = chunk;
+        }
+
+        if (first >= 0) {
+            ranges.add(ReceivedRange.of(anUpload, first, last));
+        }
+        return ranges;
+    }
+
+    /**
+     * A run of consecutive chunks, with the inclusive byte positions it covers.
+     */
+    public record ReceivedRange(int firstChunk, int lastChunk, long start, long end) {
+
+        static ReceivedRange of(final MediaUpload anUpload, final int firstChunk, final int lastChunk) {
+            return new ReceivedRange(
+                    firstChunk,
+                    lastChunk,
+                    anUpload.chunkOffset(firstChunk),
+                    anUpload.chunkOffset(lastChunk) + anUpload.chunkLength(lastChunk) - 1
+            );
+        }
+    }
+}
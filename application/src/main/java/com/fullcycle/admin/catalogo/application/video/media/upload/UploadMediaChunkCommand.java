@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+
+public record UploadMediaChunkCommand(
+        String videoId,
+        String mediaType,
+        String uploadId,
+        int chunk,
+        String checksum,
+        Resource content
+) {
+
+    public static UploadMediaChunkCommand with(
+            final String aVideoId,
+            final String aMediaType,
+            final String anUploadId,
+            final int aChunk,
+            final String aChecksum,
+            final Resource aContent
+    ) {
+        return new UploadMediaChunkCommand(aVideoId, aMediaType, anUploadId, aChunk, aChecksum, aContent);
+    }
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.facets;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+
+import java.util.Objects;
+
+public class DefaultGetVideoFacetsUseCase extends GetVideoFacetsUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultGetVideoFacetsUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public VideoFacetsOutput execute(final VideoSearchQuery aQuery) {
+        return VideoFacetsOutput.from(this.videoGateway.facets(aQuery));
+    }
+}
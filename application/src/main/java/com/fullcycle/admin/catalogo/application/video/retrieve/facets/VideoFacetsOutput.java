@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.facets;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.VideoFacets;
+
+import java.time.Year;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Facet counts keyed by their API value: rating names, years, flags and identifiers. Ratings and years keep
+ * their natural order; identifiers come most frequent first.
+ */
+public record VideoFacetsOutput(
+        long total,
+        Map<String, Long> ratings,
+        Map<Integer, Long> launchedAt,
+        Map<Boolean, Long> published,
+        Map<Boolean, Long> opened,
+        Map<String, Long> categories,
+        Map<String, Long> genres,
+        Map<String, Long> castMembers
+) {
+
+    public static VideoFacetsOutput from(final VideoFacets facets) {
+        return new VideoFacetsOutput(
+                facets.total(),
+                sorted(facets.ratings(), Map.Entry.comparingByKey(), Rating::getName),
+                sorted(facets.launchedAt(), Map.Entry.comparingByKey(), Year::getValue),
+                sorted(facets.published(), Map.Entry.comparingByKey(), Function.identity()),
+                sorted(facets.opened(), Map.Entry.comparingByKey(), Function.identity()),
+                byCount(facets.categories()),
+                byCount(facets.genres()),
+                byCount(facets.castMembers())
+        );
+    }
+
+    private static <ID extends Identifier> Map<String, Long> byCount(final Map<ID, Long> counts) {
+        return sorted(
+                counts,
+                Map.Entry.<ID, Long>comparingByValue().reversed()
+                        .thenComparing(it -> it.getKey().getValue()),
+                Identifier::getValue
+        );
+    }
+
+    private static <K, T> Map<T, Long> sorted(
+            final Map<K, Long> counts,
+            final Comparator<Map.Entry<K, Long>> order,
+            final Function<K, T> key
+    ) {
+        final var sorted = new LinkedHashMap<T, Long>();
+        counts.entrySet().stream()
+                .sorted(order)
+                .forEach(it -> sorted.put(key.apply(it.getKey()), it.getValue()));
+        return sorted;
+    }
+}
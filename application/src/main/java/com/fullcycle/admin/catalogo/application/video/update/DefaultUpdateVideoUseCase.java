@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.application.video.update;
 
-import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.application.ReferenceChecks;
+import com.fullcycle.admin.catalogo.application.UseCaseExecutors;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
@@ -11,16 +12,12 @@ import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
-import com.fullcycle.admin.catalogo.domain.validation.Error;
-import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
-import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.domain.video.*;
 
 import java.time.Year;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -28,23 +25,34 @@ import java.util.stream.Collectors;
 public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
 
     private final VideoGateway videoGateway;
-    private final CategoryGateway categoryGateway;
-    private final CastMemberGateway castMemberGateway;
-    private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
+    private final EncodingJobGateway encodingJobGateway;
+    private final ReferenceChecks references;
 
     public DefaultUpdateVideoUseCase(
             final VideoGateway videoGateway,
             final CategoryGateway categoryGateway,
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
-            final MediaResourceGateway mediaResourceGateway
+            final MediaResourceGateway mediaResourceGateway,
+            final EncodingJobGateway encodingJobGateway
+    ) {
+        this(videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, encodingJobGateway, UseCaseExecutors.io());
+    }
+
+    public DefaultUpdateVideoUseCase(
+            final VideoGateway videoGateway,
+            final CategoryGateway categoryGateway,
+            final CastMemberGateway castMemberGateway,
+            final GenreGateway genreGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            final EncodingJobGateway encodingJobGateway,
+            final Executor executor
     ) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.encodingJobGateway = Objects.requireNonNull(encodingJobGateway);
+        this.references = new ReferenceChecks(categoryGateway, genreGateway, castMemberGateway, executor);
     }
 
     @Override
@@ -59,10 +67,7 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         final var aVideo = this.videoGateway.findById(anId)
                 .orElseThrow(notFoundException(anId));
 
-        final var notification = Notification.create();
-        notification.append(validateCategories(categories));
-        notification.append(validateGenres(genres));
-        notification.append(validateMembers(members));
+        final var notification = this.references.validate(categories, genres, members);
 
         aVideo.update(
                 aCommand.title(),
@@ -83,7 +88,10 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
             throw new NotificationException("Could not update Aggregate Video", notification);
         }
 
-        return UpdateVideoOutput.from(update(aCommand, aVideo));
+        final var anUpdatedVideo = update(aCommand, aVideo);
+        EncodingJob.pendingOf(anUpdatedVideo).forEach(this.encodingJobGateway::create);
+
+        return UpdateVideoOutput.from(anUpdatedVideo);
     }
 
     private Video update(final UpdateVideoCommand aCommand, final Video aVideo) {
@@ -91,23 +99,23 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
 
         try {
             final var aVideoMedia = aCommand.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, it))
+                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, VideoMediaType.VIDEO)))
                     .orElse(null);
 
             final var aTrailerMedia = aCommand.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, it))
+                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(it, VideoMediaType.TRAILER)))
                     .orElse(null);
 
             final var aBannerMedia = aCommand.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, it))
+                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, VideoMediaType.BANNER)))
                     .orElse(null);
 
             final var aThumbnailMedia = aCommand.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, it))
+                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, VideoMediaType.THUMBNAIL)))
                     .orElse(null);
 
             final var aThumbHalfMedia = aCommand.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, it))
+                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, VideoMediaType.THUMBNAIL_HALF)))
                     .orElse(null);
 
             return this.videoGateway.update(
@@ -130,44 +138,6 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         return () -> NotFoundException.with(Video.class, anId);
     }
 
-    private ValidationHandler validateCategories(final Set<CategoryID> ids) {
-        return validateAggregate("categories", ids, categoryGateway::existsByIds);
-    }
-
-    private ValidationHandler validateGenres(final Set<GenreID> ids) {
-        return validateAggregate("genres", ids, genreGateway::existsByIds);
-    }
-
-    private ValidationHandler validateMembers(final Set<CastMemberID> ids) {
-        return validateAggregate("cast members", ids, castMemberGateway::existsByIds);
-    }
-
-    private <T extends Identifier> ValidationHandler validateAggregate(
-            final String aggregate,
-            final Set<T> ids,
-            final Function<Iterable<T>, List<T>> existsByIds
-    ) {
-        final var notification = Notification.create();
-        if (ids == null || ids.isEmpty()) {
-            return notification;
-        }
-
-        final var retrievedIds = existsByIds.apply(ids);
-
-        if (ids.size() != retrievedIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrievedIds);
-
-            final var missingIdsMessage = missingIds.stream()
-                    .map(Identifier::getValue)
-                    .collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage)));
-        }
-
-        return notification;
-    }
-
     private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
         return ids.stream()
                 .map(mapper)
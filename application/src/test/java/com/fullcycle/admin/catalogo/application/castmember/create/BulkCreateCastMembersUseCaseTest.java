@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalogo.application.castmember.create;
+
+import com.fullcycle.admin.catalogo.application.Fixture;
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class BulkCreateCastMembersUseCaseTest extends UseCaseTest {
+
+    private DefaultBulkCreateCastMembersUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultBulkCreateCastMembersUseCase(castMemberGateway, 100);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsBulkCreate_shouldCreateOnlyTheValidOnes() {
+        // given
+        final var expectedName = Fixture.name();
+        final var expectedErrorMessage = "'type' should not be null";
+
+        final var aCommands = List.of(
+                CreateCastMemberCommand.with(expectedName, CastMemberType.ACTOR),
+                CreateCastMemberCommand.with(Fixture.name(), null)
+        );
+
+        when(castMemberGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(aCommands);
+
+        // then
+        Assertions.assertEquals(1, actualOutput.created());
+        Assertions.assertEquals(1, actualOutput.failed());
+        Assertions.assertNotNull(actualOutput.items().get(0).id());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(1).errors().get(0).message());
+
+        verify(castMemberGateway, times(1)).createAll(argThat(chunk -> chunk.size() == 1
+                && Objects.equals(expectedName, chunk.get(0).getName())
+                && Objects.equals(CastMemberType.ACTOR, chunk.get(0).getType())));
+    }
+}
@@ -0,0 +1,117 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class BulkCreateCategoriesUseCaseTest extends UseCaseTest {
+
+    private DefaultBulkCreateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultBulkCreateCategoriesUseCase(categoryGateway, 2);
+    }
+
+    @Test
+    void givenValidAndInvalidCommands_whenCallsBulkCreate_shouldCreateOnlyTheValidOnesInChunks() {
+        // given
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with(null, "Sem nome", true),
+                CreateCategoryCommand.with("Séries", null, false),
+                CreateCategoryCommand.with("Documentários", null, true)
+        );
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(aCommands);
+
+        // then
+        Assertions.assertEquals(3, actualOutput.created());
+        Assertions.assertEquals(1, actualOutput.failed());
+        Assertions.assertEquals(4, actualOutput.items().size());
+
+        for (int i = 0; i < actualOutput.items().size(); i++) {
+            Assertions.assertEquals(i, actualOutput.items().get(i).index());
+        }
+
+        Assertions.assertNotNull(actualOutput.items().get(0).id());
+        Assertions.assertNull(actualOutput.items().get(1).id());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(1).errors().get(0).message());
+        Assertions.assertNotNull(actualOutput.items().get(2).id());
+        Assertions.assertNotNull(actualOutput.items().get(3).id());
+
+        verify(categoryGateway, times(1)).createAll(argThat(chunk -> chunk.size() == 2
+                && Objects.equals("Filmes", chunk.get(0).getName())
+                && Objects.equals("Séries", chunk.get(1).getName())
+                && !chunk.get(1).isActive()));
+        verify(categoryGateway, times(1)).createAll(argThat(chunk -> chunk.size() == 1
+                && Objects.equals("Documentários", chunk.get(0).getName())));
+    }
+
+    @Test
+    void givenAChunkThatFailsToPersist_whenCallsBulkCreate_shouldFailOnlyItsItems() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Séries", null, true),
+                CreateCategoryCommand.with("Documentários", null, true)
+        );
+
+        when(categoryGateway.createAll(any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(aCommands);
+
+        // then
+        Assertions.assertEquals(1, actualOutput.created());
+        Assertions.assertEquals(2, actualOutput.failed());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(0).errors().get(0).message());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(1).errors().get(0).message());
+        Assertions.assertNotNull(actualOutput.items().get(2).id());
+
+        verify(categoryGateway, times(2)).createAll(any());
+    }
+
+    @Test
+    void givenOnlyInvalidCommands_whenCallsBulkCreate_shouldNotCallGateway() {
+        // given
+        final var aCommands = List.of(CreateCategoryCommand.with(" ", null, true));
+
+        // when
+        final var actualOutput = useCase.execute(aCommands);
+
+        // then
+        Assertions.assertEquals(0, actualOutput.created());
+        Assertions.assertEquals(1, actualOutput.failed());
+
+        verify(categoryGateway, never()).createAll(any());
+    }
+}
@@ -4,6 +4,7 @@ import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -217,4 +218,56 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
         verify(categoryGateway, times(0)).update(any());
     }
 
+    @Test
+    void givenAnExpectedVersion_whenCallsUpdateCategory_shouldUpdateAtItRatherThanAtTheVersionRead() {
+        final var aCategory = Category.with(Category.newCategory("film", null, true), 3);
+
+        final var expectedId = aCategory.getId();
+        final var expectedVersion = 4L;
+        final var aCommand = UpdateCategoryCommand.with(
+                expectedId.getValue(),
+                "Filmes",
+                "A categoria mais assistida",
+                true,
+                expectedVersion
+        );
+
+        when(categoryGateway.findById(expectedId))
+                .thenReturn(Optional.of(aCategory.clone()));
+        when(categoryGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        useCase.execute(aCommand).get();
+
+        verify(categoryGateway, times(1)).update(argThat(aCategoryToUpdate ->
+                aCategoryToUpdate.getVersion() == expectedVersion
+                        && Objects.equals("Filmes", aCategoryToUpdate.getName())
+        ));
+    }
+
+    @Test
+    void givenAConcurrentUpdate_whenGatewayThrowsConflict_thenShouldRethrowConflictException() {
+        final var aCategory = Category.newCategory("film", null, true);
+
+        final var expectedId = aCategory.getId();
+        final var expectedException = ConflictException.with(Category.class, expectedId, 0);
+        final var aCommand = UpdateCategoryCommand.with(
+                expectedId.getValue(),
+                "Filmes",
+                "A categoria mais assistida",
+                true,
+                0L
+        );
+
+        when(categoryGateway.findById(expectedId))
+                .thenReturn(Optional.of(aCategory.clone()));
+        when(categoryGateway.update(any()))
+                .thenThrow(expectedException);
+
+        final var actualException =
+                assertThrows(ConflictException.class, () -> useCase.execute(aCommand));
+
+        Assertions.assertSame(expectedException, actualException);
+    }
+
 }
@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalogo.application.genre.create;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class BulkCreateGenresUseCaseTest extends UseCaseTest {
+
+    private DefaultBulkCreateGenresUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, genreGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultBulkCreateGenresUseCase(categoryGateway, genreGateway, 100);
+    }
+
+    @Test
+    public void givenCommandsSharingCategories_whenCallsBulkCreate_shouldCheckCategoriesOnceAndReportMissingOnes() {
+        // given
+        final var filmes = CategoryID.from("123");
+        final var series = CategoryID.from("456");
+        final var missing = CategoryID.from("789");
+        final var expectedErrorMessage = "Some categories could not be found: 789";
+
+        final var aCommands = List.of(
+                CreateGenreCommand.with("Ação", true, asString(List.of(filmes, series))),
+                CreateGenreCommand.with("Drama", true, asString(List.of(filmes, missing))),
+                CreateGenreCommand.with("Comédia", false, List.of())
+        );
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(filmes, series));
+        when(genreGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(aCommands);
+
+        // then
+        Assertions.assertEquals(2, actualOutput.created());
+        Assertions.assertEquals(1, actualOutput.failed());
+        Assertions.assertNotNull(actualOutput.items().get(0).id());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(1).errors().get(0).message());
+        Assertions.assertNotNull(actualOutput.items().get(2).id());
+
+        verify(categoryGateway, times(1)).existsByIds(eq(List.of(filmes, series, missing)));
+        verify(genreGateway, times(1)).createAll(argThat(chunk -> chunk.size() == 2
+                && Objects.equals("Ação", chunk.get(0).getName())
+                && Objects.equals(List.of(filmes, series), chunk.get(0).getCategories())
+                && Objects.equals("Comédia", chunk.get(1).getName())
+                && !chunk.get(1).isActive()));
+    }
+
+    @Test
+    public void givenCommandsWithoutCategories_whenCallsBulkCreate_shouldNotCallCategoryGateway() {
+        // given
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var aCommands = List.of(
+                CreateGenreCommand.with("Ação", true, List.of()),
+                CreateGenreCommand.with(null, true, List.of())
+        );
+
+        when(genreGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(aCommands);
+
+        // then
+        Assertions.assertEquals(1, actualOutput.created());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(1).errors().get(0).message());
+
+        verify(categoryGateway, never()).existsByIds(any());
+    }
+}
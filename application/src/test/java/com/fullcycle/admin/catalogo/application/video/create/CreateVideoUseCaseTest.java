@@ -10,14 +10,21 @@ import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.video.*;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,7 +33,6 @@ import static org.mockito.Mockito.*;
 
 public class CreateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultCreateVideoUseCase useCase;
 
     @Mock
@@ -44,9 +50,24 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private GenreGateway genreGateway;
 
+    @Mock
+    private EncodingJobGateway encodingJobGateway;
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
+        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway, encodingJobGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultCreateVideoUseCase(
+                categoryGateway,
+                castMemberGateway,
+                genreGateway,
+                mediaResourceGateway,
+                videoGateway,
+                encodingJobGateway
+        );
     }
 
     @Test
@@ -128,6 +149,15 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
                                 && Objects.equals(expectedThumb.name(), actualVideo.getThumbnail().get().name())
                                 && Objects.equals(expectedThumbHalf.name(), actualVideo.getThumbnailHalf().get().name())
         ));
+
+        verify(encodingJobGateway).create(argThat(aJob ->
+                Objects.equals(actualResult.id(), aJob.getVideoId().getValue())
+                        && aJob.getMediaType() == VideoMediaType.VIDEO
+        ));
+        verify(encodingJobGateway).create(argThat(aJob ->
+                Objects.equals(actualResult.id(), aJob.getVideoId().getValue())
+                        && aJob.getMediaType() == VideoMediaType.TRAILER
+        ));
     }
 
     @Test
@@ -146,11 +176,11 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
                 Fixture.CastMembers.wesley().getId(),
                 Fixture.CastMembers.gabriel().getId()
         );
-        final Resource expectedVideo = Fixture.Videos.resource(Type.VIDEO);
-        final Resource expectedTrailer = Fixture.Videos.resource(Type.TRAILER);
-        final Resource expectedBanner = Fixture.Videos.resource(Type.BANNER);
-        final Resource expectedThumb = Fixture.Videos.resource(Type.THUMBNAIL);
-        final Resource expectedThumbHalf = Fixture.Videos.resource(Type.THUMBNAIL_HALF);
+        final Resource expectedVideo = Fixture.Videos.resource(Resource.Type.VIDEO);
+        final Resource expectedTrailer = Fixture.Videos.resource(Resource.Type.TRAILER);
+        final Resource expectedBanner = Fixture.Videos.resource(Resource.Type.BANNER);
+        final Resource expectedThumb = Fixture.Videos.resource(Resource.Type.THUMBNAIL);
+        final Resource expectedThumbHalf = Fixture.Videos.resource(Resource.Type.THUMBNAIL_HALF);
 
         final var aCommand = CreateVideoCommand.with(
                 expectedTitle,
@@ -224,11 +254,11 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
                 Fixture.CastMembers.wesley().getId(),
                 Fixture.CastMembers.gabriel().getId()
         );
-        final Resource expectedVideo = Fixture.Videos.resource(Type.VIDEO);
-        final Resource expectedTrailer = Fixture.Videos.resource(Type.TRAILER);
-        final Resource expectedBanner = Fixture.Videos.resource(Type.BANNER);
-        final Resource expectedThumb = Fixture.Videos.resource(Type.THUMBNAIL);
-        final Resource expectedThumbHalf = Fixture.Videos.resource(Type.THUMBNAIL_HALF);
+        final Resource expectedVideo = Fixture.Videos.resource(Resource.Type.VIDEO);
+        final Resource expectedTrailer = Fixture.Videos.resource(Resource.Type.TRAILER);
+        final Resource expectedBanner = Fixture.Videos.resource(Resource.Type.BANNER);
+        final Resource expectedThumb = Fixture.Videos.resource(Resource.Type.THUMBNAIL);
+        final Resource expectedThumbHalf = Fixture.Videos.resource(Resource.Type.THUMBNAIL_HALF);
 
         final var aCommand = CreateVideoCommand.with(
                 expectedTitle,
@@ -999,14 +1029,14 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
 
     private void mockImageMedia() {
         when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
-            final var resource = t.getArgument(1, Resource.class);
+            final var resource = t.getArgument(1, VideoResource.class).resource();
             return ImageMedia.with(UUID.randomUUID().toString(), resource.name(), "/img");
         });
     }
 
     private void mockAudioVideoMedia() {
         when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(t -> {
-            final var resource = t.getArgument(1, Resource.class);
+            final var resource = t.getArgument(1, VideoResource.class).resource();
             return AudioVideoMedia.with(
                     UUID.randomUUID().toString(),
                     resource.name(),
@@ -1016,4 +1046,306 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
             );
         });
     }
+
+    @Test
+    public void givenAValidCommand_whenCallsCreateVideo_shouldValidateReferencesConcurrently() {
+        // given
+        final var expectedCategories = Set.of(Fixture.Categories.aulas().getId());
+        final var expectedGenres = Set.of(Fixture.Genres.tech().getId());
+        final var expectedMembers = Set.of(Fixture.CastMembers.wesley().getId());
+
+        final var aCommand = CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                asString(expectedCategories),
+                asString(expectedGenres),
+                asString(expectedMembers),
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+
+        // every lookup only answers once all three are in flight
+        final var inFlight = new CountDownLatch(3);
+
+        when(categoryGateway.existsByIds(any()))
+                .thenAnswer(t -> awaitAll(inFlight, new ArrayList<>(expectedCategories)));
+
+        when(genreGateway.existsByIds(any()))
+                .thenAnswer(t -> awaitAll(inFlight, new ArrayList<>(expectedGenres)));
+
+        when(castMemberGateway.existsByIds(any()))
+                .thenAnswer(t -> awaitAll(inFlight, new ArrayList<>(expectedMembers)));
+
+        when(videoGateway.create(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualResult = useCase.execute(aCommand);
+
+        // then
+        Assertions.assertNotNull(actualResult.id());
+        Assertions.assertEquals(0, inFlight.getCount());
+    }
+
+    @Test
+    public void givenMissingReferencesOfEveryKind_whenCallsCreateVideo_shouldMergeErrorsInAFixedOrder() {
+        // given
+        final var aulasId = Fixture.Categories.aulas().getId();
+        final var techId = Fixture.Genres.tech().getId();
+        final var wesleyId = Fixture.CastMembers.wesley().getId();
+
+        final var expectedErrors = List.of(
+                "Some categories could not be found: %s".formatted(aulasId.getValue()),
+                "Some genres could not be found: %s".formatted(techId.getValue()),
+                "Some cast members could not be found: %s".formatted(wesleyId.getValue())
+        );
+
+        final var aCommand = CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                asString(Set.of(aulasId)),
+                asString(Set.of(techId)),
+                asString(Set.of(wesleyId)),
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+
+        // categories are the slowest to answer, but their error must still come first
+        when(categoryGateway.existsByIds(any()))
+                .thenAnswer(t -> {
+                    Thread.sleep(50);
+                    return new ArrayList<>();
+                });
+
+        when(genreGateway.existsByIds(any()))
+                .thenReturn(new ArrayList<>());
+
+        when(castMemberGateway.existsByIds(any()))
+                .thenReturn(new ArrayList<>());
+
+        // when
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> {
+            useCase.execute(aCommand);
+        });
+
+        // then
+        final var actualErrors = actualException.getErrors().stream()
+                .map(Error::message)
+                .toList();
+
+        Assertions.assertEquals(expectedErrors, actualErrors);
+        verify(videoGateway, times(0)).create(any());
+    }
+
+    @Test
+    public void givenAFailingStore_whenCallsCreateVideo_shouldCancelInFlightStoresBeforeClearingResources() {
+        // given
+        final var expectedErrorMessage = "An error on create video was observed [videoId:";
+        final var expectedInterruptedStores = 2;
+
+        final var aCommand = CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                Fixture.Videos.resource(Resource.Type.VIDEO),
+                Fixture.Videos.resource(Resource.Type.TRAILER),
+                Fixture.Videos.resource(Resource.Type.BANNER),
+                null,
+                null
+        );
+
+        final var interruptedStores = new AtomicInteger();
+        final var events = Collections.synchronizedList(new ArrayList<String>());
+
+        final var storesStarted = new CountDownLatch(2);
+
+        // the large uploads only finish when interrupted, the banner fails once both are running
+        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(t -> {
+            try {
+                storesStarted.countDown();
+                Thread.sleep(10_000);
+                return null;
+            } catch (final InterruptedException e) {
+                interruptedStores.incrementAndGet();
+                throw e;
+            } finally {
+                events.add("store-finished");
+            }
+        });
+
+        when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
+            storesStarted.await(5, TimeUnit.SECONDS);
+            throw new RuntimeException("Disk full");
+        });
+
+        doAnswer(t -> events.add("clear"))
+                .when(mediaResourceGateway).clearResources(any());
+
+        // when
+        final var actualException = Assertions.assertThrows(InternalErrorException.class, () -> {
+            useCase.execute(aCommand);
+        });
+
+        // then
+        Assertions.assertTrue(actualException.getMessage().startsWith(expectedErrorMessage));
+        Assertions.assertEquals(expectedInterruptedStores, interruptedStores.get());
+        Assertions.assertEquals(List.of("store-finished", "store-finished", "clear"), events);
+
+        verify(mediaResourceGateway, times(1)).clearResources(any());
+        verify(videoGateway, times(0)).create(any());
+    }
+
+    @Test
+    public void givenARejectingExecutor_whenCallsCreateVideo_shouldCancelInFlightStoresBeforeClearingResources() {
+        // given
+        final var expectedErrorMessage = "An error on create video was observed [videoId:";
+
+        final var aCommand = CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                Fixture.Videos.resource(Resource.Type.VIDEO),
+                Fixture.Videos.resource(Resource.Type.TRAILER),
+                null,
+                null,
+                null
+        );
+
+        final var videoStarted = new CountDownLatch(1);
+        final var events = Collections.synchronizedList(new ArrayList<String>());
+
+        // the first store runs, the next one is rejected while it is still uploading
+        final var acceptedStores = new AtomicInteger();
+        final Executor aRejectingExecutor = task -> {
+            if (task instanceof FutureTask<?> && acceptedStores.getAndIncrement() > 0) {
+                try {
+                    videoStarted.await(5, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new RejectedExecutionException("Storage pool saturated");
+            }
+            new Thread(task).start();
+        };
+
+        final var aUseCase = new DefaultCreateVideoUseCase(
+                categoryGateway,
+                castMemberGateway,
+                genreGateway,
+                mediaResourceGateway,
+                videoGateway,
+                encodingJobGateway,
+                aRejectingExecutor
+        );
+
+        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(t -> {
+            try {
+                videoStarted.countDown();
+                Thread.sleep(10_000);
+                return null;
+            } finally {
+                events.add("store-finished");
+            }
+        });
+
+        doAnswer(t -> events.add("clear"))
+                .when(mediaResourceGateway).clearResources(any());
+
+        // when
+        final var actualException = Assertions.assertThrows(InternalErrorException.class, () -> {
+            aUseCase.execute(aCommand);
+        });
+
+        // then
+        Assertions.assertTrue(actualException.getMessage().startsWith(expectedErrorMessage));
+        Assertions.assertTrue(actualException.getCause() instanceof RejectedExecutionException);
+        Assertions.assertEquals(List.of("store-finished", "clear"), events);
+
+        verify(mediaResourceGateway, times(1)).storeAudioVideo(any(), any());
+        verify(mediaResourceGateway, times(1)).clearResources(any());
+        verify(videoGateway, times(0)).create(any());
+    }
+
+    @Test
+    public void givenAValidCommandWithResources_whenCallsCreateVideo_shouldReportTimingPerStoredAsset() {
+        // given
+        final var expectedTimedMedias = Set.of(VideoMediaType.VIDEO, VideoMediaType.BANNER);
+
+        final var aCommand = CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                Fixture.Videos.resource(Resource.Type.VIDEO),
+                null,
+                Fixture.Videos.resource(Resource.Type.BANNER),
+                null,
+                null
+        );
+
+        mockImageMedia();
+        mockAudioVideoMedia();
+
+        when(videoGateway.create(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualResult = useCase.execute(aCommand);
+
+        // then
+        Assertions.assertEquals(expectedTimedMedias, actualResult.mediaTimings().keySet());
+        actualResult.mediaTimings().values()
+                .forEach(it -> Assertions.assertFalse(it.isNegative()));
+
+        verify(videoGateway).create(argThat(actualVideo ->
+                actualVideo.getVideo().isPresent()
+                        && actualVideo.getTrailer().isEmpty()
+                        && actualVideo.getBanner().isPresent()
+                        && actualVideo.getThumbnail().isEmpty()
+        ));
+    }
+
+    private static <T> List<T> awaitAll(final CountDownLatch inFlight, final List<T> result) throws InterruptedException {
+        inFlight.countDown();
+        if (!inFlight.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("References were not validated concurrently");
+        }
+        return result;
+    }
 }
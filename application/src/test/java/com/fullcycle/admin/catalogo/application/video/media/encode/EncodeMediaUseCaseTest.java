@@ -0,0 +1,189 @@
+package com.fullcycle.admin.catalogo.application.video.media.encode;
+
+import com.fullcycle.admin.catalogo.application.Fixture;
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJob;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJobGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaEncoder;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class EncodeMediaUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultEncodeMediaUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private EncodingJobGateway encodingJobGateway;
+
+    @Mock
+    private MediaEncoder mediaEncoder;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, encodingJobGateway, mediaEncoder);
+    }
+
+    @Test
+    public void givenAPendingJob_whenCallsEncodeMedia_shouldCompleteTheMediaAndDeleteTheJob() {
+        // given
+        final var aMedia = AudioVideoMedia.with("abc", "video.mp4", "/videos/123/video", "", MediaStatus.PENDING);
+        final var aVideo = Video.with(Fixture.Videos.systemDesign()).setVideo(aMedia);
+        final var aJob = EncodingJob.newJob(aVideo.getId(), VideoMediaType.VIDEO, aMedia);
+        final var expectedEncodedLocation = "/encoded/123/video/abc";
+
+        when(encodingJobGateway.findById(any()))
+                .thenReturn(Optional.of(aJob));
+
+        when(videoGateway.findById(any()))
+                .thenAnswer(it -> Optional.of(Video.with(aVideo)));
+
+        when(videoGateway.update(any()))
+                .then(returnsFirstArg());
+
+        when(mediaEncoder.encode(any()))
+                .thenReturn(expectedEncodedLocation);
+
+        // when
+        useCase.execute(EncodeMediaCommand.with(aJob.getId().getValue()));
+
+        // then
+        final var inOrder = inOrder(encodingJobGateway, videoGateway, mediaEncoder);
+        inOrder.verify(encodingJobGateway).update(argThat(it -> it.getStatus() == MediaStatus.PROCESSING && it.getAttempts() == 1));
+        inOrder.verify(videoGateway).update(argThat(it -> it.getVideo().get().status() == MediaStatus.PROCESSING));
+        inOrder.verify(mediaEncoder).encode(eq(aJob));
+        inOrder.verify(videoGateway).update(argThat(it ->
+                it.getVideo().get().status() == MediaStatus.COMPLETED
+                        && expectedEncodedLocation.equals(it.getVideo().get().encodedLocation())
+        ));
+        inOrder.verify(encodingJobGateway).deleteById(eq(aJob.getId()));
+    }
+
+    @Test
+    public void givenAJobForAReplacedMedia_whenCallsEncodeMedia_shouldDiscardTheJob() {
+        // given
+        final var aMedia = AudioVideoMedia.with("abc", "trailer.mp4", "/videos/123/trailer", "", MediaStatus.PENDING);
+        final var aVideo = Video.with(Fixture.Videos.systemDesign())
+                .setTrailer(AudioVideoMedia.with("def", "trailer.mp4", "/videos/123/trailer", "", MediaStatus.PENDING));
+        final var aJob = EncodingJob.newJob(aVideo.getId(), VideoMediaType.TRAILER, aMedia);
+
+        when(encodingJobGateway.findById(any()))
+                .thenReturn(Optional.of(aJob));
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        // when
+        useCase.execute(EncodeMediaCommand.with(aJob.getId().getValue()));
+
+        // then
+        verify(encodingJobGateway).deleteById(eq(aJob.getId()));
+        verify(videoGateway, times(0)).update(any());
+        verifyNoInteractions(mediaEncoder);
+    }
+
+    @Test
+    public void givenAFailingEncoder_whenCallsEncodeMedia_shouldPutTheJobBackToPending() {
+        // given
+        final var aMedia = AudioVideoMedia.with("abc", "video.mp4", "/videos/123/video", "", MediaStatus.PENDING);
+        final var aVideo = Video.with(Fixture.Videos.systemDesign()).setVideo(aMedia);
+        final var aJob = EncodingJob.newJob(aVideo.getId(), VideoMediaType.VIDEO, aMedia);
+        final var expectedErrorMessage = "Encoder exited with 1";
+
+        when(encodingJobGateway.findById(any()))
+                .thenReturn(Optional.of(aJob));
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(videoGateway.update(any()))
+                .then(returnsFirstArg());
+
+        when(mediaEncoder.encode(any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> useCase.execute(EncodeMediaCommand.with(aJob.getId().getValue()))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertEquals(MediaStatus.PENDING, aJob.getStatus());
+        Assertions.assertEquals(1, aJob.getAttempts());
+        verify(encodingJobGateway, times(2)).update(eq(aJob));
+        verify(encodingJobGateway, times(0)).deleteById(any());
+    }
+
+    @Test
+    public void givenAFailingEncoderOnTheLastAttempt_whenCallsEncodeMedia_shouldFailTheJobAndTheMedia() {
+        // given
+        final var aMedia = AudioVideoMedia.with("abc", "video.mp4", "/videos/123/video", "", MediaStatus.PENDING);
+        final var aVideo = Video.with(Fixture.Videos.systemDesign()).setVideo(aMedia);
+        final var aJob = EncodingJob.newJob(aVideo.getId(), VideoMediaType.VIDEO, aMedia);
+        for (int i = 1; i < EncodingJob.MAX_ATTEMPTS; i++) {
+            aJob.processing().failed();
+        }
+        final var expectedErrorMessage = "Encoder exited with 1";
+
+        when(encodingJobGateway.findById(any()))
+                .thenReturn(Optional.of(aJob));
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(videoGateway.update(any()))
+                .then(returnsFirstArg());
+
+        when(mediaEncoder.encode(any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> useCase.execute(EncodeMediaCommand.with(aJob.getId().getValue()))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertEquals(MediaStatus.ERROR, aJob.getStatus());
+        Assertions.assertEquals(EncodingJob.MAX_ATTEMPTS, aJob.getAttempts());
+        Assertions.assertEquals(MediaStatus.ERROR, aVideo.getVideo().get().status());
+        verify(videoGateway, times(2)).update(eq(aVideo));
+        verify(encodingJobGateway, times(0)).deleteById(any());
+    }
+
+    @Test
+    public void givenAnUnknownJob_whenCallsEncodeMedia_shouldDoNothing() {
+        // given
+        when(encodingJobGateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        // when
+        useCase.execute(EncodeMediaCommand.with("123"));
+
+        // then
+        verify(encodingJobGateway, times(0)).deleteById(any());
+        verifyNoInteractions(videoGateway, mediaEncoder);
+    }
+}
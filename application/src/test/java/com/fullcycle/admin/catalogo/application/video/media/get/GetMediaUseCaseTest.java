@@ -0,0 +1,122 @@
+package com.fullcycle.admin.catalogo.application.video.media.get;
+
+import com.fullcycle.admin.catalogo.application.Fixture;
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class GetMediaUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetMediaUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, mediaResourceGateway);
+    }
+
+    @Test
+    public void givenAStoredTrailer_whenCallsGetMedia_shouldReturnItsContentAndChecksum() {
+        // given
+        final var aVideo = Video.with(Fixture.Videos.systemDesign())
+                .setTrailer(AudioVideoMedia.with("abc", "trailer.mp4", "/videos/trailer", "", MediaStatus.PENDING));
+        final var expectedContent = Resource.with("trailer".getBytes(StandardCharsets.UTF_8), "abc", "video/mp4", "trailer.mp4");
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(mediaResourceGateway.getResource(any(), any()))
+                .thenReturn(Optional.of(expectedContent));
+
+        // when
+        final var actualOutput = useCase.execute(GetMediaCommand.with(aVideo.getId().getValue(), "trailer"));
+
+        // then
+        Assertions.assertSame(expectedContent, actualOutput.content());
+        Assertions.assertEquals("abc", actualOutput.checksum());
+        Assertions.assertEquals("trailer.mp4", actualOutput.name());
+
+        verify(mediaResourceGateway, times(1)).getResource(eq(aVideo.getId()), eq(VideoMediaType.TRAILER));
+    }
+
+    @Test
+    public void givenAnInvalidType_whenCallsGetMedia_shouldReturnNotFound() {
+        // given
+        final var expectedErrorMessage = "Media type subtitle doesn't exists";
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(GetMediaCommand.with(VideoID.unique().getValue(), "subtitle"))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        verifyNoInteractions(videoGateway, mediaResourceGateway);
+    }
+
+    @Test
+    public void givenAnInvalidVideoId_whenCallsGetMedia_shouldReturnNotFound() {
+        // given
+        final var anId = VideoID.unique();
+        final var expectedErrorMessage = "Video with ID %s was not found".formatted(anId.getValue());
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(GetMediaCommand.with(anId.getValue(), "video"))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        verifyNoInteractions(mediaResourceGateway);
+    }
+
+    @Test
+    public void givenAVideoWithoutTheMedia_whenCallsGetMedia_shouldReturnNotFound() {
+        // given
+        final var aVideo = Video.with(Fixture.Videos.systemDesign());
+        final var expectedErrorMessage = "Resource BANNER not found for video %s".formatted(aVideo.getId().getValue());
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(GetMediaCommand.with(aVideo.getId().getValue(), "banner"))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        verifyNoInteractions(mediaResourceGateway);
+    }
+}
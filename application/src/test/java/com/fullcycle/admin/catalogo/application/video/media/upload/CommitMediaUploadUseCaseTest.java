@@ -0,0 +1,133 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.application.Fixture;
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJobGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class CommitMediaUploadUseCaseTest extends UseCaseTest {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    @InjectMocks
+    private DefaultCommitMediaUploadUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Mock
+    private EncodingJobGateway encodingJobGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, mediaResourceGateway, mediaUploadGateway, encodingJobGateway);
+    }
+
+    @Test
+    public void givenACompleteTrailerUpload_whenCallsCommit_shouldSetAPendingTrailerAndScheduleItsEncoding() {
+        // given
+        final var aVideo = Video.with(Fixture.Videos.systemDesign());
+        final var anUpload = MediaUpload.newUpload(aVideo.getId(), VideoMediaType.TRAILER, "trailer.mp4", "video/mp4", 2L * CHUNK_SIZE, CHUNK_SIZE);
+        final var aContent = Resource.with(new byte[0], "abc", "video/mp4", "trailer.mp4");
+        final var expectedMedia = AudioVideoMedia.with("abc", "trailer.mp4", "/videos/trailer", "", MediaStatus.PENDING);
+
+        when(mediaUploadGateway.findById(any()))
+                .thenReturn(Optional.of(anUpload));
+
+        when(mediaUploadGateway.receivedChunks(any()))
+                .thenReturn(new TreeSet<>(List.of(0, 1)));
+
+        when(mediaUploadGateway.content(any()))
+                .thenReturn(aContent);
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(mediaResourceGateway.storeAudioVideo(any(), any()))
+                .thenReturn(expectedMedia);
+
+        when(videoGateway.update(any()))
+                .then(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(CommitMediaUploadCommand.with(
+                aVideo.getId().getValue(),
+                "trailer",
+                anUpload.getId().getValue()
+        ));
+
+        // then
+        Assertions.assertEquals(aVideo.getId().getValue(), actualOutput.videoId());
+        Assertions.assertEquals(VideoMediaType.TRAILER, actualOutput.mediaType());
+        Assertions.assertEquals(MediaStatus.PENDING, actualOutput.status());
+
+        verify(mediaResourceGateway).storeAudioVideo(eq(aVideo.getId()), argThat(aResource ->
+                aResource.resource() == aContent && aResource.type() == VideoMediaType.TRAILER
+        ));
+        verify(videoGateway).update(argThat(actualVideo ->
+                Objects.equals(expectedMedia, actualVideo.getTrailer().orElse(null))
+                        && actualVideo.getVideo().isEmpty()
+        ));
+        verify(encodingJobGateway).create(argThat(aJob ->
+                Objects.equals(aVideo.getId(), aJob.getVideoId())
+                        && aJob.getMediaType() == VideoMediaType.TRAILER
+                        && aJob.isFor(expectedMedia)
+        ));
+        verify(mediaUploadGateway).deleteById(eq(anUpload.getId()));
+    }
+
+    @Test
+    public void givenAnIncompleteUpload_whenCallsCommit_shouldReturnAnError() {
+        // given
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var anUpload = MediaUpload.newUpload(aVideo.getId(), VideoMediaType.VIDEO, "master.mov", "video/quicktime", 3L * CHUNK_SIZE, CHUNK_SIZE);
+        final var expectedErrorMessage = "Upload %s is missing 2 of 3 chunks".formatted(anUpload.getId().getValue());
+
+        when(mediaUploadGateway.findById(any()))
+                .thenReturn(Optional.of(anUpload));
+
+        when(mediaUploadGateway.receivedChunks(any()))
+                .thenReturn(new TreeSet<>(List.of(1)));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(CommitMediaUploadCommand.with(aVideo.getId().getValue(), "video", anUpload.getId().getValue()))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verifyNoInteractions(videoGateway, mediaResourceGateway, encodingJobGateway);
+        verify(mediaUploadGateway, times(0)).deleteById(any());
+    }
+}
@@ -0,0 +1,121 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.application.Fixture;
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class CreateMediaUploadUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateMediaUploadUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, mediaUploadGateway);
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsCreateMediaUpload_shouldReturnTheUpload() {
+        // given
+        final var aVideo = Fixture.Videos.systemDesign();
+        final var expectedVideoId = aVideo.getId();
+        final var expectedName = "master.mov";
+        final var expectedContentType = "video/quicktime";
+        final var expectedLength = 20L * 1024 * 1024;
+        final var expectedChunkSize = MediaUpload.DEFAULT_CHUNK_SIZE;
+        final var expectedChunkCount = 3;
+
+        final var aCommand = CreateMediaUploadCommand.with(
+                expectedVideoId.getValue(),
+                "video",
+                expectedName,
+                expectedContentType,
+                expectedLength,
+                null
+        );
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(mediaUploadGateway.create(any()))
+                .then(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(aCommand);
+
+        // then
+        Assertions.assertNotNull(actualOutput.id());
+        Assertions.assertEquals(expectedVideoId.getValue(), actualOutput.videoId());
+        Assertions.assertEquals(VideoMediaType.VIDEO, actualOutput.mediaType());
+        Assertions.assertEquals(expectedChunkSize, actualOutput.chunkSize());
+        Assertions.assertEquals(expectedChunkCount, actualOutput.chunkCount());
+        Assertions.assertTrue(actualOutput.received().isEmpty());
+        Assertions.assertFalse(actualOutput.complete());
+
+        verify(mediaUploadGateway).create(argThat(anUpload ->
+                Objects.equals(expectedVideoId, anUpload.getVideoId())
+                        && Objects.equals(expectedName, anUpload.getName())
+                        && Objects.equals(expectedContentType, anUpload.getContentType())
+                        && Objects.equals(expectedLength, anUpload.getLength())
+        ));
+    }
+
+    @Test
+    public void givenAnUnknownVideo_whenCallsCreateMediaUpload_shouldReturnNotFound() {
+        // given
+        final var aVideoId = VideoID.unique();
+        final var expectedErrorMessage = "Video with ID %s was not found".formatted(aVideoId.getValue());
+
+        final var aCommand = CreateMediaUploadCommand.with(aVideoId.getValue(), "trailer", "trailer.mp4", "video/mp4", 10, null);
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        // when
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(mediaUploadGateway, times(0)).create(any());
+    }
+
+    @Test
+    public void givenAnImageMediaType_whenCallsCreateMediaUpload_shouldReturnNotification() {
+        // given
+        final var expectedErrorMessage = "'mediaType' should be VIDEO or TRAILER";
+
+        final var aCommand = CreateMediaUploadCommand.with(VideoID.unique().getValue(), "banner", "banner.png", "image/png", 10, null);
+
+        // when
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> useCase.execute(aCommand));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verifyNoInteractions(videoGateway, mediaUploadGateway);
+    }
+}
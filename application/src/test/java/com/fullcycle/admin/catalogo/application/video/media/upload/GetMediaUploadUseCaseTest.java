@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class GetMediaUploadUseCaseTest extends UseCaseTest {
+
+    private static final int CHUNK_SIZE = 1024 * 1024;
+
+    @InjectMocks
+    private DefaultGetMediaUploadUseCase useCase;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaUploadGateway);
+    }
+
+    @Test
+    public void givenAPartialUpload_whenCallsGetMediaUpload_shouldReturnTheReceivedRanges() {
+        // given
+        final var anUpload = MediaUpload.newUpload(VideoID.unique(), VideoMediaType.VIDEO, "master.mov", "video/quicktime", 5L * CHUNK_SIZE - 1, CHUNK_SIZE);
+
+        when(mediaUploadGateway.findById(any()))
+                .thenReturn(Optional.of(anUpload));
+
+        when(mediaUploadGateway.receivedChunks(any()))
+                .thenReturn(new TreeSet<>(List.of(0, 1, 3, 4)));
+
+        // when
+        final var actualOutput = useCase.execute(GetMediaUploadCommand.with(
+                anUpload.getVideoId().getValue(),
+                "video",
+                anUpload.getId().getValue()
+        ));
+
+        // then
+        Assertions.assertFalse(actualOutput.complete());
+        Assertions.assertEquals(
+                List.of(
+                        new MediaUploadOutput.ReceivedRange(0, 1, 0, 2L * CHUNK_SIZE - 1),
+                        new MediaUploadOutput.ReceivedRange(3, 4, 3L * CHUNK_SIZE, 5L * CHUNK_SIZE - 2)
+                ),
+                actualOutput.received()
+        );
+    }
+
+    @Test
+    public void givenAnUploadOfAnotherVideo_whenCallsGetMediaUpload_shouldReturnNotFound() {
+        // given
+        final var anUpload = MediaUpload.newUpload(VideoID.unique(), VideoMediaType.VIDEO, "master.mov", "video/quicktime", 10, CHUNK_SIZE);
+        final var expectedErrorMessage = "MediaUpload with ID %s was not found".formatted(anUpload.getId().getValue());
+
+        when(mediaUploadGateway.findById(any()))
+                .thenReturn(Optional.of(anUpload));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(GetMediaUploadCommand.with(VideoID.unique().getValue(), "video", anUpload.getId().getValue()))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
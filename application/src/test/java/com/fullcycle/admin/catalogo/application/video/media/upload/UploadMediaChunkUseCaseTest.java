@@ -0,0 +1,153 @@
+package com.fullcycle.admin.catalogo.application.video.media.upload;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class UploadMediaChunkUseCaseTest extends UseCaseTest {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final String CHECKSUM = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    @InjectMocks
+    private DefaultUploadMediaChunkUseCase useCase;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaUploadGateway);
+    }
+
+    @Test
+    public void givenAMatchingChunk_whenCallsUploadMediaChunk_shouldMarkItAsReceived() {
+        // given
+        final var anUpload = upload(CHUNK_SIZE + 10);
+        final var aContent = chunk(10);
+        final var expectedChunk = 1;
+
+        when(mediaUploadGateway.findById(any()))
+                .thenReturn(Optional.of(anUpload));
+
+        when(mediaUploadGateway.storeChunk(any(), anyInt(), any()))
+                .thenReturn(CHECKSUM);
+
+        when(mediaUploadGateway.receivedChunks(any()))
+                .thenReturn(new TreeSet<>(List.of(expectedChunk)));
+
+        // when
+        final var actualOutput = useCase.execute(command(anUpload, expectedChunk, CHECKSUM.toUpperCase(), aContent));
+
+        // then
+        Assertions.assertEquals(1, actualOutput.received().size());
+        Assertions.assertFalse(actualOutput.complete());
+
+        verify(mediaUploadGateway).storeChunk(eq(anUpload), eq(expectedChunk), eq(aContent));
+        verify(mediaUploadGateway).markChunkReceived(eq(anUpload), eq(expectedChunk));
+    }
+
+    @Test
+    public void givenAChunkThatDoesNotMatchItsChecksum_whenCallsUploadMediaChunk_shouldNotMarkIt() {
+        // given
+        final var anUpload = upload(CHUNK_SIZE);
+        final var expectedErrorMessage = "Chunk 0 does not match its checksum";
+
+        when(mediaUploadGateway.findById(any()))
+                .thenReturn(Optional.of(anUpload));
+
+        when(mediaUploadGateway.storeChunk(any(), anyInt(), any()))
+                .thenReturn("0".repeat(64));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(command(anUpload, 0, CHECKSUM, chunk(CHUNK_SIZE)))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(mediaUploadGateway, times(0)).markChunkReceived(any(), anyInt());
+    }
+
+    @Test
+    public void givenAChunkWithTheWrongLength_whenCallsUploadMediaChunk_shouldNotStoreIt() {
+        // given
+        final var anUpload = upload(CHUNK_SIZE + 10);
+        final var expectedErrorMessage = "Chunk 1 should have 10 bytes but has 11";
+
+        when(mediaUploadGateway.findById(any()))
+                .thenReturn(Optional.of(anUpload));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(command(anUpload, 1, CHECKSUM, chunk(11)))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(mediaUploadGateway, times(0)).storeChunk(any(), anyInt(), any());
+    }
+
+    @Test
+    public void givenAChunkOutOfRange_whenCallsUploadMediaChunk_shouldReturnAnError() {
+        // given
+        final var anUpload = upload(CHUNK_SIZE + 10);
+        final var expectedErrorMessage = "'chunk' must be between 0 and 1";
+
+        when(mediaUploadGateway.findById(any()))
+                .thenReturn(Optional.of(anUpload));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> useCase.execute(command(anUpload, 2, CHECKSUM, chunk(10)))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(mediaUploadGateway, times(0)).storeChunk(any(), anyInt(), any());
+    }
+
+    private static MediaUpload upload(final long length) {
+        return MediaUpload.newUpload(VideoID.unique(), VideoMediaType.TRAILER, "trailer.mp4", "video/mp4", length, CHUNK_SIZE);
+    }
+
+    private static Resource chunk(final int length) {
+        return Resource.with(new byte[length], CHECKSUM, "application/octet-stream", "chunk");
+    }
+
+    private static UploadMediaChunkCommand command(
+            final MediaUpload anUpload,
+            final int aChunk,
+            final String aChecksum,
+            final Resource aContent
+    ) {
+        return UploadMediaChunkCommand.with(
+                anUpload.getVideoId().getValue(),
+                "trailer",
+                anUpload.getId().getValue(),
+                aChunk,
+                aChecksum,
+                aContent
+        );
+    }
+}
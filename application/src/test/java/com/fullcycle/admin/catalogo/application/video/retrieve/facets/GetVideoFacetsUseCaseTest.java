@@ -0,0 +1,82 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.facets;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.VideoFacets;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+public class GetVideoFacetsUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetVideoFacetsUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsGetVideoFacets_shouldReturnOrderedCounts() {
+        // given
+        final var aCategory = CategoryID.unique();
+        final var otherCategory = CategoryID.unique();
+        final var aGenre = GenreID.unique();
+        final var aMember = CastMemberID.unique();
+
+        final var expectedTotal = 3L;
+
+        when(videoGateway.facets(any()))
+                .thenReturn(new VideoFacets(
+                        expectedTotal,
+                        Map.of(Rating.AGE_18, 1L, Rating.L, 2L),
+                        Map.of(Year.of(2022), 1L, Year.of(2010), 2L),
+                        Map.of(true, 3L),
+                        Map.of(true, 1L, false, 2L),
+                        Map.of(aCategory, 1L, otherCategory, 3L),
+                        Map.of(aGenre, 2L),
+                        Map.of(aMember, 1L)
+                ));
+
+        final var aQuery = new VideoSearchQuery(
+                0, 10, "", "title", "asc",
+                Set.of(Rating.L, Rating.AGE_18), null, null, true, null, Set.of(), Set.of(), Set.of()
+        );
+
+        // when
+        final var actualOutput = useCase.execute(aQuery);
+
+        // then
+        Assertions.assertEquals(expectedTotal, actualOutput.total());
+        Assertions.assertEquals(List.of("L", "18"), List.copyOf(actualOutput.ratings().keySet()));
+        Assertions.assertEquals(List.of(2010, 2022), List.copyOf(actualOutput.launchedAt().keySet()));
+        Assertions.assertEquals(List.of(false, true), List.copyOf(actualOutput.opened().keySet()));
+        Assertions.assertEquals(List.of(otherCategory.getValue(), aCategory.getValue()), List.copyOf(actualOutput.categories().keySet()));
+        Assertions.assertEquals(3L, actualOutput.categories().get(otherCategory.getValue()));
+        Assertions.assertEquals(Map.of(aGenre.getValue(), 2L), actualOutput.genres());
+        Assertions.assertEquals(Map.of(aMember.getValue(), 1L), actualOutput.castMembers());
+
+        Mockito.verify(videoGateway, times(1)).facets(eq(aQuery));
+    }
+}
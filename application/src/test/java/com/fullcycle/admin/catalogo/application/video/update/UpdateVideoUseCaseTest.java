@@ -13,8 +13,8 @@ import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.video.*;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.time.Year;
@@ -26,7 +26,6 @@ import static org.mockito.Mockito.*;
 
 public class UpdateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultUpdateVideoUseCase useCase;
 
     @Mock
@@ -44,9 +43,24 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @Mock
+    private EncodingJobGateway encodingJobGateway;
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
+        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway, encodingJobGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultUpdateVideoUseCase(
+                videoGateway,
+                categoryGateway,
+                castMemberGateway,
+                genreGateway,
+                mediaResourceGateway,
+                encodingJobGateway
+        );
     }
 
     @Test
@@ -1109,14 +1123,14 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
 
     private void mockImageMedia() {
         when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
-            final var resource = t.getArgument(1, Resource.class);
+            final var resource = t.getArgument(1, VideoResource.class).resource();
             return ImageMedia.with(UUID.randomUUID().toString(), resource.name(), "/img");
         });
     }
 
     private void mockAudioVideoMedia() {
         when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(t -> {
-            final var resource = t.getArgument(1, Resource.class);
+            final var resource = t.getArgument(1, VideoResource.class).resource();
             return AudioVideoMedia.with(
                     UUID.randomUUID().toString(),
                     resource.name(),
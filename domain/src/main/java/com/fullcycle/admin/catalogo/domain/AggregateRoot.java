@@ -1,8 +1,66 @@
 package com.fullcycle.admin.catalogo.domain;
 
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
 
+    private final long version;
+    private List<DomainEvent> events = new ArrayList<>();
+
     protected AggregateRoot(final ID id){
+        this(id, 0);
+    }
+
+    protected AggregateRoot(final ID id, final long version){
         super(id);
+        this.version = version;
+    }
+
+    /**
+     * The version the aggregate was read at. Storing an update increments it, and the update is only applied while
+     * the stored version still matches, so concurrent updates are rejected instead of overwriting each other.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * The events recorded since the aggregate was created or read, and not yet taken by {@link #pullEvents()}.
+     */
+    public List<DomainEvent> getEvents() {
+        return Collections.unmodifiableList(events);
+    }
+
+    /**
+     * Takes the recorded events, leaving none behind. The gateway storing the aggregate calls it, so each event is
+     * stored once.
+     */
+    public List<DomainEvent> pullEvents() {
+        final var pulled = List.copyOf(this.events);
+        this.events.clear();
+        return pulled;
+    }
+
+    /**
+     * Records an event. An update is recorded only when nothing is pending, as the pending event already tells that
+     * the aggregate has to be read again.
+     */
+    protected void registerEvent(final DomainEvent anEvent) {
+        if (anEvent.type() == DomainEvent.Type.UPDATED && !this.events.isEmpty()) {
+            return;
+        }
+        this.events.add(anEvent);
+    }
+
+    @Override
+    protected Object clone() throws CloneNotSupportedException {
+        @SuppressWarnings("unchecked")
+        final var aCopy = (AggregateRoot<ID>) super.clone();
+        aCopy.events = new ArrayList<>(this.events);
+        return aCopy;
     }
 }
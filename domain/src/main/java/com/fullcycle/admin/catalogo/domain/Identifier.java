@@ -1,5 +1,22 @@
 package com.fullcycle.admin.catalogo.domain;
 
+import java.util.Objects;
+import java.util.UUID;
+
 public abstract class Identifier extends ValueObject{
+
+    private static volatile IdentifierGenerator generator = IdentifierGenerator.timeOrdered();
+
     public abstract String getValue();
+
+    /**
+     * Replaces how the {@code unique()} identifiers of every aggregate are generated, time-ordered by default.
+     */
+    public static void useGenerator(final IdentifierGenerator aGenerator) {
+        generator = Objects.requireNonNull(aGenerator);
+    }
+
+    protected static UUID generate() {
+        return generator.generate();
+    }
 }
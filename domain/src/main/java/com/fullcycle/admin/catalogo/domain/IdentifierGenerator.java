@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.domain;
+
+import java.util.UUID;
+
+/**
+ * How {@link Identifier}s are generated, see {@link Identifier#useGenerator(IdentifierGenerator)}.
+ */
+@FunctionalInterface
+public interface IdentifierGenerator {
+
+    UUID generate();
+
+    static IdentifierGenerator random() {
+        return UUID::randomUUID;
+    }
+
+    static IdentifierGenerator timeOrdered() {
+        return TimeOrderedIdentifierGenerator.INSTANCE;
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.domain;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates version 7 UUIDs: a 48 bit Unix timestamp in milliseconds, a 12 bit counter and 62 random bits, so
+ * that identifiers sort, as strings and as bytes, in the order they were generated and land at the end of the
+ * indexes they are inserted in.
+ * <p>
+ * Timestamp and counter share one {@link AtomicLong} advanced by compare-and-set: the counter restarts at every
+ * new millisecond, and when more than 4096 identifiers are generated within one, or the clock goes back, it
+ * carries into the timestamp, which then runs slightly ahead of the clock until the clock catches up. Identifiers
+ * of a process are therefore strictly increasing without any lock.
+ */
+public final class TimeOrderedIdentifierGenerator implements IdentifierGenerator {
+
+    static final TimeOrderedIdentifierGenerator INSTANCE = new TimeOrderedIdentifierGenerator(System::currentTimeMillis);
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier clock;
+    private final AtomicLong last = new AtomicLong();
+
+    TimeOrderedIdentifierGenerator(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID generate() {
+        final var timeAndCounter = next();
+        final var millis = timeAndCounter >>> COUNTER_BITS;
+        final var counter = timeAndCounter & ((1L << COUNTER_BITS) - 1);
+
+        final var mostSignificant = (millis << 16) | VERSION | counter;
+        final var leastSignificant = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    private long next() {
+        final var now = this.clock.getAsLong() << COUNTER_BITS;
+        while (true) {
+            final var previous = this.last.get();
+            final var candidate = now > previous ? now : previous + 1;
+            if (this.last.compareAndSet(previous, candidate)) {
+                return candidate;
+            }
+        }
+    }
+}
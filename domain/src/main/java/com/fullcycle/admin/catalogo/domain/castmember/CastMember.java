@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.domain.castmember;
 
 import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
@@ -20,9 +21,10 @@ public class CastMember extends AggregateRoot<CastMemberID> {
             final String aName,
             final CastMemberType aType,
             final Instant aCreationDate,
-            final Instant aUpdateDate
+            final Instant aUpdateDate,
+            final long aVersion
     ) {
-        super(anId);
+        super(anId, aVersion);
         this.name = aName;
         this.type = aType;
         this.createdAt = aCreationDate;
@@ -33,7 +35,9 @@ public class CastMember extends AggregateRoot<CastMemberID> {
     public static CastMember newMember(final String aName, final CastMemberType aType) {
         final var anId = CastMemberID.unique();
         final var now = InstantUtils.now();
-        return new CastMember(anId, aName, aType, now, now);
+        final var aMember = new CastMember(anId, aName, aType, now, now, 0);
+        aMember.registerEvent(DomainEvent.created(aMember));
+        return aMember;
     }
 
     public static CastMember with(
@@ -43,16 +47,32 @@ public class CastMember extends AggregateRoot<CastMemberID> {
             final Instant aCreationDate,
             final Instant aUpdateDate
     ) {
-        return new CastMember(anId, aName, aType, aCreationDate, aUpdateDate);
+        return with(anId, aName, aType, aCreationDate, aUpdateDate, 0);
+    }
+
+    public static CastMember with(
+            final CastMemberID anId,
+            final String aName,
+            final CastMemberType aType,
+            final Instant aCreationDate,
+            final Instant aUpdateDate,
+            final long aVersion
+    ) {
+        return new CastMember(anId, aName, aType, aCreationDate, aUpdateDate, aVersion);
     }
 
     public static CastMember with(final CastMember aMember) {
+        return with(aMember, aMember.getVersion());
+    }
+
+    public static CastMember with(final CastMember aMember, final long aVersion) {
         return new CastMember(
                 aMember.id,
                 aMember.name,
                 aMember.type,
                 aMember.createdAt,
-                aMember.updatedAt
+                aMember.updatedAt,
+                aVersion
         );
     }
 
@@ -60,6 +80,7 @@ public class CastMember extends AggregateRoot<CastMemberID> {
         this.name = aName;
         this.type = aType;
         this.updatedAt = InstantUtils.now();
+        registerEvent(DomainEvent.updated(this));
         selfValidate();
         return this;
     }
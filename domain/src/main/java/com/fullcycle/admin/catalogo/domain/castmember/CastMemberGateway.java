@@ -9,6 +9,10 @@ import java.util.Optional;
 public interface CastMemberGateway {
     CastMember create(CastMember aCastMember);
 
+    List<CastMember> createAll(List<CastMember> aCastMembers);
+
+    List<CastMember> upsertAll(List<CastMember> aCastMembers);
+
     void deleteById(CastMemberID anId);
 
     Optional<CastMember> findById(CastMemberID anId);
@@ -15,7 +15,7 @@ public class CastMemberID extends Identifier {
     }
 
     public static CastMemberID unique() {
-        return CastMemberID.from(UUID.randomUUID());
+        return CastMemberID.from(generate());
     }
 
     public static CastMemberID from(final String anId) {
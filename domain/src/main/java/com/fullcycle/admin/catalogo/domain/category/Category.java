@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalogo.domain.category;
 
 
 import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
 import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
 
 import java.time.Instant;
@@ -24,9 +25,10 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
            final boolean isActive,
            final Instant aCreatedAt,
            final Instant aUpdatedAt,
-           final Instant aDeletedAt
+           final Instant aDeletedAt,
+           final long aVersion
     ) {
-        super(anId);
+        super(anId, aVersion);
         this.name = aName;
         this.description = aDescription;
         this.active = isActive;
@@ -39,10 +41,16 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         final var id = CategoryID.unique();
         final var now = now();
         final var deletedAt = isActive ? null : now;
-        return new Category(id, aName, aDescription, isActive, now, now, deletedAt);
+        final var aCategory = new Category(id, aName, aDescription, isActive, now, now, deletedAt, 0);
+        aCategory.registerEvent(DomainEvent.created(aCategory));
+        return aCategory;
     }
 
     public static Category with(final Category aCategory) {
+        return with(aCategory, aCategory.getVersion());
+    }
+
+    public static Category with(final Category aCategory, final long aVersion) {
         return with(
                 aCategory.id,
                 aCategory.name,
@@ -50,9 +58,11 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 aCategory.active,
                 aCategory.createdAt,
                 aCategory.updatedAt,
-                aCategory.deletedAt
+                aCategory.deletedAt,
+                aVersion
         );
     }
+
     public static Category with(
             final CategoryID anId,
             final String name,
@@ -61,6 +71,19 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final Instant createdAt,
             final Instant updatedAt,
             final Instant deletedAt
+    ) {
+        return with(anId, name, description, active, createdAt, updatedAt, deletedAt, 0);
+    }
+
+    public static Category with(
+            final CategoryID anId,
+            final String name,
+            final String description,
+            final boolean active,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final long version
     ) {
         return new Category(
                 anId,
@@ -69,7 +92,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 active,
                 createdAt,
                 updatedAt,
-                deletedAt
+                deletedAt,
+                version
         );
     }
 
@@ -85,6 +109,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
 
         this.active = false;
         this.updatedAt = Instant.now();
+        registerEvent(DomainEvent.updated(this));
         return this;
     }
 
@@ -92,6 +117,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.deletedAt = null;
         this.active = true;
         this.updatedAt = Instant.now();
+        registerEvent(DomainEvent.updated(this));
         return this;
     }
 
@@ -109,6 +135,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.name = aName;
         this.description = aDescription;
         this.updatedAt = Instant.now();
+        registerEvent(DomainEvent.updated(this));
         return this;
     }
 
@@ -9,6 +9,11 @@ import java.util.Optional;
 public interface CategoryGateway {
 
     Category create(Category aCategory);
+
+    List<Category> createAll(List<Category> aCategories);
+
+    List<Category> upsertAll(List<Category> aCategories);
+
     void deleteById(CategoryID anId);
 
     Optional<Category> findById(CategoryID anId);
@@ -14,7 +14,7 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID unique(){
-        return CategoryID.from(UUID.randomUUID());
+        return CategoryID.from(generate());
     }
 
     public static CategoryID from(final String anId){
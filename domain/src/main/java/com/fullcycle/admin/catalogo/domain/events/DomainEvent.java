@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo.domain.events;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Something that happened to an aggregate. It carries only what identifies the change, consumers read the aggregate
+ * itself when they need its state.
+ */
+public record DomainEvent(
+        String aggregate,
+        String aggregateId,
+        Type type,
+        Instant occurredOn
+) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public DomainEvent {
+        Objects.requireNonNull(aggregate, "'aggregate' should not be null");
+        Objects.requireNonNull(aggregateId, "'aggregateId' should not be null");
+        Objects.requireNonNull(type, "'type' should not be null");
+        Objects.requireNonNull(occurredOn, "'occurredOn' should not be null");
+    }
+
+    public static DomainEvent created(final AggregateRoot<?> anAggregate) {
+        return of(anAggregate, Type.CREATED);
+    }
+
+    public static DomainEvent updated(final AggregateRoot<?> anAggregate) {
+        return of(anAggregate, Type.UPDATED);
+    }
+
+    public static DomainEvent deleted(final Class<? extends AggregateRoot<?>> anAggregate, final Identifier anId) {
+        return new DomainEvent(anAggregate.getSimpleName(), anId.getValue(), Type.DELETED, InstantUtils.now());
+    }
+
+    private static DomainEvent of(final AggregateRoot<?> anAggregate, final Type aType) {
+        return new DomainEvent(
+                anAggregate.getClass().getSimpleName(),
+                anAggregate.getId().getValue(),
+                aType,
+                InstantUtils.now()
+        );
+    }
+}
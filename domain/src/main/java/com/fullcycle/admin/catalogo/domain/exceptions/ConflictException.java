@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.domain.exceptions;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+/**
+ * Thrown when an update was made against a version of the aggregate that is no longer the stored one.
+ */
+public class ConflictException extends DomainException {
+
+    protected ConflictException(final String aMessage, final List<Error> anErrors) {
+        super(aMessage, anErrors);
+    }
+
+    public static ConflictException with(
+            final Class<? extends AggregateRoot<?>> anAggregate,
+            final Identifier id
+    ) {
+        final var anError = "%s with ID %s was changed".formatted(anAggregate.getSimpleName(), id.getValue());
+        return new ConflictException(anError, List.of(new Error(anError)));
+    }
+
+    public static ConflictException with(
+            final Class<? extends AggregateRoot<?>> anAggregate,
+            final Identifier id,
+            final long aVersion
+    ) {
+        final var anError = "%s with ID %s was changed since version %d".formatted(
+                anAggregate.getSimpleName(),
+                id.getValue(),
+                aVersion
+        );
+        return new ConflictException(anError, List.of(new Error(anError)));
+    }
+}
@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalogo.domain.genre;
 
 import com.fullcycle.admin.catalogo.domain.AggregateRoot;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
@@ -28,9 +29,10 @@ public class Genre extends AggregateRoot<GenreID> {
             final List<CategoryID> categories,
             final Instant aCreatedAt,
             final Instant aUpdateAt,
-            final Instant aDeletedAt
+            final Instant aDeletedAt,
+            final long aVersion
     ){
-        super(anId);
+        super(anId, aVersion);
         this.name = aName;
         this.active = isActive;
         this.categories = categories;
@@ -47,7 +49,9 @@ public class Genre extends AggregateRoot<GenreID> {
         final var anId = GenreID.unique();
         final var now = InstantUtils.now();
         final var deletedAt = isActive ? null : now;
-        return new Genre(anId, aName, isActive, new ArrayList<>(), now, now, deletedAt);
+        final var aGenre = new Genre(anId, aName, isActive, new ArrayList<>(), now, now, deletedAt, 0);
+        aGenre.registerEvent(DomainEvent.created(aGenre));
+        return aGenre;
     }
 
 
@@ -60,11 +64,27 @@ public class Genre extends AggregateRoot<GenreID> {
             final Instant aUpdateAt,
             final Instant aDeletedAt
     ){
-        return new Genre(anId, aName, isActive, categories, aCreatedAt, aUpdateAt, aDeletedAt);
+        return with(anId, aName, isActive, categories, aCreatedAt, aUpdateAt, aDeletedAt, 0);
+    }
 
+    public static Genre with(
+            final GenreID anId,
+            final String  aName,
+            final boolean isActive,
+            final List<CategoryID> categories,
+            final Instant aCreatedAt,
+            final Instant aUpdateAt,
+            final Instant aDeletedAt,
+            final long aVersion
+    ){
+        return new Genre(anId, aName, isActive, categories, aCreatedAt, aUpdateAt, aDeletedAt, aVersion);
     }
 
     public static Genre with(final Genre aGenre){
+        return with(aGenre, aGenre.getVersion());
+    }
+
+    public static Genre with(final Genre aGenre, final long aVersion){
         return new Genre(
                 aGenre.id,
                 aGenre.name,
@@ -72,7 +92,8 @@ public class Genre extends AggregateRoot<GenreID> {
                 aGenre.categories,
                 aGenre.createdAt,
                 aGenre.updatedAt,
-                aGenre.deletedAt);
+                aGenre.deletedAt,
+                aVersion);
     }
 
     @Override
@@ -89,6 +110,7 @@ public class Genre extends AggregateRoot<GenreID> {
         this.name = aName;
         this.categories = new ArrayList<>(categories != null ? categories : Collections.emptyList());
         this.updatedAt = InstantUtils.now();
+        registerEvent(DomainEvent.updated(this));
         selfValidate();
         return this;
     }
@@ -97,6 +119,7 @@ public class Genre extends AggregateRoot<GenreID> {
         this.deletedAt = null;
         this.active = true;
         this.updatedAt = InstantUtils.now();
+        registerEvent(DomainEvent.updated(this));
         return this;
     }
 
@@ -106,6 +129,7 @@ public class Genre extends AggregateRoot<GenreID> {
         }
         this.active = false;
         this.updatedAt = InstantUtils.now();
+        registerEvent(DomainEvent.updated(this));
         return this;
     }
 
@@ -148,6 +172,7 @@ public class Genre extends AggregateRoot<GenreID> {
         }
         this.categories.add(aCategoryID);
         this.updatedAt = InstantUtils.now();
+        registerEvent(DomainEvent.updated(this));
         return this;
     }
 
@@ -157,6 +182,7 @@ public class Genre extends AggregateRoot<GenreID> {
         }
         this.categories.addAll(categories);
         this.updatedAt = InstantUtils.now();
+        registerEvent(DomainEvent.updated(this));
         return this;
     }
 
@@ -166,6 +192,7 @@ public class Genre extends AggregateRoot<GenreID> {
         }
         this.categories.remove(aCategoryID);
         this.updatedAt = InstantUtils.now();
+        registerEvent(DomainEvent.updated(this));
         return this;
     }
 }
@@ -10,6 +10,10 @@ public interface GenreGateway {
 
     Genre create(Genre aGenre);
 
+    List<Genre> createAll(List<Genre> aGenres);
+
+    List<Genre> upsertAll(List<Genre> aGenres);
+
     void deleteById(GenreID anId);
 
     Optional<Genre> findById(GenreID anId);
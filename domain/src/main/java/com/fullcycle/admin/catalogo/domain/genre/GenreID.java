@@ -14,7 +14,7 @@ public class GenreID extends Identifier {
     }
 
     public static GenreID unique(){
-        return GenreID.from(UUID.randomUUID());
+        return GenreID.from(generate());
     }
 
     public static GenreID from(final String anId){
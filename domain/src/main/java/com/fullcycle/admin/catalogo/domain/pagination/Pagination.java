@@ -3,17 +3,32 @@ package com.fullcycle.admin.catalogo.domain.pagination;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * {@code total} is -1 when the count was not requested, and {@code nextCursor} is null on the last page.
+ */
 public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String nextCursor
 ) {
 
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(
+            final int currentPage,
+            final int perPage,
+            final long total,
+            final List<T> items
+    ) {
+        this(currentPage, perPage, total, items, null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper){
         List<R> newList = this.items.stream()
                 .map(mapper)
                 .toList();
-        return new Pagination<>(currentPage(), perPage(), total(), newList);
+        return new Pagination<>(currentPage(), perPage(), total(), newList, nextCursor());
     }
 }
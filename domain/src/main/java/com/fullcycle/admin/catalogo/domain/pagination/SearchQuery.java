@@ -1,10 +1,54 @@
 package com.fullcycle.admin.catalogo.domain.pagination;
 
+/**
+ * When {@code cursor} is present the gateway seeks from the position it encodes instead of
+ * skipping {@code page * perPage} rows, and only counts the total when {@code withTotal} is set.
+ */
 public record SearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        boolean withTotal
 ) {
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, true);
+    }
+
+    /**
+     * Offset pages keep counting by default; cursor pages only count when explicitly asked to.
+     */
+    public static SearchQuery with(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor,
+            final Boolean withTotal
+    ) {
+        final var seek = cursor != null && !cursor.isBlank();
+        return new SearchQuery(
+                page,
+                perPage,
+                terms,
+                sort,
+                direction,
+                seek ? cursor : null,
+                withTotal != null ? withTotal : !seek
+        );
+    }
+
+    public boolean isSeek() {
+        return cursor != null && !cursor.isBlank();
+    }
 }
@@ -36,6 +36,18 @@ public class AudioVideoMedia extends ValueObject {
         return new AudioVideoMedia(checksum, name, rawLocation, encodedLocation, status);
     }
 
+    public AudioVideoMedia processing() {
+        return AudioVideoMedia.with(checksum, name, rawLocation, encodedLocation, MediaStatus.PROCESSING);
+    }
+
+    public AudioVideoMedia failed() {
+        return AudioVideoMedia.with(checksum, name, rawLocation, encodedLocation, MediaStatus.ERROR);
+    }
+
+    public AudioVideoMedia completed(final String anEncodedLocation) {
+        return AudioVideoMedia.with(checksum, name, rawLocation, anEncodedLocation, MediaStatus.COMPLETED);
+    }
+
     public String checksum() {
         return checksum;
     }
@@ -0,0 +1,171 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A request to encode the raw video or trailer of a video. Jobs are persisted before they are run, so those that
+ * were still {@link MediaStatus#PENDING} or {@link MediaStatus#PROCESSING} when the application stopped are run
+ * again on the next start. A job only applies while the video still holds the media with its {@code checksum}. A job
+ * that failed {@link #MAX_ATTEMPTS} times ends in {@link MediaStatus#ERROR} and is never run again.
+ */
+public class EncodingJob extends AggregateRoot<EncodingJobID> {
+
+    public static final int MAX_ATTEMPTS = 5;
+
+    private final VideoID videoId;
+    private final VideoMediaType mediaType;
+    private final String checksum;
+    private final String rawLocation;
+    private MediaStatus status;
+    private int attempts;
+    private final Instant createdAt;
+    private Instant updatedAt;
+
+    private EncodingJob(
+            final EncodingJobID anId,
+            final VideoID aVideoId,
+            final VideoMediaType aMediaType,
+            final String aChecksum,
+            final String aRawLocation,
+            final MediaStatus aStatus,
+            final int anAttempts,
+            final Instant aCreationDate,
+            final Instant anUpdateDate
+    ) {
+        super(anId);
+        this.videoId = aVideoId;
+        this.mediaType = aMediaType;
+        this.checksum = aChecksum;
+        this.rawLocation = aRawLocation;
+        this.status = aStatus;
+        this.attempts = anAttempts;
+        this.createdAt = aCreationDate;
+        this.updatedAt = anUpdateDate;
+        selfValidate();
+    }
+
+    public static EncodingJob newJob(final VideoID aVideoId, final VideoMediaType aMediaType, final AudioVideoMedia aMedia) {
+        final var now = InstantUtils.now();
+        return new EncodingJob(
+                EncodingJobID.unique(),
+                aVideoId,
+                aMediaType,
+                aMedia.checksum(),
+                aMedia.rawLocation(),
+                MediaStatus.PENDING,
+                0,
+                now,
+                now
+        );
+    }
+
+    /**
+     * One job for each video or trailer of {@code aVideo} that is waiting to be encoded.
+     */
+    public static List<EncodingJob> pendingOf(final Video aVideo) {
+        final var jobs = new ArrayList<EncodingJob>(2);
+        for (final var aType : List.of(VideoMediaType.VIDEO, VideoMediaType.TRAILER)) {
+            aVideo.getAudioVideo(aType)
+                    .filter(it -> it.status() == MediaStatus.PENDING)
+                    .ifPresent(it -> jobs.add(newJob(aVideo.getId(), aType, it)));
+        }
+        return jobs;
+    }
+
+    public static EncodingJob with(
+            final EncodingJobID anId,
+            final VideoID aVideoId,
+            final VideoMediaType aMediaType,
+            final String aChecksum,
+            final String aRawLocation,
+            final MediaStatus aStatus,
+            final int anAttempts,
+            final Instant aCreationDate,
+            final Instant anUpdateDate
+    ) {
+        return new EncodingJob(anId, aVideoId, aMediaType, aChecksum, aRawLocation, aStatus, anAttempts, aCreationDate, anUpdateDate);
+    }
+
+    @Override
+    public void validate(final ValidationHandler aHandler) {
+        new EncodingJobValidator(this, aHandler).validate();
+    }
+
+    public EncodingJob processing() {
+        this.status = MediaStatus.PROCESSING;
+        this.attempts++;
+        this.updatedAt = InstantUtils.now();
+        return this;
+    }
+
+    /**
+     * Puts the job back to {@link MediaStatus#PENDING} to be retried, or to {@link MediaStatus#ERROR} once no attempt
+     * is left.
+     */
+    public EncodingJob failed() {
+        this.status = canRetry() ? MediaStatus.PENDING : MediaStatus.ERROR;
+        this.updatedAt = InstantUtils.now();
+        return this;
+    }
+
+    public boolean canRetry() {
+        return this.attempts < MAX_ATTEMPTS;
+    }
+
+    public boolean isExhausted() {
+        return this.status == MediaStatus.ERROR;
+    }
+
+    public boolean isFor(final AudioVideoMedia aMedia) {
+        return this.checksum.equals(aMedia.checksum()) && this.rawLocation.equals(aMedia.rawLocation());
+    }
+
+    public VideoID getVideoId() {
+        return videoId;
+    }
+
+    public VideoMediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public String getRawLocation() {
+        return rawLocation;
+    }
+
+    public MediaStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    private void selfValidate() {
+        final var notification = Notification.create();
+        validate(notification);
+
+        if (notification.hasError()) {
+            throw new NotificationException("Failed to create a Aggregate EncodingJob", notification);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface EncodingJobGateway {
+
+    EncodingJob create(EncodingJob aJob);
+
+    Optional<EncodingJob> findById(EncodingJobID anId);
+
+    EncodingJob update(EncodingJob aJob);
+
+    /**
+     * Up to {@code limit} jobs that are still {@link MediaStatus#PENDING} or {@link MediaStatus#PROCESSING} and have
+     * attempts left, oldest first.
+     */
+    List<EncodingJob> findRetryable(int limit);
+
+    void deleteById(EncodingJobID anId);
+}
@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public class EncodingJobID extends Identifier {
+
+    private final String value;
+
+    private EncodingJobID(final String value) {
+        this.value = Objects.requireNonNull(value);
+    }
+
+    public static EncodingJobID from(final String anId) {
+        return new EncodingJobID(anId.toLowerCase());
+    }
+
+    public static EncodingJobID from(final UUID anId) {
+        return EncodingJobID.from(anId.toString());
+    }
+
+    public static EncodingJobID unique() {
+        return EncodingJobID.from(generate());
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final EncodingJobID that = (EncodingJobID) o;
+        return getValue().equals(that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getValue());
+    }
+}
\ No newline at end of file
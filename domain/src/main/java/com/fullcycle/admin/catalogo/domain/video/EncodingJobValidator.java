@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.Validator;
+
+import java.util.Set;
+
+public class EncodingJobValidator extends Validator {
+
+    private static final Set<VideoMediaType> MEDIA_TYPES = Set.of(VideoMediaType.VIDEO, VideoMediaType.TRAILER);
+
+    private final EncodingJob job;
+
+    protected EncodingJobValidator(final EncodingJob aJob, final ValidationHandler aHandler) {
+        super(aHandler);
+        this.job = aJob;
+    }
+
+    @Override
+    public void validate() {
+        checkVideoConstraints();
+        checkMediaTypeConstraints();
+        checkMediaConstraints();
+        checkStatusConstraints();
+    }
+
+    private void checkVideoConstraints() {
+        if (this.job.getVideoId() == null) {
+            this.validationHandler().append(new Error("'videoId' should not be null"));
+        }
+    }
+
+    private void checkMediaTypeConstraints() {
+        final var mediaType = this.job.getMediaType();
+        if (mediaType == null) {
+            this.validationHandler().append(new Error("'mediaType' should not be null"));
+            return;
+        }
+
+        if (!MEDIA_TYPES.contains(mediaType)) {
+            this.validationHandler().append(new Error("'mediaType' should be VIDEO or TRAILER"));
+        }
+    }
+
+    private void checkMediaConstraints() {
+        final var checksum = this.job.getChecksum();
+        if (checksum == null || checksum.isBlank()) {
+            this.validationHandler().append(new Error("'checksum' should not be empty"));
+        }
+
+        final var rawLocation = this.job.getRawLocation();
+        if (rawLocation == null || rawLocation.isBlank()) {
+            this.validationHandler().append(new Error("'rawLocation' should not be empty"));
+        }
+    }
+
+    private void checkStatusConstraints() {
+        if (this.job.getStatus() == null || this.job.getStatus() == MediaStatus.COMPLETED) {
+            this.validationHandler().append(new Error("'status' should be PENDING, PROCESSING or ERROR"));
+        }
+
+        if (this.job.getAttempts() < 0) {
+            this.validationHandler().append(new Error("'attempts' should not be negative"));
+        }
+    }
+}
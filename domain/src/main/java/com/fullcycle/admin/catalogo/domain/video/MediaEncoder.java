@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+/**
+ * Encodes the raw media of a job. Implementations may run for a long time and are called from worker threads.
+ */
+public interface MediaEncoder {
+
+    /**
+     * @return the location of the encoded media
+     */
+    String encode(EncodingJob aJob);
+}
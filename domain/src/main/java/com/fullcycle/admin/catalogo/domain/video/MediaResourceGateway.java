@@ -1,10 +1,18 @@
 package com.fullcycle.admin.catalogo.domain.video;
 
+import java.util.Optional;
+
+/**
+ * Resources may be streamed straight from the request, so implementations should copy them through
+ * {@link Resource#openStream()} or {@link Resource#openChannel()} and open them only once.
+ */
 public interface MediaResourceGateway {
 
-    AudioVideoMedia storeAudioVideo(VideoID anId, Resource aResource);
+    AudioVideoMedia storeAudioVideo(VideoID anId, VideoResource aResource);
+
+    ImageMedia storeImage(VideoID anId, VideoResource aResource);
 
-    ImageMedia storeImage(VideoID anId, Resource aResource);
+    Optional<Resource> getResource(VideoID anId, VideoMediaType aType);
 
     void clearResources(VideoID anId);
 }
@@ -1,5 +1,5 @@
 package com.fullcycle.admin.catalogo.domain.video;
 
 public enum MediaStatus {
-    PENDING, PROCESSING, COMPLETED
+    PENDING, PROCESSING, COMPLETED, ERROR
 }
@@ -0,0 +1,142 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+
+import java.time.Instant;
+
+/**
+ * A resumable upload of a video or trailer. The content of {@code length} bytes is sent as numbered chunks of
+ * {@code chunkSize} bytes, starting at zero, the last one holding whatever is left.
+ */
+public class MediaUpload extends AggregateRoot<MediaUploadID> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    private final VideoID videoId;
+    private final VideoMediaType mediaType;
+    private final String name;
+    private final String contentType;
+    private final long length;
+    private final int chunkSize;
+    private final Instant createdAt;
+
+    private MediaUpload(
+            final MediaUploadID anId,
+            final VideoID aVideoId,
+            final VideoMediaType aMediaType,
+            final String aName,
+            final String aContentType,
+            final long aLength,
+            final int aChunkSize,
+            final Instant aCreationDate
+    ) {
+        super(anId);
+        this.videoId = aVideoId;
+        this.mediaType = aMediaType;
+        this.name = aName;
+        this.contentType = aContentType;
+        this.length = aLength;
+        this.chunkSize = aChunkSize;
+        this.createdAt = aCreationDate;
+        selfValidate();
+    }
+
+    public static MediaUpload newUpload(
+            final VideoID aVideoId,
+            final VideoMediaType aMediaType,
+            final String aName,
+            final String aContentType,
+            final long aLength,
+            final int aChunkSize
+    ) {
+        return new MediaUpload(
+                MediaUploadID.unique(),
+                aVideoId,
+                aMediaType,
+                aName,
+                aContentType,
+                aLength,
+                aChunkSize,
+                InstantUtils.now()
+        );
+    }
+
+    public static MediaUpload with(
+            final MediaUploadID anId,
+            final VideoID aVideoId,
+            final VideoMediaType aMediaType,
+            final String aName,
+            final String aContentType,
+            final long aLength,
+            final int aChunkSize,
+            final Instant aCreationDate
+    ) {
+        return new MediaUpload(anId, aVideoId, aMediaType, aName, aContentType, aLength, aChunkSize, aCreationDate);
+    }
+
+    @Override
+    public void validate(final ValidationHandler aHandler) {
+        new MediaUploadValidator(this, aHandler).validate();
+    }
+
+    public boolean isFor(final VideoID aVideoId, final VideoMediaType aMediaType) {
+        return this.videoId.equals(aVideoId) && this.mediaType == aMediaType;
+    }
+
+    public int chunkCount() {
+        return (int) ((this.length + this.chunkSize - 1) / this.chunkSize);
+    }
+
+    public boolean hasChunk(final int aChunk) {
+        return aChunk >= 0 && aChunk < chunkCount();
+    }
+
+    public long chunkOffset(final int aChunk) {
+        return (long) aChunk * this.chunkSize;
+    }
+
+    public int chunkLength(final int aChunk) {
+        return (int) Math.min(this.chunkSize, this.length - chunkOffset(aChunk));
+    }
+
+    public VideoID getVideoId() {
+        return videoId;
+    }
+
+    public VideoMediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    private void selfValidate() {
+        final var notification = Notification.create();
+        validate(notification);
+
+        if (notification.hasError()) {
+            throw new NotificationException("Failed to create a Aggregate MediaUpload", notification);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import java.util.Optional;
+import java.util.SortedSet;
+
+public interface MediaUploadGateway {
+
+    MediaUpload create(MediaUpload anUpload);
+
+    Optional<MediaUpload> findById(MediaUploadID anId);
+
+    /**
+     * Writes {@code aChunk} at its offset and returns the SHA-256 of the bytes written. A chunk only counts as
+     * received once {@link #markChunkReceived(MediaUpload, int)} is called, and stops counting as soon as it
+     * is written again.
+     */
+    String storeChunk(MediaUpload anUpload, int aChunk, Resource aContent);
+
+    void markChunkReceived(MediaUpload anUpload, int aChunk);
+
+    SortedSet<Integer> receivedChunks(MediaUpload anUpload);
+
+    /**
+     * The assembled content of a complete upload, streamed from storage.
+     */
+    Resource content(MediaUpload anUpload);
+
+    void deleteById(MediaUploadID anId);
+}
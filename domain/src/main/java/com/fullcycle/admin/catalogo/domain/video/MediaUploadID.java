@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public class MediaUploadID extends Identifier {
+
+    private final String value;
+
+    private MediaUploadID(final String value) {
+        this.value = Objects.requireNonNull(value);
+    }
+
+    public static MediaUploadID from(final String anId) {
+        return new MediaUploadID(anId.toLowerCase());
+    }
+
+    public static MediaUploadID from(final UUID anId) {
+        return MediaUploadID.from(anId.toString());
+    }
+
+    public static MediaUploadID unique() {
+        return MediaUploadID.from(generate());
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final MediaUploadID that = (MediaUploadID) o;
+        return getValue().equals(that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getValue());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.Validator;
+
+import java.util.Set;
+
+public class MediaUploadValidator extends Validator {
+
+    private static final int CHUNK_SIZE_MIN = 64 * 1024;
+    private static final int CHUNK_SIZE_MAX = 64 * 1024 * 1024;
+    private static final int CHUNK_COUNT_MAX = 100_000;
+    private static final int NAME_MAX_LENGTH = 255;
+    private static final Set<VideoMediaType> MEDIA_TYPES = Set.of(VideoMediaType.VIDEO, VideoMediaType.TRAILER);
+
+    private final MediaUpload upload;
+
+    protected MediaUploadValidator(final MediaUpload anUpload, final ValidationHandler aHandler) {
+        super(aHandler);
+        this.upload = anUpload;
+    }
+
+    @Override
+    public void validate() {
+        checkVideoConstraints();
+        checkMediaTypeConstraints();
+        checkNameConstraints();
+        checkContentTypeConstraints();
+        checkLengthConstraints();
+    }
+
+    private void checkVideoConstraints() {
+        if (this.upload.getVideoId() == null) {
+            this.validationHandler().append(new Error("'videoId' should not be null"));
+        }
+    }
+
+    private void checkMediaTypeConstraints() {
+        final var mediaType = this.upload.getMediaType();
+        if (mediaType == null) {
+            this.validationHandler().append(new Error("'mediaType' should not be null"));
+            return;
+        }
+
+        if (!MEDIA_TYPES.contains(mediaType)) {
+            this.validationHandler().append(new Error("'mediaType' should be VIDEO or TRAILER"));
+        }
+    }
+
+    private void checkNameConstraints() {
+        final var name = this.upload.getName();
+        if (name == null) {
+            this.validationHandler().append(new Error("'name' should not be null"));
+            return;
+        }
+
+        if (name.isBlank()) {
+            this.validationHandler().append(new Error("'name' should not be empty"));
+            return;
+        }
+
+        if (name.trim().length() > NAME_MAX_LENGTH) {
+            this.validationHandler().append(new Error("'name' must be between 1 and 255 characters"));
+        }
+    }
+
+    private void checkContentTypeConstraints() {
+        final var contentType = this.upload.getContentType();
+        if (contentType == null || contentType.isBlank()) {
+            this.validationHandler().append(new Error("'contentType' should not be empty"));
+        }
+    }
+
+    private void checkLengthConstraints() {
+        if (this.upload.getLength() <= 0) {
+            this.validationHandler().append(new Error("'length' should be greater than 0"));
+            return;
+        }
+
+        final var chunkSize = this.upload.getChunkSize();
+        if (chunkSize < CHUNK_SIZE_MIN || chunkSize > CHUNK_SIZE_MAX) {
+            this.validationHandler().append(new Error("'chunkSize' must be between %d and %d bytes".formatted(CHUNK_SIZE_MIN, CHUNK_SIZE_MAX)));
+            return;
+        }
+
+        if (this.upload.chunkCount() > CHUNK_COUNT_MAX) {
+            this.validationHandler().append(new Error("'chunkSize' is too small for 'length', an upload has at most %d chunks".formatted(CHUNK_COUNT_MAX)));
+        }
+    }
+}
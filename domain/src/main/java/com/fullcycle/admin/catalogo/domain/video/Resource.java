@@ -2,32 +2,88 @@ package com.fullcycle.admin.catalogo.domain.video;
 
 import com.fullcycle.admin.catalogo.domain.ValueObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Objects;
 
+/**
+ * A file to be stored. Its bytes are read through {@link #openStream()} or {@link #openChannel()}, so a
+ * resource can be backed by an in-memory array as well as by the request body itself.
+ */
 public class Resource extends ValueObject {
 
-    private final byte[] content;
+    private final Content content;
+    private final long length;
     private final String checksum;
     private final String contentType;
     private final String name;
 
-    private Resource(final byte[] content, final String checksum, final String contentType, final String name) {
+    private Resource(
+            final Content content,
+            final long length,
+            final String checksum,
+            final String contentType,
+            final String name
+    ) {
         this.content = Objects.requireNonNull(content);
-        this.checksum = Objects.requireNonNull(checksum);
+        this.length = length;
+        this.checksum = checksum;
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
+        if (length < 0) {
+            throw new IllegalArgumentException("'length' should not be negative");
+        }
     }
 
     public static Resource with(final byte[] content, final String checksum, final String contentType, final String name) {
-        return new Resource(content, checksum, contentType, name);
+        Objects.requireNonNull(content);
+        return new Resource(Content.of(content), content.length, Objects.requireNonNull(checksum), contentType, name);
+    }
+
+    /**
+     * A resource streamed from {@code content}. The checksum may be null when it is only known once the
+     * content has been read.
+     */
+    public static Resource with(
+            final Content content,
+            final long length,
+            final String checksum,
+            final String contentType,
+            final String name
+    ) {
+        return new Resource(content, length, checksum, contentType, name);
     }
 
     public String checksum() {
         return checksum;
     }
 
+    /**
+     * Reads the whole resource in memory. Storage code should use {@link #openStream()} or
+     * {@link #openChannel()} instead.
+     */
     public byte[] content() {
-        return content;
+        try (final var in = openStream()) {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public InputStream openStream() throws IOException {
+        return content.openStream();
+    }
+
+    public ReadableByteChannel openChannel() throws IOException {
+        return content.openChannel();
+    }
+
+    public long length() {
+        return length;
     }
 
     public String contentType() {
@@ -38,6 +94,44 @@ public class Resource extends ValueObject {
         return name;
     }
 
+    /**
+     * Opens the bytes of a resource. Implementations backed by a request body may only be opened once.
+     */
+    @FunctionalInterface
+    public interface Content {
+
+        InputStream openStream() throws IOException;
+
+        default ReadableByteChannel openChannel() throws IOException {
+            return Channels.newChannel(openStream());
+        }
+
+        static Content of(final byte[] bytes) {
+            Objects.requireNonNull(bytes);
+            return () -> new ByteArrayInputStream(bytes);
+        }
+
+        static Content ofChannel(final ChannelSource source) {
+            Objects.requireNonNull(source);
+            return new Content() {
+                @Override
+                public InputStream openStream() throws IOException {
+                    return Channels.newInputStream(source.open());
+                }
+
+                @Override
+                public ReadableByteChannel openChannel() throws IOException {
+                    return source.open();
+                }
+            };
+        }
+    }
+
+    @FunctionalInterface
+    public interface ChannelSource {
+        ReadableByteChannel open() throws IOException;
+    }
+
     public enum Type {
         VIDEO,
         TRAILER,
@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.domain.video;
 import com.fullcycle.admin.catalogo.domain.AggregateRoot;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
@@ -13,6 +14,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 public class Video extends AggregateRoot<VideoID> {
 
@@ -57,9 +59,10 @@ public class Video extends AggregateRoot<VideoID> {
             final AudioVideoMedia aVideo,
             final Set<CategoryID> categories,
             final Set<GenreID> genres,
-            final Set<CastMemberID> members
+            final Set<CastMemberID> members,
+            final long aVersion
     ) {
-        super(anId);
+        super(anId, aVersion);
         this.title = aTitle;
         this.description = aDescription;
         this.launchedAt = aLaunchYear;
@@ -107,39 +110,75 @@ public class Video extends AggregateRoot<VideoID> {
         this.setGenres(genres);
         this.setCastMembers(members);
         this.updatedAt = InstantUtils.now();
+        registerEvent(DomainEvent.updated(this));
         return this;
     }
 
     public Video setBanner(final ImageMedia banner) {
         this.banner = banner;
         this.updatedAt = InstantUtils.now();
+        registerEvent(DomainEvent.updated(this));
         return this;
     }
 
     public Video setThumbnail(final ImageMedia thumbnail) {
         this.thumbnail = thumbnail;
         this.updatedAt = InstantUtils.now();
+        registerEvent(DomainEvent.updated(this));
         return this;
     }
 
     public Video setThumbnailHalf(final ImageMedia thumbnailHalf) {
         this.thumbnailHalf = thumbnailHalf;
         this.updatedAt = InstantUtils.now();
+        registerEvent(DomainEvent.updated(this));
         return this;
     }
 
     public Video setTrailer(final AudioVideoMedia trailer) {
         this.trailer = trailer;
         this.updatedAt = InstantUtils.now();
+        registerEvent(DomainEvent.updated(this));
         return this;
     }
 
     public Video setVideo(final AudioVideoMedia video) {
         this.video = video;
         this.updatedAt = InstantUtils.now();
+        registerEvent(DomainEvent.updated(this));
         return this;
     }
 
+    /**
+     * Marks the video or trailer as being encoded. Other media types, or a missing media, are left untouched.
+     */
+    public Video processing(final VideoMediaType aType) {
+        return updateAudioVideo(aType, AudioVideoMedia::processing);
+    }
+
+    /**
+     * Marks the video or trailer as encoded into {@code anEncodedLocation}. Other media types, or a missing media,
+     * are left untouched.
+     */
+    public Video completed(final VideoMediaType aType, final String anEncodedLocation) {
+        return updateAudioVideo(aType, it -> it.completed(anEncodedLocation));
+    }
+
+    /**
+     * Marks the video or trailer as impossible to encode. Other media types, or a missing media, are left untouched.
+     */
+    public Video failed(final VideoMediaType aType) {
+        return updateAudioVideo(aType, AudioVideoMedia::failed);
+    }
+
+    public Optional<AudioVideoMedia> getAudioVideo(final VideoMediaType aType) {
+        return switch (aType) {
+            case VIDEO -> getVideo();
+            case TRAILER -> getTrailer();
+            default -> Optional.empty();
+        };
+    }
+
     public String getTitle() {
         return title;
     }
@@ -208,6 +247,14 @@ public class Video extends AggregateRoot<VideoID> {
         return Optional.ofNullable(thumbnailHalf);
     }
 
+    private Video updateAudioVideo(final VideoMediaType aType, final UnaryOperator<AudioVideoMedia> anUpdate) {
+        final var aMedia = getAudioVideo(aType).map(anUpdate).orElse(null);
+        if (aMedia == null) {
+            return this;
+        }
+        return aType == VideoMediaType.VIDEO ? setVideo(aMedia) : setTrailer(aMedia);
+    }
+
     private void setCategories(final Set<CategoryID> categories) {
         this.categories = categories != null ? new HashSet<>(categories) : Collections.emptySet();
     }
@@ -234,7 +281,7 @@ public class Video extends AggregateRoot<VideoID> {
     ) {
         final var now = InstantUtils.now();
         final var anId = VideoID.unique();
-        return new Video(
+        final var aVideo = new Video(
                 anId,
                 aTitle,
                 aDescription,
@@ -252,11 +299,18 @@ public class Video extends AggregateRoot<VideoID> {
                 null,
                 categories,
                 genres,
-                members
+                members,
+                0
         );
+        aVideo.registerEvent(DomainEvent.created(aVideo));
+        return aVideo;
     }
 
     public static Video with(final Video aVideo) {
+        return with(aVideo, aVideo.getVersion());
+    }
+
+    public static Video with(final Video aVideo, final long aVersion) {
         return new Video(
                 aVideo.getId(),
                 aVideo.getTitle(),
@@ -275,7 +329,8 @@ public class Video extends AggregateRoot<VideoID> {
                 aVideo.getVideo().orElse(null),
                 new HashSet<>(aVideo.getCategories()),
                 new HashSet<>(aVideo.getGenres()),
-                new HashSet<>(aVideo.getCastMembers())
+                new HashSet<>(aVideo.getCastMembers()),
+                aVersion
         );
     }
 
@@ -298,6 +353,50 @@ public class Video extends AggregateRoot<VideoID> {
             final Set<CategoryID> categories,
             final Set<GenreID> genres,
             final Set<CastMemberID> members
+    ) {
+        return with(
+                anId,
+                aTitle,
+                aDescription,
+                aLaunchYear,
+                aDuration,
+                wasOpened,
+                wasPublished,
+                aRating,
+                aCreationDate,
+                aUpdateDate,
+                aBanner,
+                aThumb,
+                aThumbHalf,
+                aTrailer,
+                aVideo,
+                categories,
+                genres,
+                members,
+                0
+        );
+    }
+
+    public static Video with(
+            final VideoID anId,
+            final String aTitle,
+            final String aDescription,
+            final Year aLaunchYear,
+            final double aDuration,
+            final boolean wasOpened,
+            final boolean wasPublished,
+            final Rating aRating,
+            final Instant aCreationDate,
+            final Instant aUpdateDate,
+            final ImageMedia aBanner,
+            final ImageMedia aThumb,
+            final ImageMedia aThumbHalf,
+            final AudioVideoMedia aTrailer,
+            final AudioVideoMedia aVideo,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> members,
+            final long aVersion
     ) {
         return new Video(
                 anId,
@@ -317,7 +416,8 @@ public class Video extends AggregateRoot<VideoID> {
                 aVideo,
                 categories,
                 genres,
-                members
+                members,
+                aVersion
         );
     }
 }
\ No newline at end of file
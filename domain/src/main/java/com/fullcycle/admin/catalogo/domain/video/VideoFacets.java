@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+
+import java.time.Year;
+import java.util.Map;
+
+/**
+ * How many videos would match a {@link VideoSearchQuery} for each value of each facet.
+ * <p>
+ * The counts of a facet ignore the filter on that same facet, so they tell how many videos each value would
+ * add to (or keep in) the result; values without any video are left out.
+ */
+public record VideoFacets(
+        long total,
+        Map<Rating, Long> ratings,
+        Map<Year, Long> launchedAt,
+        Map<Boolean, Long> published,
+        Map<Boolean, Long> opened,
+        Map<CategoryID, Long> categories,
+        Map<GenreID, Long> genres,
+        Map<CastMemberID, Long> castMembers
+) {
+}
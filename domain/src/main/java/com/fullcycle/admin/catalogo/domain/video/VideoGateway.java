@@ -16,4 +16,6 @@ public interface VideoGateway {
 
     Pagination<Video> findAll(VideoSearchQuery aQuery);
 
+    VideoFacets facets(VideoSearchQuery aQuery);
+
 }
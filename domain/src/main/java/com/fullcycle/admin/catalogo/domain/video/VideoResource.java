@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.ValueObject;
+
+import java.util.Objects;
+
+public class VideoResource extends ValueObject {
+
+    private final Resource resource;
+    private final VideoMediaType type;
+
+    private VideoResource(final Resource resource, final VideoMediaType type) {
+        this.resource = Objects.requireNonNull(resource);
+        this.type = Objects.requireNonNull(type);
+    }
+
+    public static VideoResource with(final Resource aResource, final VideoMediaType aType) {
+        return new VideoResource(aResource, aType);
+    }
+
+    public Resource resource() {
+        return resource;
+    }
+
+    public VideoMediaType type() {
+        return type;
+    }
+}
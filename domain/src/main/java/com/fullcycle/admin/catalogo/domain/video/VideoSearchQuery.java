@@ -1,10 +1,57 @@
 package com.fullcycle.admin.catalogo.domain.video;
 
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+
+import java.time.Year;
+import java.util.Set;
+
+/**
+ * Besides terms, videos can be filtered by facets: a video must match every facet given (AND), and any of
+ * the values given for a facet (OR). Empty sets and null values leave a facet unfiltered.
+ */
 public record VideoSearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        Set<Rating> ratings,
+        Year launchedFrom,
+        Year launchedTo,
+        Boolean published,
+        Boolean opened,
+        Set<CategoryID> categories,
+        Set<GenreID> genres,
+        Set<CastMemberID> castMembers
 ) {
+
+    public VideoSearchQuery {
+        ratings = ratings != null ? Set.copyOf(ratings) : Set.of();
+        categories = categories != null ? Set.copyOf(categories) : Set.of();
+        genres = genres != null ? Set.copyOf(genres) : Set.of();
+        castMembers = castMembers != null ? Set.copyOf(castMembers) : Set.of();
+    }
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, null, null, null, null, null, null, null);
+    }
+
+    public boolean hasFilters() {
+        return !ratings.isEmpty()
+                || launchedFrom != null
+                || launchedTo != null
+                || published != null
+                || opened != null
+                || !categories.isEmpty()
+                || !genres.isEmpty()
+                || !castMembers.isEmpty();
+    }
 }
@@ -0,0 +1,90 @@
+package com.fullcycle.admin.catalogo.domain;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TimeOrderedIdentifierGeneratorTest {
+
+    @Test
+    public void givenAClock_whenCallsGenerate_shouldReturnVersion7UUIDsWithItsTimestamp() {
+        final var expectedMillis = 1_700_000_000_123L;
+        final var generator = new TimeOrderedIdentifierGenerator(() -> expectedMillis);
+
+        final var actualId = generator.generate();
+
+        Assertions.assertEquals(7, actualId.version());
+        Assertions.assertEquals(2, actualId.variant());
+        Assertions.assertEquals(expectedMillis, actualId.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    public void givenMoreIdsThanTheCounterHoldsAndAClockGoingBack_whenCallsGenerate_shouldKeepIncreasing() {
+        final var clock = new AtomicLong(1_700_000_000_000L);
+        final var generator = new TimeOrderedIdentifierGenerator(clock::get);
+
+        final var actualIds = new ArrayList<String>();
+        for (int i = 0; i < 5000; i++) {
+            actualIds.add(generator.generate().toString());
+        }
+        clock.addAndGet(-1000);
+        for (int i = 0; i < 10; i++) {
+            actualIds.add(generator.generate().toString());
+        }
+
+        for (int i = 1; i < actualIds.size(); i++) {
+            Assertions.assertTrue(actualIds.get(i - 1).compareTo(actualIds.get(i)) < 0, actualIds.get(i));
+        }
+        Assertions.assertEquals(1_700_000_000_001L, UUID.fromString(actualIds.get(4999)).getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    public void givenConcurrentCallers_whenCallsGenerate_shouldReturnUniqueIdsIncreasingPerCaller() throws Exception {
+        final var generator = IdentifierGenerator.timeOrdered();
+        final var expectedCallers = 8;
+        final var expectedPerCaller = 20_000;
+
+        final var executor = Executors.newFixedThreadPool(expectedCallers);
+        try {
+            final var tasks = new ArrayList<Callable<List<String>>>();
+            for (int i = 0; i < expectedCallers; i++) {
+                tasks.add(() -> {
+                    final var ids = new ArrayList<String>(expectedPerCaller);
+                    for (int j = 0; j < expectedPerCaller; j++) {
+                        ids.add(generator.generate().toString());
+                    }
+                    return ids;
+                });
+            }
+
+            final var unique = new HashSet<String>();
+            for (final var result : executor.invokeAll(tasks)) {
+                final var ids = result.get();
+                for (int i = 1; i < ids.size(); i++) {
+                    Assertions.assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0);
+                }
+                unique.addAll(ids);
+            }
+            Assertions.assertEquals(expectedCallers * expectedPerCaller, unique.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenTheDefaultGenerator_whenCallsNewCategory_shouldUseATimeOrderedId() {
+        final var first = Category.newCategory("Filmes", null, true);
+        final var second = Category.newCategory("Séries", null, true);
+
+        Assertions.assertEquals(7, UUID.fromString(first.getId().getValue()).version());
+        Assertions.assertTrue(first.getId().getValue().compareTo(second.getId().getValue()) < 0);
+    }
+}
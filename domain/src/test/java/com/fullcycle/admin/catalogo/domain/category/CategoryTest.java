@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.validation.handler.ThrowsValidationHandler;
 import org.junit.jupiter.api.Assertions;
@@ -295,4 +296,42 @@ class CategoryTest {
         Assertions.assertNull(aCategory.getDeletedAt());
     }
 
+    @Test
+    void givenValidParams_whenCallNewCategory_thenRecordACreatedEvent(){
+        final var actualCategory = Category.newCategory("Filmes", null, true);
+
+        final var actualEvents = actualCategory.getEvents();
+
+        Assertions.assertEquals(1, actualEvents.size());
+        Assertions.assertEquals("Category", actualEvents.get(0).aggregate());
+        Assertions.assertEquals(actualCategory.getId().getValue(), actualEvents.get(0).aggregateId());
+        Assertions.assertEquals(DomainEvent.Type.CREATED, actualEvents.get(0).type());
+    }
+
+    @Test
+    void givenAStoredCategory_whenCallUpdateAndDeactivate_thenRecordASingleUpdatedEvent(){
+        final var aCategory = Category.with(Category.newCategory("Filmes", null, true));
+
+        Assertions.assertTrue(aCategory.getEvents().isEmpty());
+
+        aCategory.update("Filmes", "A categoria mais assistida", false);
+
+        final var actualEvents = aCategory.pullEvents();
+
+        Assertions.assertEquals(1, actualEvents.size());
+        Assertions.assertEquals(DomainEvent.Type.UPDATED, actualEvents.get(0).type());
+        Assertions.assertTrue(aCategory.getEvents().isEmpty());
+    }
+
+    @Test
+    void givenACategoryWithEvents_whenCallClone_thenTheCopyPullsItsOwnEvents(){
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        final var aCopy = aCategory.clone();
+        aCopy.pullEvents();
+
+        Assertions.assertTrue(aCopy.getEvents().isEmpty());
+        Assertions.assertEquals(1, aCategory.getEvents().size());
+    }
+
 }
@@ -0,0 +1,102 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+
+public class EncodingJobTest {
+
+    @Test
+    public void givenAPendingMedia_whenCallsNewJob_shouldInstantiateIt() {
+        final var expectedVideoId = VideoID.unique();
+        final var aMedia = AudioVideoMedia.with("abc", "video.mp4", "/videos/123/video", "", MediaStatus.PENDING);
+
+        final var actualJob = EncodingJob.newJob(expectedVideoId, VideoMediaType.VIDEO, aMedia);
+
+        Assertions.assertNotNull(actualJob.getId());
+        Assertions.assertEquals(expectedVideoId, actualJob.getVideoId());
+        Assertions.assertEquals(VideoMediaType.VIDEO, actualJob.getMediaType());
+        Assertions.assertEquals("abc", actualJob.getChecksum());
+        Assertions.assertEquals("/videos/123/video", actualJob.getRawLocation());
+        Assertions.assertEquals(MediaStatus.PENDING, actualJob.getStatus());
+        Assertions.assertEquals(0, actualJob.getAttempts());
+        Assertions.assertNotNull(actualJob.getCreatedAt());
+        Assertions.assertTrue(actualJob.isFor(aMedia));
+        Assertions.assertFalse(actualJob.isFor(AudioVideoMedia.with("def", "video.mp4", "/videos/123/video", "", MediaStatus.PENDING)));
+    }
+
+    @Test
+    public void givenAnImageType_whenCallsNewJob_shouldReturnError() {
+        final var aMedia = AudioVideoMedia.with("abc", "banner.png", "/videos/123/banner", "", MediaStatus.PENDING);
+
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> EncodingJob.newJob(VideoID.unique(), VideoMediaType.BANNER, aMedia)
+        );
+
+        Assertions.assertEquals("'mediaType' should be VIDEO or TRAILER", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAJob_whenItFailsEveryAttempt_shouldEndInError() {
+        final var aJob = EncodingJob.newJob(
+                VideoID.unique(),
+                VideoMediaType.TRAILER,
+                AudioVideoMedia.with("abc", "trailer.mp4", "/videos/123/trailer", "", MediaStatus.PENDING)
+        );
+
+        for (int attempt = 1; attempt <= EncodingJob.MAX_ATTEMPTS; attempt++) {
+            Assertions.assertTrue(aJob.canRetry());
+
+            aJob.processing();
+            Assertions.assertEquals(MediaStatus.PROCESSING, aJob.getStatus());
+            Assertions.assertEquals(attempt, aJob.getAttempts());
+
+            aJob.failed();
+            final var expectedStatus = attempt < EncodingJob.MAX_ATTEMPTS ? MediaStatus.PENDING : MediaStatus.ERROR;
+            Assertions.assertEquals(expectedStatus, aJob.getStatus());
+        }
+
+        Assertions.assertFalse(aJob.canRetry());
+        Assertions.assertTrue(aJob.isExhausted());
+    }
+
+    @Test
+    public void givenACompletedStatus_whenCallsWith_shouldReturnError() {
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> EncodingJob.with(
+                        EncodingJobID.unique(),
+                        VideoID.unique(),
+                        VideoMediaType.VIDEO,
+                        "abc",
+                        "/videos/123/video",
+                        MediaStatus.COMPLETED,
+                        1,
+                        Instant.now(),
+                        Instant.now()
+                )
+        );
+
+        Assertions.assertEquals("'status' should be PENDING, PROCESSING or ERROR", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAVideoWithPendingAndCompletedMedias_whenCallsPendingOf_shouldReturnOnlyThePendingOnes() {
+        final var aVideo = Video.newVideo("Title", "Description", Year.of(2022), 120.0, false, false, Rating.L, Set.of(), Set.of(), Set.of())
+                .setVideo(AudioVideoMedia.with("abc", "video.mp4", "/videos/123/video", "/encoded/abc", MediaStatus.COMPLETED))
+                .setTrailer(AudioVideoMedia.with("def", "trailer.mp4", "/videos/123/trailer", "", MediaStatus.PENDING));
+
+        final var actualJobs = EncodingJob.pendingOf(aVideo);
+
+        Assertions.assertEquals(1, actualJobs.size());
+        Assertions.assertEquals(VideoMediaType.TRAILER, actualJobs.get(0).getMediaType());
+        Assertions.assertEquals("def", actualJobs.get(0).getChecksum());
+        Assertions.assertEquals(List.of(), EncodingJob.pendingOf(Video.with(aVideo).setTrailer(null)));
+    }
+}
@@ -0,0 +1,103 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MediaUploadTest {
+
+    private static final int CHUNK_SIZE = 1024 * 1024;
+
+    @Test
+    public void givenValidParams_whenCallsNewUpload_shouldInstantiateIt() {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedName = "master.mov";
+        final var expectedContentType = "video/quicktime";
+        final var expectedLength = 2L * CHUNK_SIZE + 10;
+        final var expectedChunkCount = 3;
+
+        final var actualUpload = MediaUpload.newUpload(
+                expectedVideoId,
+                expectedType,
+                expectedName,
+                expectedContentType,
+                expectedLength,
+                CHUNK_SIZE
+        );
+
+        Assertions.assertNotNull(actualUpload.getId());
+        Assertions.assertEquals(expectedVideoId, actualUpload.getVideoId());
+        Assertions.assertEquals(expectedType, actualUpload.getMediaType());
+        Assertions.assertEquals(expectedName, actualUpload.getName());
+        Assertions.assertEquals(expectedContentType, actualUpload.getContentType());
+        Assertions.assertEquals(expectedLength, actualUpload.getLength());
+        Assertions.assertEquals(CHUNK_SIZE, actualUpload.getChunkSize());
+        Assertions.assertNotNull(actualUpload.getCreatedAt());
+        Assertions.assertEquals(expectedChunkCount, actualUpload.chunkCount());
+        Assertions.assertTrue(actualUpload.isFor(expectedVideoId, expectedType));
+        Assertions.assertFalse(actualUpload.isFor(expectedVideoId, VideoMediaType.TRAILER));
+    }
+
+    @Test
+    public void givenAnUpload_whenCallsChunkPositions_shouldLeaveTheRemainderToTheLastChunk() {
+        final var anUpload = MediaUpload.newUpload(
+                VideoID.unique(),
+                VideoMediaType.TRAILER,
+                "trailer.mp4",
+                "video/mp4",
+                2L * CHUNK_SIZE + 10,
+                CHUNK_SIZE
+        );
+
+        Assertions.assertEquals(0, anUpload.chunkOffset(0));
+        Assertions.assertEquals(CHUNK_SIZE, anUpload.chunkLength(0));
+        Assertions.assertEquals(2L * CHUNK_SIZE, anUpload.chunkOffset(2));
+        Assertions.assertEquals(10, anUpload.chunkLength(2));
+        Assertions.assertTrue(anUpload.hasChunk(2));
+        Assertions.assertFalse(anUpload.hasChunk(3));
+        Assertions.assertFalse(anUpload.hasChunk(-1));
+    }
+
+    @Test
+    public void givenAnImageMediaType_whenCallsNewUpload_shouldReceiveANotification() {
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "'mediaType' should be VIDEO or TRAILER";
+
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> MediaUpload.newUpload(VideoID.unique(), VideoMediaType.BANNER, "banner.png", "image/png", 10, CHUNK_SIZE)
+        );
+
+        Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenInvalidLengthAndName_whenCallsNewUpload_shouldReceiveNotifications() {
+        final var expectedErrorCount = 2;
+        final var expectedNameError = "'name' should not be empty";
+        final var expectedLengthError = "'length' should be greater than 0";
+
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> MediaUpload.newUpload(VideoID.unique(), VideoMediaType.VIDEO, " ", "video/mp4", 0, CHUNK_SIZE)
+        );
+
+        Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
+        Assertions.assertEquals(expectedNameError, actualException.getErrors().get(0).message());
+        Assertions.assertEquals(expectedLengthError, actualException.getErrors().get(1).message());
+    }
+
+    @Test
+    public void givenATooSmallChunkSize_whenCallsNewUpload_shouldReceiveANotification() {
+        final var expectedErrorMessage = "'chunkSize' must be between 65536 and 67108864 bytes";
+
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class,
+                () -> MediaUpload.newUpload(VideoID.unique(), VideoMediaType.VIDEO, "master.mov", "video/quicktime", 10, 1024)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+}
@@ -0,0 +1,105 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResourceTest {
+
+    @Test
+    public void givenValidBytes_whenCallsWith_ShouldReturnInstance() {
+        // given
+        final var expectedContent = "Conteudo".getBytes(StandardCharsets.UTF_8);
+        final var expectedChecksum = "abc";
+        final var expectedContentType = "video/mp4";
+        final var expectedName = "video.mp4";
+
+        // when
+        final var actualResource =
+                Resource.with(expectedContent, expectedChecksum, expectedContentType, expectedName);
+
+        // then
+        Assertions.assertArrayEquals(expectedContent, actualResource.content());
+        Assertions.assertEquals(expectedContent.length, actualResource.length());
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertEquals(expectedContentType, actualResource.contentType());
+        Assertions.assertEquals(expectedName, actualResource.name());
+    }
+
+    @Test
+    public void givenAStreamSupplier_whenCallsWith_ShouldNotReadItUntilOpened() throws Exception {
+        // given
+        final var expectedContent = "Conteudo".getBytes(StandardCharsets.UTF_8);
+        final var opened = new AtomicInteger();
+
+        // when
+        final var actualResource = Resource.with(
+                () -> {
+                    opened.incrementAndGet();
+                    return new ByteArrayInputStream(expectedContent);
+                },
+                expectedContent.length,
+                null,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        // then
+        Assertions.assertEquals(0, opened.get());
+        Assertions.assertNull(actualResource.checksum());
+        Assertions.assertEquals(expectedContent.length, actualResource.length());
+
+        try (final var in = actualResource.openStream()) {
+            Assertions.assertArrayEquals(expectedContent, in.readAllBytes());
+        }
+        Assertions.assertEquals(1, opened.get());
+    }
+
+    @Test
+    public void givenAChannelSupplier_whenCallsOpenChannel_ShouldReturnTheSameChannel() throws Exception {
+        // given
+        final var expectedContent = "Conteudo".getBytes(StandardCharsets.UTF_8);
+        final var aChannel = Channels.newChannel(new ByteArrayInputStream(expectedContent));
+
+        final var actualResource = Resource.with(
+                Resource.Content.ofChannel(() -> aChannel),
+                expectedContent.length,
+                "abc",
+                "image/png",
+                "banner.png"
+        );
+
+        // when
+        final var actualChannel = actualResource.openChannel();
+
+        // then
+        Assertions.assertSame(aChannel, actualChannel);
+
+        final var buffer = ByteBuffer.allocate(expectedContent.length);
+        actualChannel.read(buffer);
+        Assertions.assertArrayEquals(expectedContent, buffer.array());
+    }
+
+    @Test
+    public void givenInvalidParams_whenCallsWith_ShouldReturnError() {
+        Assertions.assertThrows(
+                NullPointerException.class,
+                () -> Resource.with((byte[]) null, "abc", "video/mp4", "video.mp4")
+        );
+
+        Assertions.assertThrows(
+                NullPointerException.class,
+                () -> Resource.with(new byte[0], null, "video/mp4", "video.mp4")
+        );
+
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> Resource.with(Resource.Content.of(new byte[0]), -1, null, "video/mp4", "video.mp4")
+        );
+    }
+}
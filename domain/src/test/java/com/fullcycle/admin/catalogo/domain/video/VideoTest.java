@@ -449,4 +449,60 @@ public class VideoTest {
 
         Assertions.assertDoesNotThrow(() -> actualVideo.validate(new ThrowsValidationHandler()));
     }
+
+    @Test
+    public void givenAPendingVideoMedia_whenCallsProcessingAndCompleted_shouldMoveItThroughTheEncodingStatuses() {
+        // given
+        final var aVideo = Video.newVideo(
+                "System Design Interviews",
+                "Estudo de caso",
+                Year.of(2022),
+                120.10,
+                false,
+                false,
+                Rating.L,
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ).setVideo(AudioVideoMedia.with("abc", "Video.mp4", "/123/videos", "", MediaStatus.PENDING));
+
+        final var expectedEncodedLocation = "/123/videos-encoded";
+
+        // when
+        final var actualProcessing = aVideo.processing(VideoMediaType.VIDEO).getVideo().get();
+        final var actualCompleted = aVideo.completed(VideoMediaType.VIDEO, expectedEncodedLocation).getVideo().get();
+
+        // then
+        Assertions.assertEquals(MediaStatus.PROCESSING, actualProcessing.status());
+        Assertions.assertEquals("", actualProcessing.encodedLocation());
+        Assertions.assertEquals(MediaStatus.COMPLETED, actualCompleted.status());
+        Assertions.assertEquals(expectedEncodedLocation, actualCompleted.encodedLocation());
+        Assertions.assertEquals("abc", actualCompleted.checksum());
+        Assertions.assertEquals("/123/videos", actualCompleted.rawLocation());
+        Assertions.assertTrue(aVideo.getTrailer().isEmpty());
+    }
+
+    @Test
+    public void givenAVideoWithoutTrailer_whenCallsCompletedForTheTrailer_shouldKeepItEmpty() {
+        // given
+        final var aVideo = Video.newVideo(
+                "System Design Interviews",
+                "Estudo de caso",
+                Year.of(2022),
+                120.10,
+                false,
+                false,
+                Rating.L,
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+
+        // when
+        final var actualVideo = aVideo.completed(VideoMediaType.TRAILER, "/123/trailer-encoded");
+
+        // then
+        Assertions.assertTrue(actualVideo.getTrailer().isEmpty());
+        Assertions.assertTrue(actualVideo.getAudioVideo(VideoMediaType.BANNER).isEmpty());
+    }
 }
@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.cache.AggregateCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.List;
+
+@RequestMapping(value = "caches")
+@Tag(name = "Caches")
+public interface CacheAPI {
+
+    @GetMapping(value = "aggregates", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the size, hits, misses and evictions of every aggregate cache")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    List<AggregateCache.Stats> aggregates();
+}
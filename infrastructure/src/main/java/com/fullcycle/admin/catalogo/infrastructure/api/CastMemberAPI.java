@@ -9,10 +9,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RequestMapping(value = "cast_members")
 @Tag(name = "Cast Members")
@@ -30,14 +34,27 @@ public interface CastMemberAPI {
     })
     ResponseEntity<?> create(@RequestBody CreateCastMemberRequest input);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many cast members at once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every item was processed, each one reports whether it was created"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> createAll(@RequestBody List<CreateCastMemberRequest> input);
+
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a cast member by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast member retrieved"),
+            @ApiResponse(responseCode = "304", description = "Cast member did not change since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Cast member was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CastMemberResponse getById(@PathVariable String id);
+    CastMemberResponse getById(@PathVariable String id, WebRequest request);
 
     @PutMapping(
             value = "{id}",
@@ -48,10 +65,16 @@ public interface CastMemberAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast member updated"),
             @ApiResponse(responseCode = "404", description = "Cast member was not found"),
+            @ApiResponse(responseCode = "409", description = "Cast member was changed by a concurrent update"),
+            @ApiResponse(responseCode = "412", description = "Cast member no longer matches the given ETag"),
             @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<?> updateById(@PathVariable String id, @RequestBody UpdateCastMemberRequest aBody);
+    ResponseEntity<?> updateById(
+            @PathVariable String id,
+            @RequestBody UpdateCastMemberRequest aBody,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 
     @DeleteMapping(value = "{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -66,6 +89,7 @@ public interface CastMemberAPI {
     @Operation(summary = "List all cast members")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast members retrieved"),
+            @ApiResponse(responseCode = "304", description = "The page did not change since the given ETag"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     Pagination<CastMemberListResponse> list(
@@ -73,6 +97,9 @@ public interface CastMemberAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "withTotal", required = false) final Boolean withTotal,
+            WebRequest request
     );
 }
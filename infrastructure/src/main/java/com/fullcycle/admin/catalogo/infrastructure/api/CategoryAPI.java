@@ -9,10 +9,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
@@ -30,10 +34,23 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many categories at once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every item was processed, each one reports whether it was created"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> createCategories(@RequestBody List<CreateCategoryRequest> input);
+
     @GetMapping
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "The page did not change since the given ETag"),
             @ApiResponse(responseCode = "422", description = "A invalid parameter error was receive"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
@@ -42,7 +59,10 @@ public interface CategoryAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "withTotal", required = false) final Boolean withTotal,
+            WebRequest request
     );
 
     @GetMapping(
@@ -52,10 +72,11 @@ public interface CategoryAPI {
     @Operation(summary = "Get a category by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Category did not change since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    CategoryResponse getById(@PathVariable(name = "id") String id);
+    CategoryResponse getById(@PathVariable(name = "id") String id, WebRequest request);
 
     @PutMapping(
             value = "{id}",
@@ -65,9 +86,15 @@ public interface CategoryAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category updated successfully"),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
+            @ApiResponse(responseCode = "409", description = "Category was changed by a concurrent update"),
+            @ApiResponse(responseCode = "412", description = "Category no longer matches the given ETag"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateCategoryRequest input);
+    ResponseEntity<?> updateById(
+            @PathVariable(name = "id") String id,
+            @RequestBody UpdateCategoryRequest input,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 
     @DeleteMapping(value = "{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.outbox.models.ChangesResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@RequestMapping(value = "changes")
+@Tag(name = "Changes")
+public interface ChangeAPI {
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List the changes of every aggregate after a sequence, waiting up to 'wait' seconds for new ones when there is none")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully, with no items when the wait ended first"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    DeferredResult<ChangesResponse> changes(
+            @RequestParam(name = "since", required = false, defaultValue = "0") final long since,
+            @RequestParam(name = "limit", required = false, defaultValue = "100") final int limit,
+            @RequestParam(name = "wait", required = false, defaultValue = "0") final int wait
+    );
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RequestMapping(value = "exports")
+@Tag(name = "Exports")
+public interface ExportAPI {
+
+    @GetMapping(value = "catalog", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream every category, genre and cast member as newline delimited JSON, gzipped when accepted")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> exportCatalog(
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding
+    );
+}
@@ -9,10 +9,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RequestMapping(value = "genres")
 @Tag(name = "genre")
@@ -30,10 +34,23 @@ public interface GenreApi {
     })
     ResponseEntity<?> create(@RequestBody CreateGenreRequest input);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "create many genres at once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every item was processed, each one reports whether it was created"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> createAll(@RequestBody List<CreateGenreRequest> input);
+
     @GetMapping
     @Operation(summary = "list all genres paginated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "The page did not change since the given ETag"),
             @ApiResponse(responseCode = "422", description = "A invalid parameter error was receive"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
@@ -42,17 +59,21 @@ public interface GenreApi {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "withTotal", required = false) final Boolean withTotal,
+            WebRequest request
     );
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a genre by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Genre retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Genre did not change since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Genre was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    GenreResponse getById(@PathVariable(name = "id") String id);
+    GenreResponse getById(@PathVariable(name = "id") String id, WebRequest request);
 
     @PutMapping(
             value = "{id}",
@@ -62,9 +83,15 @@ public interface GenreApi {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Genre updated successfully"),
             @ApiResponse(responseCode = "404", description = "Genre was not found"),
+            @ApiResponse(responseCode = "409", description = "Genre was changed by a concurrent update"),
+            @ApiResponse(responseCode = "412", description = "Genre no longer matches the given ETag"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateGenreRequest input);
+    ResponseEntity<?> updateById(
+            @PathVariable(name = "id") String id,
+            @RequestBody UpdateGenreRequest input,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 
     @DeleteMapping(value = "{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -0,0 +1,57 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.importing.models.CatalogImportResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RequestMapping(value = "imports")
+@Tag(name = "Imports")
+public interface ImportAPI {
+
+    @PostMapping(
+            value = "catalog",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Upload newline delimited JSON, as written by the catalog export and gzipped or not, to be imported in background")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Accepted to be imported"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<CatalogImportResponse> importCatalog(
+            InputStream body,
+            @RequestHeader(name = HttpHeaders.CONTENT_ENCODING, required = false) final String contentEncoding
+    ) throws IOException;
+
+    @GetMapping(value = "catalog/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the progress of a catalog import")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Import was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    CatalogImportResponse getById(@PathVariable(name = "id") String id);
+
+    @PostMapping(value = "catalog/{id}/resume", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Resume a failed catalog import from its last checkpoint")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Accepted to be resumed"),
+            @ApiResponse(responseCode = "404", description = "Import was not found"),
+            @ApiResponse(responseCode = "422", description = "Import has not failed"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<CatalogImportResponse> resume(@PathVariable(name = "id") String id);
+}
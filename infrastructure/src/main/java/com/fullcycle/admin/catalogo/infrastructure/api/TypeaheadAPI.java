@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.typeahead.models.TypeaheadResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@RequestMapping(value = "typeahead")
+@Tag(name = "Typeahead")
+public interface TypeaheadAPI {
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Suggest categories, genres and cast members whose name words start with the searched words")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggested successfully"),
+            @ApiResponse(responseCode = "422", description = "A invalid parameter error was receive"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    List<TypeaheadResponse> suggest(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "types", required = false, defaultValue = "category,genre,cast_member") final List<String> types,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
+    );
+}
@@ -0,0 +1,153 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CommittedMediaResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateMediaUploadRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.MediaUploadResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoFacetsResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+@RequestMapping(value = "videos")
+@Tag(name = "Video")
+public interface VideoAPI {
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List videos paginated, matching every facet given and any of its values")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    Pagination<VideoListResponse> listVideos(
+            @RequestParam(name = "search", required = false, defaultValue = "") String search,
+            @RequestParam(name = "page", required = false, defaultValue = "0") int page,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "title") String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
+            @RequestParam(name = "ratings", required = false) Set<String> ratings,
+            @RequestParam(name = "launchedFrom", required = false) Integer launchedFrom,
+            @RequestParam(name = "launchedTo", required = false) Integer launchedTo,
+            @RequestParam(name = "published", required = false) Boolean published,
+            @RequestParam(name = "opened", required = false) Boolean opened,
+            @RequestParam(name = "categories", required = false) Set<String> categories,
+            @RequestParam(name = "genres", required = false) Set<String> genres,
+            @RequestParam(name = "castMembers", required = false) Set<String> castMembers
+    );
+
+    @GetMapping(value = "facets", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Count the videos of each facet value, each facet ignoring its own filter")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Counted successfully"),
+            @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    VideoFacetsResponse getFacets(
+            @RequestParam(name = "search", required = false, defaultValue = "") String search,
+            @RequestParam(name = "ratings", required = false) Set<String> ratings,
+            @RequestParam(name = "launchedFrom", required = false) Integer launchedFrom,
+            @RequestParam(name = "launchedTo", required = false) Integer launchedTo,
+            @RequestParam(name = "published", required = false) Boolean published,
+            @RequestParam(name = "opened", required = false) Boolean opened,
+            @RequestParam(name = "categories", required = false) Set<String> categories,
+            @RequestParam(name = "genres", required = false) Set<String> genres,
+            @RequestParam(name = "castMembers", required = false) Set<String> castMembers
+    );
+
+    @GetMapping(value = "{id}/medias/{type}")
+    @Operation(summary = "Get a video media by its type, honoring single and multiple byte ranges")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Media retrieved"),
+            @ApiResponse(responseCode = "206", description = "Requested ranges retrieved"),
+            @ApiResponse(responseCode = "304", description = "Media matches If-None-Match"),
+            @ApiResponse(responseCode = "404", description = "Video or media was not found"),
+            @ApiResponse(responseCode = "416", description = "Requested ranges are not satisfiable"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    void getMediaByType(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException;
+
+    @PostMapping(
+            value = "{id}/medias/{type}/uploads",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Start a resumable upload of a video or trailer")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload created"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<MediaUploadResponse> createUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody CreateMediaUploadRequest input
+    );
+
+    @GetMapping(value = "{id}/medias/{type}/uploads/{uploadId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get an upload with the byte ranges received so far")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload retrieved"),
+            @ApiResponse(responseCode = "404", description = "Upload was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    MediaUploadResponse getUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId
+    );
+
+    @PutMapping(
+            value = "{id}/medias/{type}/uploads/{uploadId}/chunks/{chunk}",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Upload one chunk, identified by its zero based number, with the SHA-256 of its content")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chunk received"),
+            @ApiResponse(responseCode = "404", description = "Upload was not found"),
+            @ApiResponse(responseCode = "422", description = "The chunk is out of range, has the wrong length or does not match its checksum"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    MediaUploadResponse uploadChunk(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId,
+            @PathVariable(name = "chunk") int chunk,
+            @RequestHeader(name = "X-Checksum-Sha256") String checksum,
+            @RequestHeader(name = HttpHeaders.CONTENT_LENGTH) long length,
+            InputStream content
+    );
+
+    @PostMapping(value = "{id}/medias/{type}/uploads/{uploadId}/commit", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Store a complete upload as the video or trailer media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Media stored and pending encoding"),
+            @ApiResponse(responseCode = "404", description = "Upload or video was not found"),
+            @ApiResponse(responseCode = "422", description = "The upload is missing chunks"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    CommittedMediaResponse commitUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId
+    );
+}
@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.infrastructure.api.CacheAPI;
+import com.fullcycle.admin.catalogo.infrastructure.cache.AggregateCache;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+public class CacheController implements CacheAPI {
+
+    private final List<AggregateCache<?, ?>> aggregateCaches;
+
+    public CacheController(final List<AggregateCache<?, ?>> aggregateCaches) {
+        this.aggregateCaches = Objects.requireNonNull(aggregateCaches);
+    }
+
+    @Override
+    public List<AggregateCache.Stats> aggregates() {
+        return this.aggregateCaches.stream()
+                .map(AggregateCache::stats)
+                .sorted(Comparator.comparing(AggregateCache.Stats::name))
+                .toList();
+    }
+}
@@ -1,12 +1,17 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.castmember.create.BulkCreateCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberCommand;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.CastMemberListOutput;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberCommand;
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.api.CastMemberAPI;
@@ -15,10 +20,13 @@ import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberR
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.UpdateCastMemberRequest;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.presenter.CastMemberPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
 @RestController
@@ -29,19 +37,22 @@ public class CastMemberController  implements CastMemberAPI {
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
     private final ListCastMembersUseCase listCastMembersUseCase;
+    private final BulkCreateCastMembersUseCase bulkCreateCastMembersUseCase;
 
     public CastMemberController(
             final CreateCastMemberUseCase createCastMemberUseCase,
             final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
             final UpdateCastMemberUseCase updateCastMemberUseCase,
             final DeleteCastMemberUseCase deleteCastMemberUseCase,
-            final ListCastMembersUseCase listCastMembersUseCase
+            final ListCastMembersUseCase listCastMembersUseCase,
+            final BulkCreateCastMembersUseCase bulkCreateCastMembersUseCase
     ) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+        this.bulkCreateCastMembersUseCase = Objects.requireNonNull(bulkCreateCastMembersUseCase);
     }
 
     @Override
@@ -55,14 +66,28 @@ public class CastMemberController  implements CastMemberAPI {
     }
 
     @Override
-    public CastMemberResponse getById(final String id) {
-        return CastMemberPresenter.present(this.getCastMemberByIdUseCase.execute(id));
+    public ResponseEntity<?> createAll(final List<CreateCastMemberRequest> input) {
+        final var aCommands = input.stream()
+                .map(it -> CreateCastMemberCommand.with(it.name(), it.type()))
+                .toList();
+
+        return ResponseEntity.ok(this.bulkCreateCastMembersUseCase.execute(aCommands));
+    }
+
+    @Override
+    public CastMemberResponse getById(final String id, final WebRequest request) {
+        final var output = this.getCastMemberByIdUseCase.execute(id);
+
+        if (ETagUtils.checkNotModified(request, output.id(), output.version(), output.updatedAt())) {
+            return null;
+        }
+        return CastMemberPresenter.present(output);
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCastMemberRequest aBody) {
+    public ResponseEntity<?> updateById(final String id, final UpdateCastMemberRequest aBody, final String ifMatch) {
         final var aCommand =
-                UpdateCastMemberCommand.with(id, aBody.name(), aBody.type());
+                UpdateCastMemberCommand.with(id, aBody.name(), aBody.type(), expectedVersion(id, ifMatch));
 
         final var output = this.updateCastMemberUseCase.execute(aCommand);
 
@@ -74,15 +99,35 @@ public class CastMemberController  implements CastMemberAPI {
         this.deleteCastMemberUseCase.execute(id);
     }
 
+    /**
+     * The version behind the ETag sent in {@code If-Match}, or null without it. Whether it is still the current one
+     * is left to the update, which only writes at that version.
+     */
+    private Long expectedVersion(final String id, final String ifMatch) {
+        if (ifMatch == null || ETagUtils.isAny(ifMatch)) {
+            return null;
+        }
+        return ETagUtils.version(ifMatch, id)
+                .orElseThrow(() -> ConflictException.with(CastMember.class, CastMemberID.from(id)));
+    }
+
     @Override
     public Pagination<CastMemberListResponse> list(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor,
+            final Boolean withTotal,
+            final WebRequest request
     ) {
-        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
-                .map(CastMemberPresenter::present);
+        final var output =
+                this.listCastMembersUseCase.execute(SearchQuery.with(page, perPage, search, sort, direction, cursor, withTotal));
+
+        if (ETagUtils.checkNotModified(request, output, CastMemberListOutput::id, CastMemberListOutput::updatedAt)) {
+            return null;
+        }
+        return output.map(CastMemberPresenter::present);
     }
 }
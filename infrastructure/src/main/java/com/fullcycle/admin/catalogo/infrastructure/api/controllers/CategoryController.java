@@ -1,14 +1,19 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.category.create.BulkCreateCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
@@ -18,10 +23,13 @@ import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryRespo
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -37,12 +45,15 @@ public class CategoryController implements CategoryAPI {
 
     private final ListCategoriesUseCase listCategoriesUseCase;
 
-    public CategoryController(CreateCategoryUseCase categoryUseCase, GetCategoryByIdUseCase getCategoryByIdUseCase, UpdateCategoryUseCase updateCategoryUseCase, DeleteCategoryUseCase deleteCategoryUseCase, ListCategoriesUseCase listCategoriesUseCase) {
+    private final BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase;
+
+    public CategoryController(CreateCategoryUseCase categoryUseCase, GetCategoryByIdUseCase getCategoryByIdUseCase, UpdateCategoryUseCase updateCategoryUseCase, DeleteCategoryUseCase deleteCategoryUseCase, ListCategoriesUseCase listCategoriesUseCase, BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase) {
         this.categoryUseCase = Objects.requireNonNull(categoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.bulkCreateCategoriesUseCase = Objects.requireNonNull(bulkCreateCategoriesUseCase);
     }
 
     @Override
@@ -63,30 +74,57 @@ public class CategoryController implements CategoryAPI {
                 .fold(onError, onSuccess);
     }
 
+    @Override
+    public ResponseEntity<?> createCategories(final List<CreateCategoryRequest> input) {
+        final var aCommands = input.stream()
+                .map(it -> CreateCategoryCommand.with(
+                        it.name(),
+                        it.description(),
+                        it.active() != null ? it.active() : true
+                ))
+                .toList();
+
+        return ResponseEntity.ok(this.bulkCreateCategoriesUseCase.execute(aCommands));
+    }
+
     @Override
     public Pagination<CategoryListResponse> listCategories(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction) {
-        return listCategoriesUseCase.execute(
-                new SearchQuery(page, perPage, search, sort, direction))
-                .map(CategoryApiPresenter::present);
+            final String direction,
+            final String cursor,
+            final Boolean withTotal,
+            final WebRequest request
+    ) {
+        final var output = listCategoriesUseCase.execute(
+                SearchQuery.with(page, perPage, search, sort, direction, cursor, withTotal));
+
+        if (ETagUtils.checkNotModified(request, output, it -> it.id().getValue(), CategoryListOutput::updatedAt)) {
+            return null;
+        }
+        return output.map(CategoryApiPresenter::present);
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
-        return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
+    public CategoryResponse getById(final String id, final WebRequest request) {
+        final var output = this.getCategoryByIdUseCase.execute(id);
+
+        if (ETagUtils.checkNotModified(request, output.id().getValue(), output.version(), output.updatedAt())) {
+            return null;
+        }
+        return CategoryApiPresenter.present(output);
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input) {
+    public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input, final String ifMatch) {
         final var aCommand = UpdateCategoryCommand.with(
                 id,
                 input.name(),
                 input.description(),
-                input.active() != null ? input.active() : true
+                input.active() != null ? input.active() : true,
+                expectedVersion(id, ifMatch)
         );
 
         final Function<Notification, ResponseEntity<?>> onError = notification ->
@@ -102,4 +140,16 @@ public class CategoryController implements CategoryAPI {
     public void deleteById(final String anId) {
         deleteCategoryUseCase.execute(anId);
     }
+
+    /**
+     * The version behind the ETag sent in {@code If-Match}, or null without it. Whether it is still the current one
+     * is left to the update, which only writes at that version.
+     */
+    private Long expectedVersion(final String id, final String ifMatch) {
+        if (ifMatch == null || ETagUtils.isAny(ifMatch)) {
+            return null;
+        }
+        return ETagUtils.version(ifMatch, id)
+                .orElseThrow(() -> ConflictException.with(Category.class, CategoryID.from(id)));
+    }
 }
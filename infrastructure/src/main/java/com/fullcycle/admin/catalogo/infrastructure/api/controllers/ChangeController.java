@@ -0,0 +1,59 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.infrastructure.api.ChangeAPI;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.ChangeFeed;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.models.ChangesResponse;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.presenters.ChangeApiPresenter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+public class ChangeController implements ChangeAPI {
+
+    private static final int MAX_LIMIT = 1000;
+
+    /**
+     * How long a request outlives its wait before the container times it out, so that the feed, which answers at
+     * its next poll after the wait, always gets to answer first.
+     */
+    private static final Duration TIMEOUT_MARGIN = Duration.ofSeconds(5);
+
+    private final ChangeFeed changeFeed;
+    private final Duration maxWait;
+
+    public ChangeController(
+            final ChangeFeed changeFeed,
+            @Value("${changes.max-wait:PT30S}") final Duration maxWait
+    ) {
+        this.changeFeed = Objects.requireNonNull(changeFeed);
+        this.maxWait = Objects.requireNonNull(maxWait);
+    }
+
+    @Override
+    public DeferredResult<ChangesResponse> changes(final long since, final int limit, final int wait) {
+        final var aSince = Math.max(0, since);
+        final var aWait = Duration.ofSeconds(Math.max(0, wait));
+        final var actualWait = aWait.compareTo(this.maxWait) > 0 ? this.maxWait : aWait;
+
+        final var result = new DeferredResult<ChangesResponse>(
+                actualWait.plus(TIMEOUT_MARGIN).toMillis(),
+                () -> ChangeApiPresenter.present(aSince, List.of())
+        );
+
+        final var changes = this.changeFeed.changes(aSince, Math.max(1, Math.min(limit, MAX_LIMIT)), actualWait);
+        changes.whenComplete((events, error) -> {
+            if (error != null) {
+                result.setErrorResult(error);
+            } else {
+                result.setResult(ChangeApiPresenter.present(aSince, events));
+            }
+        });
+        result.onCompletion(() -> changes.cancel(false));
+        return result;
+    }
+}
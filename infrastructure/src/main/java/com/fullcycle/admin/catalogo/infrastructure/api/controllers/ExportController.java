@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.infrastructure.api.ExportAPI;
+import com.fullcycle.admin.catalogo.infrastructure.export.CatalogExporter;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+public class ExportController implements ExportAPI {
+
+    private static final String GZIP = "gzip";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final CatalogExporter catalogExporter;
+
+    public ExportController(final CatalogExporter catalogExporter) {
+        this.catalogExporter = Objects.requireNonNull(catalogExporter);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCatalog(final String acceptEncoding) {
+        final var gzip = acceptsGzip(acceptEncoding);
+
+        final StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (final var compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE)) {
+                    this.catalogExporter.export(compressed);
+                }
+            } else {
+                this.catalogExporter.export(out);
+            }
+        };
+
+        final var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("catalog.ndjson")
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.body(body);
+    }
+
+    private static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        return Arrays.stream(acceptEncoding.split(","))
+                .map(it -> it.split(";")[0].trim())
+                .anyMatch(GZIP::equalsIgnoreCase);
+    }
+}
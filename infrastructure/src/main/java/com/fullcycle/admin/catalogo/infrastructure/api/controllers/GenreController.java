@@ -1,12 +1,17 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.genre.create.BulkCreateGenresUseCase;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreCommand;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreCommand;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.api.GenreApi;
@@ -15,10 +20,13 @@ import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListRespons
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
 import com.fullcycle.admin.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ETagUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
 @RestController
@@ -29,19 +37,22 @@ public class GenreController implements GenreApi {
     private final UpdateGenreUseCase updateGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final ListGenreUseCase listGenreUseCase;
+    private final BulkCreateGenresUseCase bulkCreateGenresUseCase;
 
     public GenreController(
             final CreateGenreUseCase createGenreUseCase,
             final GetGenreByIdUseCase getGenreByIdUseCase,
             final UpdateGenreUseCase updateGenreUseCase,
             final DeleteGenreUseCase deleteGenreUseCase,
-            final ListGenreUseCase listGenreUseCase
+            final ListGenreUseCase listGenreUseCase,
+            final BulkCreateGenresUseCase bulkCreateGenresUseCase
     ) {
         this.createGenreUseCase = Objects.requireNonNull(createGenreUseCase);
         this.getGenreByIdUseCase = Objects.requireNonNull(getGenreByIdUseCase);
         this.updateGenreUseCase = Objects.requireNonNull(updateGenreUseCase);
         this.deleteGenreUseCase = Objects.requireNonNull(deleteGenreUseCase);
         this.listGenreUseCase = Objects.requireNonNull(listGenreUseCase);
+        this.bulkCreateGenresUseCase = Objects.requireNonNull(bulkCreateGenresUseCase);
     }
 
     @Override
@@ -57,30 +68,53 @@ public class GenreController implements GenreApi {
                 .body(output);
     }
 
+    @Override
+    public ResponseEntity<?> createAll(final List<CreateGenreRequest> input) {
+        final var aCommands = input.stream()
+                .map(it -> CreateGenreCommand.with(it.name(), it.active(), it.categories()))
+                .toList();
+
+        return ResponseEntity.ok(this.bulkCreateGenresUseCase.execute(aCommands));
+    }
+
     @Override
     public Pagination<GenreListResponse> list(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor,
+            final Boolean withTotal,
+            final WebRequest request
     ) {
-        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
-                .map(GenreApiPresenter::present);
+        final var output =
+                this.listGenreUseCase.execute(SearchQuery.with(page, perPage, search, sort, direction, cursor, withTotal));
+
+        if (ETagUtils.checkNotModified(request, output, GenreListOutput::id, GenreListOutput::updatedAt)) {
+            return null;
+        }
+        return output.map(GenreApiPresenter::present);
     }
 
     @Override
-    public GenreResponse getById(final String id) {
-        return GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id));
+    public GenreResponse getById(final String id, final WebRequest request) {
+        final var output = this.getGenreByIdUseCase.execute(id);
+
+        if (ETagUtils.checkNotModified(request, output.id(), output.version(), output.updatedAt())) {
+            return null;
+        }
+        return GenreApiPresenter.present(output);
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateGenreRequest input) {
+    public ResponseEntity<?> updateById(final String id, final UpdateGenreRequest input, final String ifMatch) {
         final var aCommand = UpdateGenreCommand.with(
                 id,
                 input.name(),
                 input.active(),
-                input.categories()
+                input.categories(),
+                expectedVersion(id, ifMatch)
         );
 
         final var output = this.updateGenreUseCase.execute(aCommand);
@@ -91,4 +125,16 @@ public class GenreController implements GenreApi {
     public void deleteById(final String id) {
         this.deleteGenreUseCase.execute(id);
     }
+
+    /**
+     * The version behind the ETag sent in {@code If-Match}, or null without it. Whether it is still the current one
+     * is left to the update, which only writes at that version.
+     */
+    private Long expectedVersion(final String id, final String ifMatch) {
+        if (ifMatch == null || ETagUtils.isAny(ifMatch)) {
+            return null;
+        }
+        return ETagUtils.version(ifMatch, id)
+                .orElseThrow(() -> ConflictException.with(Genre.class, GenreID.from(id)));
+    }
 }
@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.api.ImportAPI;
+import com.fullcycle.admin.catalogo.infrastructure.importing.CatalogImportStore;
+import com.fullcycle.admin.catalogo.infrastructure.importing.CatalogImporter;
+import com.fullcycle.admin.catalogo.infrastructure.importing.models.CatalogImportResponse;
+import com.fullcycle.admin.catalogo.infrastructure.importing.presenters.CatalogImportApiPresenter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+
+@RestController
+public class ImportController implements ImportAPI {
+
+    private static final String GZIP = "gzip";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final CatalogImportStore catalogImportStore;
+    private final CatalogImporter catalogImporter;
+
+    public ImportController(final CatalogImportStore catalogImportStore, final CatalogImporter catalogImporter) {
+        this.catalogImportStore = Objects.requireNonNull(catalogImportStore);
+        this.catalogImporter = Objects.requireNonNull(catalogImporter);
+    }
+
+    @Override
+    public ResponseEntity<CatalogImportResponse> importCatalog(final InputStream body, final String contentEncoding) throws IOException {
+        final var content = GZIP.equalsIgnoreCase(contentEncoding == null ? null : contentEncoding.trim())
+                ? new GZIPInputStream(body, GZIP_BUFFER_SIZE)
+                : body;
+
+        final var anImport = this.catalogImportStore.create(content);
+        this.catalogImporter.submit(anImport.id());
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/imports/catalog/" + anImport.id()))
+                .body(CatalogImportApiPresenter.present(anImport));
+    }
+
+    @Override
+    public CatalogImportResponse getById(final String id) {
+        return this.catalogImportStore.findById(id)
+                .map(CatalogImportApiPresenter::present)
+                .orElseThrow(() -> NotFoundException.with(new Error("Catalog import with ID %s was not found".formatted(id))));
+    }
+
+    @Override
+    public ResponseEntity<CatalogImportResponse> resume(final String id) {
+        final var anImport = this.catalogImporter.resume(id);
+        return ResponseEntity.accepted()
+                .location(URI.create("/imports/catalog/" + anImport.id()))
+                .body(CatalogImportApiPresenter.present(anImport));
+    }
+}
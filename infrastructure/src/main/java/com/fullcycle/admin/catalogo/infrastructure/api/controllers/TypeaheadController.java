@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.infrastructure.api.TypeaheadAPI;
+import com.fullcycle.admin.catalogo.infrastructure.typeahead.TypeaheadIndex;
+import com.fullcycle.admin.catalogo.infrastructure.typeahead.models.TypeaheadResponse;
+import com.fullcycle.admin.catalogo.infrastructure.typeahead.presenters.TypeaheadApiPresenter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+public class TypeaheadController implements TypeaheadAPI {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final TypeaheadIndex typeaheadIndex;
+
+    public TypeaheadController(final TypeaheadIndex typeaheadIndex) {
+        this.typeaheadIndex = Objects.requireNonNull(typeaheadIndex);
+    }
+
+    @Override
+    public List<TypeaheadResponse> suggest(final String search, final List<String> types, final int limit) {
+        final var aTypes = EnumSet.noneOf(TypeaheadIndex.Type.class);
+        types.forEach(it -> aTypes.add(TypeaheadIndex.Type.of(it)));
+
+        if (this.typeaheadIndex.isLoading()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "The typeahead index is still loading");
+        }
+
+        return this.typeaheadIndex.search(search, aTypes, Math.max(1, Math.min(limit, MAX_LIMIT))).stream()
+                .map(TypeaheadApiPresenter::present)
+                .toList();
+    }
+}
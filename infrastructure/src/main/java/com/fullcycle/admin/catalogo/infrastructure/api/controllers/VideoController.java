@@ -0,0 +1,219 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaCommand;
+import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CommitMediaUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CommitMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CreateMediaUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CreateMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.GetMediaUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.GetMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaChunkCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.GetVideoFacetsUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.ListVideosUseCase;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.api.VideoAPI;
+import com.fullcycle.admin.catalogo.infrastructure.video.MediaResponseWriter;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CommittedMediaResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateMediaUploadRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.MediaUploadResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoFacetsResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.presenters.VideoApiPresenter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Year;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RestController
+public class VideoController implements VideoAPI {
+
+    private final GetMediaUseCase getMediaUseCase;
+    private final CreateMediaUploadUseCase createMediaUploadUseCase;
+    private final GetMediaUploadUseCase getMediaUploadUseCase;
+    private final UploadMediaChunkUseCase uploadMediaChunkUseCase;
+    private final CommitMediaUploadUseCase commitMediaUploadUseCase;
+    private final ListVideosUseCase listVideosUseCase;
+    private final GetVideoFacetsUseCase getVideoFacetsUseCase;
+
+    public VideoController(
+            final GetMediaUseCase getMediaUseCase,
+            final CreateMediaUploadUseCase createMediaUploadUseCase,
+            final GetMediaUploadUseCase getMediaUploadUseCase,
+            final UploadMediaChunkUseCase uploadMediaChunkUseCase,
+            final CommitMediaUploadUseCase commitMediaUploadUseCase,
+            final ListVideosUseCase listVideosUseCase,
+            final GetVideoFacetsUseCase getVideoFacetsUseCase
+    ) {
+        this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
+        this.createMediaUploadUseCase = Objects.requireNonNull(createMediaUploadUseCase);
+        this.getMediaUploadUseCase = Objects.requireNonNull(getMediaUploadUseCase);
+        this.uploadMediaChunkUseCase = Objects.requireNonNull(uploadMediaChunkUseCase);
+        this.commitMediaUploadUseCase = Objects.requireNonNull(commitMediaUploadUseCase);
+        this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
+        this.getVideoFacetsUseCase = Objects.requireNonNull(getVideoFacetsUseCase);
+    }
+
+    @Override
+    public Pagination<VideoListResponse> listVideos(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final Set<String> ratings,
+            final Integer launchedFrom,
+            final Integer launchedTo,
+            final Boolean published,
+            final Boolean opened,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> castMembers
+    ) {
+        final var aQuery = new VideoSearchQuery(
+                page,
+                perPage,
+                search,
+                sort,
+                direction,
+                toRatings(ratings),
+                launchedFrom != null ? Year.of(launchedFrom) : null,
+                launchedTo != null ? Year.of(launchedTo) : null,
+                published,
+                opened,
+                toIdentifiers(categories, CategoryID::from),
+                toIdentifiers(genres, GenreID::from),
+                toIdentifiers(castMembers, CastMemberID::from)
+        );
+
+        return this.listVideosUseCase.execute(aQuery)
+                .map(VideoApiPresenter::present);
+    }
+
+    @Override
+    public VideoFacetsResponse getFacets(
+            final String search,
+            final Set<String> ratings,
+            final Integer launchedFrom,
+            final Integer launchedTo,
+            final Boolean published,
+            final Boolean opened,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> castMembers
+    ) {
+        final var aQuery = new VideoSearchQuery(
+                0,
+                0,
+                search,
+                "title",
+                "asc",
+                toRatings(ratings),
+                launchedFrom != null ? Year.of(launchedFrom) : null,
+                launchedTo != null ? Year.of(launchedTo) : null,
+                published,
+                opened,
+                toIdentifiers(categories, CategoryID::from),
+                toIdentifiers(genres, GenreID::from),
+                toIdentifiers(castMembers, CastMemberID::from)
+        );
+
+        return VideoApiPresenter.present(this.getVideoFacetsUseCase.execute(aQuery));
+    }
+
+    @Override
+    public void getMediaByType(
+            final String id,
+            final String type,
+            final HttpServletRequest request,
+            final HttpServletResponse response
+    ) throws IOException {
+        MediaResponseWriter.write(this.getMediaUseCase.execute(GetMediaCommand.with(id, type)), request, response);
+    }
+
+    @Override
+    public ResponseEntity<MediaUploadResponse> createUpload(final String id, final String type, final CreateMediaUploadRequest input) {
+        final var aCommand = CreateMediaUploadCommand.with(
+                id,
+                type,
+                input.name(),
+                input.contentType(),
+                input.length(),
+                input.chunkSize()
+        );
+
+        final var output = this.createMediaUploadUseCase.execute(aCommand);
+
+        return ResponseEntity.created(URI.create("/videos/%s/medias/%s/uploads/%s".formatted(id, type, output.id())))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public MediaUploadResponse getUpload(final String id, final String type, final String uploadId) {
+        return VideoApiPresenter.present(this.getMediaUploadUseCase.execute(GetMediaUploadCommand.with(id, type, uploadId)));
+    }
+
+    @Override
+    public MediaUploadResponse uploadChunk(
+            final String id,
+            final String type,
+            final String uploadId,
+            final int chunk,
+            final String checksum,
+            final long length,
+            final InputStream content
+    ) {
+        final var aContent = Resource.with(
+                () -> content,
+                length,
+                checksum,
+                MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                "%s-%d".formatted(uploadId, chunk)
+        );
+
+        final var aCommand = UploadMediaChunkCommand.with(id, type, uploadId, chunk, checksum, aContent);
+
+        return VideoApiPresenter.present(this.uploadMediaChunkUseCase.execute(aCommand));
+    }
+
+    @Override
+    public CommittedMediaResponse commitUpload(final String id, final String type, final String uploadId) {
+        return VideoApiPresenter.present(this.commitMediaUploadUseCase.execute(CommitMediaUploadCommand.with(id, type, uploadId)));
+    }
+
+    private static Set<Rating> toRatings(final Set<String> ratings) {
+        if (ratings == null) {
+            return Set.of();
+        }
+        return ratings.stream()
+                .map(it -> Rating.of(it)
+                        .orElseThrow(() -> DomainException.with(new Error("'%s' is not a rating".formatted(it)))))
+                .collect(Collectors.toSet());
+    }
+
+    private static <ID> Set<ID> toIdentifiers(final Set<String> ids, final Function<String, ID> from) {
+        if (ids == null) {
+            return Set.of();
+        }
+        return ids.stream().map(from).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,124 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCompletion;
+
+/**
+ * A read-through cache of aggregates by identifier, in front of a gateway's {@code findById}.
+ * <p>
+ * Aggregates are mutable, so the cache only holds snapshots made with {@code copy} and every hit returns a fresh
+ * copy of its own. Misses are cached as well, for {@code negativeTtl}, so that lookups of unknown identifiers do not
+ * all reach the database. Eviction is Caffeine's size-bounded policy, which favours frequently read identifiers over
+ * recently read ones.
+ * <p>
+ * Gateways must {@link #invalidate(Identifier)} on every write, and {@link #invalidateIf(Predicate)} the aggregates
+ * whose rows the database changes along with another one, such as association rows dropped by a cascading delete.
+ * Inside a transaction the entries are dropped again when the transaction completes, so that a concurrent read of
+ * the previous rows cannot outlive the write.
+ */
+public class AggregateCache<ID extends Identifier, A> {
+
+    private final String name;
+    private final Cache<ID, Optional<A>> cache;
+    private final UnaryOperator<A> copy;
+    private final LongAdder negativeHits = new LongAdder();
+
+    public AggregateCache(
+            final String name,
+            final long maxSize,
+            final Duration ttl,
+            final Duration negativeTtl,
+            final UnaryOperator<A> copy
+    ) {
+        this.name = Objects.requireNonNull(name);
+        this.copy = Objects.requireNonNull(copy);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<ID, Optional<A>>() {
+                    @Override
+                    public long expireAfterCreate(final ID key, final Optional<A> value, final long currentTime) {
+                        return (value.isPresent() ? ttl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(final ID key, final Optional<A> value, final long currentTime, final long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(final ID key, final Optional<A> value, final long currentTime, final long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @param loader called on a miss, its result (present or not) is cached
+     */
+    public Optional<A> get(final ID anId, final Function<ID, Optional<A>> loader) {
+        final var loaded = new boolean[1];
+        final var cached = this.cache.get(anId, key -> {
+            loaded[0] = true;
+            return loader.apply(key).map(this.copy);
+        });
+
+        if (!loaded[0] && cached.isEmpty()) {
+            this.negativeHits.increment();
+        }
+        return cached.map(this.copy);
+    }
+
+    public void invalidate(final ID anId) {
+        this.cache.invalidate(anId);
+        afterCompletion(() -> this.cache.invalidate(anId));
+    }
+
+    public void invalidateIf(final Predicate<A> stale) {
+        final Runnable invalidate = () -> this.cache.asMap().values()
+                .removeIf(cached -> cached.isPresent() && stale.test(cached.get()));
+        invalidate.run();
+        afterCompletion(invalidate);
+    }
+
+    public Stats stats() {
+        final var stats = this.cache.stats();
+        return new Stats(
+                this.name,
+                this.cache.estimatedSize(),
+                stats.hitCount(),
+                this.negativeHits.sum(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount()
+        );
+    }
+
+    /**
+     * @param negativeHits the hits that found a cached miss, they are part of {@code hits}
+     */
+    public record Stats(
+            @JsonProperty("name") String name,
+            @JsonProperty("size") long size,
+            @JsonProperty("hits") long hits,
+            @JsonProperty("negative_hits") long negativeHits,
+            @JsonProperty("misses") long misses,
+            @JsonProperty("hit_rate") double hitRate,
+            @JsonProperty("evictions") long evictions
+    ) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCompletion;
+
+/**
+ * Remembers whether an identifier exists, for every aggregate type at once (identifiers of different
+ * types are never equal, so they can share the same entries).
+ * <p>
+ * Both hits and misses are cached, so gateways must {@link #invalidate(Identifier)} on create and delete. Inside a
+ * transaction the entry is dropped again when the transaction completes, so that a concurrent lookup that ran before
+ * the commit cannot keep the previous answer.
+ * Identifiers that are not cached are loaded in chunks of at most {@code chunkSize}, which keeps each
+ * IN-list bounded while still resolving the usual reference lists in a single round trip.
+ */
+@Component
+public class ExistenceCache {
+
+    private final Cache<Identifier, Boolean> cache;
+    private final int chunkSize;
+
+    public ExistenceCache(
+            @Value("${cache.existence.max-size:100000}") final long maxSize,
+            @Value("${cache.existence.ttl:PT5M}") final Duration ttl,
+            @Value("${cache.existence.chunk-size:500}") final int chunkSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Returns the identifiers in {@code ids} that exist, in the order they were given and without duplicates.
+     *
+     * @param loader called once per chunk of uncached identifiers, returns the ones that exist
+     */
+    public <ID extends Identifier> List<ID> existing(
+            final Iterable<ID> ids,
+            final Function<List<ID>, List<ID>> loader
+    ) {
+        final var requested = new LinkedHashSet<ID>();
+        ids.forEach(requested::add);
+
+        final var existing = new HashSet<ID>();
+        final var misses = new ArrayList<ID>();
+        for (final var anId : requested) {
+            final var cached = this.cache.getIfPresent(anId);
+            if (cached == null) {
+                misses.add(anId);
+            } else if (cached) {
+                existing.add(anId);
+            }
+        }
+
+        for (int i = 0; i < misses.size(); i += this.chunkSize) {
+            final var chunk = misses.subList(i, Math.min(i + this.chunkSize, misses.size()));
+            final var found = new HashSet<>(loader.apply(chunk));
+            chunk.forEach(anId -> this.cache.put(anId, found.contains(anId)));
+            existing.addAll(found);
+        }
+
+        return requested.stream()
+                .filter(existing::contains)
+                .toList();
+    }
+
+    public void invalidate(final Identifier anId) {
+        this.cache.invalidate(anId);
+        afterCompletion(() -> this.cache.invalidate(anId));
+    }
+}
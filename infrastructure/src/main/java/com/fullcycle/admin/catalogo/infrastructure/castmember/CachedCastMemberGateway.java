@@ -0,0 +1,92 @@
+package com.fullcycle.admin.catalogo.infrastructure.castmember;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.cache.AggregateCache;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serves {@link #findById(CastMemberID)} from an {@link AggregateCache} and forwards everything else to the
+ * {@link CastMemberMySQLGateway}, dropping the cached entry of every aggregate it writes or fails to update. A delete
+ * also drops the cached videos linked to the cast member, as the database removes those links with it.
+ */
+@Primary
+@Component
+public class CachedCastMemberGateway implements CastMemberGateway {
+
+    private final CastMemberMySQLGateway delegate;
+    private final AggregateCache<CastMemberID, CastMember> cache;
+    private final AggregateCache<VideoID, Video> videoCache;
+
+    public CachedCastMemberGateway(
+            final CastMemberMySQLGateway delegate,
+            final AggregateCache<CastMemberID, CastMember> cache,
+            final AggregateCache<VideoID, Video> videoCache
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.videoCache = Objects.requireNonNull(videoCache);
+    }
+
+    @Override
+    public CastMember create(final CastMember aCastMember) {
+        final var result = this.delegate.create(aCastMember);
+        this.cache.invalidate(aCastMember.getId());
+        return result;
+    }
+
+    @Override
+    public List<CastMember> createAll(final List<CastMember> aCastMembers) {
+        final var result = this.delegate.createAll(aCastMembers);
+        aCastMembers.forEach(aCastMember -> this.cache.invalidate(aCastMember.getId()));
+        return result;
+    }
+
+    @Override
+    public List<CastMember> upsertAll(final List<CastMember> aCastMembers) {
+        final var result = this.delegate.upsertAll(aCastMembers);
+        aCastMembers.forEach(aCastMember -> this.cache.invalidate(aCastMember.getId()));
+        return result;
+    }
+
+    @Override
+    public void deleteById(final CastMemberID anId) {
+        this.delegate.deleteById(anId);
+        this.cache.invalidate(anId);
+        this.videoCache.invalidateIf(aVideo -> aVideo.getCastMembers().contains(anId));
+    }
+
+    @Override
+    public Optional<CastMember> findById(final CastMemberID anId) {
+        return this.cache.get(anId, this.delegate::findById);
+    }
+
+    @Override
+    public CastMember update(final CastMember aCastMember) {
+        try {
+            return this.delegate.update(aCastMember);
+        } finally {
+            this.cache.invalidate(aCastMember.getId());
+        }
+    }
+
+    @Override
+    public Pagination<CastMember> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public List<CastMemberID> existsByIds(final Iterable<CastMemberID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+}
@@ -3,15 +3,24 @@ package com.fullcycle.admin.catalogo.infrastructure.castmember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.cache.ExistenceCache;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberBatchRepository;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxRepository;
 import org.springframework.stereotype.Component;
+import com.fullcycle.admin.catalogo.infrastructure.typeahead.TypeaheadIndex;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetPagination;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationsUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.index.VideoBitmapIndex;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
 
 import java.util.List;
 import java.util.Objects;
@@ -21,22 +30,75 @@ import java.util.Optional;
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
     private final CastMemberRepository castMemberRepository;
-
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    private final CastMemberBatchRepository batchRepository;
+    private final KeysetPagination<CastMemberJpaEntity> keysetPagination;
+    private final ExistenceCache existenceCache;
+    private final TypeaheadIndex typeaheadIndex;
+    private final OutboxRepository outboxRepository;
+    private final VideoBitmapIndex videoIndex;
+
+    public CastMemberMySQLGateway(
+            final CastMemberRepository castMemberRepository,
+            final CastMemberBatchRepository batchRepository,
+            final EntityManager entityManager,
+            final ExistenceCache existenceCache,
+            final TypeaheadIndex typeaheadIndex,
+            final OutboxRepository outboxRepository,
+            final VideoBitmapIndex videoIndex
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.batchRepository = Objects.requireNonNull(batchRepository);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
+        this.typeaheadIndex = Objects.requireNonNull(typeaheadIndex);
+        this.outboxRepository = Objects.requireNonNull(outboxRepository);
+        this.videoIndex = Objects.requireNonNull(videoIndex);
+        this.keysetPagination = new KeysetPagination<>(entityManager, CastMemberJpaEntity.class);
     }
 
     @Override
+    @Transactional
     public CastMember create(final CastMember aCastMember) {
-        return save(aCastMember);
+        final var result = save(aCastMember);
+        this.outboxRepository.appendPending(List.of(aCastMember));
+        this.existenceCache.invalidate(aCastMember.getId());
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public List<CastMember> createAll(final List<CastMember> aCastMembers) {
+        this.batchRepository.insertAll(aCastMembers);
+        this.outboxRepository.appendPending(aCastMembers);
+        return written(aCastMembers);
     }
 
     @Override
+    @Transactional
+    public List<CastMember> upsertAll(final List<CastMember> aCastMembers) {
+        this.batchRepository.upsertAll(aCastMembers);
+        this.outboxRepository.appendWritten(aCastMembers);
+        return written(aCastMembers);
+    }
+
+    private List<CastMember> written(final List<CastMember> aCastMembers) {
+        aCastMembers.forEach(aMember -> {
+            this.existenceCache.invalidate(aMember.getId());
+            this.typeaheadIndex.put(TypeaheadIndex.Type.CAST_MEMBER, aMember.getId(), aMember.getName());
+        });
+        return aCastMembers;
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final CastMemberID aMemberId) {
         final var anId = aMemberId.getValue();
         if (this.castMemberRepository.existsById(anId)) {
             this.castMemberRepository.deleteById(anId);
+            this.outboxRepository.append(List.of(DomainEvent.deleted(CastMember.class, aMemberId)));
+            this.videoIndex.removeCastMember(aMemberId);
         }
+        this.existenceCache.invalidate(aMemberId);
+        this.typeaheadIndex.remove(TypeaheadIndex.Type.CAST_MEMBER, aMemberId);
     }
 
     @Override
@@ -46,45 +108,49 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     @Override
+    @Transactional
     public CastMember update(final CastMember aCastMember) {
-        return save(aCastMember);
+        if (this.castMemberRepository.updateIfVersion(CastMemberJpaEntity.from(aCastMember)) != 1) {
+            throw ConflictException.with(CastMember.class, aCastMember.getId(), aCastMember.getVersion());
+        }
+        this.outboxRepository.appendWritten(List.of(aCastMember));
+        this.typeaheadIndex.put(TypeaheadIndex.Type.CAST_MEMBER, aCastMember.getId(), aCastMember.getName());
+        return CastMember.with(aCastMember, aCastMember.getVersion() + 1);
     }
 
     @Override
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-
-        final var where = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
-
-        final var pageResult =
-                this.castMemberRepository.findAll(where, page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CastMemberJpaEntity::toAggregate).toList()
-        );
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank());
+        final var where = terms.map(this::assembleSpecification).orElse(null);
+        final var relevance = terms.map(this::assembleRanking).orElse(null);
+
+        return this.keysetPagination.findAll(where, relevance, aQuery)
+                .map(CastMemberJpaEntity::toAggregate);
     }
 
     @Override
     public List<CastMemberID> existsByIds(final Iterable<CastMemberID> ids) {
-        throw new UnsupportedOperationException();
+        return this.existenceCache.existing(ids, chunk -> {
+            final var values = chunk.stream().map(CastMemberID::getValue).toList();
+            return this.castMemberRepository.existsByIds(values).stream()
+                    .map(CastMemberID::from)
+                    .toList();
+        });
     }
 
     private CastMember save(final CastMember aCastMember) {
-        return this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember))
+        final var result = this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember))
                 .toAggregate();
+        this.typeaheadIndex.put(TypeaheadIndex.Type.CAST_MEMBER, result.getId(), result.getName());
+        return result;
     }
 
     private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationsUtils.like("name", terms);
+        return SpecificationsUtils.matches(terms, "name");
+    }
+
+    private KeysetPagination.Ranking<CastMemberJpaEntity> assembleRanking(final String terms) {
+        return SpecificationsUtils.relevance(terms, "name");
     }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.fullcycle.admin.catalogo.infrastructure.castmember.persistence;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UUIDUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Inserts or upserts many cast members as a single JDBC batch.
+ */
+@Repository
+public class CastMemberBatchRepository {
+
+    private static final String INSERT_CAST_MEMBER = """
+            INSERT INTO cast_members (id, name, type, created_at, updated_at, version)
+            VALUES (:id, :name, :type, :createdAt, :updatedAt, :version)
+            """;
+
+    private static final String UPDATE_CAST_MEMBER = """
+            UPDATE cast_members SET name = :name, type = :type, updated_at = :updatedAt, version = version + 1
+            WHERE id = :id
+            """;
+
+    private static final String SELECT_IDS = "SELECT id FROM cast_members WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CastMemberBatchRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    public void insertAll(final List<CastMember> aMembers) {
+        batch(INSERT_CAST_MEMBER, aMembers);
+    }
+
+    /**
+     * Inserts the cast members that do not exist yet and overwrites the others, keeping their creation date.
+     */
+    public void upsertAll(final List<CastMember> aMembers) {
+        if (aMembers.isEmpty()) {
+            return;
+        }
+
+        final var stored = storedIds(aMembers);
+        final var byStored = aMembers.stream()
+                .collect(Collectors.partitioningBy(aMember -> stored.contains(key(aMember))));
+        batch(UPDATE_CAST_MEMBER, byStored.get(true));
+        batch(INSERT_CAST_MEMBER, byStored.get(false));
+    }
+
+    private Set<String> storedIds(final List<CastMember> aMembers) {
+        final var ids = aMembers.stream()
+                .map(aMember -> UUIDUtils.toBytes(aMember.getId().getValue()))
+                .toList();
+        return new HashSet<>(this.jdbcTemplate.query(
+                SELECT_IDS,
+                new MapSqlParameterSource("ids", ids),
+                (rs, rowNum) -> UUIDUtils.fromBytes(rs.getBytes("id"))
+        ));
+    }
+
+    private static String key(final CastMember aMember) {
+        return UUIDUtils.fromBytes(UUIDUtils.toBytes(aMember.getId().getValue()));
+    }
+
+    private void batch(final String sql, final List<CastMember> aMembers) {
+        if (aMembers.isEmpty()) {
+            return;
+        }
+        this.jdbcTemplate.batchUpdate(sql, aMembers.stream()
+                .map(CastMemberBatchRepository::row)
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    private static SqlParameterSource row(final CastMember aMember) {
+        return new MapSqlParameterSource()
+                .addValue("id", UUIDUtils.toBytes(aMember.getId().getValue()))
+                .addValue("name", aMember.getName())
+                .addValue("type", aMember.getType().name())
+                .addValue("createdAt", Timestamp.from(aMember.getCreatedAt()), Types.TIMESTAMP)
+                .addValue("updatedAt", Timestamp.from(aMember.getUpdatedAt()), Types.TIMESTAMP)
+                .addValue("version", aMember.getVersion());
+    }
+}
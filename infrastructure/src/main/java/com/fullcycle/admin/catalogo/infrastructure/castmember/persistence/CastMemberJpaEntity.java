@@ -3,6 +3,8 @@ package com.fullcycle.admin.catalogo.infrastructure.castmember.persistence;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UUIDBinaryType;
+import org.hibernate.annotations.Type;
 
 import javax.persistence.*;
 import java.time.Instant;
@@ -12,6 +14,7 @@ import java.time.Instant;
 public class CastMemberJpaEntity {
 
     @Id
+    @Type(type = UUIDBinaryType.TYPE)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -27,6 +30,9 @@ public class CastMemberJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public CastMemberJpaEntity() {
     }
 
@@ -35,13 +41,15 @@ public class CastMemberJpaEntity {
             final String name,
             final CastMemberType type,
             final Instant createdAt,
-            final Instant updatedAt
+            final Instant updatedAt,
+            final long version
     ) {
         this.id = id;
         this.name = name;
         this.type = type;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
     }
 
     public static CastMemberJpaEntity from(final CastMember aMember) {
@@ -50,7 +58,8 @@ public class CastMemberJpaEntity {
                 aMember.getName(),
                 aMember.getType(),
                 aMember.getCreatedAt(),
-                aMember.getUpdatedAt()
+                aMember.getUpdatedAt(),
+                aMember.getVersion()
         );
     }
 
@@ -60,7 +69,8 @@ public class CastMemberJpaEntity {
                 getName(),
                 getType(),
                 getCreatedAt(),
-                getUpdatedAt()
+                getUpdatedAt(),
+                getVersion()
         );
     }
 
@@ -108,4 +118,13 @@ public class CastMemberJpaEntity {
         this.updatedAt = updatedAt;
         return this;
     }
-}
\ No newline at end of file
+
+    public long getVersion() {
+        return version;
+    }
+
+    public CastMemberJpaEntity setVersion(final long version) {
+        this.version = version;
+        return this;
+    }
+}
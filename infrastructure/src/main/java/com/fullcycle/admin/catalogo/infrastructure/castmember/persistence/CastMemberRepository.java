@@ -4,8 +4,34 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
 
     Page<CastMemberJpaEntity> findAll(Specification<CastMemberJpaEntity> specification, Pageable page);
+
+    @Query("select c.id from CastMember c where c.id in :ids")
+    List<String> existsByIds(@Param("ids") List<String> ids);
+
+    /**
+     * Overwrites the stored cast member, as a single statement, only if it is still at the version {@code member} was read
+     * at. Pending changes are flushed before it, and the persistence context is cleared after it, so no stale
+     * entity outlives the update.
+     *
+     * @return the number of updated rows, 0 when the cast member was changed or deleted in the meantime
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update CastMember c set
+                c.name = :#{#member.name},
+                c.type = :#{#member.type},
+                c.updatedAt = :#{#member.updatedAt},
+                c.version = c.version + 1
+            where c.id = :#{#member.id} and c.version = :#{#member.version}
+            """)
+    int updateIfVersion(@Param("member") CastMemberJpaEntity member);
 }
\ No newline at end of file
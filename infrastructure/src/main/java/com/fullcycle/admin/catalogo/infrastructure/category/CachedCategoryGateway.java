@@ -0,0 +1,98 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.cache.AggregateCache;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serves {@link #findById(CategoryID)} from an {@link AggregateCache} and forwards everything else to the
+ * {@link CategoryMySQLGateway}, dropping the cached entry of every aggregate it writes or fails to update. A delete
+ * also drops the cached genres and videos linked to the category, as the database removes those links with it.
+ */
+@Primary
+@Component
+public class CachedCategoryGateway implements CategoryGateway {
+
+    private final CategoryMySQLGateway delegate;
+    private final AggregateCache<CategoryID, Category> cache;
+    private final AggregateCache<GenreID, Genre> genreCache;
+    private final AggregateCache<VideoID, Video> videoCache;
+
+    public CachedCategoryGateway(
+            final CategoryMySQLGateway delegate,
+            final AggregateCache<CategoryID, Category> cache,
+            final AggregateCache<GenreID, Genre> genreCache,
+            final AggregateCache<VideoID, Video> videoCache
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.genreCache = Objects.requireNonNull(genreCache);
+        this.videoCache = Objects.requireNonNull(videoCache);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var result = this.delegate.create(aCategory);
+        this.cache.invalidate(aCategory.getId());
+        return result;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var result = this.delegate.createAll(aCategories);
+        aCategories.forEach(aCategory -> this.cache.invalidate(aCategory.getId()));
+        return result;
+    }
+
+    @Override
+    public List<Category> upsertAll(final List<Category> aCategories) {
+        final var result = this.delegate.upsertAll(aCategories);
+        aCategories.forEach(aCategory -> this.cache.invalidate(aCategory.getId()));
+        return result;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.delegate.deleteById(anId);
+        this.cache.invalidate(anId);
+        this.genreCache.invalidateIf(aGenre -> aGenre.getCategories().contains(anId));
+        this.videoCache.invalidateIf(aVideo -> aVideo.getCategories().contains(anId));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return this.cache.get(anId, this.delegate::findById);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        try {
+            return this.delegate.update(aCategory);
+        } finally {
+            this.cache.invalidate(aCategory.getId());
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+}
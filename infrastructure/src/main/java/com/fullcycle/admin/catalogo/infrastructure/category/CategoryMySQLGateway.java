@@ -3,43 +3,104 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.cache.ExistenceCache;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryBatchRepository;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxRepository;
+import com.fullcycle.admin.catalogo.infrastructure.typeahead.TypeaheadIndex;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetPagination;
+import com.fullcycle.admin.catalogo.infrastructure.video.index.VideoBitmapIndex;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 
-import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationsUtils.like;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationsUtils.matches;
+import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationsUtils.relevance;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
     private final CategoryRepository repository;
-
-
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    private final CategoryBatchRepository batchRepository;
+    private final KeysetPagination<CategoryJpaEntity> keysetPagination;
+    private final ExistenceCache existenceCache;
+    private final TypeaheadIndex typeaheadIndex;
+    private final OutboxRepository outboxRepository;
+    private final VideoBitmapIndex videoIndex;
+
+
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final CategoryBatchRepository batchRepository,
+            final EntityManager entityManager,
+            final ExistenceCache existenceCache,
+            final TypeaheadIndex typeaheadIndex,
+            final OutboxRepository outboxRepository,
+            final VideoBitmapIndex videoIndex
+    ) {
         this.repository = repository;
+        this.batchRepository = batchRepository;
+        this.existenceCache = existenceCache;
+        this.typeaheadIndex = typeaheadIndex;
+        this.outboxRepository = outboxRepository;
+        this.videoIndex = videoIndex;
+        this.keysetPagination = new KeysetPagination<>(entityManager, CategoryJpaEntity.class);
     }
 
     @Override
+    @Transactional
     public Category create(final Category aCategory) {
-        return save(aCategory);
+        final var result = save(aCategory);
+        this.outboxRepository.appendPending(List.of(aCategory));
+        this.existenceCache.invalidate(aCategory.getId());
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> aCategories) {
+        this.batchRepository.insertAll(aCategories);
+        this.outboxRepository.appendPending(aCategories);
+        return written(aCategories);
+    }
+
+    @Override
+    @Transactional
+    public List<Category> upsertAll(final List<Category> aCategories) {
+        this.batchRepository.upsertAll(aCategories);
+        this.outboxRepository.appendWritten(aCategories);
+        return written(aCategories);
     }
 
+    private List<Category> written(final List<Category> aCategories) {
+        aCategories.forEach(aCategory -> {
+            this.existenceCache.invalidate(aCategory.getId());
+            this.typeaheadIndex.put(TypeaheadIndex.Type.CATEGORY, aCategory.getId(), aCategory.getName());
+        });
+        return aCategories;
+    }
 
     @Override
+    @Transactional
     public void deleteById(CategoryID anId) {
         final String anIdValue = anId.getValue();
         if(this.repository.existsById(anIdValue)){
             this.repository.deleteById(anIdValue);
+            this.outboxRepository.append(List.of(DomainEvent.deleted(Category.class, anId)));
+            this.videoIndex.removeCategory(anId);
         }
+        this.existenceCache.invalidate(anId);
+        this.typeaheadIndex.remove(TypeaheadIndex.Type.CATEGORY, anId);
     }
 
     @Override
@@ -49,49 +110,47 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
+    @Transactional
     public Category update(final Category aCategory) {
-        return save(aCategory);
+        if (this.repository.updateIfVersion(CategoryJpaEntity.from(aCategory)) != 1) {
+            throw ConflictException.with(Category.class, aCategory.getId(), aCategory.getVersion());
+        }
+        this.outboxRepository.appendWritten(List.of(aCategory));
+        this.typeaheadIndex.put(TypeaheadIndex.Type.CATEGORY, aCategory.getId(), aCategory.getName());
+        return Category.with(aCategory, aCategory.getVersion() + 1);
     }
 
     @Override
     public Pagination<Category> findAll(SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-
-        final var specifications = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
-        final var pageResult = this.repository.findAll(Specification.where(specifications), page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
-                );
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank());
+        final var specifications = terms.map(this::assembleSpecification).orElse(null);
+        final var relevance = terms.map(this::assembleRanking).orElse(null);
+        return this.keysetPagination.findAll(specifications, relevance, aQuery)
+                .map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
     public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIDs) {
-        final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
-                .map(CategoryID::getValue)
-                .toList();
-        return this.repository.existsByIds(ids).stream()
-                .map(CategoryID::from)
-                .toList();
+        return this.existenceCache.existing(categoryIDs, chunk -> {
+            final var ids = chunk.stream().map(CategoryID::getValue).toList();
+            return this.repository.existsByIds(ids).stream()
+                    .map(CategoryID::from)
+                    .toList();
+        });
     }
 
     private Category save(final Category aCategory) {
-        return repository.saveAndFlush(CategoryJpaEntity.from(aCategory)).toAggregate();
+        final var result = repository.saveAndFlush(CategoryJpaEntity.from(aCategory)).toAggregate();
+        this.typeaheadIndex.put(TypeaheadIndex.Type.CATEGORY, result.getId(), result.getName());
+        return result;
     }
 
     private Specification<CategoryJpaEntity> assembleSpecification(final String str) {
-        final Specification<CategoryJpaEntity> nameLike = like("name", str);
-        final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
-        return nameLike.or(descriptionLike);
+        return matches(str, "name", "description");
+    }
+
+    private KeysetPagination.Ranking<CategoryJpaEntity> assembleRanking(final String str) {
+        return relevance(str, "name", "description");
     }
 }
@@ -0,0 +1,105 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UUIDUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Inserts or upserts many categories as a single JDBC batch. Going through JPA would first select every row, since
+ * the identifiers are assigned by the application, and then write them one statement at a time.
+ */
+@Repository
+public class CategoryBatchRepository {
+
+    private static final String INSERT_CATEGORY = """
+            INSERT INTO category (id, name, description, active, created_at, updated_at, deleted_at, version)
+            VALUES (:id, :name, :description, :active, :createdAt, :updatedAt, :deletedAt, :version)
+            """;
+
+    private static final String UPDATE_CATEGORY = """
+            UPDATE category
+            SET name = :name, description = :description, active = :active, updated_at = :updatedAt, deleted_at = :deletedAt,
+                version = version + 1
+            WHERE id = :id
+            """;
+
+    private static final String SELECT_IDS = "SELECT id FROM category WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CategoryBatchRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    public void insertAll(final List<Category> aCategories) {
+        batch(INSERT_CATEGORY, aCategories);
+    }
+
+    /**
+     * Inserts the categories that do not exist yet and overwrites the others, keeping their creation date. Which
+     * ones exist is found with a single query, then each group is written as one batch.
+     */
+    public void upsertAll(final List<Category> aCategories) {
+        if (aCategories.isEmpty()) {
+            return;
+        }
+
+        final var stored = storedIds(aCategories);
+        final var byStored = aCategories.stream()
+                .collect(Collectors.partitioningBy(aCategory -> stored.contains(key(aCategory))));
+        batch(UPDATE_CATEGORY, byStored.get(true));
+        batch(INSERT_CATEGORY, byStored.get(false));
+    }
+
+    private Set<String> storedIds(final List<Category> aCategories) {
+        final var ids = aCategories.stream()
+                .map(aCategory -> UUIDUtils.toBytes(aCategory.getId().getValue()))
+                .toList();
+        return new HashSet<>(this.jdbcTemplate.query(
+                SELECT_IDS,
+                new MapSqlParameterSource("ids", ids),
+                (rs, rowNum) -> UUIDUtils.fromBytes(rs.getBytes("id"))
+        ));
+    }
+
+    private static String key(final Category aCategory) {
+        return UUIDUtils.fromBytes(UUIDUtils.toBytes(aCategory.getId().getValue()));
+    }
+
+    private void batch(final String sql, final List<Category> aCategories) {
+        if (aCategories.isEmpty()) {
+            return;
+        }
+        this.jdbcTemplate.batchUpdate(sql, aCategories.stream()
+                .map(CategoryBatchRepository::row)
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    private static SqlParameterSource row(final Category aCategory) {
+        return new MapSqlParameterSource()
+                .addValue("id", UUIDUtils.toBytes(aCategory.getId().getValue()))
+                .addValue("name", aCategory.getName())
+                .addValue("description", aCategory.getDescription(), Types.VARCHAR)
+                .addValue("active", aCategory.isActive())
+                .addValue("createdAt", timestamp(aCategory.getCreatedAt()), Types.TIMESTAMP)
+                .addValue("updatedAt", timestamp(aCategory.getUpdatedAt()), Types.TIMESTAMP)
+                .addValue("deletedAt", timestamp(aCategory.getDeletedAt()), Types.TIMESTAMP)
+                .addValue("version", aCategory.getVersion());
+    }
+
+    private static Timestamp timestamp(final Instant anInstant) {
+        return anInstant != null ? Timestamp.from(anInstant) : null;
+    }
+}
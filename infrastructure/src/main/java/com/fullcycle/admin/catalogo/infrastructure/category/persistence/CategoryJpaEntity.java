@@ -2,6 +2,8 @@ package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UUIDBinaryType;
+import org.hibernate.annotations.Type;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -14,6 +16,7 @@ import java.time.Instant;
 public class CategoryJpaEntity {
 
     @Id
+    @Type(type = UUIDBinaryType.TYPE)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -34,6 +37,9 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public CategoryJpaEntity() {
     }
 
@@ -44,7 +50,8 @@ public class CategoryJpaEntity {
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ) {
         this.id = id;
         this.name = name;
@@ -53,6 +60,7 @@ public class CategoryJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public Category toAggregate(){
@@ -63,7 +71,8 @@ public class CategoryJpaEntity {
             isActive(),
             getCreatedAt(),
             getUpdatedAt(),
-            getDeletedAt()
+            getDeletedAt(),
+            getVersion()
         );
     }
 
@@ -75,7 +84,8 @@ public class CategoryJpaEntity {
                 aCategory.isActive(),
                 aCategory.getCreatedAt(),
                 aCategory.getUpdatedAt(),
-                aCategory.getDeletedAt()
+                aCategory.getDeletedAt(),
+                aCategory.getVersion()
         );
     }
 
@@ -134,4 +144,12 @@ public class CategoryJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
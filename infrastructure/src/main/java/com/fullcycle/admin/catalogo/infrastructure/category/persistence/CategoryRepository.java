@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,4 +18,24 @@ public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, Str
 
     @Query("select c.id from Category c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    /**
+     * Overwrites the stored category, as a single statement, only if it is still at the version {@code category} was read
+     * at. Pending changes are flushed before it, and the persistence context is cleared after it, so no stale
+     * entity outlives the update.
+     *
+     * @return the number of updated rows, 0 when the category was changed or deleted in the meantime
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Category c set
+                c.name = :#{#category.name},
+                c.description = :#{#category.description},
+                c.active = :#{#category.active},
+                c.updatedAt = :#{#category.updatedAt},
+                c.deletedAt = :#{#category.deletedAt},
+                c.version = c.version + 1
+            where c.id = :#{#category.id} and c.version = :#{#category.version}
+            """)
+    int updateIfVersion(@Param("category") CategoryJpaEntity category);
 }
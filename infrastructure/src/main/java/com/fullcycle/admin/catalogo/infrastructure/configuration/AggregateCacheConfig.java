@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.cache.AggregateCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+
+/**
+ * One {@link AggregateCache} per gateway, all sized and expired with the same {@code cache.aggregates} settings.
+ */
+@Configuration
+public class AggregateCacheConfig {
+
+    private final long maxSize;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+
+    public AggregateCacheConfig(
+            @Value("${cache.aggregates.max-size:10000}") final long maxSize,
+            @Value("${cache.aggregates.ttl:PT10M}") final Duration ttl,
+            @Value("${cache.aggregates.negative-ttl:PT30S}") final Duration negativeTtl
+    ) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+    }
+
+    @Bean
+    public AggregateCache<CategoryID, Category> categoryCache() {
+        return new AggregateCache<>("categories", maxSize, ttl, negativeTtl, Category::with);
+    }
+
+    @Bean
+    public AggregateCache<GenreID, Genre> genreCache() {
+        return new AggregateCache<>("genres", maxSize, ttl, negativeTtl, aGenre -> Genre.with(
+                aGenre.getId(),
+                aGenre.getName(),
+                aGenre.isActive(),
+                new ArrayList<>(aGenre.getCategories()),
+                aGenre.getCreatedAt(),
+                aGenre.getUpdatedAt(),
+                aGenre.getDeletedAt(),
+                aGenre.getVersion()
+        ));
+    }
+
+    @Bean
+    public AggregateCache<CastMemberID, CastMember> castMemberCache() {
+        return new AggregateCache<>("cast_members", maxSize, ttl, negativeTtl, CastMember::with);
+    }
+
+    @Bean
+    public AggregateCache<VideoID, Video> videoCache() {
+        return new AggregateCache<>("videos", maxSize, ttl, negativeTtl, Video::with);
+    }
+}
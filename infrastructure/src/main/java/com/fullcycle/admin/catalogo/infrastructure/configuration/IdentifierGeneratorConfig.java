@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.IdentifierGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects how new identifiers are generated: {@code time-ordered} (the default) keeps inserts at the end of the
+ * primary key indexes, {@code random} generates version 4 UUIDs.
+ */
+@Configuration
+public class IdentifierGeneratorConfig {
+
+    public IdentifierGeneratorConfig(@Value("${identifiers.generator:time-ordered}") final String generator) {
+        Identifier.useGenerator(switch (generator) {
+            case "time-ordered" -> IdentifierGenerator.timeOrdered();
+            case "random" -> IdentifierGenerator.random();
+            default -> throw new IllegalStateException("Unknown identifier generator '%s'".formatted(generator));
+        });
+    }
+}
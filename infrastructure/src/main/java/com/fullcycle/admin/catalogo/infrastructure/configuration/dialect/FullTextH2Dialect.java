@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.dialect;
+
+/**
+ * The MySQL dialect for H2 running in MySQL mode, which has no FULLTEXT indexes: {@code fulltext_score} calls
+ * {@link H2FullTextFunctions#score} instead, registered as {@code FT_SCORE} by the H2 migrations.
+ */
+public class FullTextH2Dialect extends FullTextMySQLDialect {
+
+    public FullTextH2Dialect() {
+        super();
+        registerFunction(FullTextScoreFunction.NAME, FullTextScoreFunction.function("FT_SCORE"));
+    }
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.dialect;
+
+import org.hibernate.dialect.MySQL8Dialect;
+
+/**
+ * {@link MySQL8Dialect} with {@code fulltext_score} rendered as {@code MATCH ... AGAINST}, so searches are
+ * answered by the FULLTEXT indexes instead of a {@code LIKE '%term%'} scan.
+ */
+public class FullTextMySQLDialect extends MySQL8Dialect {
+
+    public FullTextMySQLDialect() {
+        super();
+        registerFunction(FullTextScoreFunction.NAME, FullTextScoreFunction.matchAgainst());
+    }
+}
@@ -0,0 +1,75 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.dialect;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@code fulltext_score(column, ..., query)}: the relevance of a row for a boolean-mode query (see
+ * {@link com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationsUtils#matches}), {@code 0} when it does
+ * not match. The columns must be exactly the ones of a FULLTEXT index.
+ */
+public class FullTextScoreFunction implements SQLFunction {
+
+    public static final String NAME = "fulltext_score";
+
+    /**
+     * InnoDB's default {@code innodb_ft_min_token_size}: shorter words are not indexed, so a query can not require
+     * them.
+     */
+    public static final int MIN_TOKEN_SIZE = 3;
+
+    private final Function<List<?>, String> renderer;
+
+    private FullTextScoreFunction(final Function<List<?>, String> renderer) {
+        this.renderer = renderer;
+    }
+
+    public static FullTextScoreFunction matchAgainst() {
+        return new FullTextScoreFunction(args -> "MATCH(%s) AGAINST(%s IN BOOLEAN MODE)".formatted(
+                join(args.subList(0, args.size() - 1)),
+                args.get(args.size() - 1)
+        ));
+    }
+
+    public static FullTextScoreFunction function(final String aName) {
+        return new FullTextScoreFunction(args -> "%s(%s)".formatted(aName, join(args)));
+    }
+
+    @Override
+    public boolean hasArguments() {
+        return true;
+    }
+
+    @Override
+    public boolean hasParenthesesIfNoArguments() {
+        return true;
+    }
+
+    @Override
+    public Type getReturnType(final Type firstArgumentType, final Mapping mapping) {
+        return StandardBasicTypes.DOUBLE;
+    }
+
+    /**
+     * {@link SQLFunction} declares {@code arguments} as a raw {@link List}, so the override must too.
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public String render(final Type firstArgumentType, final List arguments, final SessionFactoryImplementor factory) {
+        if (arguments.size() < 2) {
+            throw new QueryException(NAME + "() requires at least one column and a query");
+        }
+        return this.renderer.apply(arguments);
+    }
+
+    private static String join(final List<?> args) {
+        return String.join(", ", args.stream().map(String::valueOf).toList());
+    }
+}
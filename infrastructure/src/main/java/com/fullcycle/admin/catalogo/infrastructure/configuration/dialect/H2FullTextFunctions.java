@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.dialect;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TextUtils.words;
+
+/**
+ * Java implementation of {@code MATCH(...) AGAINST(query IN BOOLEAN MODE)} for H2, limited to the queries built by
+ * {@link com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationsUtils#matches}: every {@code +word*} must
+ * start a word of the columns, case and accents ignored. The score is the number of words hit. Like InnoDB, words
+ * shorter than {@link FullTextScoreFunction#MIN_TOKEN_SIZE} are not indexed: they are never hit, and a prefix that
+ * short is ignored.
+ */
+public final class H2FullTextFunctions {
+
+    private H2FullTextFunctions() {
+    }
+
+    public static double score(final String first, final String query) {
+        return compute(query, first);
+    }
+
+    public static double score(final String first, final String second, final String query) {
+        return compute(query, first, second);
+    }
+
+    private static double compute(final String query, final String... columns) {
+        final var prefixes = words(query).stream()
+                .filter(it -> it.length() >= FullTextScoreFunction.MIN_TOKEN_SIZE)
+                .toList();
+        if (prefixes.isEmpty()) {
+            return 0;
+        }
+
+        final var words = Arrays.stream(columns)
+                .filter(Objects::nonNull)
+                .flatMap(it -> words(it).stream())
+                .filter(it -> it.length() >= FullTextScoreFunction.MIN_TOKEN_SIZE)
+                .toList();
+
+        double score = 0;
+        for (final var prefix : prefixes) {
+            final var hits = words.stream().filter(it -> it.startsWith(prefix)).count();
+            if (hits == 0) {
+                return 0;
+            }
+            score += hits;
+        }
+        return score;
+    }
+}
@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.useCases;
 
+import com.fullcycle.admin.catalogo.application.castmember.create.BulkCreateCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.create.DefaultBulkCreateCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
@@ -11,6 +13,7 @@ import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.ListCas
 import com.fullcycle.admin.catalogo.application.castmember.update.DefaultUpdateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -30,6 +33,11 @@ public class CastMemberUseCaseConfig {
         return new DefaultCreateCastMemberUseCase(castMemberGateway);
     }
 
+    @Bean
+    public BulkCreateCastMembersUseCase bulkCreateCastMembersUseCase(@Value("${bulk.chunk-size:1000}") final int chunkSize) {
+        return new DefaultBulkCreateCastMembersUseCase(castMemberGateway, chunkSize);
+    }
+
     @Bean
     public DeleteCastMemberUseCase deleteCastMemberUseCase() {
         return new DefaultDeleteCastMemberUseCase(castMemberGateway);
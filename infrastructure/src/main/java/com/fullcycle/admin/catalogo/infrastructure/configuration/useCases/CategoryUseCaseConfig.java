@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.useCases;
 
+import com.fullcycle.admin.catalogo.application.category.create.BulkCreateCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.DefaultBulkCreateCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
@@ -11,6 +13,7 @@ import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCateg
 import com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -28,6 +31,11 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase(@Value("${bulk.chunk-size:1000}") final int chunkSize){
+        return new DefaultBulkCreateCategoriesUseCase(categoryGateway, chunkSize);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase(){
         return new DefaultUpdateCategoryUseCase(categoryGateway);
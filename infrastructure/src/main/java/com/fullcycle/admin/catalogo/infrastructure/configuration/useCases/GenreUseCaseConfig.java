@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.useCases;
 
+import com.fullcycle.admin.catalogo.application.genre.create.BulkCreateGenresUseCase;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.create.DefaultBulkCreateGenresUseCase;
 import com.fullcycle.admin.catalogo.application.genre.create.DefaultCreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
@@ -12,6 +14,7 @@ import com.fullcycle.admin.catalogo.application.genre.update.DefaultUpdateGenreU
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreUseCase;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -33,6 +36,11 @@ public class GenreUseCaseConfig {
         return new DefaultCreateGenreUseCase(categoryGateway, genreGateway);
     }
 
+    @Bean
+    public BulkCreateGenresUseCase bulkCreateGenresUseCase(@Value("${bulk.chunk-size:1000}") final int chunkSize){
+        return new DefaultBulkCreateGenresUseCase(categoryGateway, genreGateway, chunkSize);
+    }
+
     @Bean
     public DeleteGenreUseCase deleteGenreUseCase(){
         return new DefaultDeleteGenreUseCase(genreGateway);
@@ -0,0 +1,91 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.useCases;
+
+import com.fullcycle.admin.catalogo.application.video.media.encode.DefaultEncodeMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.encode.EncodeMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.DefaultGetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CommitMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CreateMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultCommitMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultCreateMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultGetMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultUploadMediaChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.GetMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.DefaultGetVideoFacetsUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.GetVideoFacetsUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.DefaultListVideosUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.ListVideosUseCase;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJobGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaEncoder;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+
+@Configuration
+public class VideoUseCaseConfig {
+
+    private final VideoGateway videoGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+    private final MediaUploadGateway mediaUploadGateway;
+    private final EncodingJobGateway encodingJobGateway;
+    private final MediaEncoder mediaEncoder;
+
+    public VideoUseCaseConfig(
+            final VideoGateway videoGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            final MediaUploadGateway mediaUploadGateway,
+            final EncodingJobGateway encodingJobGateway,
+            final MediaEncoder mediaEncoder
+    ) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.encodingJobGateway = Objects.requireNonNull(encodingJobGateway);
+        this.mediaEncoder = Objects.requireNonNull(mediaEncoder);
+    }
+
+    @Bean
+    public ListVideosUseCase listVideosUseCase() {
+        return new DefaultListVideosUseCase(videoGateway);
+    }
+
+    @Bean
+    public GetVideoFacetsUseCase getVideoFacetsUseCase() {
+        return new DefaultGetVideoFacetsUseCase(videoGateway);
+    }
+
+    @Bean
+    public GetMediaUseCase getMediaUseCase() {
+        return new DefaultGetMediaUseCase(videoGateway, mediaResourceGateway);
+    }
+
+    @Bean
+    public CreateMediaUploadUseCase createMediaUploadUseCase() {
+        return new DefaultCreateMediaUploadUseCase(videoGateway, mediaUploadGateway);
+    }
+
+    @Bean
+    public GetMediaUploadUseCase getMediaUploadUseCase() {
+        return new DefaultGetMediaUploadUseCase(mediaUploadGateway);
+    }
+
+    @Bean
+    public UploadMediaChunkUseCase uploadMediaChunkUseCase() {
+        return new DefaultUploadMediaChunkUseCase(mediaUploadGateway);
+    }
+
+    @Bean
+    public CommitMediaUploadUseCase commitMediaUploadUseCase() {
+        return new DefaultCommitMediaUploadUseCase(videoGateway, mediaResourceGateway, mediaUploadGateway, encodingJobGateway);
+    }
+
+    @Bean
+    public EncodeMediaUseCase encodeMediaUseCase() {
+        return new DefaultEncodeMediaUseCase(videoGateway, encodingJobGateway, mediaEncoder);
+    }
+}
@@ -0,0 +1,210 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UUIDUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes the whole catalog as newline delimited JSON, one line per category, genre (with the identifiers of its
+ * categories) and cast member, each tagged with its {@code resource}.
+ * <p>
+ * Every table is read through a single query whose rows are fetched {@code fetchSize} at a time (a server-side
+ * cursor on MySQL, see {@code useCursorFetch}) and written straight to the stream with a {@link JsonGenerator}, so
+ * memory stays the same however big the catalog is. All the queries run in one read-only transaction and therefore
+ * see the same snapshot.
+ */
+@Component
+public class CatalogExporter {
+
+    private static final String SELECT_CATEGORIES = """
+            SELECT id, name, description, active, created_at, updated_at, deleted_at
+            FROM category ORDER BY id
+            """;
+
+    private static final String SELECT_GENRES = """
+            SELECT g.id, g.name, g.active, g.created_at, g.updated_at, g.deleted_at, gc.category_id
+            FROM genres g LEFT JOIN genres_categories gc ON gc.genre_id = g.id
+            ORDER BY g.id
+            """;
+
+    private static final String SELECT_CAST_MEMBERS = """
+            SELECT id, name, type, created_at, updated_at
+            FROM cast_members ORDER BY id
+            """;
+
+    private final JsonFactory jsonFactory = Json.mapper().getFactory();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public CatalogExporter(
+            final DataSource dataSource,
+            final PlatformTransactionManager transactionManager,
+            @Value("${catalog-export.fetch-size:1000}") final int fetchSize
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Writes the catalog to {@code out}, which is flushed but left open.
+     */
+    public void export(final OutputStream out) throws IOException {
+        try (final var generator = this.jsonFactory.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            this.transactionTemplate.executeWithoutResult(status -> {
+                writeCategories(generator);
+                writeGenres(generator);
+                writeCastMembers(generator);
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeCategories(final JsonGenerator generator) {
+        this.jdbcTemplate.query(SELECT_CATEGORIES, rs -> {
+            write(generator, "category", rs, () -> {
+                generator.writeStringField("description", rs.getString("description"));
+                generator.writeBooleanField("is_active", rs.getBoolean("active"));
+                writeInstant(generator, "created_at", rs, "created_at");
+                writeInstant(generator, "updated_at", rs, "updated_at");
+                writeInstant(generator, "deleted_at", rs, "deleted_at");
+            });
+        });
+    }
+
+    private void writeGenres(final JsonGenerator generator) {
+        final var current = new GenreRow[1];
+
+        this.jdbcTemplate.query(SELECT_GENRES, rs -> {
+            final var id = rs.getBytes("id");
+            if (current[0] == null || !Arrays.equals(current[0].id, id)) {
+                if (current[0] != null) {
+                    current[0].write(generator);
+                }
+                current[0] = GenreRow.from(rs);
+            }
+            final var categoryId = rs.getBytes("category_id");
+            if (categoryId != null) {
+                current[0].categories.add(UUIDUtils.fromBytes(categoryId));
+            }
+        });
+
+        if (current[0] != null) {
+            current[0].write(generator);
+        }
+    }
+
+    private void writeCastMembers(final JsonGenerator generator) {
+        this.jdbcTemplate.query(SELECT_CAST_MEMBERS, rs -> {
+            write(generator, "cast_member", rs, () -> {
+                generator.writeStringField("type", rs.getString("type"));
+                writeInstant(generator, "created_at", rs, "created_at");
+                writeInstant(generator, "updated_at", rs, "updated_at");
+            });
+        });
+    }
+
+    private static void write(
+            final JsonGenerator generator,
+            final String resource,
+            final ResultSet rs,
+            final Fields fields
+    ) throws SQLException {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("resource", resource);
+            generator.writeStringField("id", UUIDUtils.fromBytes(rs.getBytes("id")));
+            generator.writeStringField("name", rs.getString("name"));
+            fields.write();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeInstant(
+            final JsonGenerator generator,
+            final String field,
+            final ResultSet rs,
+            final String column
+    ) throws IOException, SQLException {
+        final var value = rs.getTimestamp(column);
+        generator.writeStringField(field, value != null ? value.toInstant().toString() : null);
+    }
+
+    @FunctionalInterface
+    private interface Fields {
+        void write() throws IOException, SQLException;
+    }
+
+    /**
+     * The columns of a genre, kept while the rows of its categories are read.
+     */
+    private record GenreRow(
+            byte[] id,
+            String name,
+            boolean active,
+            String createdAt,
+            String updatedAt,
+            String deletedAt,
+            List<String> categories
+    ) {
+
+        static GenreRow from(final ResultSet rs) throws SQLException {
+            final var deletedAt = rs.getTimestamp("deleted_at");
+            return new GenreRow(
+                    rs.getBytes("id"),
+                    rs.getString("name"),
+                    rs.getBoolean("active"),
+                    rs.getTimestamp("created_at").toInstant().toString(),
+                    rs.getTimestamp("updated_at").toInstant().toString(),
+                    deletedAt != null ? deletedAt.toInstant().toString() : null,
+                    new ArrayList<>()
+            );
+        }
+
+        void write(final JsonGenerator generator) {
+            try {
+                generator.writeStartObject();
+                generator.writeStringField("resource", "genre");
+                generator.writeStringField("id", UUIDUtils.fromBytes(id));
+                generator.writeStringField("name", name);
+                generator.writeArrayFieldStart("categories_id");
+                for (final var aCategoryId : categories) {
+                    generator.writeString(aCategoryId);
+                }
+                generator.writeEndArray();
+                generator.writeBooleanField("is_active", active);
+                generator.writeStringField("created_at", createdAt);
+                generator.writeStringField("updated_at", updatedAt);
+                generator.writeStringField("deleted_at", deletedAt);
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre;
+
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.cache.AggregateCache;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serves {@link #findById(GenreID)} from an {@link AggregateCache} and forwards everything else to the
+ * {@link GenreMySQLGateway}, dropping the cached entry of every aggregate it writes or fails to update. A delete also
+ * drops the cached videos linked to the genre, as the database removes those links with it.
+ */
+@Primary
+@Component
+public class CachedGenreGateway implements GenreGateway {
+
+    private final GenreMySQLGateway delegate;
+    private final AggregateCache<GenreID, Genre> cache;
+    private final AggregateCache<VideoID, Video> videoCache;
+
+    public CachedGenreGateway(
+            final GenreMySQLGateway delegate,
+            final AggregateCache<GenreID, Genre> cache,
+            final AggregateCache<VideoID, Video> videoCache
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.videoCache = Objects.requireNonNull(videoCache);
+    }
+
+    @Override
+    public Genre create(final Genre aGenre) {
+        final var result = this.delegate.create(aGenre);
+        this.cache.invalidate(aGenre.getId());
+        return result;
+    }
+
+    @Override
+    public List<Genre> createAll(final List<Genre> aGenres) {
+        final var result = this.delegate.createAll(aGenres);
+        aGenres.forEach(aGenre -> this.cache.invalidate(aGenre.getId()));
+        return result;
+    }
+
+    @Override
+    public List<Genre> upsertAll(final List<Genre> aGenres) {
+        final var result = this.delegate.upsertAll(aGenres);
+        aGenres.forEach(aGenre -> this.cache.invalidate(aGenre.getId()));
+        return result;
+    }
+
+    @Override
+    public void deleteById(final GenreID anId) {
+        this.delegate.deleteById(anId);
+        this.cache.invalidate(anId);
+        this.videoCache.invalidateIf(aVideo -> aVideo.getGenres().contains(anId));
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID anId) {
+        return this.cache.get(anId, this.delegate::findById);
+    }
+
+    @Override
+    public Genre update(final Genre aGenre) {
+        try {
+            return this.delegate.update(aGenre);
+        } finally {
+            this.cache.invalidate(aGenre.getId());
+        }
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public List<GenreID> existsByIds(final Iterable<GenreID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+}
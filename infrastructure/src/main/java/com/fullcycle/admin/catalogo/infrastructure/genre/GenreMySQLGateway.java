@@ -1,45 +1,109 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre;
 
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.cache.ExistenceCache;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreBatchRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreCategoryID;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxRepository;
+import com.fullcycle.admin.catalogo.infrastructure.typeahead.TypeaheadIndex;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetPagination;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationsUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.fullcycle.admin.catalogo.infrastructure.video.index.VideoBitmapIndex;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-
-import static org.springframework.data.jpa.domain.Specification.where;
+import java.util.stream.Collectors;
 
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
     private final GenreRepository genreRepository;
-
-    public GenreMySQLGateway(GenreRepository genreRepository) {
+    private final GenreBatchRepository batchRepository;
+    private final KeysetPagination<GenreJpaEntity> keysetPagination;
+    private final ExistenceCache existenceCache;
+    private final TypeaheadIndex typeaheadIndex;
+    private final OutboxRepository outboxRepository;
+    private final VideoBitmapIndex videoIndex;
+
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final GenreBatchRepository batchRepository,
+            final EntityManager entityManager,
+            final ExistenceCache existenceCache,
+            final TypeaheadIndex typeaheadIndex,
+            final OutboxRepository outboxRepository,
+            final VideoBitmapIndex videoIndex
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.batchRepository = Objects.requireNonNull(batchRepository);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
+        this.typeaheadIndex = Objects.requireNonNull(typeaheadIndex);
+        this.outboxRepository = Objects.requireNonNull(outboxRepository);
+        this.videoIndex = Objects.requireNonNull(videoIndex);
+        this.keysetPagination = new KeysetPagination<>(entityManager, GenreJpaEntity.class);
     }
 
     @Override
+    @Transactional
     public Genre create(final Genre aGenre) {
-        return save(aGenre);
+        final var result = save(aGenre);
+        this.outboxRepository.appendPending(List.of(aGenre));
+        this.existenceCache.invalidate(aGenre.getId());
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public List<Genre> createAll(final List<Genre> aGenres) {
+        this.batchRepository.insertAll(aGenres);
+        this.outboxRepository.appendPending(aGenres);
+        return written(aGenres);
     }
 
     @Override
+    @Transactional
+    public List<Genre> upsertAll(final List<Genre> aGenres) {
+        this.batchRepository.upsertAll(aGenres);
+        this.outboxRepository.appendWritten(aGenres);
+        return written(aGenres);
+    }
+
+    private List<Genre> written(final List<Genre> aGenres) {
+        aGenres.forEach(aGenre -> {
+            this.existenceCache.invalidate(aGenre.getId());
+            this.typeaheadIndex.put(TypeaheadIndex.Type.GENRE, aGenre.getId(), aGenre.getName());
+        });
+        return aGenres;
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final GenreID anId) {
         final var aGenreId = anId.getValue();
         if (this.genreRepository.existsById(aGenreId)){
             genreRepository.deleteById(aGenreId);
+            this.outboxRepository.append(List.of(DomainEvent.deleted(Genre.class, anId)));
+            this.videoIndex.removeGenre(anId);
         }
-
+        this.existenceCache.invalidate(anId);
+        this.typeaheadIndex.remove(TypeaheadIndex.Type.GENRE, anId);
     }
 
     @Override
@@ -49,44 +113,67 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     @Override
+    @Transactional
     public Genre update(final Genre aGenre) {
-        return save(aGenre);
+        if (this.genreRepository.updateIfVersion(GenreJpaEntity.from(aGenre)) != 1) {
+            throw ConflictException.with(Genre.class, aGenre.getId(), aGenre.getVersion());
+        }
+        this.batchRepository.replaceCategories(aGenre);
+        this.outboxRepository.appendWritten(List.of(aGenre));
+        this.typeaheadIndex.put(TypeaheadIndex.Type.GENRE, aGenre.getId(), aGenre.getName());
+        return Genre.with(aGenre, aGenre.getVersion() + 1);
     }
 
     @Override
     public Pagination<Genre> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-
-        final var where = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
-
-        final var pageResult =
-                this.genreRepository.findAll(where(where), page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList()
-        );
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank());
+        final var where = terms.map(this::assembleSpecification).orElse(null);
+        final var relevance = terms.map(this::assembleRanking).orElse(null);
+
+        final var aPage = this.keysetPagination.findAll(where, relevance, aQuery);
+        final var categories = categoriesOf(aPage.items());
+        return aPage.map(anEntity ->
+                anEntity.toAggregate(categories.getOrDefault(anEntity.getId(), new ArrayList<>())));
     }
 
     @Override
-    public List<GenreID> existsByIds(Iterable<GenreID> ids) {
-        throw new UnsupportedOperationException();
+    public List<GenreID> existsByIds(final Iterable<GenreID> ids) {
+        return this.existenceCache.existing(ids, chunk -> {
+            final var values = chunk.stream().map(GenreID::getValue).toList();
+            return this.genreRepository.existsByIds(values).stream()
+                    .map(GenreID::from)
+                    .toList();
+        });
+    }
+
+    /**
+     * The categories of a whole page with one query, reading only the identifiers from {@code genres_categories}.
+     */
+    private Map<String, List<CategoryID>> categoriesOf(final List<GenreJpaEntity> genres) {
+        if (genres.isEmpty()) {
+            return Map.of();
+        }
+
+        final var ids = genres.stream().map(GenreJpaEntity::getId).toList();
+        return this.genreRepository.findCategoryIds(ids).stream()
+                .collect(Collectors.groupingBy(
+                        GenreCategoryID::getGenreId,
+                        Collectors.mapping(anId -> CategoryID.from(anId.getCategoryId()), Collectors.toCollection(ArrayList::new))
+                ));
     }
 
     private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationsUtils.like("name", terms);
+        return SpecificationsUtils.matches(terms, "name");
+    }
+
+    private KeysetPagination.Ranking<GenreJpaEntity> assembleRanking(final String terms) {
+        return SpecificationsUtils.relevance(terms, "name");
     }
 
     private Genre save(final Genre aGenre) {
-        return this.genreRepository.save(GenreJpaEntity.from(aGenre)).toAggregate();
+        final var result = this.genreRepository.save(GenreJpaEntity.from(aGenre)).toAggregate();
+        this.typeaheadIndex.put(TypeaheadIndex.Type.GENRE, result.getId(), result.getName());
+        return result;
     }
 }
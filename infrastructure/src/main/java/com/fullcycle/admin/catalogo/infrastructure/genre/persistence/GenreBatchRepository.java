@@ -0,0 +1,130 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
+
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UUIDUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Inserts or upserts many genres, and the categories they belong to, with a fixed number of JDBC batches whatever
+ * the number of genres.
+ */
+@Repository
+public class GenreBatchRepository {
+
+    private static final String INSERT_GENRE = """
+            INSERT INTO genres (id, name, active, created_at, updated_at, deleted_at, version)
+            VALUES (:id, :name, :active, :createdAt, :updatedAt, :deletedAt, :version)
+            """;
+
+    private static final String UPDATE_GENRE = """
+            UPDATE genres SET name = :name, active = :active, updated_at = :updatedAt, deleted_at = :deletedAt,
+                version = version + 1
+            WHERE id = :id
+            """;
+
+    private static final String SELECT_IDS = "SELECT id FROM genres WHERE id IN (:ids)";
+
+    private static final String DELETE_GENRE_CATEGORIES =
+            "DELETE FROM genres_categories WHERE genre_id IN (:ids)";
+
+    private static final String INSERT_GENRE_CATEGORY =
+            "INSERT INTO genres_categories (genre_id, category_id) VALUES (:genreId, :categoryId)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public GenreBatchRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    public void insertAll(final List<Genre> aGenres) {
+        if (aGenres.isEmpty()) {
+            return;
+        }
+
+        batch(INSERT_GENRE, aGenres);
+        insertCategories(aGenres);
+    }
+
+    /**
+     * Replaces the categories of a genre whose own row was already written.
+     */
+    public void replaceCategories(final Genre aGenre) {
+        this.jdbcTemplate.update(DELETE_GENRE_CATEGORIES,
+                new MapSqlParameterSource("ids", List.of(UUIDUtils.toBytes(aGenre.getId().getValue()))));
+        insertCategories(List.of(aGenre));
+    }
+
+    /**
+     * Inserts the genres that do not exist yet and overwrites the others, keeping their creation date and replacing
+     * their categories.
+     */
+    public void upsertAll(final List<Genre> aGenres) {
+        if (aGenres.isEmpty()) {
+            return;
+        }
+
+        final var ids = aGenres.stream()
+                .map(aGenre -> UUIDUtils.toBytes(aGenre.getId().getValue()))
+                .toList();
+        final var stored = new HashSet<>(this.jdbcTemplate.query(
+                SELECT_IDS,
+                new MapSqlParameterSource("ids", ids),
+                (rs, rowNum) -> UUIDUtils.fromBytes(rs.getBytes("id"))
+        ));
+        final var byStored = aGenres.stream()
+                .collect(Collectors.partitioningBy(aGenre ->
+                        stored.contains(UUIDUtils.fromBytes(UUIDUtils.toBytes(aGenre.getId().getValue())))));
+
+        batch(UPDATE_GENRE, byStored.get(true));
+        batch(INSERT_GENRE, byStored.get(false));
+        this.jdbcTemplate.update(DELETE_GENRE_CATEGORIES, new MapSqlParameterSource("ids", ids));
+        insertCategories(aGenres);
+    }
+
+    private void batch(final String sql, final List<Genre> aGenres) {
+        if (aGenres.isEmpty()) {
+            return;
+        }
+        this.jdbcTemplate.batchUpdate(sql, aGenres.stream()
+                .map(GenreBatchRepository::row)
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    private void insertCategories(final List<Genre> aGenres) {
+        final var categories = aGenres.stream()
+                .flatMap(aGenre -> aGenre.getCategories().stream()
+                        .<SqlParameterSource>map(aCategoryId -> new MapSqlParameterSource()
+                                .addValue("genreId", UUIDUtils.toBytes(aGenre.getId().getValue()))
+                                .addValue("categoryId", UUIDUtils.toBytes(aCategoryId.getValue()))))
+                .toArray(SqlParameterSource[]::new);
+        if (categories.length > 0) {
+            this.jdbcTemplate.batchUpdate(INSERT_GENRE_CATEGORY, categories);
+        }
+    }
+
+    private static SqlParameterSource row(final Genre aGenre) {
+        return new MapSqlParameterSource()
+                .addValue("id", UUIDUtils.toBytes(aGenre.getId().getValue()))
+                .addValue("name", aGenre.getName())
+                .addValue("active", aGenre.isActive())
+                .addValue("createdAt", timestamp(aGenre.getCreatedAt()), Types.TIMESTAMP)
+                .addValue("updatedAt", timestamp(aGenre.getUpdatedAt()), Types.TIMESTAMP)
+                .addValue("deletedAt", timestamp(aGenre.getDeletedAt()), Types.TIMESTAMP)
+                .addValue("version", aGenre.getVersion());
+    }
+
+    private static Timestamp timestamp(final Instant anInstant) {
+        return anInstant != null ? Timestamp.from(anInstant) : null;
+    }
+}
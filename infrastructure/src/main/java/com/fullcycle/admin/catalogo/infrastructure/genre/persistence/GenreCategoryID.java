@@ -1,5 +1,8 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.utils.UUIDBinaryType;
+import org.hibernate.annotations.Type;
+
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import java.io.Serializable;
@@ -8,8 +11,10 @@ import java.util.Objects;
 @Embeddable
 public class GenreCategoryID implements Serializable {
 
+    @Type(type = UUIDBinaryType.TYPE)
     @Column(name = "genre_id", nullable = false)
     private String genreId;
+    @Type(type = UUIDBinaryType.TYPE)
     @Column(name = "category_id", nullable = false)
     private String categoryId;
 
@@ -3,6 +3,8 @@ package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UUIDBinaryType;
+import org.hibernate.annotations.Type;
 
 import javax.persistence.*;
 import java.time.Instant;
@@ -15,6 +17,7 @@ import java.util.Set;
 public class GenreJpaEntity {
 
     @Id
+    @Type(type = UUIDBinaryType.TYPE)
     @Column(name = "id", nullable = false)
     private String id;
 
@@ -23,7 +26,7 @@ public class GenreJpaEntity {
     @Column(name = "active", nullable = false)
     private boolean active;
 
-    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
@@ -32,6 +35,8 @@ public class GenreJpaEntity {
     private Instant updatedAt;
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
+    @Column(name = "version", nullable = false)
+    private long version;
 
 
     public GenreJpaEntity(){}
@@ -42,7 +47,8 @@ public class GenreJpaEntity {
             final boolean isActive,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ){
         this.id = anId;
         this.name = aName;
@@ -51,6 +57,7 @@ public class GenreJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static GenreJpaEntity from(final Genre aGenre){
@@ -60,21 +67,30 @@ public class GenreJpaEntity {
                 aGenre.isActive(),
                 aGenre.getCreatedAt(),
                 aGenre.getUpdatedAt(),
-                aGenre.getDeletedAt()
+                aGenre.getDeletedAt(),
+                aGenre.getVersion()
         );
         aGenre.getCategories().forEach(anEntity::addCategories);
         return anEntity;
     }
 
     public Genre toAggregate(){
+        return toAggregate(getCategoryIDs());
+    }
+
+    /**
+     * Builds the aggregate with categories that were fetched apart, without loading {@link #getCategories()}.
+     */
+    public Genre toAggregate(final List<CategoryID> categories){
         return Genre.with(
                 GenreID.from(getId()),
                 getName(),
                 isActive(),
-                getCategoryIDs(),
+                categories,
                 getCreatedAt(),
                 getUpdatedAt(),
-                getDeletedAt()
+                getDeletedAt(),
+                getVersion()
         );
     }
 
@@ -145,4 +161,12 @@ public class GenreJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
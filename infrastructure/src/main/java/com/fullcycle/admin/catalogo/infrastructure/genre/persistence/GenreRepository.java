@@ -4,11 +4,49 @@ package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+
+    @Override
+    @EntityGraph(attributePaths = "categories")
+    Optional<GenreJpaEntity> findById(String id);
+
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
 
+    @Query("select g.id from GenreJpaEntity g where g.id in :ids")
+    List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query("select gc.id from GenreCategoryJpaEntity gc where gc.id.genreId in :genreIds")
+    List<GenreCategoryID> findCategoryIds(@Param("genreIds") Collection<String> genreIds);
+
+    /**
+     * Overwrites the stored genre, but not its categories, as a single statement, only if it is still at the
+     * version {@code genre} was read at. Pending changes are flushed before it, and the persistence context is
+     * cleared after it, so no stale entity outlives the update.
+     *
+     * @return the number of updated rows, 0 when the genre was changed or deleted in the meantime
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update GenreJpaEntity g set
+                g.name = :#{#genre.name},
+                g.active = :#{#genre.active},
+                g.updatedAt = :#{#genre.updatedAt},
+                g.deletedAt = :#{#genre.deletedAt},
+                g.version = g.version + 1
+            where g.id = :#{#genre.id} and g.version = :#{#genre.version}
+            """)
+    int updateIfVersion(@Param("genre") GenreJpaEntity genre);
+
 }
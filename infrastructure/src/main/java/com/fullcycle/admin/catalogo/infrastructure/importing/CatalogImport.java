@@ -0,0 +1,108 @@
+package com.fullcycle.admin.catalogo.infrastructure.importing;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The state of an import: how far into its file it has been committed ({@code offset} is the byte right after the
+ * last committed line) and what was imported or rejected up to there. Only the first {@value #MAX_ERRORS} rejected
+ * lines keep their errors.
+ */
+public record CatalogImport(
+        @JsonProperty("id") String id,
+        @JsonProperty("status") Status status,
+        @JsonProperty("offset") long offset,
+        @JsonProperty("lines") long lines,
+        @JsonProperty("imported") long imported,
+        @JsonProperty("rejected") long rejected,
+        @JsonProperty("errors") List<LineError> errors,
+        @JsonProperty("failure") String failure,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt
+) {
+
+    public static final int MAX_ERRORS = 100;
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    public record LineError(
+            @JsonProperty("line") long line,
+            @JsonProperty("errors") List<Error> errors
+    ) {
+    }
+
+    public static CatalogImport newImport(final String anId) {
+        final var now = InstantUtils.now();
+        return new CatalogImport(anId, Status.PENDING, 0, 0, 0, 0, List.of(), null, now, now);
+    }
+
+    public boolean isUnfinished() {
+        return status == Status.PENDING || status == Status.RUNNING;
+    }
+
+    public CatalogImport pending() {
+        return withStatus(Status.PENDING, null);
+    }
+
+    public CatalogImport running() {
+        return withStatus(Status.RUNNING, null);
+    }
+
+    public CatalogImport completed() {
+        return withStatus(Status.COMPLETED, null);
+    }
+
+    public CatalogImport failed(final String aFailure) {
+        return withStatus(Status.FAILED, aFailure);
+    }
+
+    /**
+     * Records a committed batch: the file has been consumed up to {@code anOffset}, which ends line {@code aLine}.
+     */
+    public CatalogImport checkpoint(
+            final long anOffset,
+            final long aLine,
+            final long anImported,
+            final List<LineError> aRejected
+    ) {
+        final var allErrors = new ArrayList<>(errors);
+        aRejected.stream()
+                .limit(Math.max(0, MAX_ERRORS - allErrors.size()))
+                .forEach(allErrors::add);
+
+        return new CatalogImport(
+                id,
+                status,
+                anOffset,
+                aLine,
+                imported + anImported,
+                rejected + aRejected.size(),
+                List.copyOf(allErrors),
+                failure,
+                createdAt,
+                InstantUtils.now()
+        );
+    }
+
+    private CatalogImport withStatus(final Status aStatus, final String aFailure) {
+        return new CatalogImport(
+                id,
+                aStatus,
+                offset,
+                lines,
+                imported,
+                rejected,
+                errors,
+                aFailure,
+                createdAt,
+                InstantUtils.now()
+        );
+    }
+}
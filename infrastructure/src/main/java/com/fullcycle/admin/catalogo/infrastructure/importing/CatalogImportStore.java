@@ -0,0 +1,123 @@
+package com.fullcycle.admin.catalogo.infrastructure.importing;
+
+import com.fullcycle.admin.catalogo.domain.IdentifierGenerator;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Keeps each import under {@code <root>/<importId>}: the uploaded file in {@code data.ndjson} and its state in
+ * {@code import.json}, which is replaced atomically on every save so that a crash leaves either the previous or
+ * the next checkpoint, never a torn one.
+ */
+@Component
+public class CatalogImportStore {
+
+    private static final String DESCRIPTOR = "import.json";
+    private static final String DATA = "data.ndjson";
+
+    private final Path root;
+
+    public CatalogImportStore(
+            @Value("${storage.imports.location:${java.io.tmpdir}/catalogo/imports}") final String root
+    ) {
+        this.root = Path.of(Objects.requireNonNull(root)).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Copies {@code aContent} to disk, without holding it in memory, and registers a pending import for it.
+     */
+    public CatalogImport create(final InputStream aContent) {
+        final var anImport = CatalogImport.newImport(IdentifierGenerator.timeOrdered().generate().toString());
+        final var directory = importDirectory(anImport.id());
+
+        try {
+            Files.createDirectories(directory);
+            Files.copy(aContent, directory.resolve(DATA));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return save(anImport);
+    }
+
+    public CatalogImport save(final CatalogImport anImport) {
+        final var directory = importDirectory(anImport.id());
+
+        try {
+            final var temporary = Files.createTempFile(directory, DESCRIPTOR, ".tmp");
+            Files.writeString(temporary, Json.writeValueAsString(anImport), StandardCharsets.UTF_8);
+            Files.move(temporary, directory.resolve(DESCRIPTOR),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return anImport;
+    }
+
+    public Optional<CatalogImport> findById(final String anId) {
+        final Path descriptor;
+        try {
+            descriptor = importDirectory(anId).resolve(DESCRIPTOR);
+        } catch (final IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Json.readValue(Files.readString(descriptor, StandardCharsets.UTF_8), CatalogImport.class));
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The imports that are pending or were running when the application stopped, oldest first.
+     */
+    public List<CatalogImport> findUnfinished() {
+        final var unfinished = new ArrayList<CatalogImport>();
+
+        try (final var directories = Files.newDirectoryStream(this.root, Files::isDirectory)) {
+            for (final var directory : directories) {
+                findById(directory.getFileName().toString())
+                        .filter(CatalogImport::isUnfinished)
+                        .ifPresent(unfinished::add);
+            }
+        } catch (final NoSuchFileException e) {
+            return unfinished;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        unfinished.sort(Comparator.comparing(CatalogImport::createdAt));
+        return unfinished;
+    }
+
+    public Path data(final CatalogImport anImport) {
+        return importDirectory(anImport.id()).resolve(DATA);
+    }
+
+    private Path importDirectory(final String anId) {
+        final var directory = this.root.resolve(anId).normalize();
+        if (!this.root.equals(directory.getParent())) {
+            throw new IllegalArgumentException("Invalid import id: " + anId);
+        }
+        return directory;
+    }
+}
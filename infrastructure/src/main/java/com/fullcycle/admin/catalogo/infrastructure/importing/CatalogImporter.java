@@ -0,0 +1,580 @@
+package com.fullcycle.admin.catalogo.infrastructure.importing;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports newline delimited JSON in the format written by the catalog export, one import at a time on a single
+ * background thread.
+ * <p>
+ * The file is read one line at a time and every line is parsed with a streaming parser, turned into its aggregate
+ * and validated like any other write; rejected lines are counted and reported with their errors. Valid lines are
+ * upserted {@code batchSize} at a time in a single transaction, and only then is the next batch read, so memory is
+ * bounded by one batch whatever the size of the file. After every commit the import records the offset it reached:
+ * an import that fails, or that was running when the application stopped, goes on from its last checkpoint. Since
+ * writes are upserts, the lines of a batch that was committed without its checkpoint can safely be replayed.
+ * <p>
+ * A genre may only reference categories that already exist or that come before it in the file.
+ */
+@Component
+public class CatalogImporter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogImporter.class);
+
+    private final CatalogImportStore catalogImportStore;
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxLineLength;
+    private final JsonFactory jsonFactory = Json.mapper().getFactory();
+    private final Set<String> submitted = ConcurrentHashMap.newKeySet();
+
+    private volatile ExecutorService executor;
+
+    public CatalogImporter(
+            final CatalogImportStore catalogImportStore,
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            final PlatformTransactionManager transactionManager,
+            @Value("${imports.batch-size:500}") final int batchSize,
+            @Value("${imports.max-line-length:1048576}") final int maxLineLength
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'batchSize' should be greater than zero");
+        }
+        this.catalogImportStore = Objects.requireNonNull(catalogImportStore);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (isRunning()) {
+            return;
+        }
+
+        this.executor = Executors.newSingleThreadExecutor(task -> {
+            final var thread = new Thread(task, "catalog-importer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            this.catalogImportStore.findUnfinished().forEach(anImport -> submit(anImport.id()));
+        } catch (final RuntimeException e) {
+            log.warn("Could not load the unfinished catalog imports", e);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!isRunning()) {
+            return;
+        }
+
+        this.executor.shutdownNow();
+        try {
+            this.executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.submitted.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        final var executor = this.executor;
+        return executor != null && !executor.isShutdown();
+    }
+
+    public void submit(final String anId) {
+        final var executor = this.executor;
+        if (executor == null || executor.isShutdown() || !this.submitted.add(anId)) {
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                run(anId);
+            } finally {
+                this.submitted.remove(anId);
+            }
+        });
+    }
+
+    /**
+     * Submits a failed import again, to go on from its last checkpoint.
+     */
+    public CatalogImport resume(final String anId) {
+        final var anImport = this.catalogImportStore.findById(anId)
+                .orElseThrow(() -> NotFoundException.with(new Error("Catalog import with ID %s was not found".formatted(anId))));
+
+        if (anImport.status() != CatalogImport.Status.FAILED) {
+            throw DomainException.with(new Error("Only a failed import can be resumed, this one is %s".formatted(anImport.status())));
+        }
+
+        final var pending = this.catalogImportStore.save(anImport.pending());
+        submit(anId);
+        return pending;
+    }
+
+    void run(final String anId) {
+        var anImport = this.catalogImportStore.findById(anId).orElse(null);
+        if (anImport == null || !anImport.isUnfinished()) {
+            return;
+        }
+
+        anImport = this.catalogImportStore.save(anImport.running());
+
+        try (final var reader = new LineReader(
+                FileChannel.open(this.catalogImportStore.data(anImport), StandardOpenOption.READ),
+                anImport.offset(),
+                this.maxLineLength
+        )) {
+            var batch = new Batch(anImport.offset(), anImport.lines());
+            LineReader.Line line;
+            while ((line = reader.next()) != null) {
+                read(line, batch);
+                if (batch.size() >= this.batchSize) {
+                    anImport = commit(anImport, batch);
+                    batch = new Batch(anImport.offset(), anImport.lines());
+                }
+            }
+
+            if (batch.lastLine > anImport.lines()) {
+                anImport = commit(anImport, batch);
+            }
+            this.catalogImportStore.save(anImport.completed());
+        } catch (final IOException | RuntimeException e) {
+            if (!isRunning() && this.executor != null) {
+                log.info("Catalog import {} interrupted at line {}, it will go on at the next start", anId, anImport.lines());
+                return;
+            }
+            log.warn("Catalog import {} failed at line {}", anId, anImport.lines(), e);
+            this.catalogImportStore.save(anImport.failed(Objects.requireNonNullElse(e.getMessage(), e.getClass().getName())));
+        }
+    }
+
+    private void read(final LineReader.Line aLine, final Batch aBatch) {
+        final var number = aBatch.advance(aLine.end());
+
+        if (aLine.isBlank()) {
+            return;
+        }
+        if (aLine.isTooLong()) {
+            aBatch.reject(number, new Error("Line is longer than %d bytes".formatted(this.maxLineLength)));
+            return;
+        }
+
+        final Row row;
+        try {
+            row = parse(aLine.content());
+        } catch (final JsonProcessingException e) {
+            aBatch.reject(number, new Error("Malformed JSON: " + e.getOriginalMessage()));
+            return;
+        } catch (final IOException e) {
+            aBatch.reject(number, new Error("Malformed JSON: " + e.getMessage()));
+            return;
+        }
+
+        final var notification = Notification.create();
+        if (row.resource == null) {
+            aBatch.reject(number, new Error("'resource' should not be null"));
+            return;
+        }
+
+        switch (row.resource) {
+            case "category" -> {
+                final var aCategory = toCategory(row, notification);
+                if (!notification.hasError()) {
+                    aBatch.categories.add(new Entry<>(number, aCategory));
+                }
+            }
+            case "genre" -> {
+                final var aGenre = toGenre(row, notification);
+                if (!notification.hasError()) {
+                    aBatch.genres.add(new Entry<>(number, aGenre));
+                }
+            }
+            case "cast_member" -> {
+                final var aMember = toCastMember(row, notification);
+                if (!notification.hasError()) {
+                    aBatch.castMembers.add(new Entry<>(number, aMember));
+                }
+            }
+            default -> notification.append(new Error("Unknown resource: %s".formatted(row.resource)));
+        }
+
+        if (notification.hasError()) {
+            aBatch.reject(number, notification.getErrors());
+        }
+    }
+
+    private static Category toCategory(final Row row, final Notification notification) {
+        final var anId = identifier("id", row.id, notification);
+        final var now = InstantUtils.now();
+        final var createdAt = instant("created_at", row.createdAt, now, notification);
+        final var updatedAt = instant("updated_at", row.updatedAt, now, notification);
+        final var deletedAt = instant("deleted_at", row.deletedAt, null, notification);
+        if (notification.hasError()) {
+            return null;
+        }
+
+        final var aCategory = Category.with(
+                CategoryID.from(anId),
+                row.name,
+                row.description,
+                Objects.requireNonNullElse(row.active, true),
+                createdAt,
+                updatedAt,
+                deletedAt
+        );
+        aCategory.validate(notification);
+        return aCategory;
+    }
+
+    private static Genre toGenre(final Row row, final Notification notification) {
+        final var anId = identifier("id", row.id, notification);
+        final var categories = new ArrayList<CategoryID>();
+        for (final var aCategoryId : row.categories) {
+            final var aValue = identifier("categories_id", aCategoryId, notification);
+            if (aValue != null) {
+                categories.add(CategoryID.from(aValue));
+            }
+        }
+        final var now = InstantUtils.now();
+        final var createdAt = instant("created_at", row.createdAt, now, notification);
+        final var updatedAt = instant("updated_at", row.updatedAt, now, notification);
+        final var deletedAt = instant("deleted_at", row.deletedAt, null, notification);
+        if (notification.hasError()) {
+            return null;
+        }
+
+        return notification.validate(() -> Genre.with(
+                GenreID.from(anId),
+                row.name,
+                Objects.requireNonNullElse(row.active, true),
+                categories,
+                createdAt,
+                updatedAt,
+                deletedAt
+        ));
+    }
+
+    private static CastMember toCastMember(final Row row, final Notification notification) {
+        final var anId = identifier("id", row.id, notification);
+        final var aType = type(row.type, notification);
+        final var now = InstantUtils.now();
+        final var createdAt = instant("created_at", row.createdAt, now, notification);
+        final var updatedAt = instant("updated_at", row.updatedAt, now, notification);
+        if (notification.hasError()) {
+            return null;
+        }
+
+        return notification.validate(() -> CastMember.with(
+                CastMemberID.from(anId),
+                row.name,
+                aType,
+                createdAt,
+                updatedAt
+        ));
+    }
+
+    /**
+     * Imported identifiers must be canonical UUIDs, so that they are stored as they were written.
+     */
+    private static String identifier(final String aField, final String aValue, final Notification notification) {
+        if (aValue == null) {
+            notification.append(new Error("'%s' should not be null".formatted(aField)));
+            return null;
+        }
+
+        try {
+            final var anId = UUID.fromString(aValue).toString();
+            if (anId.equalsIgnoreCase(aValue)) {
+                return anId;
+            }
+        } catch (final IllegalArgumentException ignored) {
+            // reported below
+        }
+        notification.append(new Error("'%s' should be a UUID but was %s".formatted(aField, aValue)));
+        return null;
+    }
+
+    private static Instant instant(
+            final String aField,
+            final String aValue,
+            final Instant aDefault,
+            final Notification notification
+    ) {
+        if (aValue == null) {
+            return aDefault;
+        }
+
+        try {
+            return Instant.parse(aValue);
+        } catch (final DateTimeParseException e) {
+            notification.append(new Error("'%s' should be an ISO-8601 instant".formatted(aField)));
+            return null;
+        }
+    }
+
+    private static CastMemberType type(final String aValue, final Notification notification) {
+        if (aValue == null) {
+            return null;
+        }
+
+        try {
+            return CastMemberType.valueOf(aValue.toUpperCase());
+        } catch (final IllegalArgumentException e) {
+            notification.append(new Error("Unknown type: %s".formatted(aValue)));
+            return null;
+        }
+    }
+
+    private Row parse(final byte[] content) throws IOException {
+        try (final var parser = this.jsonFactory.createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "a line should hold a single JSON object");
+            }
+
+            final var row = new Row();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final var aField = parser.getCurrentName();
+                parser.nextToken();
+                switch (aField) {
+                    case "resource" -> row.resource = text(parser);
+                    case "id" -> row.id = text(parser);
+                    case "name" -> row.name = text(parser);
+                    case "description" -> row.description = text(parser);
+                    case "is_active" -> row.active = bool(parser);
+                    case "categories_id" -> row.categories = texts(parser);
+                    case "type" -> row.type = text(parser);
+                    case "created_at" -> row.createdAt = text(parser);
+                    case "updated_at" -> row.updatedAt = text(parser);
+                    case "deleted_at" -> row.deletedAt = text(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (parser.nextToken() != null) {
+                throw new JsonParseException(parser, "a line should hold a single JSON object");
+            }
+            return row;
+        }
+    }
+
+    private static String text(final JsonParser parser) throws IOException {
+        final var token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, "'%s' should be a value".formatted(parser.getCurrentName()));
+        }
+        return parser.getValueAsString();
+    }
+
+    private static Boolean bool(final JsonParser parser) throws IOException {
+        final var token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isBoolean()) {
+            throw new JsonParseException(parser, "'%s' should be a boolean".formatted(parser.getCurrentName()));
+        }
+        return parser.getBooleanValue();
+    }
+
+    private static List<String> texts(final JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return List.of();
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "'%s' should be an array".formatted(parser.getCurrentName()));
+        }
+
+        final var values = new ArrayList<String>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(text(parser));
+        }
+        return values;
+    }
+
+    private CatalogImport commit(final CatalogImport anImport, final Batch aBatch) {
+        rejectGenresWithMissingCategories(aBatch);
+
+        long imported;
+        try {
+            this.transactionTemplate.executeWithoutResult(status -> {
+                this.categoryGateway.upsertAll(Entry.aggregates(aBatch.categories));
+                this.genreGateway.upsertAll(Entry.aggregates(aBatch.genres));
+                this.castMemberGateway.upsertAll(Entry.aggregates(aBatch.castMembers));
+            });
+            imported = aBatch.categories.size() + aBatch.genres.size() + aBatch.castMembers.size();
+        } catch (final DataIntegrityViolationException e) {
+            imported = upsertOneByOne(aBatch.categories, this.categoryGateway::upsertAll, aBatch)
+                    + upsertOneByOne(aBatch.genres, this.genreGateway::upsertAll, aBatch)
+                    + upsertOneByOne(aBatch.castMembers, this.castMemberGateway::upsertAll, aBatch);
+        }
+
+        aBatch.rejected.sort(Comparator.comparingLong(CatalogImport.LineError::line));
+        return this.catalogImportStore.save(anImport.checkpoint(aBatch.end, aBatch.lastLine, imported, aBatch.rejected));
+    }
+
+    /**
+     * Rejects the genres whose categories are neither stored nor in the batch, with one query for the whole batch.
+     */
+    private void rejectGenresWithMissingCategories(final Batch aBatch) {
+        final var inBatch = aBatch.categories.stream()
+                .map(anEntry -> anEntry.aggregate().getId())
+                .collect(Collectors.toSet());
+        final var referenced = aBatch.genres.stream()
+                .flatMap(anEntry -> anEntry.aggregate().getCategories().stream())
+                .filter(anId -> !inBatch.contains(anId))
+                .collect(Collectors.toSet());
+        if (referenced.isEmpty()) {
+            return;
+        }
+
+        final var stored = new HashSet<>(this.categoryGateway.existsByIds(referenced));
+        aBatch.genres.removeIf(anEntry -> {
+            final var missingIds = anEntry.aggregate().getCategories().stream()
+                    .filter(anId -> !inBatch.contains(anId) && !stored.contains(anId))
+                    .map(CategoryID::getValue)
+                    .collect(Collectors.joining(", "));
+            if (missingIds.isEmpty()) {
+                return false;
+            }
+            aBatch.reject(anEntry.line(), new Error("Some categories could not be found: %s".formatted(missingIds)));
+            return true;
+        });
+    }
+
+    /**
+     * Finds out which lines of a batch broke a constraint by storing them one at a time.
+     */
+    private <A> long upsertOneByOne(
+            final List<Entry<A>> entries,
+            final Function<List<A>, List<A>> upsert,
+            final Batch aBatch
+    ) {
+        long imported = 0;
+        for (final var anEntry : entries) {
+            try {
+                this.transactionTemplate.executeWithoutResult(status -> upsert.apply(List.of(anEntry.aggregate())));
+                imported++;
+            } catch (final DataIntegrityViolationException e) {
+                aBatch.reject(anEntry.line(), new Error("Could not be stored: " + e.getMostSpecificCause().getMessage()));
+            }
+        }
+        return imported;
+    }
+
+    private static final class Row {
+        String resource;
+        String id;
+        String name;
+        String description;
+        Boolean active;
+        List<String> categories = List.of();
+        String type;
+        String createdAt;
+        String updatedAt;
+        String deletedAt;
+    }
+
+    private record Entry<A>(long line, A aggregate) {
+
+        static <A> List<A> aggregates(final List<Entry<A>> entries) {
+            return entries.stream().map(Entry::aggregate).toList();
+        }
+    }
+
+    /**
+     * The lines read since the last checkpoint.
+     */
+    private static final class Batch {
+        final List<Entry<Category>> categories = new ArrayList<>();
+        final List<Entry<Genre>> genres = new ArrayList<>();
+        final List<Entry<CastMember>> castMembers = new ArrayList<>();
+        final List<CatalogImport.LineError> rejected = new ArrayList<>();
+        long end;
+        long lastLine;
+
+        Batch(final long anOffset, final long aLine) {
+            this.end = anOffset;
+            this.lastLine = aLine;
+        }
+
+        long advance(final long anEnd) {
+            this.end = anEnd;
+            return ++this.lastLine;
+        }
+
+        int size() {
+            return categories.size() + genres.size() + castMembers.size() + rejected.size();
+        }
+
+        void reject(final long aLine, final Error anError) {
+            reject(aLine, List.of(anError));
+        }
+
+        void reject(final long aLine, final List<Error> errors) {
+            this.rejected.add(new CatalogImport.LineError(aLine, List.copyOf(errors)));
+        }
+    }
+}
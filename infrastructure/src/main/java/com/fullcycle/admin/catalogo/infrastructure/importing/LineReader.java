@@ -0,0 +1,117 @@
+package com.fullcycle.admin.catalogo.infrastructure.importing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Reads a file line by line from a byte offset, keeping track of the offset right after every line so that a
+ * reader can later be reopened exactly there. Lines longer than {@code maxLength} are skipped rather than
+ * buffered, and come back without content.
+ */
+final class LineReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final int maxLength;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+    private long offset;
+
+    LineReader(final FileChannel channel, final long offset, final int maxLength) throws IOException {
+        this.channel = channel;
+        this.maxLength = maxLength;
+        this.offset = offset;
+        this.channel.position(offset);
+        this.buffer.limit(0);
+    }
+
+    /**
+     * The next line without its terminator, or {@code null} once the file is over.
+     */
+    Line next() throws IOException {
+        this.line.reset();
+        var tooLong = false;
+        var empty = true;
+
+        while (true) {
+            if (!this.buffer.hasRemaining()) {
+                this.buffer.clear();
+                final var read = this.channel.read(this.buffer);
+                this.buffer.flip();
+                if (read < 0) {
+                    return empty ? null : line(tooLong);
+                }
+                continue;
+            }
+
+            empty = false;
+            final var array = this.buffer.array();
+            final var start = this.buffer.position();
+            final var limit = this.buffer.limit();
+            var end = start;
+            while (end < limit && array[end] != '\n') {
+                end++;
+            }
+
+            final var length = end - start;
+            if (!tooLong && this.line.size() + length > this.maxLength) {
+                tooLong = true;
+                this.line.reset();
+            }
+            if (!tooLong) {
+                this.line.write(array, start, length);
+            }
+
+            if (end < limit) {
+                this.buffer.position(end + 1);
+                this.offset += length + 1;
+                return line(tooLong);
+            }
+            this.buffer.position(end);
+            this.offset += length;
+        }
+    }
+
+    private Line line(final boolean tooLong) {
+        if (tooLong) {
+            return new Line(null, this.offset);
+        }
+
+        final var bytes = this.line.toByteArray();
+        final var length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+        return new Line(length == bytes.length ? bytes : Arrays.copyOf(bytes, length), this.offset);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * @param content the bytes of the line, {@code null} when it was too long
+     * @param end     the offset right after the line and its terminator
+     */
+    record Line(byte[] content, long end) {
+
+        boolean isTooLong() {
+            return content == null;
+        }
+
+        boolean isBlank() {
+            if (content == null) {
+                return false;
+            }
+            for (final var b : content) {
+                if (!Character.isWhitespace(b)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
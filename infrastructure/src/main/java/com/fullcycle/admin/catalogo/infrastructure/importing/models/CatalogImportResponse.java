@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.infrastructure.importing.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.infrastructure.importing.CatalogImport;
+
+import java.time.Instant;
+import java.util.List;
+
+public record CatalogImportResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("status") String status,
+        @JsonProperty("lines") long lines,
+        @JsonProperty("imported") long imported,
+        @JsonProperty("rejected") long rejected,
+        @JsonProperty("errors") List<CatalogImport.LineError> errors,
+        @JsonProperty("failure") String failure,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt
+) {
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.infrastructure.importing.presenters;
+
+import com.fullcycle.admin.catalogo.infrastructure.importing.CatalogImport;
+import com.fullcycle.admin.catalogo.infrastructure.importing.models.CatalogImportResponse;
+
+public interface CatalogImportApiPresenter {
+
+    static CatalogImportResponse present(final CatalogImport anImport) {
+        return new CatalogImportResponse(
+                anImport.id(),
+                anImport.status().name(),
+                anImport.lines(),
+                anImport.imported(),
+                anImport.rejected(),
+                anImport.errors(),
+                anImport.failure(),
+                anImport.createdAt(),
+                anImport.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,190 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the stored events that come after a sequence, for consumers that poll instead of reading the
+ * {@link EventSink}. A request that finds nothing can wait for new events without holding a thread. A single poller
+ * reads the latest sequence every {@code pollInterval} and answers the waiting requests, so the database gets one
+ * query per interval however many consumers are waiting.
+ * <p>
+ * An event takes its sequence when it is stored, but it only becomes visible when its transaction commits, which
+ * may be after a later sequence commits. A consumer that moved past such a gap would never see the event. Events are
+ * therefore served only up to the first gap, until the feed has seen that gap for {@code gapTimeout}. Such an old gap
+ * is taken to be a rolled back transaction. Gaps are aged from when the feed first saw them rather than from
+ * {@link OutboxEvent#occurredOn()}: an event occurs when its aggregate records it, which may be long before a slow
+ * transaction stores and commits it.
+ */
+@Component
+public class ChangeFeed implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeed.class);
+
+    /**
+     * How many {@code gapTimeout}s a gap is remembered for. A consumer further behind than that waits for the gap once
+     * more.
+     */
+    private static final int GAP_RETENTION = 10;
+
+    private final OutboxRepository outboxRepository;
+    private final Duration pollInterval;
+    private final Duration gapTimeout;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final Map<Long, Instant> gaps = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService poller;
+
+    public ChangeFeed(
+            final OutboxRepository outboxRepository,
+            @Value("${changes.poll-interval:PT0.5S}") final Duration pollInterval,
+            @Value("${changes.gap-timeout:PT5S}") final Duration gapTimeout
+    ) {
+        this.outboxRepository = Objects.requireNonNull(outboxRepository);
+        this.pollInterval = Objects.requireNonNull(pollInterval);
+        this.gapTimeout = Objects.requireNonNull(gapTimeout);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (isRunning()) {
+            return;
+        }
+
+        this.poller = Executors.newSingleThreadScheduledExecutor(task -> {
+            final var thread = new Thread(task, "change-feed-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.poller.scheduleWithFixedDelay(this::poll, 0, this.pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!isRunning()) {
+            return;
+        }
+
+        this.poller.shutdownNow();
+        Waiter aWaiter;
+        while ((aWaiter = this.waiters.poll()) != null) {
+            aWaiter.result().complete(List.of());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        final var poller = this.poller;
+        return poller != null && !poller.isShutdown();
+    }
+
+    /**
+     * The events after {@code since}, up to {@code limit} of them. When there is none yet, the result completes when
+     * some arrive, or with no events once {@code wait} has passed.
+     */
+    public CompletableFuture<List<OutboxEvent>> changes(final long since, final int limit, final Duration wait) {
+        final var events = find(since, limit);
+        if (!events.isEmpty() || wait.isZero() || wait.isNegative()) {
+            return CompletableFuture.completedFuture(events);
+        }
+
+        final var aWaiter = new Waiter(since, limit, Instant.now().plus(wait), new CompletableFuture<>());
+        this.waiters.add(aWaiter);
+        return aWaiter.result();
+    }
+
+    void poll() {
+        final var now = Instant.now();
+        final var forgetBefore = now.minus(this.gapTimeout.multipliedBy(GAP_RETENTION));
+        this.gaps.values().removeIf(firstSeen -> firstSeen.isBefore(forgetBefore));
+
+        if (this.waiters.isEmpty()) {
+            return;
+        }
+
+        final var found = new HashMap<Query, List<OutboxEvent>>();
+        var latest = -1L;
+        try {
+            latest = this.outboxRepository.latestSequence();
+        } catch (final RuntimeException e) {
+            log.warn("Could not read the latest outbox sequence", e);
+        }
+
+        for (final var it = this.waiters.iterator(); it.hasNext(); ) {
+            final var aWaiter = it.next();
+            if (aWaiter.result().isDone()) {
+                it.remove();
+                continue;
+            }
+
+            if (aWaiter.since() < latest) {
+                try {
+                    final var events = found.computeIfAbsent(
+                            new Query(aWaiter.since(), aWaiter.limit()),
+                            aQuery -> find(aQuery.since(), aQuery.limit())
+                    );
+                    if (!events.isEmpty()) {
+                        aWaiter.result().complete(events);
+                        it.remove();
+                        continue;
+                    }
+                } catch (final RuntimeException e) {
+                    log.warn("Could not read the outbox events after {}", aWaiter.since(), e);
+                }
+            }
+
+            if (!now.isBefore(aWaiter.deadline())) {
+                aWaiter.result().complete(List.of());
+                it.remove();
+            }
+        }
+    }
+
+    private List<OutboxEvent> find(final long since, final int limit) {
+        return settled(since, this.outboxRepository.findSince(since, limit), Instant.now());
+    }
+
+    /**
+     * The events up to the first gap in their sequences that the feed has not seen for {@code gapTimeout} by
+     * {@code now}. A gap is keyed by its first missing sequence.
+     */
+    List<OutboxEvent> settled(final long since, final List<OutboxEvent> events, final Instant now) {
+        var expected = since + 1;
+        for (int i = 0; i < events.size(); i++) {
+            final var anEvent = events.get(i);
+            if (anEvent.sequence() != expected) {
+                final var firstSeen = this.gaps.computeIfAbsent(expected, it -> now);
+                if (now.isBefore(firstSeen.plus(this.gapTimeout))) {
+                    return events.subList(0, i);
+                }
+            }
+            this.gaps.remove(anEvent.sequence());
+            expected = anEvent.sequence() + 1;
+        }
+        return events;
+    }
+
+    private record Query(long since, int limit) {
+    }
+
+    private record Waiter(long since, int limit, Instant deadline, CompletableFuture<List<OutboxEvent>> result) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Where the {@link OutboxRelay} publishes the stored events, in batches ordered by sequence.
+ */
+public interface EventSink {
+
+    /**
+     * Publishes a batch, or throws when it could not. A batch that throws is published again later, so a sink may
+     * see an event more than once and should keep only the first one of each sequence.
+     */
+    void publish(List<OutboxEvent> events);
+}
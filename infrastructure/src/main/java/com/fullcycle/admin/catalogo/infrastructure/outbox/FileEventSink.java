@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends the published events to a file, one JSON object per line, for local runs where consumers tail the file.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "file")
+public class FileEventSink implements EventSink {
+
+    private final Path location;
+
+    public FileEventSink(@Value("${outbox.file.location}") final String location) {
+        this.location = Path.of(location);
+    }
+
+    @Override
+    public synchronized void publish(final List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        final var lines = new StringBuilder();
+        for (final var anEvent : events) {
+            lines.append(Json.writeValueAsString(anEvent)).append('\n');
+        }
+
+        try {
+            final var parent = this.location.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(
+                    this.location,
+                    lines,
+                    StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.SYNC
+            );
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
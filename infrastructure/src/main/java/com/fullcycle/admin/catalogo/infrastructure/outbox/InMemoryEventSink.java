@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the latest {@code capacity} published events in memory, dropping the oldest ones, for local runs and tests.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryEventSink implements EventSink {
+
+    private final int capacity;
+    private final Deque<OutboxEvent> events = new ArrayDeque<>();
+
+    public InMemoryEventSink(@Value("${outbox.memory.capacity:10000}") final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("'capacity' should be greater than 0");
+        }
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(final List<OutboxEvent> events) {
+        for (final var anEvent : events) {
+            if (this.events.size() == this.capacity) {
+                this.events.removeFirst();
+            }
+            this.events.addLast(anEvent);
+        }
+    }
+
+    public synchronized List<OutboxEvent> events() {
+        return List.copyOf(this.events);
+    }
+}
@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * A {@link DomainEvent} as stored in the outbox. {@code sequence} grows with every stored event, and is the order in
+ * which events are published.
+ */
+public record OutboxEvent(
+        long sequence,
+        String aggregate,
+        String aggregateId,
+        DomainEvent.Type type,
+        Instant occurredOn
+) {
+}
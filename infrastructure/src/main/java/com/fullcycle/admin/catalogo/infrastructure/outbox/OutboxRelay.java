@@ -0,0 +1,118 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the stored domain events to the {@link EventSink}, every {@code interval}, in batches of up to
+ * {@code batchSize} ordered by sequence. A batch is marked as published only once the sink took it, so the events
+ * are delivered at least once: a failed batch, or one whose marking failed, is published again on the next run.
+ * <p>
+ * Events are read in sequence order, but a transaction may commit after one that took a later sequence. Its events
+ * are then published in a later batch than the events that follow them.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxRepository outboxRepository;
+    private final EventSink eventSink;
+    private final int batchSize;
+    private final Duration interval;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public OutboxRelay(
+            final OutboxRepository outboxRepository,
+            final EventSink eventSink,
+            @Value("${outbox.relay.batch-size:500}") final int batchSize,
+            @Value("${outbox.relay.interval:PT1S}") final Duration interval
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'batchSize' should be greater than 0");
+        }
+        this.outboxRepository = Objects.requireNonNull(outboxRepository);
+        this.eventSink = Objects.requireNonNull(eventSink);
+        this.batchSize = batchSize;
+        this.interval = Objects.requireNonNull(interval);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (isRunning()) {
+            return;
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            final var thread = new Thread(task, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::run, 0, this.interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!isRunning()) {
+            return;
+        }
+
+        this.scheduler.shutdown();
+        try {
+            this.scheduler.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        final var scheduler = this.scheduler;
+        return scheduler != null && !scheduler.isShutdown();
+    }
+
+    /**
+     * Publishes batches until none is left or the sink fails.
+     *
+     * @return the number of events published
+     */
+    int relay() {
+        var published = 0;
+        while (true) {
+            final var aBatch = this.outboxRepository.findUnpublished(this.batchSize);
+            if (aBatch.isEmpty()) {
+                return published;
+            }
+
+            this.eventSink.publish(aBatch);
+            this.outboxRepository.markPublished(aBatch, InstantUtils.now());
+            published += aBatch.size();
+
+            if (aBatch.size() < this.batchSize) {
+                return published;
+            }
+        }
+    }
+
+    private void run() {
+        try {
+            relay();
+        } catch (final RuntimeException e) {
+            log.warn("Could not relay the outbox events, retrying in {}", this.interval, e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record ChangeResponse(
+        @JsonProperty("sequence") long sequence,
+        @JsonProperty("aggregate") String aggregate,
+        @JsonProperty("aggregate_id") String aggregateId,
+        @JsonProperty("type") String type,
+        @JsonProperty("occurred_on") Instant occurredOn
+) {
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record ChangesResponse(
+        @JsonProperty("items") List<ChangeResponse> items,
+        @JsonProperty("next_since") long nextSince
+) {
+}
@@ -0,0 +1,164 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox.persistence;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxEvent;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UUIDUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Stores the {@link DomainEvent}s of the aggregates in the {@code outbox_events} table. The gateways append them in
+ * the transaction that writes the aggregates, so an event is stored if and only if its change is, and the
+ * {@link com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxRelay} publishes them afterwards. Aggregate ids are
+ * stored in their {@code BINARY(16)} form, see {@link UUIDUtils}.
+ */
+@Repository
+public class OutboxRepository {
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO outbox_events (aggregate, aggregate_id, type, occurred_on)
+            VALUES (:aggregate, :aggregateId, :type, :occurredOn)
+            """;
+
+    private static final String SELECT_UNPUBLISHED = """
+            SELECT sequence_number, aggregate, aggregate_id, type, occurred_on
+            FROM outbox_events
+            WHERE published_at IS NULL
+            ORDER BY sequence_number
+            LIMIT :limit
+            """;
+
+    private static final String SELECT_SINCE = """
+            SELECT sequence_number, aggregate, aggregate_id, type, occurred_on
+            FROM outbox_events
+            WHERE sequence_number > :since
+            ORDER BY sequence_number
+            LIMIT :limit
+            """;
+
+    private static final String SELECT_LATEST_SEQUENCE = "SELECT MAX(sequence_number) FROM outbox_events";
+
+    private static final String MARK_PUBLISHED = """
+            UPDATE outbox_events SET published_at = :publishedAt WHERE sequence_number IN (:sequences)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OutboxRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    @Transactional
+    public void append(final List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        this.jdbcTemplate.batchUpdate(INSERT_EVENT, events.stream()
+                .map(OutboxRepository::row)
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * Appends the events recorded by each aggregate, taking them from it.
+     */
+    @Transactional
+    public void appendPending(final Collection<? extends AggregateRoot<?>> aggregates) {
+        append(aggregates.stream()
+                .flatMap(anAggregate -> anAggregate.pullEvents().stream())
+                .toList());
+    }
+
+    /**
+     * Same as {@link #appendPending(Collection)}, with an update event for the aggregates that recorded none, like
+     * those read from an import. Upserts go through here: the consumers read the aggregate again on both a creation
+     * and an update, so they need not tell them apart.
+     */
+    @Transactional
+    public void appendWritten(final Collection<? extends AggregateRoot<?>> aggregates) {
+        append(aggregates.stream()
+                .flatMap(anAggregate -> {
+                    final var events = anAggregate.pullEvents();
+                    return events.isEmpty() ? Stream.of(DomainEvent.updated(anAggregate)) : events.stream();
+                })
+                .toList());
+    }
+
+    /**
+     * The oldest events not published yet, in sequence order.
+     */
+    @Transactional(readOnly = true)
+    public List<OutboxEvent> findUnpublished(final int limit) {
+        return this.jdbcTemplate.query(
+                SELECT_UNPUBLISHED,
+                new MapSqlParameterSource("limit", limit),
+                OutboxRepository::event
+        );
+    }
+
+    /**
+     * The events stored after {@code since}, published or not, in sequence order. The sequence is the primary key,
+     * so this is a range scan of the primary key index.
+     */
+    @Transactional(readOnly = true)
+    public List<OutboxEvent> findSince(final long since, final int limit) {
+        return this.jdbcTemplate.query(
+                SELECT_SINCE,
+                new MapSqlParameterSource()
+                        .addValue("since", since)
+                        .addValue("limit", limit),
+                OutboxRepository::event
+        );
+    }
+
+    /**
+     * The sequence of the latest stored event, or 0 when there is none.
+     */
+    @Transactional(readOnly = true)
+    public long latestSequence() {
+        final var latest = this.jdbcTemplate.queryForObject(SELECT_LATEST_SEQUENCE, Map.of(), Long.class);
+        return latest != null ? latest : 0L;
+    }
+
+    @Transactional
+    public void markPublished(final List<OutboxEvent> events, final Instant publishedAt) {
+        if (events.isEmpty()) {
+            return;
+        }
+        this.jdbcTemplate.update(MARK_PUBLISHED, new MapSqlParameterSource()
+                .addValue("publishedAt", Timestamp.from(publishedAt), Types.TIMESTAMP)
+                .addValue("sequences", events.stream().map(OutboxEvent::sequence).toList()));
+    }
+
+    private static OutboxEvent event(final ResultSet rs, final int rowNum) throws SQLException {
+        return new OutboxEvent(
+                rs.getLong("sequence_number"),
+                rs.getString("aggregate"),
+                UUIDUtils.fromBytes(rs.getBytes("aggregate_id")),
+                DomainEvent.Type.valueOf(rs.getString("type")),
+                rs.getTimestamp("occurred_on").toInstant()
+        );
+    }
+
+    private static SqlParameterSource row(final DomainEvent anEvent) {
+        return new MapSqlParameterSource()
+                .addValue("aggregate", anEvent.aggregate())
+                .addValue("aggregateId", UUIDUtils.toBytes(anEvent.aggregateId()))
+                .addValue("type", anEvent.type().name())
+                .addValue("occurredOn", Timestamp.from(anEvent.occurredOn()), Types.TIMESTAMP);
+    }
+}
@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox.presenters;
+
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxEvent;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.models.ChangeResponse;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.models.ChangesResponse;
+
+import java.util.List;
+
+public interface ChangeApiPresenter {
+
+    static ChangeResponse present(final OutboxEvent anEvent) {
+        return new ChangeResponse(
+                anEvent.sequence(),
+                anEvent.aggregate(),
+                anEvent.aggregateId(),
+                anEvent.type().name(),
+                anEvent.occurredOn()
+        );
+    }
+
+    /**
+     * The changes after {@code since}, and the sequence to ask for the next ones with: the last one returned, or
+     * {@code since} when there is none.
+     */
+    static ChangesResponse present(final long since, final List<OutboxEvent> events) {
+        final var nextSince = events.isEmpty() ? since : events.get(events.size() - 1).sequence();
+        return new ChangesResponse(events.stream().map(ChangeApiPresenter::present).toList(), nextSince);
+    }
+}
@@ -0,0 +1,173 @@
+package com.fullcycle.admin.catalogo.infrastructure.typeahead;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.TextUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Maps every prefix (up to {@value #MAX_PREFIX} characters) of every word of a name to the entries holding it,
+ * each posting kept sorted by name. A search walks the posting of its longest word in order, checks the other
+ * words on each entry and stops as soon as it has {@code limit} matches.
+ * <p>
+ * Reads take no lock; writes to the same id are serialized by the entries map.
+ */
+class PrefixIndex {
+
+    static final int MAX_PREFIX = 16;
+
+    private static final Comparator<Entry> BY_NAME = Comparator.comparing(Entry::key).thenComparing(Entry::id);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<Entry>> postings = new ConcurrentHashMap<>();
+    private final Set<String> touchedWhileLoading = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading;
+
+    /**
+     * @return the name the id had before, or null
+     */
+    String put(final String anId, final String aName) {
+        if (this.loading) {
+            this.touchedWhileLoading.add(anId);
+        }
+        final var previous = new String[1];
+        this.entries.compute(anId, (id, current) -> {
+            final var next = Entry.of(id, aName);
+            if (current != null) {
+                previous[0] = current.name();
+                unlink(current);
+            }
+            link(next);
+            return next;
+        });
+        return previous[0];
+    }
+
+    /**
+     * @return the name the id had, or null
+     */
+    String remove(final String anId) {
+        if (this.loading) {
+            this.touchedWhileLoading.add(anId);
+        }
+        final var previous = new String[1];
+        this.entries.computeIfPresent(anId, (id, current) -> {
+            previous[0] = current.name();
+            unlink(current);
+            return null;
+        });
+        return previous[0];
+    }
+
+    void startLoading() {
+        this.touchedWhileLoading.clear();
+        this.loading = true;
+    }
+
+    /**
+     * Adds a name read while loading, unless it was written or removed since the load started.
+     */
+    void load(final String anId, final String aName) {
+        if (!this.touchedWhileLoading.contains(anId)) {
+            this.entries.computeIfAbsent(anId, id -> {
+                final var entry = Entry.of(id, aName);
+                link(entry);
+                return entry;
+            });
+        }
+    }
+
+    void finishLoading() {
+        this.loading = false;
+        this.touchedWhileLoading.clear();
+    }
+
+    int size() {
+        return this.entries.size();
+    }
+
+    List<Entry> search(final List<String> words, final int limit) {
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        var longest = words.get(0);
+        for (final var word : words) {
+            if (word.length() > longest.length()) {
+                longest = word;
+            }
+        }
+
+        final var posting = this.postings.get(prefixKey(longest));
+        if (posting == null) {
+            return List.of();
+        }
+
+        final var found = new ArrayList<Entry>(limit);
+        for (final var entry : posting) {
+            if (entry.matches(words)) {
+                found.add(entry);
+                if (found.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    private void link(final Entry anEntry) {
+        for (final var prefix : anEntry.prefixes()) {
+            this.postings.compute(prefix, (it, posting) -> {
+                final NavigableSet<Entry> linked = posting != null ? posting : new ConcurrentSkipListSet<>(BY_NAME);
+                linked.add(anEntry);
+                return linked;
+            });
+        }
+    }
+
+    private void unlink(final Entry anEntry) {
+        for (final var prefix : anEntry.prefixes()) {
+            this.postings.computeIfPresent(prefix, (it, posting) -> {
+                posting.remove(anEntry);
+                return posting.isEmpty() ? null : posting;
+            });
+        }
+    }
+
+    private static String prefixKey(final String word) {
+        return word.length() > MAX_PREFIX ? word.substring(0, MAX_PREFIX) : word;
+    }
+
+    record Entry(String id, String name, String key, List<String> words) {
+
+        static Entry of(final String anId, final String aName) {
+            return new Entry(anId, aName, TextUtils.normalize(aName), TextUtils.words(aName));
+        }
+
+        Set<String> prefixes() {
+            final var prefixes = new HashSet<String>();
+            for (final var word : this.words) {
+                for (int i = 1; i <= Math.min(word.length(), MAX_PREFIX); i++) {
+                    prefixes.add(word.substring(0, i));
+                }
+            }
+            return prefixes;
+        }
+
+        boolean matches(final List<String> prefixes) {
+            for (final var prefix : prefixes) {
+                if (this.words.stream().noneMatch(it -> it.startsWith(prefix))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
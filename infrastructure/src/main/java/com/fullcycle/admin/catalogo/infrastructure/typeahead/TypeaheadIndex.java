@@ -0,0 +1,141 @@
+package com.fullcycle.admin.catalogo.infrastructure.typeahead;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.utils.TextUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.onRollback;
+
+/**
+ * In-memory prefix index over the names of categories, genres and cast members, answering typeahead
+ * searches without going to the database.
+ * <p>
+ * It is loaded at startup by {@link TypeaheadIndexLoader}, {@link #isLoading()} until it is done, and kept current
+ * by the gateways, which {@link #put(Type, Identifier, String)} on create and update and
+ * {@link #remove(Type, Identifier)} on delete. A change is visible right away, and undone if the surrounding
+ * transaction rolls back.
+ */
+@Component
+public class TypeaheadIndex {
+
+    private final Map<Type, PrefixIndex> indexes = new EnumMap<>(Type.class);
+    private volatile boolean loading;
+
+    public TypeaheadIndex() {
+        for (final var aType : Type.values()) {
+            this.indexes.put(aType, new PrefixIndex());
+        }
+    }
+
+    public void put(final Type aType, final Identifier anId, final String aName) {
+        final var index = this.indexes.get(aType);
+        final var id = anId.getValue();
+        final var previous = index.put(id, aName);
+        onRollback(() -> restore(index, id, previous));
+    }
+
+    public void remove(final Type aType, final Identifier anId) {
+        final var index = this.indexes.get(aType);
+        final var id = anId.getValue();
+        final var previous = index.remove(id);
+        if (previous != null) {
+            onRollback(() -> index.put(id, previous));
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} entries of the given types where every word of {@code terms} starts a word of
+     * the name, case and accents ignored, sorted by name.
+     */
+    public List<Suggestion> search(final String terms, final Collection<Type> types, final int limit) {
+        final var words = TextUtils.words(terms);
+
+        final var found = new ArrayList<Suggestion>();
+        for (final var aType : types) {
+            this.indexes.get(aType).search(words, limit).forEach(it ->
+                    found.add(new Suggestion(aType, it.id(), it.name(), it.key()))
+            );
+        }
+
+        return found.stream()
+                .sorted(Comparator.comparing(Suggestion::key).thenComparing(Suggestion::id))
+                .limit(limit)
+                .toList();
+    }
+
+    public int size(final Type aType) {
+        return this.indexes.get(aType).size();
+    }
+
+    /**
+     * Whether the {@link TypeaheadIndexLoader} has yet to finish, in which case searches would miss the names it
+     * has not read.
+     */
+    public boolean isLoading() {
+        return this.loading;
+    }
+
+    void markLoading() {
+        this.loading = true;
+    }
+
+    void markLoaded() {
+        this.loading = false;
+    }
+
+    void startLoading(final Type aType) {
+        this.indexes.get(aType).startLoading();
+    }
+
+    void load(final Type aType, final Identifier anId, final String aName) {
+        this.indexes.get(aType).load(anId.getValue(), aName);
+    }
+
+    void finishLoading(final Type aType) {
+        this.indexes.get(aType).finishLoading();
+    }
+
+    private static void restore(final PrefixIndex index, final String anId, final String aName) {
+        if (aName != null) {
+            index.put(anId, aName);
+        } else {
+            index.remove(anId);
+        }
+    }
+
+    public enum Type {
+        CATEGORY("category"),
+        GENRE("genre"),
+        CAST_MEMBER("cast_member");
+
+        private final String label;
+
+        Type(final String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public static Type of(final String aLabel) {
+            return Arrays.stream(values())
+                    .filter(it -> it.label.equalsIgnoreCase(aLabel.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> DomainException.with(new Error("'%s' is not a typeahead type".formatted(aLabel))));
+        }
+    }
+
+    public record Suggestion(Type type, String id, String name, String key) {
+    }
+}
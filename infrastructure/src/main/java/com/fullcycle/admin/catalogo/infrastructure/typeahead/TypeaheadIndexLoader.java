@@ -0,0 +1,86 @@
+package com.fullcycle.admin.catalogo.infrastructure.typeahead;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Fills the {@link TypeaheadIndex} once the application has started, following the gateways' cursors
+ * {@code batchSize} rows at a time. The web server is already up by then, so the index is marked as loading from
+ * the moment this bean is created, and typeahead requests are turned away until loading completes. Writes that
+ * happen meanwhile win over the rows being loaded.
+ */
+@Component
+@ConditionalOnProperty(name = "typeahead.load.enabled", havingValue = "true", matchIfMissing = true)
+public class TypeaheadIndexLoader implements ApplicationRunner {
+
+    private final TypeaheadIndex index;
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final int batchSize;
+
+    public TypeaheadIndexLoader(
+            final TypeaheadIndex index,
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final CastMemberGateway castMemberGateway,
+            @Value("${typeahead.load.batch-size:1000}") final int batchSize
+    ) {
+        this.index = Objects.requireNonNull(index);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.batchSize = batchSize;
+        this.index.markLoading();
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        load();
+    }
+
+    public void load() {
+        this.index.markLoading();
+        try {
+            load(TypeaheadIndex.Type.CATEGORY, this.categoryGateway::findAll, Category::getId, Category::getName);
+            load(TypeaheadIndex.Type.GENRE, this.genreGateway::findAll, Genre::getId, Genre::getName);
+            load(TypeaheadIndex.Type.CAST_MEMBER, this.castMemberGateway::findAll, CastMember::getId, CastMember::getName);
+        } finally {
+            this.index.markLoaded();
+        }
+    }
+
+    private <T> void load(
+            final TypeaheadIndex.Type aType,
+            final Function<SearchQuery, Pagination<T>> findAll,
+            final Function<T, ? extends Identifier> id,
+            final Function<T, String> name
+    ) {
+        this.index.startLoading(aType);
+        try {
+            String cursor = null;
+            do {
+                final var aPage = findAll.apply(SearchQuery.with(0, this.batchSize, "", "id", "asc", cursor, false));
+                aPage.items().forEach(it -> this.index.load(aType, id.apply(it), name.apply(it)));
+                cursor = aPage.nextCursor();
+            } while (cursor != null);
+        } finally {
+            this.index.finishLoading(aType);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.infrastructure.typeahead.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record TypeaheadResponse(
+        @JsonProperty("type") String type,
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name
+) {
+}
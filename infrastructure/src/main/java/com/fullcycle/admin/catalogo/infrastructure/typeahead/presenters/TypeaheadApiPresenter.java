@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.typeahead.presenters;
+
+import com.fullcycle.admin.catalogo.infrastructure.typeahead.TypeaheadIndex;
+import com.fullcycle.admin.catalogo.infrastructure.typeahead.models.TypeaheadResponse;
+
+public interface TypeaheadApiPresenter {
+
+    static TypeaheadResponse present(final TypeaheadIndex.Suggestion suggestion) {
+        return new TypeaheadResponse(suggestion.type().getLabel(), suggestion.id(), suggestion.name());
+    }
+}
@@ -0,0 +1,126 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+public final class ETagUtils {
+
+    private static final String VERSION_SEPARATOR = "-";
+
+    private ETagUtils() {
+    }
+
+    /**
+     * A strong ETag for a single aggregate, which changes whenever the aggregate is updated. It ends with the
+     * aggregate's version, so that an {@code If-Match} can be honoured without reading the aggregate again.
+     */
+    public static String etag(final String anId, final long aVersion) {
+        return "\"" + digest(anId) + VERSION_SEPARATOR + aVersion + "\"";
+    }
+
+    /**
+     * The version of the first ETag of {@code anId} listed in {@code ifMatch}, the value of an {@code If-Match}
+     * header, or empty if it lists none. Weak ETags are skipped, as {@code If-Match} uses the strong comparison.
+     */
+    public static Optional<Long> version(final String ifMatch, final String anId) {
+        final var prefix = "\"" + digest(anId) + VERSION_SEPARATOR;
+        for (final var aTag : ifMatch.split(",")) {
+            final var trimmed = aTag.trim();
+            if (trimmed.startsWith(prefix) && trimmed.endsWith("\"") && trimmed.length() > prefix.length() + 1) {
+                try {
+                    return Optional.of(Long.parseLong(trimmed.substring(prefix.length(), trimmed.length() - 1)));
+                } catch (final NumberFormatException ignored) {
+                    // not one of ours, look at the next one
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Whether {@code ifMatch}, the value of an {@code If-Match} header, is {@code *}, which any current
+     * representation matches.
+     */
+    public static boolean isAny(final String ifMatch) {
+        return "*".equals(ifMatch.trim());
+    }
+
+    /**
+     * A strong ETag for a page, which changes when any of its items is updated, or when an item enters or leaves it.
+     */
+    public static <T> String etag(
+            final Pagination<T> aPage,
+            final Function<T, String> anId,
+            final Function<T, Instant> updatedAt
+    ) {
+        final var version = new StringBuilder()
+                .append(aPage.currentPage()).append(':')
+                .append(aPage.perPage()).append(':')
+                .append(aPage.total()).append(':')
+                .append(aPage.nextCursor());
+        for (final var item : aPage.items()) {
+            version.append('\n').append(anId.apply(item)).append(':').append(updatedAt.apply(item));
+        }
+        return quote(version.toString());
+    }
+
+    /**
+     * Sets the {@code ETag} and {@code Last-Modified} of a single aggregate and tells whether the client already
+     * has it, in which case the response has become a 304 and the caller must return {@code null}.
+     */
+    public static boolean checkNotModified(
+            final WebRequest request,
+            final String anId,
+            final long aVersion,
+            final Instant updatedAt
+    ) {
+        return request.checkNotModified(etag(anId, aVersion), updatedAt.toEpochMilli());
+    }
+
+    /**
+     * Same as {@link #checkNotModified(WebRequest, String, long, Instant)} for a page. The page is revalidated only by
+     * its ETag: a deleted item leaves the latest {@code updatedAt} untouched, so {@code If-Modified-Since} alone
+     * would keep serving it. {@code Last-Modified} is still sent, as the latest {@code updatedAt} of the page.
+     */
+    public static <T> boolean checkNotModified(
+            final WebRequest request,
+            final Pagination<T> aPage,
+            final Function<T, String> anId,
+            final Function<T, Instant> updatedAt
+    ) {
+        if (request.checkNotModified(etag(aPage, anId, updatedAt))) {
+            return true;
+        }
+
+        final var response = request instanceof NativeWebRequest nativeRequest
+                ? nativeRequest.getNativeResponse(HttpServletResponse.class)
+                : null;
+        if (response != null) {
+            aPage.items().stream()
+                    .map(updatedAt)
+                    .filter(Objects::nonNull)
+                    .max(Comparator.naturalOrder())
+                    .ifPresent(it -> response.setDateHeader(HttpHeaders.LAST_MODIFIED, it.toEpochMilli()));
+        }
+        return false;
+    }
+
+    private static String quote(final String aVersion) {
+        return "\"" + digest(aVersion) + "\"";
+    }
+
+    private static String digest(final String aValue) {
+        return DigestUtils.md5DigestAsHex(aValue.getBytes(StandardCharsets.UTF_8));
+    }
+}
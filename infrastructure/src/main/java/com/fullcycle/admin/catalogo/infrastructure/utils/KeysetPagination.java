@@ -0,0 +1,223 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Pages through an entity ordered by (sort column, id).
+ * <p>
+ * Without a cursor it behaves like an OFFSET page. With a cursor it seeks past the last row of the
+ * previous page ({@code sort > :value OR (sort = :value AND id > :id)}), so the cost of a page does not
+ * grow with its depth. Both modes fetch one extra row to decide whether a {@code nextCursor} is due, and
+ * the COUNT query only runs when {@link SearchQuery#withTotal()} is set.
+ * <p>
+ * The cursor carries the sort column and direction it was issued for, and is rejected when they are
+ * not the ones in the query, so the next page must be asked with the same sort as the first. NULLs are ordered first on ascending and last on descending sorts, as
+ * MySQL does. A search can also be sorted by its {@link Ranking}, see {@link #RELEVANCE}.
+ */
+public class KeysetPagination<T> {
+
+    public static final String RELEVANCE = "relevance";
+
+    private static final String ID = "id";
+
+    private final EntityManager entityManager;
+    private final Class<T> entityClass;
+
+    public KeysetPagination(final EntityManager entityManager, final Class<T> entityClass) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.entityClass = Objects.requireNonNull(entityClass);
+    }
+
+    public Pagination<T> findAll(final Specification<T> where, final SearchQuery aQuery) {
+        return findAll(where, null, aQuery);
+    }
+
+    /**
+     * Same as {@link #findAll(Specification, SearchQuery)}, also accepting {@value #RELEVANCE} as the sort: rows
+     * are then ordered by {@code relevance}, best first, whatever the direction asked. Without a relevance, as when
+     * there are no terms, they are only ordered by id.
+     */
+    public Pagination<T> findAll(final Specification<T> where, final Ranking<T> relevance, final SearchQuery aQuery) {
+        final var sort = aQuery.sort();
+        final var direction = RELEVANCE.equals(sort)
+                ? Sort.Direction.DESC
+                : Sort.Direction.fromString(aQuery.direction());
+        final var cursor = aQuery.isSeek() ? Cursor.decode(aQuery.cursor(), sort, direction) : null;
+
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(this.entityClass);
+        final var sortKey = sortKey(cb, query, root, sort, relevance);
+
+        final var predicates = new ArrayList<Predicate>();
+        final var filter = where != null ? where.toPredicate(root, query, cb) : null;
+        if (filter != null) {
+            predicates.add(filter);
+        }
+        if (cursor != null) {
+            predicates.add(seek(cb, root, sortKey, direction, cursor));
+        }
+
+        query.multiselect(root, sortKey)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(order(cb, sortKey, direction), order(cb, root.get(ID), direction));
+
+        final var rows = new ArrayList<>(this.entityManager.createQuery(query)
+                .setFirstResult(cursor != null ? 0 : aQuery.page() * aQuery.perPage())
+                .setMaxResults(aQuery.perPage() + 1)
+                .getResultList());
+
+        String nextCursor = null;
+        if (rows.size() > aQuery.perPage()) {
+            rows.remove(rows.size() - 1);
+            final var last = rows.get(rows.size() - 1);
+            nextCursor = Cursor.of(sort, direction, last.get(1), last.get(0)).encode();
+        }
+
+        final var items = rows.stream()
+                .map(it -> this.entityClass.cast(it.get(0)))
+                .toList();
+
+        final var total = aQuery.withTotal() ? count(where) : Pagination.UNKNOWN_TOTAL;
+
+        return new Pagination<>(aQuery.page(), aQuery.perPage(), total, items, nextCursor);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Expression<Comparable> sortKey(
+            final CriteriaBuilder cb,
+            final CriteriaQuery<?> query,
+            final Root<T> root,
+            final String sort,
+            final Ranking<T> relevance
+    ) {
+        if (!RELEVANCE.equals(sort)) {
+            return root.get(sort);
+        }
+        if (relevance == null) {
+            return root.get(ID);
+        }
+        return (Expression) relevance.toExpression(root, query, cb);
+    }
+
+    private long count(final Specification<T> where) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Long.class);
+        final var root = query.from(this.entityClass);
+        final var filter = where != null ? where.toPredicate(root, query, cb) : null;
+        query.select(cb.count(root));
+        if (filter != null) {
+            query.where(filter);
+        }
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Predicate seek(
+            final CriteriaBuilder cb,
+            final Root<T> root,
+            final Expression<Comparable> sortPath,
+            final Sort.Direction direction,
+            final Cursor cursor
+    ) {
+        final Expression<String> idPath = root.get(ID);
+        final var asc = direction.isAscending();
+        final var afterId = asc ? cb.greaterThan(idPath, cursor.id()) : cb.lessThan(idPath, cursor.id());
+
+        if (cursor.value() == null) {
+            final var tie = cb.and(cb.isNull(sortPath), afterId);
+            return asc ? cb.or(tie, cb.isNotNull(sortPath)) : tie;
+        }
+
+        final Comparable value = convert(cursor.value(), sortPath.getJavaType());
+        final var after = asc ? cb.greaterThan(sortPath, value) : cb.lessThan(sortPath, value);
+        final var tie = cb.and(cb.equal(sortPath, value), afterId);
+        return asc ? cb.or(after, tie) : cb.or(after, tie, cb.isNull(sortPath));
+    }
+
+    private static Order order(final CriteriaBuilder cb, final Expression<?> expression, final Sort.Direction direction) {
+        return direction.isAscending() ? cb.asc(expression) : cb.desc(expression);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Comparable convert(final String value, final Class<?> type) {
+        try {
+            if (Instant.class.equals(type)) {
+                return Instant.parse(value);
+            }
+            return (Comparable) DefaultConversionService.getSharedInstance().convert(value, type);
+        } catch (final RuntimeException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("'cursor' is invalid"));
+    }
+
+    record Cursor(String sort, String direction, String value, String id) {
+
+        static Cursor of(final String sort, final Sort.Direction direction, final Object value, final Object entity) {
+            final var accessor = PropertyAccessorFactory.forDirectFieldAccess(entity);
+            return new Cursor(
+                    sort,
+                    direction.name(),
+                    value != null ? value.toString() : null,
+                    String.valueOf(accessor.getPropertyValue(ID))
+            );
+        }
+
+        static Cursor decode(final String aCursor, final String aSort, final Sort.Direction aDirection) {
+            try {
+                final var json = new String(Base64.getUrlDecoder().decode(aCursor), StandardCharsets.UTF_8);
+                final var cursor = Json.readValue(json, Cursor.class);
+                if (cursor.id() == null
+                        || !aSort.equals(cursor.sort())
+                        || !aDirection.name().equals(cursor.direction())) {
+                    throw invalidCursor();
+                }
+                return cursor;
+            } catch (final DomainException e) {
+                throw e;
+            } catch (final RuntimeException e) {
+                throw invalidCursor();
+            }
+        }
+
+        String encode() {
+            final var json = Json.writeValueAsString(this);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * How well a row matches a search, the higher the better; the ordering counterpart of a {@link Specification}.
+     */
+    @FunctionalInterface
+    public interface Ranking<T> {
+
+        Expression<Double> toExpression(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb);
+    }
+}
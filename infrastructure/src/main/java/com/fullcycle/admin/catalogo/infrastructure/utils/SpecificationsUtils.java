@@ -1,9 +1,25 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.dialect.FullTextScoreFunction;
+import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
+import org.hibernate.query.criteria.internal.compile.RenderingContext;
+import org.hibernate.query.criteria.internal.expression.LiteralExpression;
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 public class SpecificationsUtils {
 
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
     private SpecificationsUtils(){
 
     }
@@ -12,7 +28,92 @@ public class SpecificationsUtils {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), like(term).toUpperCase());
     }
 
+    /**
+     * Matches the rows where every word of {@code terms} starts a word of {@code props}, through the FULLTEXT
+     * index over exactly those columns. Terms made only of words too short to be indexed fall back to requiring
+     * each of them somewhere in {@code props}; terms without any word match nothing.
+     */
+    public static <T> Specification<T> matches(final String terms, final String... props) {
+        final var against = against(terms);
+        if (against != null) {
+            return (root, query, cb) -> cb.greaterThan(score(root, cb, against, props), 0.0);
+        }
+        final var words = words(terms);
+        if (words.isEmpty()) {
+            return (root, query, cb) -> cb.disjunction();
+        }
+        return (root, query, cb) -> cb.and(words.stream()
+                .map(word -> cb.or(Stream.of(props)
+                        .map(prop -> cb.like(cb.upper(root.get(prop)), like(word)))
+                        .toArray(Predicate[]::new)))
+                .toArray(Predicate[]::new));
+    }
+
+    /**
+     * The relevance of a row for {@link #matches(String, String...)}, to be sorted by with
+     * {@link KeysetPagination#RELEVANCE}, or {@code null} when the terms have no indexable word to rank by.
+     */
+    public static <T> KeysetPagination.Ranking<T> relevance(final String terms, final String... props) {
+        final var against = against(terms);
+        if (against == null) {
+            return null;
+        }
+        return (root, query, cb) -> score(root, cb, against, props);
+    }
+
+    /**
+     * Turns free text into a boolean-mode query requiring a prefix of each word, e.g. {@code "sci fiction"} into
+     * {@code "+sci* +fiction*"}. Operators and punctuation are dropped, so user input can not change the query.
+     * Words shorter than {@link FullTextScoreFunction#MIN_TOKEN_SIZE} are dropped too, as no indexed word could
+     * match them: {@code "filmes da Amazon"} requires only {@code "+filmes* +amazon*"}. Returns {@code null} when no
+     * word is left.
+     */
+    static String against(final String terms) {
+        final var against = words(terms).stream()
+                .filter(it -> it.length() >= FullTextScoreFunction.MIN_TOKEN_SIZE)
+                .map(it -> "+" + it + "*")
+                .collect(Collectors.joining(" "));
+        return against.isEmpty() ? null : against;
+    }
+
+    private static List<String> words(final String terms) {
+        if (terms == null) {
+            return List.of();
+        }
+        return Stream.of(NON_WORD.split(terms)).filter(it -> !it.isEmpty()).toList();
+    }
+
+    private static <T> Expression<Double> score(
+            final Root<T> root,
+            final CriteriaBuilder cb,
+            final String against,
+            final String... props
+    ) {
+        final var args = new ArrayList<Expression<?>>(props.length + 1);
+        for (final var prop : props) {
+            args.add(root.get(prop));
+        }
+        args.add(new BoundLiteral<>(cb, against));
+        return cb.function(FullTextScoreFunction.NAME, Double.class, args.toArray(Expression[]::new));
+    }
+
     private static String like(final String term) {
         return "%" + term.toUpperCase() + "%";
     }
+
+    /**
+     * A literal always sent as a bind parameter. {@code cb.literal} is inlined into the SQL whenever it lands in the
+     * select clause, as the relevance does when it is the sort key of a {@link KeysetPagination} page.
+     */
+    private static final class BoundLiteral<T> extends LiteralExpression<T> {
+
+        private BoundLiteral(final CriteriaBuilder cb, final T aValue) {
+            super((CriteriaBuilderImpl) cb, aValue);
+        }
+
+        @Override
+        public String render(final RenderingContext renderingContext) {
+            return ":" + renderingContext.registerLiteralParameterBinding(getLiteral(), getJavaType());
+        }
+    }
 }
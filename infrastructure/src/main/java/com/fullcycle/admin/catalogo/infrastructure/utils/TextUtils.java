@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+public final class TextUtils {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private TextUtils() {
+    }
+
+    /**
+     * Lower-cases {@code text} and strips its accents, so that {@code "Ação"} and {@code "acao"} compare equal.
+     */
+    public static String normalize(final String text) {
+        return MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The {@link #normalize(String) normalized} words of {@code text}, split on anything but letters and digits.
+     */
+    public static List<String> words(final String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Stream.of(NON_WORD.split(normalize(text)))
+                .filter(it -> !it.isEmpty())
+                .toList();
+    }
+}
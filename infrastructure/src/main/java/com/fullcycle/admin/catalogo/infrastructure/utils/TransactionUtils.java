@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * Runs {@code action} if the current transaction rolls back; does nothing outside a transaction. Lets
+     * in-memory state updated along with the database be undone with it.
+     */
+    public static void onRollback(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Runs {@code action} once the current transaction completes, whether it commits or rolls back; does nothing
+     * outside a transaction.
+     */
+    public static void afterCompletion(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Runs {@code action} once the current transaction commits, or right away outside a transaction. Keeps
+     * in-memory state shared between requests from exposing writes that are not visible in the database yet.
+     */
+    public static void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
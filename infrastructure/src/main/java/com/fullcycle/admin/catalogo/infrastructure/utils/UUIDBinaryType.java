@@ -0,0 +1,73 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+
+/**
+ * Maps the string identifiers of the entities to {@code BINARY(16)} columns, see {@link UUIDUtils}.
+ * <p>
+ * A Hibernate type rather than an {@code AttributeConverter}, since converters are not applied to ids.
+ */
+public class UUIDBinaryType extends AbstractSingleColumnStandardBasicType<String> {
+
+    public static final String TYPE = "com.fullcycle.admin.catalogo.infrastructure.utils.UUIDBinaryType";
+
+    public UUIDBinaryType() {
+        super(BinaryTypeDescriptor.INSTANCE, UUIDStringTypeDescriptor.INSTANCE);
+    }
+
+    @Override
+    public String getName() {
+        return "uuid-binary";
+    }
+
+    private static class UUIDStringTypeDescriptor extends AbstractTypeDescriptor<String> {
+
+        private static final UUIDStringTypeDescriptor INSTANCE = new UUIDStringTypeDescriptor();
+
+        private UUIDStringTypeDescriptor() {
+            super(String.class);
+        }
+
+        @Override
+        public String toString(final String value) {
+            return value;
+        }
+
+        @Override
+        public String fromString(final String string) {
+            return string;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (byte[].class.isAssignableFrom(type)) {
+                return (X) UUIDUtils.toBytes(value);
+            }
+            if (String.class.isAssignableFrom(type)) {
+                return (X) value;
+            }
+            throw unknownUnwrap(type);
+        }
+
+        @Override
+        public <X> String wrap(final X value, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof byte[] bytes) {
+                return UUIDUtils.fromBytes(bytes);
+            }
+            if (value instanceof String string) {
+                return string;
+            }
+            throw unknownWrap(value.getClass());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Identifiers are stored as the 16 bytes of their UUID, most significant first, so that binary order is the
+ * order of their canonical form.
+ * <p>
+ * Values that are not UUIDs, which the application never generates but may be asked for, are stored as a
+ * name-based UUID of their text: they can be looked up and simply match nothing.
+ */
+public final class UUIDUtils {
+
+    private static final Pattern CANONICAL =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    private UUIDUtils() {
+    }
+
+    public static byte[] toBytes(final String anId) {
+        if (anId == null) {
+            return null;
+        }
+        final var uuid = CANONICAL.matcher(anId).matches()
+                ? UUID.fromString(anId)
+                : UUID.nameUUIDFromBytes(anId.getBytes(StandardCharsets.UTF_8));
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static List<byte[]> toBytes(final Collection<String> ids) {
+        return ids.stream().map(UUIDUtils::toBytes).toList();
+    }
+
+    public static String fromBytes(final byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("An UUID has 16 bytes, got %d".formatted(bytes.length));
+        }
+        final var buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
@@ -0,0 +1,172 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A read-only view of {@code [0, end)} of a file channel, positioned at {@code start}. Like any channel opened only
+ * for reading, it throws {@link NonWritableChannelException} on writes and exclusive locks; shared locks are taken
+ * on the underlying channel.
+ * <p>
+ * Servers that copy a whole {@link FileChannel} with sendfile, such as Undertow, only take a channel and copy
+ * from its position up to its size; this view makes them stop at {@code end} while every
+ * {@link #transferTo(long, long, WritableByteChannel)} still reaches the real channel and the kernel.
+ */
+final class BoundedFileChannel extends FileChannel {
+
+    private final FileChannel delegate;
+    private final long end;
+
+    private BoundedFileChannel(final FileChannel delegate, final long end) {
+        this.delegate = delegate;
+        this.end = end;
+    }
+
+    static BoundedFileChannel of(final FileChannel delegate, final long start, final long count) throws IOException {
+        delegate.position(start);
+        return new BoundedFileChannel(delegate, start + count);
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) throws IOException {
+        final var remaining = this.end - this.delegate.position();
+        if (remaining <= 0) {
+            return -1;
+        }
+        if (dst.remaining() <= remaining) {
+            return this.delegate.read(dst);
+        }
+
+        final var limited = dst.duplicate();
+        limited.limit(limited.position() + (int) remaining);
+        final var read = this.delegate.read(limited);
+        if (read > 0) {
+            dst.position(dst.position() + read);
+        }
+        return read;
+    }
+
+    @Override
+    public long read(final ByteBuffer[] dsts, final int offset, final int length) throws IOException {
+        long total = 0;
+        for (int i = offset; i < offset + length; i++) {
+            final var read = read(dsts[i]);
+            if (read < 0) {
+                return total == 0 ? -1 : total;
+            }
+            total += read;
+            if (dsts[i].hasRemaining()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public int read(final ByteBuffer dst, final long position) throws IOException {
+        final var remaining = this.end - position;
+        if (remaining <= 0) {
+            return -1;
+        }
+        if (dst.remaining() <= remaining) {
+            return this.delegate.read(dst, position);
+        }
+
+        final var limited = dst.duplicate();
+        limited.limit(limited.position() + (int) remaining);
+        final var read = this.delegate.read(limited, position);
+        if (read > 0) {
+            dst.position(dst.position() + read);
+        }
+        return read;
+    }
+
+    @Override
+    public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+        final var bounded = Math.min(count, this.end - position);
+        return bounded <= 0 ? 0 : this.delegate.transferTo(position, bounded, target);
+    }
+
+    @Override
+    public long position() throws IOException {
+        return this.delegate.position();
+    }
+
+    @Override
+    public FileChannel position(final long newPosition) throws IOException {
+        this.delegate.position(newPosition);
+        return this;
+    }
+
+    @Override
+    public long size() {
+        return this.end;
+    }
+
+    @Override
+    public int write(final ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long write(final ByteBuffer[] srcs, final int offset, final int length) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public int write(final ByteBuffer src, final long position) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public FileChannel truncate(final long size) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public void force(final boolean metaData) {
+    }
+
+    @Override
+    public long transferFrom(final ReadableByteChannel src, final long position, final long count) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public MappedByteBuffer map(final MapMode mode, final long position, final long size) throws IOException {
+        if (mode != MapMode.READ_ONLY) {
+            throw new NonWritableChannelException();
+        }
+        if (position + size > this.end) {
+            throw new IllegalArgumentException("Can not map past the end of the view");
+        }
+        return this.delegate.map(mode, position, size);
+    }
+
+    @Override
+    public FileLock lock(final long position, final long size, final boolean shared) throws IOException {
+        if (!shared) {
+            throw new NonWritableChannelException();
+        }
+        return this.delegate.lock(position, size, true);
+    }
+
+    @Override
+    public FileLock tryLock(final long position, final long size, final boolean shared) throws IOException {
+        if (!shared) {
+            throw new NonWritableChannelException();
+        }
+        return this.delegate.tryLock(position, size, true);
+    }
+
+    @Override
+    protected void implCloseChannel() {
+        // the delegate belongs to the caller
+    }
+}
@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoFacets;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.cache.AggregateCache;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serves {@link #findById(VideoID)} from an {@link AggregateCache} and forwards everything else to the
+ * {@link VideoMySQLGateway}, dropping the cached entry of every video it writes or fails to update.
+ */
+@Primary
+@Component
+public class CachedVideoGateway implements VideoGateway {
+
+    private final VideoMySQLGateway delegate;
+    private final AggregateCache<VideoID, Video> cache;
+
+    public CachedVideoGateway(final VideoMySQLGateway delegate, final AggregateCache<VideoID, Video> cache) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public Video create(final Video aVideo) {
+        final var result = this.delegate.create(aVideo);
+        this.cache.invalidate(aVideo.getId());
+        return result;
+    }
+
+    @Override
+    public void deleteById(final VideoID anId) {
+        this.delegate.deleteById(anId);
+        this.cache.invalidate(anId);
+    }
+
+    @Override
+    public Optional<Video> findById(final VideoID anId) {
+        return this.cache.get(anId, this.delegate::findById);
+    }
+
+    @Override
+    public Video update(final Video aVideo) {
+        try {
+            return this.delegate.update(aVideo);
+        } finally {
+            this.cache.invalidate(aVideo.getId());
+        }
+    }
+
+    @Override
+    public Pagination<Video> findAll(final VideoSearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public VideoFacets facets(final VideoSearchQuery aQuery) {
+        return this.delegate.facets(aQuery);
+    }
+}
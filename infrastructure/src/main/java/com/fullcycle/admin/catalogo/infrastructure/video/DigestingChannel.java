@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Feeds every byte read through the wrapped channel into a SHA-256 digest.
+ */
+final class DigestingChannel implements ReadableByteChannel {
+
+    private final ReadableByteChannel delegate;
+    private final MessageDigest digest;
+    private boolean endOfStream;
+
+    DigestingChannel(final ReadableByteChannel delegate) {
+        this.delegate = delegate;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) throws IOException {
+        final var start = dst.position();
+        final var read = this.delegate.read(dst);
+        if (read < 0) {
+            this.endOfStream = true;
+        } else if (read > 0) {
+            final var view = dst.duplicate();
+            view.position(start).limit(start + read);
+            this.digest.update(view);
+        }
+        return read;
+    }
+
+    boolean isEndOfStream() {
+        return this.endOfStream;
+    }
+
+    /**
+     * The hex SHA-256 of everything read so far. Call it once, after the last read.
+     */
+    String checksum() {
+        return HexFormat.of().formatHex(this.digest.digest());
+    }
+
+    @Override
+    public boolean isOpen() {
+        return this.delegate.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.delegate.close();
+    }
+}
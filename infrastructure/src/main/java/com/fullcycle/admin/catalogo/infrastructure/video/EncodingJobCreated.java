@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.EncodingJobID;
+
+/**
+ * Published by {@link EncodingJobMySQLGateway} when a job is stored, so {@link MediaEncodingPipeline} can run it
+ * as soon as the transaction commits instead of waiting for its next sweep.
+ */
+public record EncodingJobCreated(EncodingJobID jobId) {
+}
@@ -0,0 +1,72 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.EncodingJob;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJobGateway;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJobID;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.EncodingJobJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.EncodingJobRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class EncodingJobMySQLGateway implements EncodingJobGateway {
+
+    private final EncodingJobRepository encodingJobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public EncodingJobMySQLGateway(
+            final EncodingJobRepository encodingJobRepository,
+            final ApplicationEventPublisher eventPublisher
+    ) {
+        this.encodingJobRepository = Objects.requireNonNull(encodingJobRepository);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+    }
+
+    @Override
+    @Transactional
+    public EncodingJob create(final EncodingJob aJob) {
+        this.encodingJobRepository.save(EncodingJobJpaEntity.from(aJob));
+        this.eventPublisher.publishEvent(new EncodingJobCreated(aJob.getId()));
+        return aJob;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EncodingJob> findById(final EncodingJobID anId) {
+        return this.encodingJobRepository.findById(anId.getValue())
+                .map(EncodingJobJpaEntity::toAggregate);
+    }
+
+    @Override
+    @Transactional
+    public EncodingJob update(final EncodingJob aJob) {
+        this.encodingJobRepository.save(EncodingJobJpaEntity.from(aJob));
+        return aJob;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EncodingJob> findRetryable(final int limit) {
+        final var statuses = List.of(MediaStatus.PENDING, MediaStatus.PROCESSING);
+        return this.encodingJobRepository.findRetryable(statuses, EncodingJob.MAX_ATTEMPTS, PageRequest.of(0, limit))
+                .stream()
+                .map(EncodingJobJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(final EncodingJobID anId) {
+        final var aJobId = anId.getValue();
+        if (this.encodingJobRepository.existsById(aJobId)) {
+            this.encodingJobRepository.deleteById(aJobId);
+        }
+    }
+}
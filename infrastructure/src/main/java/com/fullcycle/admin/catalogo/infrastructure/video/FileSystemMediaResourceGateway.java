@@ -0,0 +1,370 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressable media store.
+ * <p>
+ * Every blob is kept once under {@code <root>/.blobs/<xx>/<sha256>} and each video media is a symbolic link
+ * {@code <root>/<videoId>/<mediaType>} pointing at it. A blob holds one reference marker per linked media in
+ * {@code <sha256>.refs/<videoId>.<mediaType>}; when the last one goes away, on replace or on
+ * {@link #clearResources(VideoID)}, the blob is moved into {@code <root>/.trash} and deleted on a background thread.
+ * <p>
+ * New content is written to a temporary file with {@link FileChannel#transferFrom}, hashed (SHA-256) as the bytes
+ * go by, forced to disk and only then renamed into place, so readers never see a partial file. When the resource
+ * announces a SHA-256 checksum that is already stored, the content is only hashed to confirm it and nothing is written.
+ */
+@Component
+public class FileSystemMediaResourceGateway implements MediaResourceGateway, DisposableBean {
+
+    private static final String BLOBS = ".blobs";
+    private static final String TRASH = ".trash";
+    private static final String REFS_SUFFIX = ".refs";
+    private static final long TRANSFER_CHUNK = 8L * 1024 * 1024;
+    private static final Pattern SHA_256 = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final Path blobs;
+    private final Object[] locks;
+    private final ExecutorService deleter;
+
+    public FileSystemMediaResourceGateway(
+            @Value("${storage.videos.location:${java.io.tmpdir}/catalogo/videos}") final String root
+    ) {
+        this.root = Path.of(Objects.requireNonNull(root)).toAbsolutePath().normalize();
+        this.blobs = this.root.resolve(BLOBS);
+        this.locks = new Object[64];
+        Arrays.setAll(this.locks, i -> new Object());
+        this.deleter = Executors.newSingleThreadExecutor(task -> {
+            final var thread = new Thread(task, "media-resource-deleter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public AudioVideoMedia storeAudioVideo(final VideoID anId, final VideoResource aResource) {
+        final var stored = store(anId, aResource);
+        return AudioVideoMedia.with(
+                stored.checksum(),
+                aResource.resource().name(),
+                stored.location().toString(),
+                "",
+                MediaStatus.PENDING
+        );
+    }
+
+    @Override
+    public ImageMedia storeImage(final VideoID anId, final VideoResource aResource) {
+        final var stored = store(anId, aResource);
+        return ImageMedia.with(stored.checksum(), aResource.resource().name(), stored.location().toString());
+    }
+
+    /**
+     * The stored media as a resource whose channel is a {@link FileChannel}, so callers may hand it to
+     * {@link FileChannel#transferTo} and let the kernel copy the bytes.
+     */
+    @Override
+    public Optional<Resource> getResource(final VideoID anId, final VideoMediaType aType) {
+        final var location = location(anId, aType);
+
+        try {
+            final var length = Files.size(location);
+            return Optional.of(Resource.with(
+                    Resource.Content.ofChannel(() -> FileChannel.open(location, StandardOpenOption.READ)),
+                    length,
+                    linkedChecksum(location),
+                    "application/octet-stream",
+                    location.getFileName().toString()
+            ));
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void clearResources(final VideoID anId) {
+        final var directory = videoDirectory(anId);
+        if (Files.notExists(directory)) {
+            return;
+        }
+
+        try (final var entries = Files.newDirectoryStream(directory)) {
+            for (final var entry : entries) {
+                final var checksum = linkedChecksum(entry);
+                Files.deleteIfExists(entry);
+                if (checksum != null) {
+                    release(checksum, reference(anId, entry.getFileName().toString()));
+                }
+            }
+            Files.deleteIfExists(directory);
+        } catch (final NoSuchFileException | DirectoryNotEmptyException e) {
+            // a concurrent store or clear got there first
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path location(final VideoID anId, final VideoMediaType aType) {
+        return videoDirectory(anId).resolve(aType.name().toLowerCase());
+    }
+
+    public Path blob(final String aChecksum) {
+        return this.blobs.resolve(aChecksum.substring(0, 2)).resolve(aChecksum);
+    }
+
+    @Override
+    public void destroy() {
+        this.deleter.shutdown();
+    }
+
+    private Stored store(final VideoID anId, final VideoResource aResource) {
+        final var target = location(anId, aResource.type());
+        final var reference = reference(anId, target.getFileName().toString());
+        final var announced = aResource.resource().checksum();
+
+        try {
+            final var previous = linkedChecksum(target);
+            final String checksum;
+
+            if (announced != null && SHA_256.matcher(announced).matches() && acquireIfStored(announced, reference)) {
+                try {
+                    checksum = verify(aResource.resource(), announced);
+                } catch (final IOException e) {
+                    if (!announced.equals(previous)) {
+                        release(announced, reference);
+                    }
+                    throw e;
+                }
+            } else {
+                checksum = write(aResource.resource(), reference);
+            }
+
+            link(target, checksum, previous, reference);
+            return new Stored(target, checksum);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Hashes the content of a resource whose blob is already stored and referenced, without writing anything.
+     */
+    private String verify(final Resource aResource, final String expectedChecksum) throws IOException {
+        final var buffer = ByteBuffer.allocate(64 * 1024);
+        final String actualChecksum;
+        long read = 0;
+
+        try (final var source = new DigestingChannel(aResource.openChannel())) {
+            int n;
+            while ((n = source.read(buffer)) >= 0) {
+                buffer.clear();
+                read += n;
+            }
+            actualChecksum = source.checksum();
+        }
+
+        if (!expectedChecksum.equals(actualChecksum) || !hasExpectedLength(aResource, read)) {
+            throw new IOException("Content of %s does not match its checksum %s".formatted(aResource.name(), expectedChecksum));
+        }
+        return actualChecksum;
+    }
+
+    /**
+     * Streams a resource into a temporary file while hashing it, then moves it into its blob unless the same
+     * content was stored in the meantime.
+     */
+    private String write(final Resource aResource, final String reference) throws IOException {
+        Files.createDirectories(this.blobs);
+        final var temp = Files.createTempFile(this.blobs, "upload-", ".tmp");
+
+        try {
+            final String checksum;
+            long written = 0;
+
+            try (final var source = new DigestingChannel(aResource.openChannel());
+                 final var out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long transferred;
+                while ((transferred = out.transferFrom(source, written, TRANSFER_CHUNK)) > 0 || !source.isEndOfStream()) {
+                    written += transferred;
+                }
+                out.force(true);
+                checksum = source.checksum();
+            }
+
+            if (!hasExpectedLength(aResource, written)) {
+                throw new IOException("Expected %d bytes but received %d for %s".formatted(aResource.length(), written, aResource.name()));
+            }
+
+            final var blob = blob(checksum);
+
+            synchronized (lock(checksum)) {
+                if (Files.notExists(blob)) {
+                    Files.createDirectories(blob.getParent());
+                    Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+                    forceDirectory(blob.getParent());
+                }
+                acquire(checksum, reference);
+            }
+            return checksum;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Points a video media at its blob, releasing the blob it pointed at before.
+     */
+    private void link(final Path target, final String checksum, final String previous, final String reference) throws IOException {
+        Files.createDirectories(target.getParent());
+
+        final var temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+
+        try {
+            Files.createSymbolicLink(temp, target.getParent().relativize(blob(checksum)));
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            forceDirectory(target.getParent());
+        } catch (final IOException e) {
+            Files.deleteIfExists(temp);
+            if (!checksum.equals(previous)) {
+                release(checksum, reference);
+            }
+            throw e;
+        }
+
+        if (previous != null && !previous.equals(checksum)) {
+            release(previous, reference);
+        }
+    }
+
+    private boolean acquireIfStored(final String checksum, final String reference) throws IOException {
+        synchronized (lock(checksum)) {
+            if (Files.notExists(blob(checksum))) {
+                return false;
+            }
+            acquire(checksum, reference);
+            return true;
+        }
+    }
+
+    private void acquire(final String checksum, final String reference) throws IOException {
+        final var refs = refs(checksum);
+        Files.createDirectories(refs);
+        try {
+            Files.createFile(refs.resolve(reference));
+        } catch (final FileAlreadyExistsException ignored) {
+            // the same media already referenced this content
+        }
+    }
+
+    /**
+     * Drops one reference of a blob and sends the blob to the trash when it was the last one.
+     */
+    private void release(final String checksum, final String reference) throws IOException {
+        final Path trashed;
+
+        synchronized (lock(checksum)) {
+            final var refs = refs(checksum);
+            Files.deleteIfExists(refs.resolve(reference));
+
+            try (final var remaining = Files.list(refs)) {
+                if (remaining.findAny().isPresent()) {
+                    return;
+                }
+            } catch (final NoSuchFileException e) {
+                return;
+            }
+
+            Files.deleteIfExists(refs);
+            try {
+                final var trash = Files.createDirectories(this.root.resolve(TRASH));
+                trashed = Files.move(blob(checksum), trash.resolve(checksum + "-" + UUID.randomUUID()), StandardCopyOption.ATOMIC_MOVE);
+            } catch (final NoSuchFileException e) {
+                return;
+            }
+        }
+
+        this.deleter.execute(() -> {
+            try {
+                Files.deleteIfExists(trashed);
+            } catch (final IOException ignored) {
+                // whatever could not be deleted stays under the trash directory
+            }
+        });
+    }
+
+    private String linkedChecksum(final Path entry) throws IOException {
+        if (!Files.isSymbolicLink(entry)) {
+            return null;
+        }
+        final var checksum = Files.readSymbolicLink(entry).getFileName().toString();
+        return SHA_256.matcher(checksum).matches() ? checksum : null;
+    }
+
+    private Path refs(final String checksum) {
+        final var blob = blob(checksum);
+        return blob.resolveSibling(blob.getFileName() + REFS_SUFFIX);
+    }
+
+    private Object lock(final String checksum) {
+        return this.locks[Math.floorMod(checksum.hashCode(), this.locks.length)];
+    }
+
+    private static String reference(final VideoID anId, final String aMediaName) {
+        return anId.getValue() + "." + aMediaName;
+    }
+
+    private static boolean hasExpectedLength(final Resource aResource, final long actualLength) {
+        return aResource.length() <= 0 || aResource.length() == actualLength;
+    }
+
+    private Path videoDirectory(final VideoID anId) {
+        final var directory = this.root.resolve(anId.getValue()).normalize();
+        if (!directory.getParent().equals(this.root)) {
+            throw new IllegalArgumentException("Invalid video id: " + anId.getValue());
+        }
+        return directory;
+    }
+
+    private static void forceDirectory(final Path directory) {
+        // makes the rename durable; not every platform allows opening a directory, so best effort only
+        try (final var channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (final IOException | UnsupportedOperationException ignored) {
+        }
+    }
+
+    private record Stored(Path location, String checksum) {
+    }
+}
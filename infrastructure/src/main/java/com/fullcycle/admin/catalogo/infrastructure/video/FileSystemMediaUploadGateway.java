@@ -0,0 +1,208 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadID;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Keeps each upload under {@code <root>/<uploadId>}: its description in {@code upload.json}, a {@code data} file
+ * of the full length that every chunk is written into at its own offset, and one empty marker per received chunk
+ * in {@code chunks/}. Chunks can therefore arrive in any order, concurrently, and the complete upload is read back
+ * as a single file without being assembled.
+ */
+@Component
+public class FileSystemMediaUploadGateway implements MediaUploadGateway {
+
+    private static final String DESCRIPTOR = "upload.json";
+    private static final String DATA = "data";
+    private static final String CHUNKS = "chunks";
+
+    private final Path root;
+
+    public FileSystemMediaUploadGateway(
+            @Value("${storage.uploads.location:${java.io.tmpdir}/catalogo/uploads}") final String root
+    ) {
+        this.root = Path.of(Objects.requireNonNull(root)).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public MediaUpload create(final MediaUpload anUpload) {
+        final var directory = uploadDirectory(anUpload.getId());
+
+        try {
+            Files.createDirectories(directory.resolve(CHUNKS));
+            try (final var data = new RandomAccessFile(directory.resolve(DATA).toFile(), "rw")) {
+                data.setLength(anUpload.getLength());
+            }
+            Files.writeString(directory.resolve(DESCRIPTOR), Json.writeValueAsString(Descriptor.from(anUpload)), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return anUpload;
+    }
+
+    @Override
+    public Optional<MediaUpload> findById(final MediaUploadID anId) {
+        final var descriptor = uploadDirectory(anId).resolve(DESCRIPTOR);
+
+        try {
+            return Optional.of(Json.readValue(Files.readString(descriptor, StandardCharsets.UTF_8), Descriptor.class).toAggregate());
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String storeChunk(final MediaUpload anUpload, final int aChunk, final Resource aContent) {
+        final var directory = uploadDirectory(anUpload.getId());
+        final var offset = anUpload.chunkOffset(aChunk);
+        final var length = anUpload.chunkLength(aChunk);
+
+        try {
+            Files.deleteIfExists(directory.resolve(CHUNKS).resolve(String.valueOf(aChunk)));
+
+            try (final var source = new DigestingChannel(aContent.openChannel());
+                 final var out = FileChannel.open(directory.resolve(DATA), StandardOpenOption.WRITE)) {
+                long written = 0;
+                long transferred;
+                while (written < length
+                        && ((transferred = out.transferFrom(source, offset + written, length - written)) > 0 || !source.isEndOfStream())) {
+                    written += transferred;
+                }
+                out.force(false);
+                return source.checksum();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void markChunkReceived(final MediaUpload anUpload, final int aChunk) {
+        try {
+            Files.createFile(uploadDirectory(anUpload.getId()).resolve(CHUNKS).resolve(String.valueOf(aChunk)));
+        } catch (final FileAlreadyExistsException ignored) {
+            // the chunk was already marked by a concurrent request with the same content
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public SortedSet<Integer> receivedChunks(final MediaUpload anUpload) {
+        final var received = new TreeSet<Integer>();
+
+        try (final var markers = Files.newDirectoryStream(uploadDirectory(anUpload.getId()).resolve(CHUNKS))) {
+            for (final var marker : markers) {
+                received.add(Integer.parseInt(marker.getFileName().toString()));
+            }
+        } catch (final NoSuchFileException e) {
+            return received;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return received;
+    }
+
+    @Override
+    public Resource content(final MediaUpload anUpload) {
+        final var data = uploadDirectory(anUpload.getId()).resolve(DATA);
+        return Resource.with(
+                Resource.Content.ofChannel(() -> FileChannel.open(data, StandardOpenOption.READ)),
+                anUpload.getLength(),
+                null,
+                anUpload.getContentType(),
+                anUpload.getName()
+        );
+    }
+
+    @Override
+    public void deleteById(final MediaUploadID anId) {
+        final var directory = uploadDirectory(anId);
+        if (Files.notExists(directory)) {
+            return;
+        }
+
+        try (final var paths = Files.walk(directory)) {
+            for (final var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path uploadDirectory(final MediaUploadID anId) {
+        final var directory = this.root.resolve(anId.getValue()).normalize();
+        if (!directory.getParent().equals(this.root)) {
+            throw new IllegalArgumentException("Invalid upload id: " + anId.getValue());
+        }
+        return directory;
+    }
+
+    private record Descriptor(
+            @JsonProperty("id") String id,
+            @JsonProperty("video_id") String videoId,
+            @JsonProperty("media_type") VideoMediaType mediaType,
+            @JsonProperty("name") String name,
+            @JsonProperty("content_type") String contentType,
+            @JsonProperty("length") long length,
+            @JsonProperty("chunk_size") int chunkSize,
+            @JsonProperty("created_at") Instant createdAt
+    ) {
+
+        static Descriptor from(final MediaUpload anUpload) {
+            return new Descriptor(
+                    anUpload.getId().getValue(),
+                    anUpload.getVideoId().getValue(),
+                    anUpload.getMediaType(),
+                    anUpload.getName(),
+                    anUpload.getContentType(),
+                    anUpload.getLength(),
+                    anUpload.getChunkSize(),
+                    anUpload.getCreatedAt()
+            );
+        }
+
+        MediaUpload toAggregate() {
+            return MediaUpload.with(
+                    MediaUploadID.from(id),
+                    VideoID.from(videoId),
+                    mediaType,
+                    name,
+                    contentType,
+                    length,
+                    chunkSize,
+                    createdAt
+            );
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.EncodingJob;
+import com.fullcycle.admin.catalogo.domain.video.MediaEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stand-in {@link MediaEncoder} that encodes on the local machine into
+ * {@code <root>/<videoId>/<type>/<checksum>}.
+ * <p>
+ * Without a command the raw media is only copied. With a command such as
+ * {@code ffmpeg -nostdin -y -i {input} -c:v libx264 {output}}, every {@code {input}} and {@code {output}} token is
+ * replaced by the raw media and the target file, and the target gets {@code extension}. The result is written to a
+ * temporary file and moved into place, so an existing target is always complete and is reused by a job that is run
+ * again.
+ */
+@Component
+public class LocalMediaEncoder implements MediaEncoder {
+
+    private static final String INPUT = "{input}";
+    private static final String OUTPUT = "{output}";
+
+    private final Path root;
+    private final List<String> command;
+    private final String extension;
+    private final Duration timeout;
+
+    public LocalMediaEncoder(
+            @Value("${storage.encoded.location:${java.io.tmpdir}/catalogo/encoded}") final String root,
+            @Value("${encoding.local.command:}") final String command,
+            @Value("${encoding.local.extension:mp4}") final String extension,
+            @Value("${encoding.local.timeout:PT1H}") final Duration timeout
+    ) {
+        this.root = Path.of(Objects.requireNonNull(root)).toAbsolutePath().normalize();
+        this.command = Arrays.stream(command.trim().split("\\s+")).filter(it -> !it.isEmpty()).toList();
+        this.extension = Objects.requireNonNull(extension);
+        this.timeout = Objects.requireNonNull(timeout);
+    }
+
+    @Override
+    public String encode(final EncodingJob aJob) {
+        final var source = Path.of(aJob.getRawLocation());
+        final var directory = this.root
+                .resolve(aJob.getVideoId().getValue())
+                .resolve(aJob.getMediaType().name().toLowerCase(Locale.ROOT));
+        final var fileName = this.command.isEmpty() ? aJob.getChecksum() : aJob.getChecksum() + "." + this.extension;
+        final var target = directory.resolve(fileName);
+
+        if (Files.isRegularFile(target)) {
+            return target.toString();
+        }
+
+        final var temp = directory.resolve(".tmp-" + UUID.randomUUID() + "-" + fileName);
+        try {
+            Files.createDirectories(directory);
+            if (this.command.isEmpty()) {
+                Files.copy(source, temp);
+            } else {
+                run(source, temp);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return target.toString();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (final IOException ignored) {
+                // the temporary file only takes space until the next run of the job
+            }
+        }
+    }
+
+    private void run(final Path source, final Path target) throws IOException {
+        final var arguments = this.command.stream()
+                .map(it -> it.replace(INPUT, source.toString()).replace(OUTPUT, target.toString()))
+                .toList();
+
+        final var process = new ProcessBuilder(arguments)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+        try {
+            if (!process.waitFor(this.timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                throw new IllegalStateException("Encoder did not finish within %s: %s".formatted(this.timeout, arguments));
+            }
+        } catch (final InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while encoding " + source, e);
+        }
+
+        if (process.exitValue() != 0) {
+            throw new IllegalStateException("Encoder exited with %d: %s".formatted(process.exitValue(), arguments));
+        }
+        if (!Files.isRegularFile(target)) {
+            throw new IllegalStateException("Encoder did not write %s: %s".formatted(target, arguments));
+        }
+    }
+}
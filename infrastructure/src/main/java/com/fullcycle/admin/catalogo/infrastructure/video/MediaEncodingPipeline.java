@@ -0,0 +1,156 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.application.video.media.encode.EncodeMediaCommand;
+import com.fullcycle.admin.catalogo.application.video.media.encode.EncodeMediaUseCase;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJob;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJobGateway;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJobID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs {@link EncodingJob}s on a fixed pool of workers, one per core by default, fed by a bounded queue.
+ * <p>
+ * New jobs are submitted once the transaction that stored them commits. A sweep, run at start and then every
+ * {@code sweepInterval}, submits the oldest jobs that can still be retried, at most a queue's worth: that resumes the
+ * jobs of a previous run, retries failed ones, and picks up those that were turned away while the queue was full. A
+ * job is never in the queue twice.
+ */
+@Component
+@ConditionalOnProperty(name = "encoding.enabled", havingValue = "true", matchIfMissing = true)
+public class MediaEncodingPipeline implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaEncodingPipeline.class);
+
+    private final EncodingJobGateway encodingJobGateway;
+    private final EncodeMediaUseCase encodeMediaUseCase;
+    private final int workers;
+    private final int queueCapacity;
+    private final Duration sweepInterval;
+    private final Set<EncodingJobID> submitted = ConcurrentHashMap.newKeySet();
+
+    private volatile ThreadPoolExecutor executor;
+    private volatile ScheduledExecutorService sweeper;
+
+    public MediaEncodingPipeline(
+            final EncodingJobGateway encodingJobGateway,
+            final EncodeMediaUseCase encodeMediaUseCase,
+            @Value("${encoding.workers:0}") final int workers,
+            @Value("${encoding.queue-capacity:256}") final int queueCapacity,
+            @Value("${encoding.sweep-interval:PT30S}") final Duration sweepInterval
+    ) {
+        this.encodingJobGateway = Objects.requireNonNull(encodingJobGateway);
+        this.encodeMediaUseCase = Objects.requireNonNull(encodeMediaUseCase);
+        this.workers = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = queueCapacity;
+        this.sweepInterval = Objects.requireNonNull(sweepInterval);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (isRunning()) {
+            return;
+        }
+
+        final var counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                this.workers,
+                this.workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.queueCapacity),
+                task -> daemon(task, "media-encoder-" + counter.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(task -> daemon(task, "media-encoder-sweeper"));
+        this.sweeper.scheduleWithFixedDelay(this::sweep, 0, this.sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!isRunning()) {
+            return;
+        }
+
+        this.sweeper.shutdownNow();
+        this.executor.shutdownNow();
+        try {
+            this.executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.submitted.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        final var executor = this.executor;
+        return executor != null && !executor.isShutdown();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobCreated(final EncodingJobCreated anEvent) {
+        submit(anEvent.jobId());
+    }
+
+    /**
+     * @return whether the job was queued; {@code false} when it already is, or when the queue is full
+     */
+    public boolean submit(final EncodingJobID anId) {
+        final var executor = this.executor;
+        if (executor == null || executor.isShutdown() || !this.submitted.add(anId)) {
+            return false;
+        }
+
+        try {
+            executor.execute(() -> run(anId));
+            return true;
+        } catch (final RejectedExecutionException e) {
+            this.submitted.remove(anId);
+            return false;
+        }
+    }
+
+    void sweep() {
+        try {
+            for (final var aJob : this.encodingJobGateway.findRetryable(this.queueCapacity)) {
+                submit(aJob.getId());
+            }
+        } catch (final RuntimeException e) {
+            log.warn("Could not load the retryable encoding jobs", e);
+        }
+    }
+
+    private void run(final EncodingJobID anId) {
+        try {
+            this.encodeMediaUseCase.execute(EncodeMediaCommand.with(anId.getValue()));
+        } catch (final RuntimeException e) {
+            log.warn("Encoding job {} failed", anId.getValue(), e);
+        } finally {
+            this.submitted.remove(anId);
+        }
+    }
+
+    private static Thread daemon(final Runnable task, final String name) {
+        final var thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
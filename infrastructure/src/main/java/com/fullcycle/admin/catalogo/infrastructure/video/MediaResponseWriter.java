@@ -0,0 +1,249 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.application.video.media.get.MediaOutput;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import io.undertow.servlet.spec.ServletOutputStreamImpl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StreamUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes a stored media honoring {@code Range}, {@code If-Range} and {@code If-None-Match}, with a strong ETag
+ * made of the media checksum.
+ * <p>
+ * Single ranges are answered with {@code 206} and multiple ranges with a {@code multipart/byteranges} body. A
+ * {@code Range} that can not be parsed is ignored, as RFC 7233 section 3.1 requires; {@code 416} is kept for ranges
+ * that are well-formed but unsatisfiable, overlapping, or too many. When
+ * the media is a file and the server is Undertow, every range is handed to
+ * {@link ServletOutputStreamImpl#transferFrom(FileChannel)}, which sends it with sendfile instead of copying it
+ * through the JVM.
+ */
+public final class MediaResponseWriter {
+
+    private static final int MAX_RANGES = 64;
+    private static final String BYTES = "bytes";
+
+    private MediaResponseWriter() {
+    }
+
+    public static void write(
+            final MediaOutput aMedia,
+            final HttpServletRequest request,
+            final HttpServletResponse response
+    ) throws IOException {
+        final var content = aMedia.content();
+        final var length = content.length();
+        final var etag = "\"" + aMedia.checksum() + "\"";
+        final var contentType = MediaTypeFactory.getMediaType(aMedia.name()).orElse(MediaType.APPLICATION_OCTET_STREAM);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, BYTES);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                .filename(aMedia.name(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        final List<Region> regions;
+        try {
+            regions = requestedRegions(request, etag, length);
+        } catch (final UnsatisfiableRangeException e) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, BYTES + " */" + length);
+            return;
+        }
+
+        final var withBody = !HttpMethod.HEAD.matches(request.getMethod());
+
+        if (regions.isEmpty()) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(contentType.toString());
+            response.setContentLengthLong(length);
+            if (withBody) {
+                send(content, List.of(new Region(0, length)), response.getOutputStream(), null, contentType, length);
+            }
+            return;
+        }
+
+        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+
+        if (regions.size() == 1) {
+            final var region = regions.get(0);
+            response.setContentType(contentType.toString());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, region.contentRange(length));
+            response.setContentLengthLong(region.count());
+            if (withBody) {
+                send(content, regions, response.getOutputStream(), null, contentType, length);
+            }
+            return;
+        }
+
+        final var boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(multipartLength(regions, boundary, contentType, length));
+        if (withBody) {
+            send(content, regions, response.getOutputStream(), boundary, contentType, length);
+        }
+    }
+
+    private static List<Region> requestedRegions(final HttpServletRequest request, final String etag, final long length) {
+        final var range = request.getHeader(HttpHeaders.RANGE);
+        if (range == null || range.isBlank()) {
+            return List.of();
+        }
+
+        final var ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.trim().equals(etag)) {
+            return List.of();
+        }
+
+        if (range.split(",").length > MAX_RANGES) {
+            throw new UnsatisfiableRangeException();
+        }
+
+        final List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(range);
+        } catch (final IllegalArgumentException e) {
+            return List.of();
+        }
+
+        final var regions = new ArrayList<Region>(ranges.size());
+        long total = 0;
+        for (final var aRange : ranges) {
+            final var start = aRange.getRangeStart(length);
+            final var end = aRange.getRangeEnd(length);
+            if (start >= length || end < start) {
+                throw new UnsatisfiableRangeException();
+            }
+            regions.add(new Region(start, end - start + 1));
+            total += end - start + 1;
+        }
+
+        if (regions.size() > 1 && total > length) {
+            throw new UnsatisfiableRangeException();
+        }
+        return regions;
+    }
+
+    private static void send(
+            final Resource content,
+            final List<Region> regions,
+            final OutputStream out,
+            final String boundary,
+            final MediaType contentType,
+            final long length
+    ) throws IOException {
+        try (final var channel = content.openChannel()) {
+            final var file = channel instanceof FileChannel fc ? fc : null;
+
+            for (final var region : regions) {
+                if (boundary != null) {
+                    out.write(region.partHeader(boundary, contentType, length));
+                }
+                if (file != null) {
+                    transfer(file, region, out);
+                } else {
+                    try (final var in = content.openStream()) {
+                        StreamUtils.copyRange(in, out, region.start(), region.end());
+                    }
+                }
+            }
+
+            if (boundary != null) {
+                out.write(closingDelimiter(boundary));
+            }
+        }
+    }
+
+    private static void transfer(final FileChannel file, final Region region, final OutputStream out) throws IOException {
+        if (out instanceof ServletOutputStreamImpl undertow) {
+            undertow.transferFrom(BoundedFileChannel.of(file, region.start(), region.count()));
+            return;
+        }
+
+        final var target = Channels.newChannel(out);
+        long sent = 0;
+        while (sent < region.count()) {
+            final var transferred = file.transferTo(region.start() + sent, region.count() - sent, target);
+            if (transferred <= 0) {
+                throw new EOFException("Media ended before byte %d".formatted(region.start() + sent));
+            }
+            sent += transferred;
+        }
+    }
+
+    private static long multipartLength(
+            final List<Region> regions,
+            final String boundary,
+            final MediaType contentType,
+            final long length
+    ) {
+        long total = closingDelimiter(boundary).length;
+        for (final var region : regions) {
+            total += region.partHeader(boundary, contentType, length).length + region.count();
+        }
+        return total;
+    }
+
+    private static byte[] closingDelimiter(final String boundary) {
+        return ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static boolean matches(final String ifNoneMatch, final String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(it -> it.startsWith("W/") ? it.substring(2) : it)
+                .anyMatch(it -> it.equals("*") || it.equals(etag));
+    }
+
+    private record Region(long start, long count) {
+
+        long end() {
+            return start + count - 1;
+        }
+
+        String contentRange(final long length) {
+            return "%s %d-%d/%d".formatted(BYTES, start, end(), length);
+        }
+
+        byte[] partHeader(final String boundary, final MediaType contentType, final long length) {
+            return ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(length) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private static final class UnsatisfiableRangeException extends RuntimeException {
+
+        private UnsatisfiableRangeException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoFacets;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetPagination;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationsUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.index.VideoBitmapIndex;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoAssociations;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoAssociationsRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.jpa.domain.Specification.where;
+
+@Component
+public class VideoMySQLGateway implements VideoGateway {
+
+    private final VideoRepository videoRepository;
+    private final VideoAssociationsRepository associationsRepository;
+    private final EntityManager entityManager;
+    private final VideoBitmapIndex index;
+    private final OutboxRepository outboxRepository;
+
+    public VideoMySQLGateway(
+            final VideoRepository videoRepository,
+            final VideoAssociationsRepository associationsRepository,
+            final EntityManager entityManager,
+            final VideoBitmapIndex index,
+            final OutboxRepository outboxRepository
+    ) {
+        this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.associationsRepository = Objects.requireNonNull(associationsRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.index = Objects.requireNonNull(index);
+        this.outboxRepository = Objects.requireNonNull(outboxRepository);
+    }
+
+    @Override
+    @Transactional
+    public Video create(final Video aVideo) {
+        this.videoRepository.saveAndFlush(VideoJpaEntity.from(aVideo));
+        this.associationsRepository.insertAll(aVideo);
+        this.outboxRepository.appendPending(List.of(aVideo));
+        this.index.put(aVideo);
+        return aVideo;
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(final VideoID anId) {
+        final var aVideoId = anId.getValue();
+        if (this.videoRepository.existsById(aVideoId)) {
+            this.videoRepository.deleteById(aVideoId);
+            this.outboxRepository.append(List.of(DomainEvent.deleted(Video.class, anId)));
+            this.index.remove(anId);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Video> findById(final VideoID anId) {
+        final var aVideoId = anId.getValue();
+        return this.videoRepository.findById(aVideoId)
+                .map(it -> it.toAggregate(
+                        this.associationsRepository.findAllByVideoIds(List.of(aVideoId)).get(aVideoId)
+                ));
+    }
+
+    @Override
+    @Transactional
+    public Video update(final Video aVideo) {
+        if (this.videoRepository.updateIfVersion(VideoJpaEntity.from(aVideo)) != 1) {
+            throw ConflictException.with(Video.class, aVideo.getId(), aVideo.getVersion());
+        }
+        this.associationsRepository.replaceAll(aVideo);
+        this.outboxRepository.appendWritten(List.of(aVideo));
+        this.index.put(aVideo);
+        return Video.with(aVideo, aVideo.getVersion() + 1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<Video> findAll(final VideoSearchQuery aQuery) {
+        if (aQuery.hasFilters()) {
+            return findAllIndexed(aQuery);
+        }
+
+        final var ranked = KeysetPagination.RELEVANCE.equals(aQuery.sort());
+        final var page = PageRequest.of(
+                aQuery.page(),
+                aQuery.perPage(),
+                ranked ? Sort.unsorted() : Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+        );
+
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank());
+
+        var specifications = where(terms.map(this::assembleSpecification).orElse(null));
+        if (ranked) {
+            specifications = specifications.and(orderByRelevance(terms.orElse(null)));
+        }
+
+        final var pageResult = this.videoRepository.findAll(specifications, page);
+
+        final var associations = this.associationsRepository.findAllByVideoIds(
+                pageResult.map(VideoJpaEntity::getId).toList()
+        );
+
+        return new Pagination<>(
+                pageResult.getNumber(),
+                pageResult.getSize(),
+                pageResult.getTotalElements(),
+                pageResult.map(it -> it.toAggregate(
+                        associations.getOrDefault(it.getId(), VideoAssociations.empty())
+                )).toList()
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VideoFacets facets(final VideoSearchQuery aQuery) {
+        return this.index.facets(aQuery, termMatches(aQuery.terms()));
+    }
+
+    /**
+     * Filters and sorts in the {@link VideoBitmapIndex}, then only loads the videos of the page.
+     */
+    private Pagination<Video> findAllIndexed(final VideoSearchQuery aQuery) {
+        final var aPage = this.index.search(aQuery, termMatches(aQuery.terms()));
+
+        final var entities = this.videoRepository.findAllById(aPage.ids()).stream()
+                .collect(Collectors.toMap(VideoJpaEntity::getId, Function.identity()));
+        final var associations = this.associationsRepository.findAllByVideoIds(entities.keySet());
+
+        final var items = aPage.ids().stream()
+                .map(entities::get)
+                .filter(Objects::nonNull)
+                .map(it -> it.toAggregate(associations.getOrDefault(it.getId(), VideoAssociations.empty())))
+                .toList();
+
+        return new Pagination<>(aQuery.page(), aQuery.perPage(), aPage.total(), items);
+    }
+
+    /**
+     * The relevance of every video matching the terms, or null when there are no terms to match.
+     */
+    private Map<String, Double> termMatches(final String terms) {
+        if (terms == null || terms.isBlank()) {
+            return null;
+        }
+
+        final var relevance = SpecificationsUtils.<VideoJpaEntity>relevance(terms, "title", "description");
+        if (relevance == null) {
+            return Map.of();
+        }
+
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(VideoJpaEntity.class);
+        query.multiselect(root.get("id"), relevance.toExpression(root, query, cb))
+                .where(assembleSpecification(terms).toPredicate(root, query, cb));
+
+        final var matches = new HashMap<String, Double>();
+        this.entityManager.createQuery(query).getResultList()
+                .forEach(it -> matches.put(it.get(0, String.class), ((Number) it.get(1)).doubleValue()));
+        return matches;
+    }
+
+    private Specification<VideoJpaEntity> assembleSpecification(final String terms) {
+        return SpecificationsUtils.matches(terms, "title", "description");
+    }
+
+    private Specification<VideoJpaEntity> orderByRelevance(final String terms) {
+        final KeysetPagination.Ranking<VideoJpaEntity> relevance =
+                terms != null ? SpecificationsUtils.relevance(terms, "title", "description") : null;
+
+        // the page is unsorted, so this order is kept for the rows and dropped by the count
+        return (root, query, cb) -> {
+            if (relevance != null) {
+                query.orderBy(cb.desc(relevance.toExpression(root, query, cb)), cb.desc(root.get("id")));
+            } else {
+                query.orderBy(cb.desc(root.get("id")));
+            }
+            return null;
+        };
+    }
+}
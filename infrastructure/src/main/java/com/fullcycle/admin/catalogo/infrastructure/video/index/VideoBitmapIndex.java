@@ -0,0 +1,574 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.index;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoFacets;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetPagination;
+import com.fullcycle.admin.catalogo.infrastructure.utils.TextUtils;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.fullcycle.admin.catalogo.infrastructure.utils.TransactionUtils.afterCommit;
+
+/**
+ * In-memory facet index of every video: each one gets a dense ordinal, and each facet value (rating, launch year,
+ * published, opened, category, genre, cast member) a compressed bitmap of the ordinals holding it.
+ * <p>
+ * A {@link VideoSearchQuery} becomes one bitmap per filtered facet, the OR of its values, and the result is the AND
+ * of those; the counts of a facet are the cardinalities of its values within the AND of the other facets. Pages
+ * are sorted in memory from a small per-ordinal document, or read straight off the bitmap when sorting by
+ * {@code createdAt}, as ordinals are handed out in creation order.
+ * <p>
+ * It is loaded at startup by {@link VideoBitmapIndexLoader} and kept current by the gateways: a video write, or the
+ * delete of a category, genre or cast member it references, is applied once the surrounding transaction commits,
+ * so that no other request counts rows it cannot read yet. Reads share a lock that writes take exclusively.
+ */
+@Component
+public class VideoBitmapIndex {
+
+    private static final Map<String, Comparator<Doc>> SORTS = Map.of(
+            "title", Comparator.comparing(Doc::titleKey),
+            "createdAt", Comparator.comparing(Doc::createdAt),
+            "updatedAt", Comparator.comparing(Doc::updatedAt),
+            "yearLaunched", Comparator.comparingInt(Doc::yearLaunched),
+            "duration", Comparator.comparingDouble(Doc::duration)
+    );
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<Doc> docs = new ArrayList<>();
+
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final Map<Rating, RoaringBitmap> ratings = new EnumMap<>(Rating.class);
+    private final NavigableMap<Integer, RoaringBitmap> years = new TreeMap<>();
+    private final RoaringBitmap published = new RoaringBitmap();
+    private final RoaringBitmap opened = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> categories = new HashMap<>();
+    private final Map<String, RoaringBitmap> genres = new HashMap<>();
+    private final Map<String, RoaringBitmap> castMembers = new HashMap<>();
+
+    private final Set<String> touchedWhileLoading = new HashSet<>();
+    private final Set<String> droppedWhileLoading = new HashSet<>();
+    private boolean loading;
+    private boolean createdAtOrdered = true;
+    private Instant lastCreatedAt = Instant.MIN;
+
+    public void put(final Video aVideo) {
+        final var doc = Doc.from(aVideo);
+        afterCommit(() -> {
+            this.lock.writeLock().lock();
+            try {
+                touch(doc.id());
+                write(doc);
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(final VideoID anId) {
+        afterCommit(() -> {
+            this.lock.writeLock().lock();
+            try {
+                touch(anId.getValue());
+                erase(anId.getValue());
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Forgets a deleted category, whose links to videos the database drops along with it.
+     */
+    public void removeCategory(final CategoryID anId) {
+        afterCommit(() -> drop(this.categories, anId.getValue()));
+    }
+
+    /**
+     * Forgets a deleted genre, whose links to videos the database drops along with it.
+     */
+    public void removeGenre(final GenreID anId) {
+        afterCommit(() -> drop(this.genres, anId.getValue()));
+    }
+
+    /**
+     * Forgets a deleted cast member, whose links to videos the database drops along with it.
+     */
+    public void removeCastMember(final CastMemberID anId) {
+        afterCommit(() -> drop(this.castMembers, anId.getValue()));
+    }
+
+    /**
+     * Returns the ids of the requested page in order, and how many videos match in total.
+     *
+     * @param matches the score of every video matching the query terms, or null when there are no terms
+     */
+    public Page search(final VideoSearchQuery aQuery, final Map<String, Double> matches) {
+        final var comparator = comparator(aQuery, matches);
+
+        this.lock.readLock().lock();
+        try {
+            final var result = and(clauses(aQuery, matches), null);
+            final var total = result.getCardinality();
+            final var offset = (long) aQuery.page() * aQuery.perPage();
+            if (offset >= total || aQuery.perPage() <= 0) {
+                return new Page(total, List.of());
+            }
+
+            final var count = (int) Math.min(aQuery.perPage(), total - offset);
+            final var ids = comparator == null
+                    ? byOrdinal(result, (int) offset, count, "asc".equalsIgnoreCase(aQuery.direction()))
+                    : sorted(result, (int) offset, count, comparator);
+
+            return new Page(total, ids);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param matches the score of every video matching the query terms, or null when there are no terms
+     */
+    public VideoFacets facets(final VideoSearchQuery aQuery, final Map<String, Double> matches) {
+        this.lock.readLock().lock();
+        try {
+            final var clauses = clauses(aQuery, matches);
+
+            final var sameRating = and(clauses, Facet.RATING);
+            final var sameYear = and(clauses, Facet.LAUNCHED_AT);
+            final var samePublished = and(clauses, Facet.PUBLISHED);
+            final var sameOpened = and(clauses, Facet.OPENED);
+
+            return new VideoFacets(
+                    and(clauses, null).getCardinality(),
+                    counts(this.ratings, sameRating, Function.identity()),
+                    counts(this.years, sameYear, Year::of),
+                    flagCounts(this.published, samePublished),
+                    flagCounts(this.opened, sameOpened),
+                    counts(this.categories, and(clauses, Facet.CATEGORY), CategoryID::from),
+                    counts(this.genres, and(clauses, Facet.GENRE), GenreID::from),
+                    counts(this.castMembers, and(clauses, Facet.CAST_MEMBER), CastMemberID::from)
+            );
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.live.getCardinality();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Starts over from an empty index, as everything committed so far is about to be read again.
+     */
+    void startLoading() {
+        this.lock.writeLock().lock();
+        try {
+            this.ordinals.clear();
+            this.docs.clear();
+            this.live.clear();
+            this.ratings.clear();
+            this.years.clear();
+            this.published.clear();
+            this.opened.clear();
+            this.categories.clear();
+            this.genres.clear();
+            this.castMembers.clear();
+            this.createdAtOrdered = true;
+            this.lastCreatedAt = Instant.MIN;
+
+            this.touchedWhileLoading.clear();
+            this.droppedWhileLoading.clear();
+            this.loading = true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a video read while loading, unless it was written or removed since the load started, without the
+     * references deleted since then.
+     */
+    void load(final Video aVideo) {
+        this.lock.writeLock().lock();
+        try {
+            final var id = aVideo.getId().getValue();
+            if (!this.touchedWhileLoading.contains(id)) {
+                write(Doc.from(aVideo).without(this.droppedWhileLoading));
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    void finishLoading() {
+        this.lock.writeLock().lock();
+        try {
+            this.loading = false;
+            this.touchedWhileLoading.clear();
+            this.droppedWhileLoading.clear();
+
+            this.live.runOptimize();
+            this.published.runOptimize();
+            this.opened.runOptimize();
+            this.ratings.values().forEach(RoaringBitmap::runOptimize);
+            this.years.values().forEach(RoaringBitmap::runOptimize);
+            this.categories.values().forEach(RoaringBitmap::runOptimize);
+            this.genres.values().forEach(RoaringBitmap::runOptimize);
+            this.castMembers.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private void touch(final String anId) {
+        if (this.loading) {
+            this.touchedWhileLoading.add(anId);
+        }
+    }
+
+    /**
+     * Removes the bitmap of a deleted reference and strips it from the documents holding it, so that a later
+     * write of those videos unlinks what it actually linked.
+     */
+    private void drop(final Map<String, RoaringBitmap> bitmaps, final String anId) {
+        this.lock.writeLock().lock();
+        try {
+            if (this.loading) {
+                this.droppedWhileLoading.add(anId);
+            }
+            final var bitmap = bitmaps.remove(anId);
+            if (bitmap != null) {
+                final var dropped = Set.of(anId);
+                bitmap.forEach((int ordinal) -> this.docs.set(ordinal, this.docs.get(ordinal).without(dropped)));
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private void write(final Doc aDoc) {
+        var ordinal = this.ordinals.get(aDoc.id());
+        if (ordinal == null) {
+            ordinal = this.docs.size();
+            this.docs.add(null);
+            this.ordinals.put(aDoc.id(), ordinal);
+
+            if (aDoc.createdAt().isBefore(this.lastCreatedAt)) {
+                this.createdAtOrdered = false;
+            }
+            this.lastCreatedAt = aDoc.createdAt();
+        }
+
+        final var previous = this.docs.set(ordinal, aDoc);
+        if (previous != null) {
+            unlink(ordinal, previous);
+        }
+        link(ordinal, aDoc);
+    }
+
+    /**
+     * Deleted videos keep their ordinal, so that ordinals stay dense and in creation order.
+     */
+    private void erase(final String anId) {
+        final var ordinal = this.ordinals.get(anId);
+        if (ordinal == null) {
+            return;
+        }
+        final var previous = this.docs.set(ordinal, null);
+        if (previous != null) {
+            unlink(ordinal, previous);
+        }
+    }
+
+    private void link(final int ordinal, final Doc aDoc) {
+        this.live.add(ordinal);
+        this.ratings.computeIfAbsent(aDoc.rating(), it -> new RoaringBitmap()).add(ordinal);
+        this.years.computeIfAbsent(aDoc.yearLaunched(), it -> new RoaringBitmap()).add(ordinal);
+        if (aDoc.published()) {
+            this.published.add(ordinal);
+        }
+        if (aDoc.opened()) {
+            this.opened.add(ordinal);
+        }
+        aDoc.categories().forEach(it -> this.categories.computeIfAbsent(it, key -> new RoaringBitmap()).add(ordinal));
+        aDoc.genres().forEach(it -> this.genres.computeIfAbsent(it, key -> new RoaringBitmap()).add(ordinal));
+        aDoc.castMembers().forEach(it -> this.castMembers.computeIfAbsent(it, key -> new RoaringBitmap()).add(ordinal));
+    }
+
+    private void unlink(final int ordinal, final Doc aDoc) {
+        this.live.remove(ordinal);
+        unlink(this.ratings, aDoc.rating(), ordinal);
+        unlink(this.years, aDoc.yearLaunched(), ordinal);
+        this.published.remove(ordinal);
+        this.opened.remove(ordinal);
+        aDoc.categories().forEach(it -> unlink(this.categories, it, ordinal));
+        aDoc.genres().forEach(it -> unlink(this.genres, it, ordinal));
+        aDoc.castMembers().forEach(it -> unlink(this.castMembers, it, ordinal));
+    }
+
+    private static <K> void unlink(final Map<K, RoaringBitmap> bitmaps, final K aKey, final int ordinal) {
+        bitmaps.computeIfPresent(aKey, (key, bitmap) -> {
+            bitmap.remove(ordinal);
+            return bitmap.isEmpty() ? null : bitmap;
+        });
+    }
+
+    private Map<Facet, RoaringBitmap> clauses(final VideoSearchQuery aQuery, final Map<String, Double> matches) {
+        final var clauses = new EnumMap<Facet, RoaringBitmap>(Facet.class);
+
+        if (matches != null) {
+            final var matching = new RoaringBitmap();
+            matches.keySet().forEach(id -> {
+                final var ordinal = this.ordinals.get(id);
+                if (ordinal != null) {
+                    matching.add(ordinal);
+                }
+            });
+            clauses.put(Facet.TERMS, matching);
+        }
+
+        if (!aQuery.ratings().isEmpty()) {
+            clauses.put(Facet.RATING, or(aQuery.ratings().stream().map(this.ratings::get).toList()));
+        }
+
+        if (aQuery.launchedFrom() != null || aQuery.launchedTo() != null) {
+            final var from = aQuery.launchedFrom() != null ? aQuery.launchedFrom().getValue() : Integer.MIN_VALUE;
+            final var to = aQuery.launchedTo() != null ? aQuery.launchedTo().getValue() : Integer.MAX_VALUE;
+            clauses.put(Facet.LAUNCHED_AT, from > to ? new RoaringBitmap() : or(this.years.subMap(from, true, to, true).values()));
+        }
+
+        if (aQuery.published() != null) {
+            clauses.put(Facet.PUBLISHED, aQuery.published() ? this.published : RoaringBitmap.andNot(this.live, this.published));
+        }
+
+        if (aQuery.opened() != null) {
+            clauses.put(Facet.OPENED, aQuery.opened() ? this.opened : RoaringBitmap.andNot(this.live, this.opened));
+        }
+
+        if (!aQuery.categories().isEmpty()) {
+            clauses.put(Facet.CATEGORY, or(values(this.categories, aQuery.categories())));
+        }
+
+        if (!aQuery.genres().isEmpty()) {
+            clauses.put(Facet.GENRE, or(values(this.genres, aQuery.genres())));
+        }
+
+        if (!aQuery.castMembers().isEmpty()) {
+            clauses.put(Facet.CAST_MEMBER, or(values(this.castMembers, aQuery.castMembers())));
+        }
+
+        return clauses;
+    }
+
+    /**
+     * The live videos matching every clause but {@code except}'s.
+     */
+    private RoaringBitmap and(final Map<Facet, RoaringBitmap> clauses, final Facet except) {
+        final var bitmaps = new ArrayList<RoaringBitmap>(clauses.size() + 1);
+        bitmaps.add(this.live);
+        clauses.forEach((facet, bitmap) -> {
+            if (facet != except) {
+                bitmaps.add(bitmap);
+            }
+        });
+        return bitmaps.size() == 1 ? this.live.clone() : FastAggregation.and(bitmaps.iterator());
+    }
+
+    private static RoaringBitmap or(final Collection<RoaringBitmap> bitmaps) {
+        final var present = bitmaps.stream().filter(it -> it != null).toList();
+        return present.isEmpty() ? new RoaringBitmap() : FastAggregation.or(present.iterator());
+    }
+
+    private static List<RoaringBitmap> values(final Map<String, RoaringBitmap> bitmaps, final Set<? extends Identifier> ids) {
+        return ids.stream().map(it -> bitmaps.get(it.getValue())).toList();
+    }
+
+    private static <K, T> Map<T, Long> counts(
+            final Map<K, RoaringBitmap> bitmaps,
+            final RoaringBitmap within,
+            final Function<K, T> key
+    ) {
+        final var counts = new HashMap<T, Long>();
+        bitmaps.forEach((value, bitmap) -> {
+            final var count = RoaringBitmap.andCardinality(within, bitmap);
+            if (count > 0) {
+                counts.put(key.apply(value), (long) count);
+            }
+        });
+        return counts;
+    }
+
+    private static Map<Boolean, Long> flagCounts(final RoaringBitmap flagged, final RoaringBitmap within) {
+        final long yes = RoaringBitmap.andCardinality(within, flagged);
+        final long no = within.getCardinality() - yes;
+
+        final var counts = new HashMap<Boolean, Long>();
+        if (yes > 0) {
+            counts.put(true, yes);
+        }
+        if (no > 0) {
+            counts.put(false, no);
+        }
+        return counts;
+    }
+
+    /**
+     * The order of a page, or null when it is the ordinal order, which is the creation order as long as videos
+     * were indexed in that order.
+     */
+    private Comparator<Integer> comparator(final VideoSearchQuery aQuery, final Map<String, Double> matches) {
+        if (KeysetPagination.RELEVANCE.equals(aQuery.sort())) {
+            if (matches == null) {
+                return Comparator.<Integer, Instant>comparing(it -> this.docs.get(it).createdAt())
+                        .thenComparing(Comparator.naturalOrder())
+                        .reversed();
+            }
+            return Comparator.<Integer>comparingDouble(it -> matches.getOrDefault(this.docs.get(it).id(), 0.0))
+                    .reversed()
+                    .thenComparing(Comparator.naturalOrder());
+        }
+
+        final var sort = SORTS.get(aQuery.sort());
+        if (sort == null) {
+            throw DomainException.with(new Error("'%s' is not a sortable video field".formatted(aQuery.sort())));
+        }
+        if ("createdAt".equals(aQuery.sort()) && this.createdAtOrdered) {
+            return null;
+        }
+
+        final Comparator<Integer> byDoc = Comparator.<Integer, Doc>comparing(this.docs::get, sort)
+                .thenComparing(Comparator.naturalOrder());
+        return "desc".equalsIgnoreCase(aQuery.direction()) ? byDoc.reversed() : byDoc;
+    }
+
+    private List<String> byOrdinal(final RoaringBitmap result, final int offset, final int count, final boolean asc) {
+        final var total = result.getCardinality();
+        final var ids = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            final var rank = asc ? offset + i : total - 1 - offset - i;
+            ids.add(this.docs.get(result.select(rank)).id());
+        }
+        return ids;
+    }
+
+    /**
+     * Keeps the first {@code offset + count} ordinals in a bounded heap instead of sorting the whole result.
+     */
+    private List<String> sorted(
+            final RoaringBitmap result,
+            final int offset,
+            final int count,
+            final Comparator<Integer> comparator
+    ) {
+        final var limit = offset + count;
+        final var heap = new PriorityQueue<Integer>(limit + 1, comparator.reversed());
+        result.forEach((int ordinal) -> {
+            heap.add(ordinal);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+
+        final var first = new ArrayList<>(heap);
+        first.sort(comparator);
+        return first.subList(offset, first.size()).stream()
+                .map(it -> this.docs.get(it).id())
+                .collect(Collectors.toList());
+    }
+
+    private enum Facet {
+        TERMS, RATING, LAUNCHED_AT, PUBLISHED, OPENED, CATEGORY, GENRE, CAST_MEMBER
+    }
+
+    public record Page(long total, List<String> ids) {
+    }
+
+    record Doc(
+            String id,
+            String titleKey,
+            Instant createdAt,
+            Instant updatedAt,
+            int yearLaunched,
+            double duration,
+            Rating rating,
+            boolean published,
+            boolean opened,
+            Set<String> categories,
+            Set<String> genres,
+            Set<String> castMembers
+    ) {
+
+        static Doc from(final Video aVideo) {
+            return new Doc(
+                    aVideo.getId().getValue(),
+                    TextUtils.normalize(aVideo.getTitle()),
+                    aVideo.getCreatedAt(),
+                    aVideo.getUpdatedAt(),
+                    aVideo.getLaunchedAt().getValue(),
+                    aVideo.getDuration(),
+                    aVideo.getRating(),
+                    aVideo.getPublished(),
+                    aVideo.getOpened(),
+                    ids(aVideo.getCategories()),
+                    ids(aVideo.getGenres()),
+                    ids(aVideo.getCastMembers())
+            );
+        }
+
+        Doc without(final Set<String> references) {
+            if (references.isEmpty()) {
+                return this;
+            }
+            return new Doc(
+                    id, titleKey, createdAt, updatedAt, yearLaunched, duration, rating, published, opened,
+                    without(categories, references),
+                    without(genres, references),
+                    without(castMembers, references)
+            );
+        }
+
+        private static Set<String> without(final Set<String> ids, final Set<String> references) {
+            return ids.stream().filter(it -> !references.contains(it)).collect(Collectors.toUnmodifiableSet());
+        }
+
+        private static Set<String> ids(final Set<? extends Identifier> ids) {
+            return ids.stream().map(Identifier::getValue).collect(Collectors.toUnmodifiableSet());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.index;
+
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetPagination;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoAssociations;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoAssociationsRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import java.util.Objects;
+
+/**
+ * Fills the {@link VideoBitmapIndex} from scratch once the application has started, in creation order so that
+ * ordinals follow it, {@code batchSize} videos at a time. Writes that happen meanwhile win over the rows being loaded.
+ */
+@Component
+public class VideoBitmapIndexLoader implements ApplicationRunner {
+
+    private final VideoBitmapIndex index;
+    private final KeysetPagination<VideoJpaEntity> keysetPagination;
+    private final VideoAssociationsRepository associationsRepository;
+    private final int batchSize;
+
+    public VideoBitmapIndexLoader(
+            final VideoBitmapIndex index,
+            final EntityManager entityManager,
+            final VideoAssociationsRepository associationsRepository,
+            @Value("${video-index.load.batch-size:1000}") final int batchSize
+    ) {
+        this.index = Objects.requireNonNull(index);
+        this.keysetPagination = new KeysetPagination<>(entityManager, VideoJpaEntity.class);
+        this.associationsRepository = Objects.requireNonNull(associationsRepository);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        load();
+    }
+
+    public void load() {
+        this.index.startLoading();
+        try {
+            String cursor = null;
+            do {
+                final var aPage = this.keysetPagination.findAll(
+                        null,
+                        SearchQuery.with(0, this.batchSize, "", "createdAt", "asc", cursor, false)
+                );
+                final var associations = this.associationsRepository.findAllByVideoIds(
+                        aPage.map(VideoJpaEntity::getId).items()
+                );
+                aPage.items().forEach(it -> this.index.load(
+                        it.toAggregate(associations.getOrDefault(it.getId(), VideoAssociations.empty()))
+                ));
+                cursor = aPage.nextCursor();
+            } while (cursor != null);
+        } finally {
+            this.index.finishLoading();
+        }
+    }
+}
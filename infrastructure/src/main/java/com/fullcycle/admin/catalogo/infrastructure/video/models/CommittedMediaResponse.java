@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CommittedMediaResponse(
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") String mediaType,
+        @JsonProperty("checksum") String checksum,
+        @JsonProperty("name") String name,
+        @JsonProperty("status") String status
+) {
+}
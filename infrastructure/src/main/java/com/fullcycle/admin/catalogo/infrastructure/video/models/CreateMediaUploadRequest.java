@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CreateMediaUploadRequest(
+        @JsonProperty("name") String name,
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("length") long length,
+        @JsonProperty("chunk_size") Integer chunkSize
+) {
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record MediaUploadResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") String mediaType,
+        @JsonProperty("name") String name,
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("length") long length,
+        @JsonProperty("chunk_size") int chunkSize,
+        @JsonProperty("chunk_count") int chunkCount,
+        @JsonProperty("received") List<ReceivedRangeResponse> received,
+        @JsonProperty("complete") boolean complete
+) {
+}
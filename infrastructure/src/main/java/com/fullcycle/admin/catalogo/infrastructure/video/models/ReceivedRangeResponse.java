@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record ReceivedRangeResponse(
+        @JsonProperty("first_chunk") int firstChunk,
+        @JsonProperty("last_chunk") int lastChunk,
+        @JsonProperty("start") long start,
+        @JsonProperty("end") long end
+) {
+}
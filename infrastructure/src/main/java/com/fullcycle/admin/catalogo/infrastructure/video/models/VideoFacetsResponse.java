@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+public record VideoFacetsResponse(
+        @JsonProperty("total") long total,
+        @JsonProperty("ratings") Map<String, Long> ratings,
+        @JsonProperty("launched_at") Map<Integer, Long> launchedAt,
+        @JsonProperty("published") Map<Boolean, Long> published,
+        @JsonProperty("opened") Map<Boolean, Long> opened,
+        @JsonProperty("categories") Map<String, Long> categories,
+        @JsonProperty("genres") Map<String, Long> genres,
+        @JsonProperty("cast_members") Map<String, Long> castMembers
+) {
+}
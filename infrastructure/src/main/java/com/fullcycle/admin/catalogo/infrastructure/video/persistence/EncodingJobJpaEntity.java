@@ -0,0 +1,142 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.EncodingJob;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJobID;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UUIDBinaryType;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Table(name = "videos_encoding_jobs")
+@Entity(name = "EncodingJob")
+public class EncodingJobJpaEntity {
+
+    @Id
+    @Type(type = UUIDBinaryType.TYPE)
+    private String id;
+
+    @Type(type = UUIDBinaryType.TYPE)
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "media_type", nullable = false)
+    private VideoMediaType mediaType;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    @Column(name = "raw_location", nullable = false)
+    private String rawLocation;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private MediaStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    public EncodingJobJpaEntity() {
+    }
+
+    private EncodingJobJpaEntity(
+            final String id,
+            final String videoId,
+            final VideoMediaType mediaType,
+            final String checksum,
+            final String rawLocation,
+            final MediaStatus status,
+            final int attempts,
+            final Instant createdAt,
+            final Instant updatedAt
+    ) {
+        this.id = id;
+        this.videoId = videoId;
+        this.mediaType = mediaType;
+        this.checksum = checksum;
+        this.rawLocation = rawLocation;
+        this.status = status;
+        this.attempts = attempts;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static EncodingJobJpaEntity from(final EncodingJob aJob) {
+        return new EncodingJobJpaEntity(
+                aJob.getId().getValue(),
+                aJob.getVideoId().getValue(),
+                aJob.getMediaType(),
+                aJob.getChecksum(),
+                aJob.getRawLocation(),
+                aJob.getStatus(),
+                aJob.getAttempts(),
+                aJob.getCreatedAt(),
+                aJob.getUpdatedAt()
+        );
+    }
+
+    public EncodingJob toAggregate() {
+        return EncodingJob.with(
+                EncodingJobID.from(getId()),
+                VideoID.from(getVideoId()),
+                getMediaType(),
+                getChecksum(),
+                getRawLocation(),
+                getStatus(),
+                getAttempts(),
+                getCreatedAt(),
+                getUpdatedAt()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public VideoMediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public String getRawLocation() {
+        return rawLocation;
+    }
+
+    public MediaStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
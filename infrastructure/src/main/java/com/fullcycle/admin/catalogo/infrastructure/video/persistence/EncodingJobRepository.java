@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EncodingJobRepository extends JpaRepository<EncodingJobJpaEntity, String> {
+
+    /**
+     * Served by {@code idx_vej_retryable}, so jobs that completed their attempts are never read.
+     */
+    @Query("""
+            select j from EncodingJob j
+            where j.status in :statuses and j.attempts < :maxAttempts
+            order by j.createdAt asc
+            """)
+    List<EncodingJobJpaEntity> findRetryable(
+            @Param("statuses") Collection<MediaStatus> statuses,
+            @Param("maxAttempts") int maxAttempts,
+            Pageable page
+    );
+}
@@ -0,0 +1,46 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public record VideoAssociations(
+        Set<CategoryID> categories,
+        Set<GenreID> genres,
+        Set<CastMemberID> castMembers,
+        AudioVideoMedia video,
+        AudioVideoMedia trailer,
+        ImageMedia banner,
+        ImageMedia thumbnail,
+        ImageMedia thumbnailHalf
+) {
+
+    public static VideoAssociations empty() {
+        return new VideoAssociations(new HashSet<>(), new HashSet<>(), new HashSet<>(), null, null, null, null, null);
+    }
+
+    public VideoAssociations withVideo(final AudioVideoMedia aVideo) {
+        return new VideoAssociations(categories, genres, castMembers, aVideo, trailer, banner, thumbnail, thumbnailHalf);
+    }
+
+    public VideoAssociations withTrailer(final AudioVideoMedia aTrailer) {
+        return new VideoAssociations(categories, genres, castMembers, video, aTrailer, banner, thumbnail, thumbnailHalf);
+    }
+
+    public VideoAssociations withBanner(final ImageMedia aBanner) {
+        return new VideoAssociations(categories, genres, castMembers, video, trailer, aBanner, thumbnail, thumbnailHalf);
+    }
+
+    public VideoAssociations withThumbnail(final ImageMedia aThumbnail) {
+        return new VideoAssociations(categories, genres, castMembers, video, trailer, banner, aThumbnail, thumbnailHalf);
+    }
+
+    public VideoAssociations withThumbnailHalf(final ImageMedia aThumbnailHalf) {
+        return new VideoAssociations(categories, genres, castMembers, video, trailer, banner, thumbnail, aThumbnailHalf);
+    }
+}
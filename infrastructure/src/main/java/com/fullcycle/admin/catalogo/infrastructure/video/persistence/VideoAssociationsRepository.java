@@ -0,0 +1,198 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UUIDUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * Reads and writes the rows that hang off the {@code videos} table: the category, genre and
+ * cast member join tables and the media tables. Reads are done for a whole set of videos at once
+ * and writes are sent as JDBC batches, so the number of statements does not grow with the page
+ * size or with the number of associated identifiers. Identifiers are bound and read as their
+ * {@code BINARY(16)} form, see {@link UUIDUtils}.
+ */
+@Repository
+public class VideoAssociationsRepository {
+
+    private static final String SELECT_RELATIONS = """
+            SELECT video_id, 'CATEGORY' AS kind, category_id AS related_id FROM videos_categories WHERE video_id IN (:ids)
+            UNION ALL
+            SELECT video_id, 'GENRE' AS kind, genre_id AS related_id FROM videos_genres WHERE video_id IN (:ids)
+            UNION ALL
+            SELECT video_id, 'CAST_MEMBER' AS kind, cast_member_id AS related_id FROM videos_cast_members WHERE video_id IN (:ids)
+            """;
+
+    private static final String SELECT_VIDEO_MEDIA = """
+            SELECT video_id, media_type, checksum, name, file_path, encoded_path, media_status
+            FROM videos_video_media WHERE video_id IN (:ids)
+            """;
+
+    private static final String SELECT_IMAGE_MEDIA = """
+            SELECT video_id, media_type, checksum, name, file_path
+            FROM videos_image_media WHERE video_id IN (:ids)
+            """;
+
+    private static final String INSERT_CATEGORY =
+            "INSERT INTO videos_categories (video_id, category_id) VALUES (:videoId, :relatedId)";
+
+    private static final String INSERT_GENRE =
+            "INSERT INTO videos_genres (video_id, genre_id) VALUES (:videoId, :relatedId)";
+
+    private static final String INSERT_CAST_MEMBER =
+            "INSERT INTO videos_cast_members (video_id, cast_member_id) VALUES (:videoId, :relatedId)";
+
+    private static final String INSERT_VIDEO_MEDIA = """
+            INSERT INTO videos_video_media (video_id, media_type, checksum, name, file_path, encoded_path, media_status)
+            VALUES (:videoId, :mediaType, :checksum, :name, :filePath, :encodedPath, :mediaStatus)
+            """;
+
+    private static final String INSERT_IMAGE_MEDIA = """
+            INSERT INTO videos_image_media (video_id, media_type, checksum, name, file_path)
+            VALUES (:videoId, :mediaType, :checksum, :name, :filePath)
+            """;
+
+    private static final List<String> ASSOCIATION_TABLES = List.of(
+            "videos_categories",
+            "videos_genres",
+            "videos_cast_members",
+            "videos_video_media",
+            "videos_image_media"
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public VideoAssociationsRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    public Map<String, VideoAssociations> findAllByVideoIds(final Collection<String> videoIds) {
+        final var associations = new HashMap<String, VideoAssociations>();
+        if (videoIds == null || videoIds.isEmpty()) {
+            return associations;
+        }
+
+        videoIds.forEach(id -> associations.put(id, VideoAssociations.empty()));
+        final var params = new MapSqlParameterSource("ids", UUIDUtils.toBytes(videoIds));
+
+        this.jdbcTemplate.query(SELECT_RELATIONS, params, rs -> {
+            final var actual = associations.get(UUIDUtils.fromBytes(rs.getBytes("video_id")));
+            final var relatedId = UUIDUtils.fromBytes(rs.getBytes("related_id"));
+            switch (rs.getString("kind")) {
+                case "CATEGORY" -> actual.categories().add(CategoryID.from(relatedId));
+                case "GENRE" -> actual.genres().add(GenreID.from(relatedId));
+                default -> actual.castMembers().add(CastMemberID.from(relatedId));
+            }
+        });
+
+        this.jdbcTemplate.query(SELECT_VIDEO_MEDIA, params, rs -> {
+            final var videoId = UUIDUtils.fromBytes(rs.getBytes("video_id"));
+            final var aMedia = AudioVideoMedia.with(
+                    rs.getString("checksum"),
+                    rs.getString("name"),
+                    rs.getString("file_path"),
+                    rs.getString("encoded_path"),
+                    MediaStatus.valueOf(rs.getString("media_status"))
+            );
+            final var actual = associations.get(videoId);
+            associations.put(videoId, switch (VideoMediaType.valueOf(rs.getString("media_type"))) {
+                case TRAILER -> actual.withTrailer(aMedia);
+                default -> actual.withVideo(aMedia);
+            });
+        });
+
+        this.jdbcTemplate.query(SELECT_IMAGE_MEDIA, params, rs -> {
+            final var videoId = UUIDUtils.fromBytes(rs.getBytes("video_id"));
+            final var aMedia = ImageMedia.with(
+                    rs.getString("checksum"),
+                    rs.getString("name"),
+                    rs.getString("file_path")
+            );
+            final var actual = associations.get(videoId);
+            associations.put(videoId, switch (VideoMediaType.valueOf(rs.getString("media_type"))) {
+                case THUMBNAIL -> actual.withThumbnail(aMedia);
+                case THUMBNAIL_HALF -> actual.withThumbnailHalf(aMedia);
+                default -> actual.withBanner(aMedia);
+            });
+        });
+
+        return associations;
+    }
+
+    public void insertAll(final Video aVideo) {
+        final var videoId = aVideo.getId().getValue();
+
+        batch(INSERT_CATEGORY, relations(videoId, aVideo.getCategories()));
+        batch(INSERT_GENRE, relations(videoId, aVideo.getGenres()));
+        batch(INSERT_CAST_MEMBER, relations(videoId, aVideo.getCastMembers()));
+
+        final var videoMedias = new ArrayList<SqlParameterSource>();
+        aVideo.getVideo().ifPresent(it -> videoMedias.add(videoMedia(videoId, VideoMediaType.VIDEO, it)));
+        aVideo.getTrailer().ifPresent(it -> videoMedias.add(videoMedia(videoId, VideoMediaType.TRAILER, it)));
+        batch(INSERT_VIDEO_MEDIA, videoMedias);
+
+        final var imageMedias = new ArrayList<SqlParameterSource>();
+        aVideo.getBanner().ifPresent(it -> imageMedias.add(imageMedia(videoId, VideoMediaType.BANNER, it)));
+        aVideo.getThumbnail().ifPresent(it -> imageMedias.add(imageMedia(videoId, VideoMediaType.THUMBNAIL, it)));
+        aVideo.getThumbnailHalf().ifPresent(it -> imageMedias.add(imageMedia(videoId, VideoMediaType.THUMBNAIL_HALF, it)));
+        batch(INSERT_IMAGE_MEDIA, imageMedias);
+    }
+
+    public void deleteAll(final String videoId) {
+        final var params = new MapSqlParameterSource("videoId", UUIDUtils.toBytes(videoId));
+        ASSOCIATION_TABLES.forEach(table ->
+                this.jdbcTemplate.update("DELETE FROM %s WHERE video_id = :videoId".formatted(table), params));
+    }
+
+    public void replaceAll(final Video aVideo) {
+        deleteAll(aVideo.getId().getValue());
+        insertAll(aVideo);
+    }
+
+    private void batch(final String sql, final List<SqlParameterSource> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        this.jdbcTemplate.batchUpdate(sql, rows.toArray(SqlParameterSource[]::new));
+    }
+
+    private static List<SqlParameterSource> relations(final String videoId, final Set<? extends Identifier> ids) {
+        return ids.stream()
+                .<SqlParameterSource>map(id -> new MapSqlParameterSource()
+                        .addValue("videoId", UUIDUtils.toBytes(videoId))
+                        .addValue("relatedId", UUIDUtils.toBytes(id.getValue())))
+                .toList();
+    }
+
+    private static SqlParameterSource videoMedia(final String videoId, final VideoMediaType aType, final AudioVideoMedia aMedia) {
+        return new MapSqlParameterSource()
+                .addValue("videoId", UUIDUtils.toBytes(videoId))
+                .addValue("mediaType", aType.name())
+                .addValue("checksum", aMedia.checksum())
+                .addValue("name", aMedia.name())
+                .addValue("filePath", aMedia.rawLocation())
+                .addValue("encodedPath", aMedia.encodedLocation())
+                .addValue("mediaStatus", aMedia.status().name());
+    }
+
+    private static SqlParameterSource imageMedia(final String videoId, final VideoMediaType aType, final ImageMedia aMedia) {
+        return new MapSqlParameterSource()
+                .addValue("videoId", UUIDUtils.toBytes(videoId))
+                .addValue("mediaType", aType.name())
+                .addValue("checksum", aMedia.checksum())
+                .addValue("name", aMedia.name())
+                .addValue("filePath", aMedia.location());
+    }
+}
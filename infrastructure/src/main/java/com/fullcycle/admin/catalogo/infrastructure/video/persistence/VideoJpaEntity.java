@@ -0,0 +1,225 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UUIDBinaryType;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.*;
+import java.time.Instant;
+import java.time.Year;
+
+@Entity(name = "Video")
+@Table(name = "videos")
+public class VideoJpaEntity {
+
+    @Id
+    @Type(type = UUIDBinaryType.TYPE)
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "description", length = 4000, nullable = false)
+    private String description;
+
+    @Column(name = "year_launched", nullable = false)
+    private int yearLaunched;
+
+    @Column(name = "duration", precision = 2, nullable = false)
+    private double duration;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rating", nullable = false)
+    private Rating rating;
+
+    @Column(name = "opened", nullable = false)
+    private boolean opened;
+
+    @Column(name = "published", nullable = false)
+    private boolean published;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    public VideoJpaEntity() {
+    }
+
+    private VideoJpaEntity(
+            final String id,
+            final String title,
+            final String description,
+            final int yearLaunched,
+            final double duration,
+            final Rating rating,
+            final boolean opened,
+            final boolean published,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final long version
+    ) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.yearLaunched = yearLaunched;
+        this.duration = duration;
+        this.rating = rating;
+        this.opened = opened;
+        this.published = published;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    public static VideoJpaEntity from(final Video aVideo) {
+        return new VideoJpaEntity(
+                aVideo.getId().getValue(),
+                aVideo.getTitle(),
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt().getValue(),
+                aVideo.getDuration(),
+                aVideo.getRating(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getCreatedAt(),
+                aVideo.getUpdatedAt(),
+                aVideo.getVersion()
+        );
+    }
+
+    /**
+     * The associations of a video live in their own tables and are loaded in bulk
+     * by {@link VideoAssociationsRepository}, so they are handed in here instead of
+     * being lazily navigated from this entity.
+     */
+    public Video toAggregate(final VideoAssociations associations) {
+        return Video.with(
+                VideoID.from(getId()),
+                getTitle(),
+                getDescription(),
+                Year.of(getYearLaunched()),
+                getDuration(),
+                isOpened(),
+                isPublished(),
+                getRating(),
+                getCreatedAt(),
+                getUpdatedAt(),
+                associations.banner(),
+                associations.thumbnail(),
+                associations.thumbnailHalf(),
+                associations.trailer(),
+                associations.video(),
+                associations.categories(),
+                associations.genres(),
+                associations.castMembers(),
+                getVersion()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public VideoJpaEntity setId(final String id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public VideoJpaEntity setTitle(final String title) {
+        this.title = title;
+        return this;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public VideoJpaEntity setDescription(final String description) {
+        this.description = description;
+        return this;
+    }
+
+    public int getYearLaunched() {
+        return yearLaunched;
+    }
+
+    public VideoJpaEntity setYearLaunched(final int yearLaunched) {
+        this.yearLaunched = yearLaunched;
+        return this;
+    }
+
+    public double getDuration() {
+        return duration;
+    }
+
+    public VideoJpaEntity setDuration(final double duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    public Rating getRating() {
+        return rating;
+    }
+
+    public VideoJpaEntity setRating(final Rating rating) {
+        this.rating = rating;
+        return this;
+    }
+
+    public boolean isOpened() {
+        return opened;
+    }
+
+    public VideoJpaEntity setOpened(final boolean opened) {
+        this.opened = opened;
+        return this;
+    }
+
+    public boolean isPublished() {
+        return published;
+    }
+
+    public VideoJpaEntity setPublished(final boolean published) {
+        this.published = published;
+        return this;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public VideoJpaEntity setCreatedAt(final Instant createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public VideoJpaEntity setUpdatedAt(final Instant updatedAt) {
+        this.updatedAt = updatedAt;
+        return this;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public VideoJpaEntity setVersion(final long version) {
+        this.version = version;
+        return this;
+    }
+}
@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
+
+    Page<VideoJpaEntity> findAll(Specification<VideoJpaEntity> whereClause, Pageable page);
+
+    /**
+     * Overwrites the stored video, as a single statement, only if it is still at the version {@code video} was read
+     * at. Pending changes are flushed before it, and the persistence context is cleared after it, so no stale
+     * entity outlives the update.
+     *
+     * @return the number of updated rows, 0 when the video was changed or deleted in the meantime
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Video v set
+                v.title = :#{#video.title},
+                v.description = :#{#video.description},
+                v.yearLaunched = :#{#video.yearLaunched},
+                v.duration = :#{#video.duration},
+                v.rating = :#{#video.rating},
+                v.opened = :#{#video.opened},
+                v.published = :#{#video.published},
+                v.updatedAt = :#{#video.updatedAt},
+                v.version = v.version + 1
+            where v.id = :#{#video.id} and v.version = :#{#video.version}
+            """)
+    int updateIfVersion(@Param("video") VideoJpaEntity video);
+}
@@ -0,0 +1,64 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.presenters;
+
+import com.fullcycle.admin.catalogo.application.video.media.upload.CommitMediaUploadOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.MediaUploadOutput;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.VideoFacetsOutput;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.VideoListOutput;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CommittedMediaResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.MediaUploadResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.ReceivedRangeResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoFacetsResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
+
+public interface VideoApiPresenter {
+
+    static MediaUploadResponse present(final MediaUploadOutput output) {
+        return new MediaUploadResponse(
+                output.id(),
+                output.videoId(),
+                output.mediaType().name(),
+                output.name(),
+                output.contentType(),
+                output.length(),
+                output.chunkSize(),
+                output.chunkCount(),
+                output.received().stream()
+                        .map(it -> new ReceivedRangeResponse(it.firstChunk(), it.lastChunk(), it.start(), it.end()))
+                        .toList(),
+                output.complete()
+        );
+    }
+
+    static CommittedMediaResponse present(final CommitMediaUploadOutput output) {
+        return new CommittedMediaResponse(
+                output.videoId(),
+                output.mediaType().name(),
+                output.checksum(),
+                output.name(),
+                output.status().name()
+        );
+    }
+
+    static VideoListResponse present(final VideoListOutput output) {
+        return new VideoListResponse(
+                output.id(),
+                output.title(),
+                output.description(),
+                output.createdAt(),
+                output.updatedAt()
+        );
+    }
+
+    static VideoFacetsResponse present(final VideoFacetsOutput output) {
+        return new VideoFacetsResponse(
+                output.total(),
+                output.ratings(),
+                output.launchedAt(),
+                output.published(),
+                output.opened(),
+                output.categories(),
+                output.genres(),
+                output.castMembers()
+        );
+    }
+}
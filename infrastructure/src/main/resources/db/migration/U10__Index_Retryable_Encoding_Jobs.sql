@@ -0,0 +1 @@
+DROP INDEX idx_vej_retryable ON videos_encoding_jobs;
@@ -0,0 +1,6 @@
+DROP TABLE videos_image_media;
+DROP TABLE videos_video_media;
+DROP TABLE videos_cast_members;
+DROP TABLE videos_genres;
+DROP TABLE videos_categories;
+DROP TABLE videos;
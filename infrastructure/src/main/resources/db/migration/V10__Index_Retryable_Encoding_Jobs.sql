@@ -0,0 +1 @@
+CREATE INDEX idx_vej_retryable ON videos_encoding_jobs (status, attempts, created_at);
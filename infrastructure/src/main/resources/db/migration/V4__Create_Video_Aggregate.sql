@@ -0,0 +1,58 @@
+CREATE TABLE videos(
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(4000) NOT NULL,
+    year_launched SMALLINT NOT NULL,
+    duration DECIMAL(10, 2) NOT NULL,
+    rating VARCHAR(16) NOT NULL,
+    opened BOOLEAN NOT NULL DEFAULT FALSE,
+    published BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+CREATE TABLE videos_categories(
+    video_id VARCHAR(36) NOT NULL,
+    category_id VARCHAR(36) NOT NULL,
+    CONSTRAINT idx_video_category UNIQUE (video_id, category_id),
+    CONSTRAINT fk_vc_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE,
+    CONSTRAINT fk_vc_category_id FOREIGN KEY (category_id) REFERENCES category (id) ON DELETE CASCADE
+);
+
+CREATE TABLE videos_genres(
+    video_id VARCHAR(36) NOT NULL,
+    genre_id VARCHAR(36) NOT NULL,
+    CONSTRAINT idx_video_genre UNIQUE (video_id, genre_id),
+    CONSTRAINT fk_vg_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE,
+    CONSTRAINT fk_vg_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE
+);
+
+CREATE TABLE videos_cast_members(
+    video_id VARCHAR(36) NOT NULL,
+    cast_member_id VARCHAR(36) NOT NULL,
+    CONSTRAINT idx_video_cast_member UNIQUE (video_id, cast_member_id),
+    CONSTRAINT fk_vcm_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE,
+    CONSTRAINT fk_vcm_cast_member_id FOREIGN KEY (cast_member_id) REFERENCES cast_members (id) ON DELETE CASCADE
+);
+
+CREATE TABLE videos_video_media(
+    video_id VARCHAR(36) NOT NULL,
+    media_type VARCHAR(32) NOT NULL,
+    checksum VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    file_path VARCHAR(500) NOT NULL,
+    encoded_path VARCHAR(500) NOT NULL,
+    media_status VARCHAR(32) NOT NULL,
+    CONSTRAINT pk_video_media PRIMARY KEY (video_id, media_type),
+    CONSTRAINT fk_vvm_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE
+);
+
+CREATE TABLE videos_image_media(
+    video_id VARCHAR(36) NOT NULL,
+    media_type VARCHAR(32) NOT NULL,
+    checksum VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    file_path VARCHAR(500) NOT NULL,
+    CONSTRAINT pk_image_media PRIMARY KEY (video_id, media_type),
+    CONSTRAINT fk_vim_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE
+);
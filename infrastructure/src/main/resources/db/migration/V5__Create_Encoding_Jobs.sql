@@ -0,0 +1,14 @@
+CREATE TABLE videos_encoding_jobs(
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    video_id VARCHAR(36) NOT NULL,
+    media_type VARCHAR(32) NOT NULL,
+    checksum VARCHAR(255) NOT NULL,
+    raw_location VARCHAR(500) NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_vej_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_vej_created_at ON videos_encoding_jobs (created_at);
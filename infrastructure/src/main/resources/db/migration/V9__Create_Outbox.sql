@@ -0,0 +1,10 @@
+CREATE TABLE outbox_events(
+    sequence_number BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    aggregate VARCHAR(32) NOT NULL,
+    aggregate_id BINARY(16) NOT NULL,
+    type VARCHAR(16) NOT NULL,
+    occurred_on DATETIME(6) NOT NULL,
+    published_at DATETIME(6) NULL
+);
+
+CREATE INDEX idx_outbox_published_at ON outbox_events (published_at, sequence_number);
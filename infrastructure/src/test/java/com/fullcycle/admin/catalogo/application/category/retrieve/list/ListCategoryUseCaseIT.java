@@ -67,7 +67,7 @@ class ListCategoryUseCaseIT {
     @CsvSource({
             "fil,0,10,1,1,Filmes",
             "net,0,10,1,1,Netflix",
-            "ZON,0,10,1,1,Amazon Originals",
+            "ORIG,0,10,1,1,Amazon Originals",
             "KI,0,10,1,1,Kids",
             "crianças,0,10,1,1,Kids",
             "da Amazon,0,10,1,1,Amazon Originals",
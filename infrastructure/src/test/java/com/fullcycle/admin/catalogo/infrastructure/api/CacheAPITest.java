@@ -0,0 +1,53 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.cache.AggregateCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ControllerTest(controllers = CacheAPI.class)
+class CacheAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean(name = "categoryCache")
+    private AggregateCache<CategoryID, Category> categoryCache;
+
+    @MockBean(name = "castMemberCache")
+    private AggregateCache<CastMemberID, CastMember> castMemberCache;
+
+    @Test
+    void givenAggregateCaches_whenCallsAggregates_shouldReturnTheirStatsByName() throws Exception {
+        // given
+        when(categoryCache.stats())
+                .thenReturn(new AggregateCache.Stats("categories", 10, 90, 5, 10, 0.9, 0));
+        when(castMemberCache.stats())
+                .thenReturn(new AggregateCache.Stats("cast_members", 1, 0, 0, 1, 0, 0));
+
+        // when
+        final var aRequest = get("/caches/aggregates");
+
+        // then
+        this.mvc.perform(aRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name", equalTo("cast_members")))
+                .andExpect(jsonPath("$[1].name", equalTo("categories")))
+                .andExpect(jsonPath("$[1].hits", equalTo(90)))
+                .andExpect(jsonPath("$[1].negative_hits", equalTo(5)))
+                .andExpect(jsonPath("$[1].misses", equalTo(10)))
+                .andExpect(jsonPath("$[1].hit_rate", equalTo(0.9)));
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ControllerTest;
 import com.fullcycle.admin.catalogo.Fixture;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberOutput;
+import com.fullcycle.admin.catalogo.application.castmember.create.DefaultBulkCreateCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.CastMemberOutput;
@@ -62,6 +63,9 @@ public class CastMemberAPITest {
     @MockBean
     private DefaultUpdateCastMemberUseCase updateCastMemberUseCase;
 
+    @MockBean
+    private DefaultBulkCreateCastMembersUseCase bulkCreateCastMembersUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCastMember_shouldReturnItsIdentifier() throws Exception {
         // given
@@ -160,6 +164,31 @@ public class CastMemberAPITest {
         verify(getCastMemberByIdUseCase).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenTheCurrentETag_whenCallsGetById_shouldReturnNotModified() throws Exception {
+        // given
+        final var aMember = CastMember.newMember(Fixture.name(), Fixture.CastMember.type());
+        final var expectedId = aMember.getId().getValue();
+
+        when(getCastMemberByIdUseCase.execute(any()))
+                .thenReturn(CastMemberOutput.from(aMember));
+
+        final var expectedETag = this.mvc.perform(get("/cast_members/{id}", expectedId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when
+        final var aRequest = get("/cast_members/{id}", expectedId)
+                .header("If-None-Match", expectedETag);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", expectedETag))
+                .andExpect(content().string(""));
+    }
+
     @Test
     public void givenAInvalidId_whenCallsGetByIdAndCastMemberDoesntExists_shouldReturnNotFound() throws Exception {
         // given
@@ -2,6 +2,8 @@ package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.bulk.BulkCreateOutput;
+import com.fullcycle.admin.catalogo.application.category.create.BulkCreateCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
@@ -64,6 +66,9 @@ class CategoryAPITest {
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase;
+
     @Test
     void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception{
 
@@ -95,6 +100,48 @@ class CategoryAPITest {
                 ));
     }
 
+    @Test
+    void givenValidAndInvalidItems_whenCallsCreateCategories_shouldReturnTheOutcomeOfEachItem() throws Exception {
+        // given
+        final var expectedMessage = "'name' should not be null";
+
+        final var aInput = List.of(
+                new CreateCategoryRequest("Filmes", "A categoria mais assistida", null),
+                new CreateCategoryRequest(null, "Sem nome", false)
+        );
+
+        when(bulkCreateCategoriesUseCase.execute(any()))
+                .thenReturn(BulkCreateOutput.from(List.of(
+                        BulkCreateOutput.Item.created(0, "123"),
+                        BulkCreateOutput.Item.failed(1, List.of(new Error(expectedMessage)))
+                )));
+
+        // when
+        final var request = post("/categories/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aInput));
+
+        // then
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", equalTo(1)))
+                .andExpect(jsonPath("$.failed", equalTo(1)))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id", equalTo("123")))
+                .andExpect(jsonPath("$.items[0].errors", hasSize(0)))
+                .andExpect(jsonPath("$.items[1].index", equalTo(1)))
+                .andExpect(jsonPath("$.items[1].errors[0].message", equalTo(expectedMessage)));
+
+        verify(bulkCreateCategoriesUseCase, times(1)).execute(argThat(cmds ->
+                cmds.size() == 2
+                        && Objects.equals("Filmes", cmds.get(0).name())
+                        && cmds.get(0).isActive()
+                        && Objects.isNull(cmds.get(1).name())
+                        && !cmds.get(1).isActive()
+        ));
+    }
+
     @Test
     void givenInvalidName_whenCallsCreateCategory_thenShouldReturnNotification() throws Exception{
 
@@ -195,6 +242,31 @@ class CategoryAPITest {
         verify(getCategoryByIdUseCase, times(1)).execute(eq(expectedId));
     }
 
+    @Test
+    void givenTheCurrentETag_whenCallsGetCategory_shouldReturnNotModified() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        final var expectedETag = this.mvc.perform(get("/categories/{id}", expectedId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().dateValue("Last-Modified", aCategory.getUpdatedAt().toEpochMilli() / 1000 * 1000))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when
+        final var response = this.mvc.perform(get("/categories/{id}", expectedId).header("If-None-Match", expectedETag))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", expectedETag))
+                .andExpect(content().string(""));
+    }
+
     @Test
     void givenAInvalid_whenCallsGetCategory_shouldReturnNotFound() throws Exception{
         final var expectedId = CategoryID.from("123").getValue();
@@ -247,6 +319,66 @@ class CategoryAPITest {
         ));
     }
 
+    @Test
+    void givenTheCurrentETagAsIfMatch_whenCallsUpdateCategory_shouldUpdateAtItsVersion() throws Exception {
+        // given
+        final var aCategory = Category.with(Category.newCategory("filmes", null, true), 4);
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedVersion = 4L;
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+        when(updateCategoryUseCase.execute(any()))
+                .thenReturn(API.Right(UpdateCategoryOutput.from(expectedId)));
+
+        final var anETag = this.mvc.perform(get("/categories/{id}", expectedId))
+                .andReturn().getResponse().getHeader("ETag");
+
+        final var request = put("/categories/{id}", expectedId)
+                .header("If-Match", anETag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(new UpdateCategoryRequest("Filmes", null, true)));
+
+        // when
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals(expectedVersion, cmd.expectedVersion())
+        ));
+        verify(getCategoryByIdUseCase, times(1)).execute(any());
+    }
+
+    @Test
+    void givenAStaleIfMatch_whenCallsUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("filmes", null, true);
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedErrorMessage = "Category with ID %s was changed".formatted(expectedId);
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        final var request = put("/categories/{id}", expectedId)
+                .header("If-Match", "\"stale\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(new UpdateCategoryRequest("Filmes", null, true)));
+
+        // when
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(updateCategoryUseCase, never()).execute(any());
+    }
+
     @Test
     void givenACommandWithInvalidId_whenCallsUpdateCategory_thenShouldReturnNotFoundException() throws Exception{
         final var expectedId = "not-found";
@@ -396,4 +528,78 @@ class CategoryAPITest {
                 && Objects.equals(expectedTerms, query.terms())
                 ));
     }
+
+    @Test
+    void givenACursor_whenCallsListCategories_shouldSeekAndReturnNextCursor() throws Exception{
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+        final var expectedCursor = "eyJzb3J0IjoibmFtZSJ9";
+        final var expectedNextCursor = "eyJpZCI6IjEyMyJ9";
+        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any())).thenReturn(
+                new Pagination<>(expectedPage, expectedPerPage, Pagination.UNKNOWN_TOTAL, expectedItems, expectedNextCursor)
+        );
+
+        final var request = get("/categories")
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("cursor", expectedCursor)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(-1)))
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedCursor, query.cursor())
+                        && !query.withTotal()
+        ));
+    }
+
+    @Test
+    void givenTheCurrentETag_whenCallsListCategories_shouldReturnNotModifiedUntilThePageChanges() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any())).thenReturn(
+                new Pagination<>(0, 10, 1, expectedItems)
+        );
+
+        final var expectedETag = this.mvc.perform(get("/categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when
+        final var notModified = this.mvc.perform(get("/categories").header("If-None-Match", expectedETag));
+
+        final var anUpdatedItem = new CategoryListOutput(
+                aCategory.getId(),
+                aCategory.getName(),
+                "Updated",
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt().plusSeconds(1),
+                aCategory.getDeletedAt()
+        );
+        when(listCategoriesUseCase.execute(any())).thenReturn(
+                new Pagination<>(0, 10, 1, List.of(anUpdatedItem))
+        );
+
+        final var modified = this.mvc.perform(get("/categories").header("If-None-Match", expectedETag));
+
+        // then
+        notModified.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        modified.andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(equalTo(expectedETag))))
+                .andExpect(jsonPath("$.items[0].description", equalTo("Updated")));
+    }
 }
@@ -0,0 +1,98 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.ChangeFeed;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ControllerTest(controllers = ChangeAPI.class)
+public class ChangeAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private ChangeFeed changeFeed;
+
+    @Test
+    public void givenNewChanges_whenCallsChanges_shouldReturnThemWithTheNextSince() throws Exception {
+        // given
+        final var occurredOn = Instant.parse("2024-01-01T10:00:00Z");
+        final var events = List.of(
+                new OutboxEvent(43, "Category", "123", DomainEvent.Type.CREATED, occurredOn),
+                new OutboxEvent(44, "Genre", "456", DomainEvent.Type.DELETED, occurredOn)
+        );
+
+        when(changeFeed.changes(anyLong(), anyInt(), any()))
+                .thenReturn(CompletableFuture.completedFuture(events));
+
+        // when
+        final var anAsyncResult = this.mvc.perform(get("/changes").queryParam("since", "42").accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(anAsyncResult))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].sequence", equalTo(43)))
+                .andExpect(jsonPath("$.items[0].aggregate", equalTo("Category")))
+                .andExpect(jsonPath("$.items[0].aggregate_id", equalTo("123")))
+                .andExpect(jsonPath("$.items[0].type", equalTo("CREATED")))
+                .andExpect(jsonPath("$.items[1].type", equalTo("DELETED")))
+                .andExpect(jsonPath("$.next_since", equalTo(44)));
+
+        verify(changeFeed).changes(42L, 100, Duration.ZERO);
+    }
+
+    @Test
+    public void givenTooLongAWaitAndLimit_whenCallsChanges_shouldCapThemAndKeepSinceWhenNothingArrives() throws Exception {
+        // given
+        when(changeFeed.changes(anyLong(), anyInt(), any()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        // when
+        final var anAsyncResult = this.mvc.perform(get("/changes")
+                        .queryParam("since", "7")
+                        .queryParam("limit", "100000")
+                        .queryParam("wait", "3600"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(anAsyncResult));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)))
+                .andExpect(jsonPath("$.next_since", equalTo(7)));
+
+        verify(changeFeed).changes(eq(7L), eq(1000), eq(Duration.ofSeconds(30)));
+    }
+}
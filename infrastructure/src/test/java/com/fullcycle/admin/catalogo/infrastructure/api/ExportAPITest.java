@@ -0,0 +1,81 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.infrastructure.export.CatalogExporter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = ExportAPI.class)
+class ExportAPITest {
+
+    private static final String LINE = "{\"resource\":\"category\",\"id\":\"123\"}\n";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private CatalogExporter catalogExporter;
+
+    @Test
+    void givenAcceptEncodingGzip_whenCallsExportCatalog_shouldStreamGzippedNdjson() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write(LINE.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(catalogExporter).export(any());
+
+        // when
+        final var started = this.mvc.perform(get("/exports/catalog")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.9"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        final var response = this.mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse();
+
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            Assertions.assertEquals(LINE, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void givenNoAcceptEncoding_whenCallsExportCatalog_shouldStreamPlainNdjson() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write(LINE.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(catalogExporter).export(any());
+
+        // when
+        final var started = this.mvc.perform(get("/exports/catalog"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        this.mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(LINE));
+    }
+}
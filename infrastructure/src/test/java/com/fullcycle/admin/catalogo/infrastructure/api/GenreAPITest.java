@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.genre.create.BulkCreateGenresUseCase;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreOutput;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
@@ -60,6 +61,9 @@ public class GenreAPITest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private BulkCreateGenresUseCase bulkCreateGenresUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateGere_shouldReturnGenreId() throws Exception {
         //given
@@ -166,6 +170,31 @@ public class GenreAPITest {
         Mockito.verify(getGenreByIdUseCase).execute(expectedId);
     }
 
+    @Test
+    public void givenTheLastModifiedDate_whenCallsGetGenreById_shouldReturnNotModified() throws Exception {
+        //given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedId = aGenre.getId().getValue();
+
+        Mockito.when(getGenreByIdUseCase.execute(Mockito.any()))
+                .thenReturn(GenreOutput.from(aGenre));
+
+        final var lastModified = this.mvc.perform(MockMvcRequestBuilders.get("/genres/{id}", expectedId))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists("ETag"))
+                .andReturn().getResponse().getHeader("Last-Modified");
+
+        //when
+        final var aRequest = MockMvcRequestBuilders.get("/genres/{id}", expectedId)
+                .header("If-Modified-Since", lastModified);
+
+        final var response = this.mvc.perform(aRequest);
+
+        //then
+        response.andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
     @Test
     public void givenAInValid_whenCallsGetGenreById_shouldReturnNotFound() throws Exception {
         //given
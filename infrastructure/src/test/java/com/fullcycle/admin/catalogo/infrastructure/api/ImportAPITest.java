@@ -0,0 +1,130 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.importing.CatalogImport;
+import com.fullcycle.admin.catalogo.infrastructure.importing.CatalogImportStore;
+import com.fullcycle.admin.catalogo.infrastructure.importing.CatalogImporter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = ImportAPI.class)
+class ImportAPITest {
+
+    private static final String LINE = "{\"resource\":\"category\",\"id\":\"123\"}\n";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private CatalogImportStore catalogImportStore;
+
+    @MockBean
+    private CatalogImporter catalogImporter;
+
+    @Test
+    void givenAGzippedFile_whenCallsImportCatalog_shouldStoreItDecompressedAndSubmitIt() throws Exception {
+        // given
+        final var anImport = CatalogImport.newImport("123");
+        final var received = new AtomicReference<String>();
+
+        when(catalogImportStore.create(any())).thenAnswer(invocation -> {
+            received.set(new String(invocation.<InputStream>getArgument(0).readAllBytes(), StandardCharsets.UTF_8));
+            return anImport;
+        });
+
+        final var compressed = new ByteArrayOutputStream();
+        try (final var out = new GZIPOutputStream(compressed)) {
+            out.write(LINE.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // when
+        final var aRequest = post("/imports/catalog")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(compressed.toByteArray());
+
+        // then
+        this.mvc.perform(aRequest)
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/imports/catalog/123"))
+                .andExpect(jsonPath("$.id", equalTo("123")))
+                .andExpect(jsonPath("$.status", equalTo("PENDING")));
+
+        Assertions.assertEquals(LINE, received.get());
+        verify(catalogImporter, times(1)).submit(eq("123"));
+    }
+
+    @Test
+    void givenAnImport_whenCallsGetById_shouldReturnItsProgress() throws Exception {
+        // given
+        final var anImport = CatalogImport.newImport("123")
+                .running()
+                .checkpoint(100, 3, 2, List.of(new CatalogImport.LineError(2, List.of(new Error("'name' should not be null")))));
+
+        when(catalogImportStore.findById(any())).thenReturn(Optional.of(anImport));
+
+        // when
+        final var aRequest = get("/imports/catalog/123");
+
+        // then
+        this.mvc.perform(aRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", equalTo("RUNNING")))
+                .andExpect(jsonPath("$.lines", equalTo(3)))
+                .andExpect(jsonPath("$.imported", equalTo(2)))
+                .andExpect(jsonPath("$.rejected", equalTo(1)))
+                .andExpect(jsonPath("$.errors[0].line", equalTo(2)))
+                .andExpect(jsonPath("$.errors[0].errors[0].message", equalTo("'name' should not be null")));
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallsGetById_shouldReturnNotFound() throws Exception {
+        // given
+        when(catalogImportStore.findById(any())).thenReturn(Optional.empty());
+
+        // when
+        final var aRequest = get("/imports/catalog/123");
+
+        // then
+        this.mvc.perform(aRequest)
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", equalTo("Catalog import with ID 123 was not found")));
+    }
+
+    @Test
+    void givenAnImportThatHasNotFailed_whenCallsResume_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedMessage = "Only a failed import can be resumed, this one is RUNNING";
+        when(catalogImporter.resume(any())).thenThrow(DomainException.with(new Error(expectedMessage)));
+
+        // when
+        final var aRequest = post("/imports/catalog/123/resume");
+
+        // then
+        this.mvc.perform(aRequest)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo(expectedMessage)));
+    }
+}
@@ -0,0 +1,107 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.infrastructure.typeahead.TypeaheadIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ControllerTest(controllers = TypeaheadAPI.class)
+public class TypeaheadAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private TypeaheadIndex typeaheadIndex;
+
+    @Test
+    public void givenValidParams_whenCallsSuggest_shouldReturnSuggestions() throws Exception {
+        // given
+        final var expectedTypes = EnumSet.of(TypeaheadIndex.Type.GENRE, TypeaheadIndex.Type.CAST_MEMBER);
+        final var expectedLimit = 50;
+
+        when(typeaheadIndex.search(any(), any(), anyInt()))
+                .thenReturn(List.of(new TypeaheadIndex.Suggestion(TypeaheadIndex.Type.CAST_MEMBER, "123", "Martin Scorsese", "martin scorsese")));
+
+        // when
+        final var aRequest = get("/typeahead")
+                .queryParam("search", "mar")
+                .queryParam("types", "genre,CAST_MEMBER")
+                .queryParam("limit", "500")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].type", equalTo("cast_member")))
+                .andExpect(jsonPath("$[0].id", equalTo("123")))
+                .andExpect(jsonPath("$[0].name", equalTo("Martin Scorsese")));
+
+        verify(typeaheadIndex, times(1)).search(eq("mar"), eq(expectedTypes), eq(expectedLimit));
+    }
+
+    @Test
+    public void givenTheIndexStillLoading_whenCallsSuggest_shouldReturnServiceUnavailable() throws Exception {
+        // given
+        when(typeaheadIndex.isLoading()).thenReturn(true);
+
+        // when
+        final var aRequest = get("/typeahead")
+                .queryParam("search", "mar")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isServiceUnavailable());
+
+        verify(typeaheadIndex, never()).search(anyString(), any(), anyInt());
+    }
+
+    @Test
+    public void givenAnUnknownType_whenCallsSuggest_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "'videos' is not a typeahead type";
+
+        // when
+        final var aRequest = get("/typeahead")
+                .queryParam("search", "mar")
+                .queryParam("types", "videos")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(typeaheadIndex, never()).search(anyString(), any(), anyInt());
+    }
+}
@@ -0,0 +1,505 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.video.media.get.DefaultGetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.MediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.CommitMediaUploadOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultCommitMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultCreateMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultGetMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultUploadMediaChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.MediaUploadOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaChunkCommand;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.DefaultGetVideoFacetsUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.VideoFacetsOutput;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.DefaultListVideosUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.VideoListOutput;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateMediaUploadRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = VideoAPI.class)
+public class VideoAPITest {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @TempDir
+    Path tempDir;
+
+    @MockBean
+    private DefaultGetMediaUseCase getMediaUseCase;
+
+    @MockBean
+    private DefaultCreateMediaUploadUseCase createMediaUploadUseCase;
+
+    @MockBean
+    private DefaultGetMediaUploadUseCase getMediaUploadUseCase;
+
+    @MockBean
+    private DefaultUploadMediaChunkUseCase uploadMediaChunkUseCase;
+
+    @MockBean
+    private DefaultCommitMediaUploadUseCase commitMediaUploadUseCase;
+
+    @MockBean
+    private DefaultListVideosUseCase listVideosUseCase;
+
+    @MockBean
+    private DefaultGetVideoFacetsUseCase getVideoFacetsUseCase;
+
+    @Test
+    public void givenFacetFilters_whenCallsListVideos_shouldQueryThemAndReturnThePage() throws Exception {
+        // given
+        final var aulas = CategoryID.unique();
+        final var expectedItem = new VideoListOutput(
+                VideoID.unique().getValue(), "Aula 1", "Some description", Instant.now(), Instant.now()
+        );
+
+        when(listVideosUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(expectedItem)));
+
+        // when
+        final var response = this.mvc.perform(get("/videos")
+                .queryParam("search", "aula")
+                .queryParam("ratings", "L,12")
+                .queryParam("launchedFrom", "2020")
+                .queryParam("published", "true")
+                .queryParam("categories", aulas.getValue()));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(expectedItem.id())))
+                .andExpect(jsonPath("$.items[0].title", equalTo(expectedItem.title())));
+
+        verify(listVideosUseCase).execute(argThat(query ->
+                Objects.equals("aula", query.terms())
+                        && Objects.equals("title", query.sort())
+                        && Objects.equals(Set.of(Rating.L, Rating.AGE_12), query.ratings())
+                        && Objects.equals(Year.of(2020), query.launchedFrom())
+                        && query.launchedTo() == null
+                        && Boolean.TRUE.equals(query.published())
+                        && query.opened() == null
+                        && Objects.equals(Set.of(aulas), query.categories())
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidRating_whenCallsListVideos_shouldReturnUnprocessableEntity() throws Exception {
+        // when
+        final var response = this.mvc.perform(get("/videos").queryParam("ratings", "PG-13"));
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo("'PG-13' is not a rating")));
+
+        verify(listVideosUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenFacetFilters_whenCallsGetFacets_shouldReturnTheCounts() throws Exception {
+        // given
+        final var ratings = new LinkedHashMap<String, Long>();
+        ratings.put("L", 2L);
+        ratings.put("12", 1L);
+
+        when(getVideoFacetsUseCase.execute(any()))
+                .thenReturn(new VideoFacetsOutput(2, ratings, Map.of(2021, 2L), Map.of(true, 2L), Map.of(), Map.of(), Map.of(), Map.of()));
+
+        // when
+        final var response = this.mvc.perform(get("/videos/facets").queryParam("ratings", "L"));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(2)))
+                .andExpect(jsonPath("$.ratings.L", equalTo(2)))
+                .andExpect(jsonPath("$.ratings.12", equalTo(1)))
+                .andExpect(jsonPath("$.launched_at.2021", equalTo(2)))
+                .andExpect(jsonPath("$.published.true", equalTo(2)));
+
+        verify(getVideoFacetsUseCase).execute(argThat(query -> Objects.equals(Set.of(Rating.L), query.ratings())));
+    }
+
+    @Test
+    public void givenAStoredMedia_whenCallsGetMediaByType_shouldReturnItWithItsChecksumAsETag() throws Exception {
+        // given
+        final var expectedContent = "0123456789abcdefghij";
+        final var videoId = VideoID.unique().getValue();
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(media(expectedContent, "abc", "trailer.mp4"));
+
+        // when
+        final var response = this.mvc.perform(get("/videos/{id}/medias/{type}", videoId, "trailer"));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(header().string("Content-Type", "video/mp4"))
+                .andExpect(header().longValue("Content-Length", expectedContent.length()))
+                .andExpect(content().string(expectedContent));
+
+        verify(getMediaUseCase).execute(argThat(cmd ->
+                Objects.equals(videoId, cmd.videoId()) && Objects.equals("trailer", cmd.mediaType())
+        ));
+    }
+
+    @Test
+    public void givenASingleRange_whenCallsGetMediaByType_shouldReturnPartialContent() throws Exception {
+        // given
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(media("0123456789abcdefghij", "abc", "trailer.mp4"));
+
+        // when
+        final var response = this.mvc.perform(get("/videos/{id}/medias/{type}", VideoID.unique().getValue(), "trailer")
+                .header("Range", "bytes=5-9"));
+
+        // then
+        response.andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 5-9/20"))
+                .andExpect(header().longValue("Content-Length", 5))
+                .andExpect(content().string("56789"));
+    }
+
+    @Test
+    public void givenMultipleRanges_whenCallsGetMediaByType_shouldReturnMultipartByteRanges() throws Exception {
+        // given
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(media("0123456789abcdefghij", "abc", "trailer.mp4"));
+
+        // when
+        final var result = this.mvc.perform(get("/videos/{id}/medias/{type}", VideoID.unique().getValue(), "trailer")
+                        .header("Range", "bytes=0-1,-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Type", org.hamcrest.Matchers.startsWith("multipart/byteranges; boundary=")))
+                .andReturn();
+
+        // then
+        final var body = result.getResponse().getContentAsString();
+        Assertions.assertEquals(body.length(), result.getResponse().getContentLength());
+        Assertions.assertTrue(body.contains("Content-Range: bytes 0-1/20\r\n\r\n01\r\n"));
+        Assertions.assertTrue(body.contains("Content-Range: bytes 17-19/20\r\n\r\nhij\r\n"));
+        Assertions.assertTrue(body.endsWith("--\r\n"));
+    }
+
+    @Test
+    public void givenAMatchingIfNoneMatch_whenCallsGetMediaByType_shouldReturnNotModified() throws Exception {
+        // given
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(media("0123456789", "abc", "banner.png"));
+
+        // when
+        final var response = this.mvc.perform(get("/videos/{id}/medias/{type}", VideoID.unique().getValue(), "banner")
+                .header("If-None-Match", "\"abc\""));
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void givenAnUnsatisfiableRange_whenCallsGetMediaByType_shouldReturnRangeNotSatisfiable() throws Exception {
+        // given
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(media("0123456789", "abc", "trailer.mp4"));
+
+        // when
+        final var response = this.mvc.perform(get("/videos/{id}/medias/{type}", VideoID.unique().getValue(), "trailer")
+                .header("Range", "bytes=10-20"));
+
+        // then
+        response.andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */10"));
+    }
+
+    @Test
+    public void givenAMalformedRange_whenCallsGetMediaByType_shouldIgnoreItAndReturnTheFullMedia() throws Exception {
+        // given
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(media("0123456789", "abc", "trailer.mp4"));
+
+        // when
+        final var response = this.mvc.perform(get("/videos/{id}/medias/{type}", VideoID.unique().getValue(), "trailer")
+                .header("Range", "bytes=5-1"));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Range"))
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    public void givenTooManyRanges_whenCallsGetMediaByType_shouldReturnRangeNotSatisfiable() throws Exception {
+        // given
+        final var tooManyRanges = "bytes=" + String.join(",", Collections.nCopies(65, "0-0"));
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(media("0123456789", "abc", "trailer.mp4"));
+
+        // when
+        final var response = this.mvc.perform(get("/videos/{id}/medias/{type}", VideoID.unique().getValue(), "trailer")
+                .header("Range", tooManyRanges));
+
+        // then
+        response.andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */10"));
+    }
+
+    @Test
+    public void givenAStaleIfRange_whenCallsGetMediaByType_shouldReturnTheFullMedia() throws Exception {
+        // given
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(media("0123456789", "abc", "trailer.mp4"));
+
+        // when
+        final var response = this.mvc.perform(get("/videos/{id}/medias/{type}", VideoID.unique().getValue(), "trailer")
+                .header("Range", "bytes=0-1")
+                .header("If-Range", "\"old\""));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    public void givenAMissingMedia_whenCallsGetMediaByType_shouldReturnNotFound() throws Exception {
+        // given
+        final var expectedErrorMessage = "Media type subtitle doesn't exists";
+
+        when(getMediaUseCase.execute(any()))
+                .thenThrow(NotFoundException.with(new Error(expectedErrorMessage)));
+
+        // when
+        final var response = this.mvc.perform(get("/videos/{id}/medias/{type}", VideoID.unique().getValue(), "subtitle"));
+
+        // then
+        response.andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenAValidRequest_whenCallsCreateUpload_shouldReturnTheUpload() throws Exception {
+        // given
+        final var anUpload = upload(3L * CHUNK_SIZE);
+        final var videoId = anUpload.getVideoId().getValue();
+        final var aRequest = new CreateMediaUploadRequest("master.mov", "video/quicktime", anUpload.getLength(), CHUNK_SIZE);
+
+        when(createMediaUploadUseCase.execute(any()))
+                .thenReturn(MediaUploadOutput.from(anUpload, Collections.emptySortedSet()));
+
+        // when
+        final var response = this.mvc.perform(post("/videos/{id}/medias/video/uploads", videoId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aRequest)));
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/videos/%s/medias/video/uploads/%s".formatted(videoId, anUpload.getId().getValue())))
+                .andExpect(jsonPath("$.id", equalTo(anUpload.getId().getValue())))
+                .andExpect(jsonPath("$.media_type", equalTo("VIDEO")))
+                .andExpect(jsonPath("$.chunk_count", equalTo(3)))
+                .andExpect(jsonPath("$.complete", equalTo(false)));
+
+        verify(createMediaUploadUseCase).execute(argThat(cmd ->
+                Objects.equals(videoId, cmd.videoId())
+                        && Objects.equals("video", cmd.mediaType())
+                        && Objects.equals("video/quicktime", cmd.contentType())
+                        && Objects.equals(CHUNK_SIZE, cmd.chunkSize())
+        ));
+    }
+
+    @Test
+    public void givenAnUpload_whenCallsGetUpload_shouldReturnTheReceivedRanges() throws Exception {
+        // given
+        final var anUpload = upload(3L * CHUNK_SIZE);
+
+        when(getMediaUploadUseCase.execute(any()))
+                .thenReturn(MediaUploadOutput.from(anUpload, new TreeSet<>(List.of(0, 2))));
+
+        // when
+        final var response = this.mvc.perform(get(
+                "/videos/{id}/medias/video/uploads/{uploadId}",
+                anUpload.getVideoId().getValue(),
+                anUpload.getId().getValue()
+        ));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.received", hasSize(2)))
+                .andExpect(jsonPath("$.received[1].first_chunk", equalTo(2)))
+                .andExpect(jsonPath("$.received[1].start", equalTo(2 * CHUNK_SIZE)))
+                .andExpect(jsonPath("$.received[1].end", equalTo(3 * CHUNK_SIZE - 1)));
+    }
+
+    @Test
+    public void givenAChunk_whenCallsUploadChunk_shouldStreamItToTheUseCase() throws Exception {
+        // given
+        final var anUpload = upload(2L * CHUNK_SIZE);
+        final var expectedContent = new byte[CHUNK_SIZE];
+        Arrays.fill(expectedContent, (byte) 7);
+        final var expectedChecksum = "a".repeat(64);
+
+        when(uploadMediaChunkUseCase.execute(any()))
+                .thenAnswer(t -> {
+                    final var cmd = t.getArgument(0, UploadMediaChunkCommand.class);
+                    if (!Arrays.equals(expectedContent, cmd.content().content())) {
+                        throw new IllegalStateException("unexpected content");
+                    }
+                    return MediaUploadOutput.from(anUpload, new TreeSet<>(List.of(cmd.chunk())));
+                });
+
+        // when
+        final var response = this.mvc.perform(put(
+                "/videos/{id}/medias/video/uploads/{uploadId}/chunks/{chunk}",
+                anUpload.getVideoId().getValue(),
+                anUpload.getId().getValue(),
+                1
+        )
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header("X-Checksum-Sha256", expectedChecksum)
+                .content(expectedContent));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.received[0].first_chunk", equalTo(1)));
+
+        verify(uploadMediaChunkUseCase).execute(argThat(cmd ->
+                cmd.chunk() == 1
+                        && Objects.equals(expectedChecksum, cmd.checksum())
+                        && cmd.content().length() == CHUNK_SIZE
+        ));
+    }
+
+    @Test
+    public void givenAChunkThatDoesNotMatch_whenCallsUploadChunk_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var anUpload = upload(CHUNK_SIZE);
+        final var expectedErrorMessage = "Chunk 0 does not match its checksum";
+
+        when(uploadMediaChunkUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        // when
+        final var response = this.mvc.perform(put(
+                "/videos/{id}/medias/video/uploads/{uploadId}/chunks/{chunk}",
+                anUpload.getVideoId().getValue(),
+                anUpload.getId().getValue(),
+                0
+        )
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header("X-Checksum-Sha256", "0".repeat(64))
+                .content(new byte[10]));
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenACompleteUpload_whenCallsCommit_shouldReturnThePendingMedia() throws Exception {
+        // given
+        final var anUpload = upload(CHUNK_SIZE);
+        final var aMedia = AudioVideoMedia.with("abc", "master.mov", "/videos/video", "", MediaStatus.PENDING);
+
+        when(commitMediaUploadUseCase.execute(any()))
+                .thenReturn(CommitMediaUploadOutput.from(anUpload.getVideoId(), VideoMediaType.VIDEO, aMedia));
+
+        // when
+        final var response = this.mvc.perform(post(
+                "/videos/{id}/medias/video/uploads/{uploadId}/commit",
+                anUpload.getVideoId().getValue(),
+                anUpload.getId().getValue()
+        ));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.video_id", equalTo(anUpload.getVideoId().getValue())))
+                .andExpect(jsonPath("$.media_type", equalTo("VIDEO")))
+                .andExpect(jsonPath("$.checksum", equalTo("abc")))
+                .andExpect(jsonPath("$.name", equalTo("master.mov")))
+                .andExpect(jsonPath("$.status", equalTo("PENDING")));
+    }
+
+    @Test
+    public void givenAnUnknownUpload_whenCallsCommit_shouldReturnNotFound() throws Exception {
+        // given
+        final var anUpload = upload(CHUNK_SIZE);
+
+        when(commitMediaUploadUseCase.execute(any()))
+                .thenThrow(NotFoundException.with(MediaUpload.class, anUpload.getId()));
+
+        // when
+        final var response = this.mvc.perform(post(
+                "/videos/{id}/medias/video/uploads/{uploadId}/commit",
+                anUpload.getVideoId().getValue(),
+                anUpload.getId().getValue()
+        ));
+
+        // then
+        response.andExpect(status().isNotFound());
+    }
+
+    private MediaOutput media(final String content, final String checksum, final String name) throws Exception {
+        final var file = Files.writeString(tempDir.resolve(name), content, StandardCharsets.US_ASCII);
+        final var aResource = Resource.with(
+                Resource.Content.ofChannel(() -> FileChannel.open(file, StandardOpenOption.READ)),
+                Files.size(file),
+                checksum,
+                "application/octet-stream",
+                name
+        );
+        return MediaOutput.with(aResource, checksum, name);
+    }
+
+    private static MediaUpload upload(final long length) {
+        return MediaUpload.newUpload(VideoID.unique(), VideoMediaType.VIDEO, "master.mov", "video/quicktime", length, CHUNK_SIZE);
+    }
+}
@@ -0,0 +1,111 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AggregateCacheTest {
+
+    private final AggregateCache<CategoryID, Category> cache =
+            new AggregateCache<>("categories", 1000, Duration.ofMinutes(10), Duration.ofSeconds(30), Category::with);
+
+    @Test
+    public void givenACachedAggregate_whenCallsGet_shouldNotCallLoaderAndReturnASnapshot() {
+        // given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var calls = new AtomicInteger();
+
+        cache.get(aCategory.getId(), anId -> {
+            calls.incrementAndGet();
+            return Optional.of(aCategory);
+        }).get().update("Séries", null, false);
+
+        // when
+        final var actualCategory = cache.get(aCategory.getId(), anId -> {
+            calls.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // then
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals("Filmes", actualCategory.get().getName());
+        Assertions.assertTrue(actualCategory.get().isActive());
+
+        final var actualStats = cache.stats();
+        Assertions.assertEquals(1, actualStats.hits());
+        Assertions.assertEquals(1, actualStats.misses());
+        Assertions.assertEquals(0, actualStats.negativeHits());
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsGetTwice_shouldCacheTheMiss() {
+        // given
+        final var anId = CategoryID.unique();
+        final var calls = new AtomicInteger();
+
+        cache.get(anId, id -> {
+            calls.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // when
+        final var actualCategory = cache.get(anId, id -> {
+            calls.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // then
+        Assertions.assertTrue(actualCategory.isEmpty());
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(1, cache.stats().negativeHits());
+    }
+
+    @Test
+    public void givenAnInvalidatedId_whenCallsGet_shouldCallLoaderAgain() {
+        // given
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var anId = aCategory.getId();
+
+        cache.get(anId, id -> Optional.empty());
+
+        // when
+        cache.invalidate(anId);
+        final var actualCategory = cache.get(anId, id -> Optional.of(aCategory));
+
+        // then
+        Assertions.assertEquals(anId, actualCategory.get().getId());
+        Assertions.assertEquals(2, cache.stats().misses());
+    }
+
+    @Test
+    public void givenStaleAggregates_whenCallsInvalidateIf_shouldOnlyDropThose() {
+        // given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, false);
+        final var calls = new AtomicInteger();
+
+        cache.get(filmes.getId(), id -> Optional.of(filmes));
+        cache.get(series.getId(), id -> Optional.of(series));
+        cache.get(CategoryID.unique(), id -> Optional.empty());
+
+        // when
+        cache.invalidateIf(aCategory -> !aCategory.isActive());
+
+        cache.get(filmes.getId(), id -> {
+            calls.incrementAndGet();
+            return Optional.of(filmes);
+        });
+        cache.get(series.getId(), id -> {
+            calls.incrementAndGet();
+            return Optional.of(series);
+        });
+
+        // then
+        Assertions.assertEquals(1, calls.get());
+    }
+}
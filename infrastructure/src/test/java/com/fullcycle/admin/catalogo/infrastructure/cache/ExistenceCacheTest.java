@@ -0,0 +1,111 @@
+package com.fullcycle.admin.catalogo.infrastructure.cache;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class ExistenceCacheTest {
+
+    private final ExistenceCache cache = new ExistenceCache(1000, Duration.ofMinutes(5), 100);
+
+    @Test
+    public void givenAWarmCache_whenCallsExisting_shouldNotCallLoader() {
+        // given
+        final var existingId = CastMemberID.unique();
+        final var missingId = CastMemberID.unique();
+        final var ids = List.of(existingId, missingId);
+        final var calls = new ArrayList<List<CastMemberID>>();
+
+        cache.existing(ids, chunk -> {
+            calls.add(chunk);
+            return List.of(existingId);
+        });
+
+        // when
+        final var actualIds = cache.existing(ids, chunk -> {
+            calls.add(chunk);
+            return List.of();
+        });
+
+        // then
+        Assertions.assertEquals(List.of(existingId), actualIds);
+        Assertions.assertEquals(1, calls.size());
+    }
+
+    @Test
+    public void givenMoreIdsThanAChunk_whenCallsExisting_shouldLoadInBoundedChunks() {
+        // given
+        final var ids = IntStream.range(0, 250).mapToObj(i -> GenreID.unique()).toList();
+        final var chunkSizes = new ArrayList<Integer>();
+
+        // when
+        final var actualIds = cache.existing(ids, chunk -> {
+            chunkSizes.add(chunk.size());
+            return chunk;
+        });
+
+        // then
+        Assertions.assertEquals(ids, actualIds);
+        Assertions.assertEquals(List.of(100, 100, 50), chunkSizes);
+    }
+
+    @Test
+    public void givenAnInvalidatedId_whenCallsExisting_shouldReloadIt() {
+        // given
+        final var anId = GenreID.unique();
+        cache.existing(List.of(anId), chunk -> List.of());
+
+        // when
+        cache.invalidate(anId);
+        final var actualIds = cache.existing(List.of(anId), chunk -> chunk);
+
+        // then
+        Assertions.assertEquals(List.of(anId), actualIds);
+    }
+
+    @Test
+    public void givenIdsOfDifferentTypesWithSameValue_whenCallsExisting_shouldNotShareEntries() {
+        // given
+        final var aValue = "123";
+        cache.existing(List.of(GenreID.from(aValue)), chunk -> chunk);
+
+        // when
+        final var actualIds = cache.existing(List.of(CastMemberID.from(aValue)), chunk -> List.of());
+
+        // then
+        Assertions.assertTrue(actualIds.isEmpty());
+    }
+
+    @Test
+    public void givenALookupBeforeTheCommit_whenTheTransactionCompletes_shouldDropItsAnswer() {
+        // given
+        final var aCreatedId = GenreID.unique();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(aCreatedId);
+
+            // a concurrent lookup that does not see the uncommitted row yet
+            cache.existing(List.of(aCreatedId), chunk -> List.of());
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        final var actualIds = cache.existing(List.of(aCreatedId), chunk -> List.of(aCreatedId));
+
+        // then
+        Assertions.assertEquals(List.of(aCreatedId), actualIds);
+    }
+}
@@ -13,7 +13,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static com.fullcycle.admin.catalogo.Fixture.CastMember.type;
 import static com.fullcycle.admin.catalogo.Fixture.name;
@@ -307,6 +309,41 @@ public class CastMemberMySQLGatewayTest {
         }
     }
 
+    @Test
+    public void givenMoreIdsThanAChunk_whenCallsExistsByIds_shouldReturnOnlyPersistedOnes() {
+        // given
+        final var wesley = castMemberGateway.create(CastMember.newMember("Wesley", type()));
+        final var gabriel = castMemberGateway.create(CastMember.newMember("Gabriel", type()));
+
+        final var ids = new ArrayList<CastMemberID>();
+        ids.add(wesley.getId());
+        IntStream.range(0, 600).forEach(i -> ids.add(CastMemberID.unique()));
+        ids.add(gabriel.getId());
+
+        final var expectedIds = List.of(wesley.getId(), gabriel.getId());
+
+        // when
+        final var actualIds = castMemberGateway.existsByIds(ids);
+
+        // then
+        Assertions.assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    public void givenAMissingIdLaterCreated_whenCallsExistsByIds_shouldReturnIt() {
+        // given
+        final var aMember = CastMember.newMember("Wesley", type());
+        final var ids = List.of(aMember.getId());
+
+        Assertions.assertTrue(castMemberGateway.existsByIds(ids).isEmpty());
+
+        // when
+        castMemberGateway.create(aMember);
+
+        // then
+        Assertions.assertEquals(ids, castMemberGateway.existsByIds(ids));
+    }
+
     private void mockMembers() {
         castMemberRepository.saveAndFlush(CastMemberJpaEntity.from(CastMember.newMember("Kit Harington", CastMemberType.ACTOR)));
         castMemberRepository.saveAndFlush(CastMemberJpaEntity.from(CastMember.newMember("Vin Diesel", CastMemberType.ACTOR)));
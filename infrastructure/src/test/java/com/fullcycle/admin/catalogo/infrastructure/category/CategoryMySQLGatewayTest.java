@@ -2,14 +2,25 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxEvent;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxRepository;
+import com.fullcycle.admin.catalogo.infrastructure.typeahead.TypeaheadIndex;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationsUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 @MySQLGatewayTest
@@ -21,6 +32,15 @@ class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private TypeaheadIndex typeaheadIndex;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void givenAValidCategory_whenCallsCreate_shouldReturnANewCategory(){
         final var expectedName = "Filmes";
@@ -58,6 +78,36 @@ class CategoryMySQLGatewayTest {
         Assertions.assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    void givenValidCategories_whenCallsCreateAll_shouldPersistThemInABatch(){
+        // given
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, false);
+
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        // when
+        final var actualCategories = categoryGateway.createAll(List.of(filmes, series));
+
+        // then
+        Assertions.assertEquals(2, categoryRepository.count());
+        Assertions.assertEquals(List.of(filmes, series), actualCategories);
+
+        for (final var expected : List.of(filmes, series)) {
+            final var actualEntity = categoryRepository.findById(expected.getId().getValue()).get();
+
+            Assertions.assertEquals(expected.getName(), actualEntity.getName());
+            Assertions.assertEquals(expected.getDescription(), actualEntity.getDescription());
+            Assertions.assertEquals(expected.isActive(), actualEntity.isActive());
+            Assertions.assertEquals(expected.getCreatedAt(), actualEntity.getCreatedAt());
+            Assertions.assertEquals(expected.getUpdatedAt(), actualEntity.getUpdatedAt());
+            Assertions.assertEquals(expected.getDeletedAt(), actualEntity.getDeletedAt());
+        }
+
+        Assertions.assertEquals(List.of(filmes.getId()), categoryGateway.existsByIds(List.of(filmes.getId())));
+        Assertions.assertEquals(1, typeaheadIndex.search("seri", EnumSet.of(TypeaheadIndex.Type.CATEGORY), 10).size());
+    }
+
     @Test
     void givenAValidCategory_whenCallsUpdate_shouldReturnACategoryUpdated(){
         final var expectedName = "Filmes";
@@ -101,6 +151,63 @@ class CategoryMySQLGatewayTest {
         Assertions.assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    void givenAValidCategory_whenCallsUpdate_shouldIncrementItsVersion(){
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var actualCategory = categoryGateway.update(aCategory.clone().update("Filmes", "Os mais assistidos", true));
+
+        Assertions.assertEquals(1, actualCategory.getVersion());
+        Assertions.assertEquals(1, categoryRepository.findById(aCategory.getId().getValue()).get().getVersion());
+    }
+
+    @Test
+    void givenAStaleCategory_whenCallsUpdate_shouldThrowConflictAndKeepTheStoredOne(){
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        categoryGateway.update(aCategory.clone().update("Series", null, true));
+
+        final var expectedErrorMessage = "Category with ID %s was changed since version 0"
+                .formatted(aCategory.getId().getValue());
+
+        final var actualException = Assertions.assertThrows(
+                ConflictException.class,
+                () -> categoryGateway.update(aCategory.clone().update("Documentarios", null, true))
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+        Assertions.assertEquals("Series", actualEntity.getName());
+        Assertions.assertEquals(1, actualEntity.getVersion());
+    }
+
+    @Test
+    void givenAValidCategory_whenCallsCreateUpdateAndDelete_shouldAppendItsEventsToTheOutbox(){
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedTypes = List.of(
+                DomainEvent.Type.CREATED,
+                DomainEvent.Type.UPDATED,
+                DomainEvent.Type.DELETED
+        );
+
+        final var actualCategory = categoryGateway.create(aCategory);
+        categoryGateway.update(actualCategory.update("Filmes", "A categoria mais assistida", true));
+        categoryGateway.deleteById(aCategory.getId());
+
+        final var actualEvents = outboxRepository.findUnpublished(100).stream()
+                .filter(it -> it.aggregateId().equals(expectedId))
+                .toList();
+
+        Assertions.assertEquals(expectedTypes, actualEvents.stream().map(OutboxEvent::type).toList());
+        Assertions.assertTrue(actualEvents.stream().allMatch(it -> it.aggregate().equals("Category")));
+        Assertions.assertTrue(actualEvents.get(0).sequence() < actualEvents.get(1).sequence());
+        Assertions.assertTrue(actualEvents.get(1).sequence() < actualEvents.get(2).sequence());
+        Assertions.assertTrue(aCategory.getEvents().isEmpty());
+    }
+
     @Test
     void givenPrePersistedCategoryAndValidCategoryId_whenTryToDeletedIt_shouldDeleteCategory(){
         final var aCategory = Category.newCategory("Filmes", null, true);
@@ -312,6 +419,210 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    void givenTermsWithShortWords_whenCallsFindAll_shouldRequireOnlyTheIndexableOnes(){
+        final var amazon = Category.newCategory("Filmes da Amazon", null, true);
+        final var series = Category.newCategory("Séries de TV", null, true);
+
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.from(amazon), CategoryJpaEntity.from(series)));
+
+        final var actualResult = categoryGateway.findAll(new SearchQuery(0, 10, "da amazon", "name", "asc"));
+        final var actualShortOnly = categoryGateway.findAll(new SearchQuery(0, 10, "de", "name", "asc"));
+
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(amazon.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(1, actualShortOnly.items().size());
+        Assertions.assertEquals(series.getId(), actualShortOnly.items().get(0).getId());
+    }
+
+    @Test
+    void givenFollowCursor_whenCallsFindAll_shouldSeekWithoutCounting(){
+        final var expectedPerPage = 1;
+        final var expectedTotal = Pagination.UNKNOWN_TOTAL;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(
+                List.of(CategoryJpaEntity.from(filmes),
+                        CategoryJpaEntity.from(series),
+                        CategoryJpaEntity.from(documentarios))
+        );
+
+        var query = SearchQuery.with(0, 1, "", "name", "asc", null, false);
+        var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(expectedPerPage, actualResult.perPage());
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        query = SearchQuery.with(0, 1, "", "name", "asc", actualResult.nextCursor(), null);
+        actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        query = SearchQuery.with(0, 1, "", "name", "asc", actualResult.nextCursor(), true);
+        actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(3, actualResult.total());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    void givenNullableSortColumn_whenFollowingCursor_shouldVisitSameOrderAsOffsetPages(){
+        final var categories = List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Séries", "B", true),
+                Category.newCategory("Documentários", null, true),
+                Category.newCategory("Animes", "A", true),
+                Category.newCategory("Novelas", "A", true)
+        );
+
+        categoryRepository.saveAll(categories.stream().map(CategoryJpaEntity::from).toList());
+
+        for (final var direction : List.of("asc", "desc")) {
+            final var expectedIds = categoryGateway.findAll(new SearchQuery(0, 10, "", "description", direction))
+                    .items().stream().map(Category::getId).toList();
+
+            final var actualIds = new ArrayList<CategoryID>();
+            String cursor = null;
+            do {
+                final var actualResult =
+                        categoryGateway.findAll(SearchQuery.with(0, 2, "", "description", direction, cursor, false));
+                actualResult.items().forEach(it -> actualIds.add(it.getId()));
+                cursor = actualResult.nextCursor();
+            } while (cursor != null);
+
+            Assertions.assertEquals(expectedIds, actualIds);
+        }
+    }
+
+    @Test
+    void givenAnInvalidCursor_whenCallsFindAll_shouldThrowDomainException(){
+        final var expectedErrorMessage = "'cursor' is invalid";
+
+        final var query = SearchQuery.with(0, 1, "", "name", "asc", "not-a-cursor", null);
+
+        final var actualException =
+                Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenACursorIssuedForAnotherSort_whenCallsFindAll_shouldThrowDomainException(){
+        final var expectedErrorMessage = "'cursor' is invalid";
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var aCursor = categoryGateway.findAll(SearchQuery.with(0, 1, "", "name", "asc", null, false))
+                .nextCursor();
+
+        final var otherSort = SearchQuery.with(0, 1, "", "createdAt", "asc", aCursor, false);
+        final var otherDirection = SearchQuery.with(0, 1, "", "name", "desc", aCursor, false);
+
+        final var actualSortException =
+                Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAll(otherSort));
+        final var actualDirectionException =
+                Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAll(otherDirection));
+
+        Assertions.assertEquals(expectedErrorMessage, actualSortException.getErrors().get(0).message());
+        Assertions.assertEquals(expectedErrorMessage, actualDirectionException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenPrePersistedCategoriesAndRelevanceSort_whenCallsFindAll_shouldReturnBestMatchesFirst(){
+        final var acao = Category.newCategory("Ação", "Filmes de ação", true);
+        final var aventura = Category.newCategory("Aventura", "Aventura e ação", true);
+        final var acaoAsiatica = Category.newCategory("Ação asiática", "Ação e artes marciais, muita ação", true);
+        final var drama = Category.newCategory("Drama", null, true);
+
+        categoryRepository.saveAll(
+                List.of(CategoryJpaEntity.from(acao),
+                        CategoryJpaEntity.from(aventura),
+                        CategoryJpaEntity.from(acaoAsiatica),
+                        CategoryJpaEntity.from(drama))
+        );
+
+        final var expectedIds = List.of(acaoAsiatica.getId(), acao.getId(), aventura.getId());
+
+        final var actualResult = categoryGateway.findAll(new SearchQuery(0, 10, "aca", "relevance", "asc"));
+
+        Assertions.assertEquals(3, actualResult.total());
+        Assertions.assertEquals(expectedIds, actualResult.items().stream().map(Category::getId).toList());
+
+        final var actualIds = new ArrayList<CategoryID>();
+        String cursor = null;
+        do {
+            final var aPage = categoryGateway.findAll(SearchQuery.with(0, 1, "aca", "relevance", "asc", cursor, false));
+            aPage.items().forEach(it -> actualIds.add(it.getId()));
+            cursor = aPage.nextCursor();
+        } while (cursor != null);
+
+        Assertions.assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    void givenTermsSelectedAsRelevance_whenCreatesTheQuery_shouldBindThemInsteadOfInliningThem(){
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(CategoryJpaEntity.class);
+        final var relevance = SpecificationsUtils.<CategoryJpaEntity>relevance("filmes", "name", "description");
+        query.multiselect(root, relevance.toExpression(root, query, cb));
+
+        final var actualQuery = entityManager.createQuery(query)
+                .unwrap(org.hibernate.query.Query.class)
+                .getQueryString();
+
+        Assertions.assertFalse(actualQuery.contains("filmes"), actualQuery);
+        Assertions.assertTrue(actualQuery.contains(":param"), actualQuery);
+    }
+
+    @Test
+    void givenTermsWithSearchOperators_whenCallsFindAll_shouldMatchTheirWordsOnly(){
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", "Uma categoria assistida", true);
+
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+
+        var actualResult = categoryGateway.findAll(new SearchQuery(0, 10, "-filmes +(assist*", "name", "asc"));
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+
+        actualResult = categoryGateway.findAll(new SearchQuery(0, 10, "\"*~", "name", "asc"));
+
+        Assertions.assertEquals(0, actualResult.total());
+        Assertions.assertTrue(actualResult.items().isEmpty());
+    }
+
+    @Test
+    void givenWritesThroughGateway_whenCallsTypeaheadSearch_shouldSeeCurrentNames(){
+        final var types = EnumSet.of(TypeaheadIndex.Type.CATEGORY);
+        final var aCategory = Category.newCategory("Documentários", null, true);
+
+        categoryGateway.create(aCategory);
+
+        Assertions.assertEquals(1, typeaheadIndex.search("docu", types, 10).size());
+
+        categoryGateway.update(Category.with(aCategory).update("Dorama", null, true));
+
+        Assertions.assertTrue(typeaheadIndex.search("docu", types, 10).isEmpty());
+        Assertions.assertEquals(1, typeaheadIndex.search("dora", types, 10).size());
+
+        categoryGateway.deleteById(aCategory.getId());
+
+        Assertions.assertTrue(typeaheadIndex.search("dora", types, 10).isEmpty());
+    }
+
     @Test
     void givenPrePersistedCategories_whenCallsExistsByIds_shouldReturnIds(){
         //given
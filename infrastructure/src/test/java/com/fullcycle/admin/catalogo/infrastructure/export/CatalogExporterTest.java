@@ -0,0 +1,119 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.CastMemberMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@MySQLGatewayTest
+class CatalogExporterTest {
+
+    @Autowired
+    private CatalogExporter catalogExporter;
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private CastMemberMySQLGateway castMemberGateway;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void givenAnEmptyCatalog_whenCallsExport_shouldWriteNothing() throws Exception {
+        // given
+        entityManager.flush();
+        final var out = new ByteArrayOutputStream();
+
+        // when
+        catalogExporter.export(out);
+
+        // then
+        Assertions.assertEquals(0, out.size());
+    }
+
+    @Test
+    void givenAPrePersistedCatalog_whenCallsExport_shouldWriteOneLinePerAggregate() throws Exception {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, false));
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(filmes.getId(), series.getId()));
+        genreGateway.create(acao);
+        final var drama = genreGateway.create(Genre.newGenre("Drama", true));
+
+        final var wesley = castMemberGateway.create(CastMember.newMember("Wesley FullCycle", CastMemberType.ACTOR));
+        entityManager.flush();
+
+        final var out = new ByteArrayOutputStream();
+
+        // when
+        catalogExporter.export(out);
+
+        // then
+        final var lines = lines(out);
+        Assertions.assertEquals(5, lines.size());
+
+        final var categories = lines.stream().filter(it -> it.get("resource").asText().equals("category")).toList();
+        Assertions.assertEquals(2, categories.size());
+        final var actualFilmes = categories.stream()
+                .filter(it -> it.get("id").asText().equals(filmes.getId().getValue()))
+                .findFirst().orElseThrow();
+        Assertions.assertEquals("Filmes", actualFilmes.get("name").asText());
+        Assertions.assertEquals("A categoria mais assistida", actualFilmes.get("description").asText());
+        Assertions.assertTrue(actualFilmes.get("is_active").asBoolean());
+        Assertions.assertEquals(filmes.getCreatedAt().toString(), actualFilmes.get("created_at").asText());
+        Assertions.assertTrue(actualFilmes.get("deleted_at").isNull());
+
+        final var genres = lines.stream().filter(it -> it.get("resource").asText().equals("genre")).toList();
+        Assertions.assertEquals(2, genres.size());
+        final var actualAcao = genres.stream()
+                .filter(it -> it.get("id").asText().equals(acao.getId().getValue()))
+                .findFirst().orElseThrow();
+        final var actualCategories = new ArrayList<String>();
+        actualAcao.get("categories_id").forEach(it -> actualCategories.add(it.asText()));
+        Assertions.assertEquals(Set.of(filmes.getId().getValue(), series.getId().getValue()), Set.copyOf(actualCategories));
+        final var actualDrama = genres.stream()
+                .filter(it -> it.get("id").asText().equals(drama.getId().getValue()))
+                .findFirst().orElseThrow();
+        Assertions.assertEquals(0, actualDrama.get("categories_id").size());
+
+        final var actualWesley = lines.get(4);
+        Assertions.assertEquals("cast_member", actualWesley.get("resource").asText());
+        Assertions.assertEquals(wesley.getId().getValue(), actualWesley.get("id").asText());
+        Assertions.assertEquals("ACTOR", actualWesley.get("type").asText());
+    }
+
+    private static List<JsonNode> lines(final ByteArrayOutputStream out) throws Exception {
+        final var text = out.toString(StandardCharsets.UTF_8);
+        Assertions.assertTrue(text.endsWith("\n"));
+
+        final var mapper = Json.mapper();
+        final var nodes = new ArrayList<JsonNode>();
+        for (final var line : text.split("\n")) {
+            nodes.add(mapper.readTree(line));
+        }
+        return nodes;
+    }
+}
@@ -80,6 +80,75 @@ public class GenreMySQLGatewayTest {
         Assertions.assertNull(persistedGenre.getDeletedAt());
     }
 
+    @Test
+    public void givenValidGenres_whenCallsCreateAll_shouldPersistGenresAndTheirCategories() {
+        // given
+        final var filmes =
+                categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series =
+                categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", false);
+
+        Assertions.assertEquals(0, genreRepository.count());
+
+        // when
+        final var actualGenres = genreGateway.createAll(List.of(acao, drama));
+
+        // then
+        Assertions.assertEquals(2, genreRepository.count());
+        Assertions.assertEquals(List.of(acao, drama), actualGenres);
+
+        final var persistedAcao = genreRepository.findById(acao.getId().getValue()).get();
+        Assertions.assertEquals("Ação", persistedAcao.getName());
+        Assertions.assertTrue(persistedAcao.isActive());
+        Assertions.assertEquals(
+                sorted(List.of(filmes.getId(), series.getId())),
+                sorted(persistedAcao.getCategoryIDs())
+        );
+        Assertions.assertEquals(acao.getCreatedAt(), persistedAcao.getCreatedAt());
+
+        final var persistedDrama = genreRepository.findById(drama.getId().getValue()).get();
+        Assertions.assertFalse(persistedDrama.isActive());
+        Assertions.assertTrue(persistedDrama.getCategoryIDs().isEmpty());
+        Assertions.assertEquals(drama.getDeletedAt(), persistedDrama.getDeletedAt());
+    }
+
+    @Test
+    public void givenExistingAndNewGenres_whenCallsUpsertAll_shouldUpdateExistingAndInsertNew() {
+        // given
+        final var filmes =
+                categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series =
+                categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var acao = Genre.newGenre("acao", true);
+        acao.addCategories(List.of(filmes.getId()));
+        genreGateway.createAll(List.of(acao));
+
+        final var expectedCreatedAt = acao.getCreatedAt();
+
+        final var updatedAcao = Genre.with(acao).update("Ação", false, List.of(series.getId()));
+        final var drama = Genre.newGenre("Drama", true);
+
+        // when
+        genreGateway.upsertAll(List.of(updatedAcao, drama));
+
+        // then
+        Assertions.assertEquals(2, genreRepository.count());
+
+        final var persistedAcao = genreRepository.findById(acao.getId().getValue()).get();
+        Assertions.assertEquals("Ação", persistedAcao.getName());
+        Assertions.assertFalse(persistedAcao.isActive());
+        Assertions.assertEquals(List.of(series.getId()), persistedAcao.getCategoryIDs());
+        Assertions.assertEquals(expectedCreatedAt, persistedAcao.getCreatedAt());
+        Assertions.assertNotNull(persistedAcao.getDeletedAt());
+
+        Assertions.assertTrue(genreRepository.existsById(drama.getId().getValue()));
+    }
+
     @Test
     public void givenAValidGenreWithoutCategories_whenCallsCreateGenre_shouldPersistGenre() {
         // given
@@ -413,6 +482,36 @@ public class GenreMySQLGatewayTest {
 
     }
 
+    @Test
+    public void givenGenresWithCategories_whenCallsFindAll_shouldReturnEachGenreWithItsCategories() {
+        // given
+        final var filmes =
+                categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series =
+                categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", true);
+        drama.addCategories(List.of(series.getId()));
+        final var terror = Genre.newGenre("Terror", true);
+        genreGateway.createAll(List.of(acao, drama, terror));
+
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+
+        // when
+        final var actualPage = genreGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(3, actualPage.items().size());
+        Assertions.assertEquals(
+                sorted(List.of(filmes.getId(), series.getId())),
+                sorted(actualPage.items().get(0).getCategories())
+        );
+        Assertions.assertEquals(List.of(series.getId()), actualPage.items().get(1).getCategories());
+        Assertions.assertTrue(actualPage.items().get(2).getCategories().isEmpty());
+    }
+
     @ParameterizedTest
     @CsvSource({
             "aç,0,10,1,1,Ação",
@@ -527,6 +626,38 @@ public class GenreMySQLGatewayTest {
 
     }
 
+    @Test
+    public void givenPrePersistedGenres_whenCallsExistsByIds_shouldReturnIds() {
+        // given
+        final var acao = genreGateway.create(Genre.newGenre("Ação", true));
+        final var drama = genreGateway.create(Genre.newGenre("Drama", true));
+        genreGateway.create(Genre.newGenre("Terror", true));
+
+        final var expectedIds = List.of(acao.getId(), drama.getId());
+        final var ids = List.of(acao.getId(), GenreID.from("123"), drama.getId());
+
+        // when
+        final var actualIds = genreGateway.existsByIds(ids);
+
+        // then
+        Assertions.assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    public void givenADeletedGenre_whenCallsExistsByIds_shouldNotReturnIt() {
+        // given
+        final var acao = genreGateway.create(Genre.newGenre("Ação", true));
+        final var ids = List.of(acao.getId());
+
+        Assertions.assertEquals(ids, genreGateway.existsByIds(ids));
+
+        // when
+        genreGateway.deleteById(acao.getId());
+
+        // then
+        Assertions.assertTrue(genreGateway.existsByIds(ids).isEmpty());
+    }
+
     private void mockGenres(){
         genreRepository.saveAndFlush(GenreJpaEntity.from(Genre.newGenre("Comédia romântica", true)));
         genreRepository.saveAndFlush(GenreJpaEntity.from(Genre.newGenre("Ação", true)));
@@ -0,0 +1,137 @@
+package com.fullcycle.admin.catalogo.infrastructure.importing;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.CastMemberMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+@MySQLGatewayTest
+class CatalogImporterTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private CastMemberMySQLGateway castMemberGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private CastMemberRepository castMemberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path root;
+
+    private CatalogImportStore catalogImportStore;
+    private CatalogImporter catalogImporter;
+
+    @BeforeEach
+    void setUp() {
+        catalogImportStore = new CatalogImportStore(root.toString());
+        catalogImporter = new CatalogImporter(
+                catalogImportStore,
+                categoryGateway,
+                genreGateway,
+                castMemberGateway,
+                transactionManager,
+                2,
+                1024
+        );
+    }
+
+    @Test
+    void givenAFileWithValidAndInvalidLines_whenCallsRun_shouldUpsertValidLinesAndReportTheOthers() throws Exception {
+        // given
+        final var filmesId = UUID.randomUUID().toString();
+        final var content = String.join("\n",
+                "{\"resource\":\"category\",\"id\":\"%s\",\"name\":\"Filmes\",\"is_active\":true}".formatted(filmesId),
+                "{\"resource\":\"genre\",\"id\":\"%s\",\"name\":\"Ação\",\"categories_id\":[\"%s\"]}".formatted(UUID.randomUUID(), filmesId),
+                "{\"resource\":\"cast_member\",\"id\":\"%s\",\"name\":\"Wesley\",\"type\":\"ACTOR\"}".formatted(UUID.randomUUID()),
+                "{\"resource\":\"category\",\"id\":\"%s\",\"name\":\" \"}".formatted(UUID.randomUUID()),
+                "{\"resource\":",
+                "{\"resource\":\"genre\",\"id\":\"%s\",\"name\":\"Drama\",\"categories_id\":[\"%s\"]}".formatted(UUID.randomUUID(), UUID.randomUUID()),
+                "",
+                "{\"resource\":\"cast_member\",\"id\":\"%s\",\"name\":\"Wesley\",\"type\":\"WRITER\"}".formatted(UUID.randomUUID())
+        ) + "\n";
+
+        final var anImport = catalogImportStore.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+
+        // when
+        catalogImporter.run(anImport.id());
+
+        // then
+        final var actualImport = catalogImportStore.findById(anImport.id()).get();
+        Assertions.assertEquals(CatalogImport.Status.COMPLETED, actualImport.status());
+        Assertions.assertEquals(8, actualImport.lines());
+        Assertions.assertEquals(3, actualImport.imported());
+        Assertions.assertEquals(4, actualImport.rejected());
+        Assertions.assertEquals(Files.size(catalogImportStore.data(anImport)), actualImport.offset());
+        Assertions.assertEquals(
+                List.of(4L, 5L, 6L, 8L),
+                actualImport.errors().stream().map(CatalogImport.LineError::line).toList()
+        );
+        Assertions.assertEquals("'name' should not be empty", actualImport.errors().get(0).errors().get(0).message());
+        Assertions.assertTrue(actualImport.errors().get(2).errors().get(0).message().startsWith("Some categories could not be found"));
+
+        Assertions.assertEquals(1, categoryRepository.count());
+        Assertions.assertEquals(1, genreRepository.count());
+        Assertions.assertEquals(1, castMemberRepository.count());
+    }
+
+    @Test
+    void givenAnImportWithACheckpoint_whenCallsRun_shouldGoOnFromTheCheckpointAndUpsert() throws Exception {
+        // given
+        final var filmes = categoryGateway.createAll(List.of(Category.newCategory("Filmes", null, true))).get(0);
+        final var firstLine = "{\"resource\":\"category\",\"id\":\"%s\",\"name\":\"Séries\"}\n".formatted(UUID.randomUUID());
+        final var secondLine = "{\"resource\":\"category\",\"id\":\"%s\",\"name\":\"Filmes e Séries\"}\n".formatted(filmes.getId().getValue());
+
+        final var created = catalogImportStore.create(
+                new ByteArrayInputStream((firstLine + secondLine).getBytes(StandardCharsets.UTF_8)));
+        final var anImport = catalogImportStore.save(created
+                .checkpoint(firstLine.getBytes(StandardCharsets.UTF_8).length, 1, 1, List.of())
+                .failed("Connection refused")
+                .pending());
+
+        // when
+        catalogImporter.run(anImport.id());
+
+        // then
+        final var actualImport = catalogImportStore.findById(anImport.id()).get();
+        Assertions.assertEquals(CatalogImport.Status.COMPLETED, actualImport.status());
+        Assertions.assertEquals(2, actualImport.lines());
+        Assertions.assertEquals(2, actualImport.imported());
+        Assertions.assertNull(actualImport.failure());
+
+        Assertions.assertEquals(1, categoryRepository.count());
+        final var actualCategory = categoryRepository.findById(filmes.getId().getValue()).get();
+        Assertions.assertEquals("Filmes e Séries", actualCategory.getName());
+        Assertions.assertEquals(filmes.getCreatedAt(), actualCategory.getCreatedAt());
+    }
+}
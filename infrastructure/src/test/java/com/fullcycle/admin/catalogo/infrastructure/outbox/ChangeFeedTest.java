@@ -0,0 +1,135 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@MySQLGatewayTest
+class ChangeFeedTest {
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Test
+    void givenStoredEvents_whenCallsChanges_shouldReturnThoseAfterSinceRightAway() {
+        // given
+        final var since = outboxRepository.latestSequence();
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        outboxRepository.appendPending(List.of(aCategory));
+        outboxRepository.append(List.of(DomainEvent.deleted(Category.class, aCategory.getId())));
+
+        final var aFeed = new ChangeFeed(outboxRepository, Duration.ofHours(1), Duration.ofSeconds(5));
+
+        // when
+        final var actualChanges = aFeed.changes(since, 10, Duration.ofSeconds(30));
+
+        // then
+        Assertions.assertTrue(actualChanges.isDone());
+        final var actualEvents = actualChanges.join();
+        Assertions.assertEquals(
+                List.of(DomainEvent.Type.CREATED, DomainEvent.Type.DELETED),
+                actualEvents.stream().map(OutboxEvent::type).toList()
+        );
+        Assertions.assertEquals(List.of(since + 1, since + 2), actualEvents.stream().map(OutboxEvent::sequence).toList());
+    }
+
+    @Test
+    void givenNoNewEvents_whenCallsChanges_shouldWaitUntilAPollFindsSome() {
+        // given
+        final var since = outboxRepository.latestSequence();
+        final var aFeed = new ChangeFeed(outboxRepository, Duration.ofHours(1), Duration.ofSeconds(5));
+
+        final var actualChanges = aFeed.changes(since, 10, Duration.ofSeconds(30));
+        aFeed.poll();
+
+        Assertions.assertFalse(actualChanges.isDone());
+
+        // when
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        outboxRepository.appendPending(List.of(aCategory));
+        aFeed.poll();
+
+        // then
+        Assertions.assertTrue(actualChanges.isDone());
+        Assertions.assertEquals(
+                List.of(aCategory.getId().getValue()),
+                actualChanges.join().stream().map(OutboxEvent::aggregateId).toList()
+        );
+    }
+
+    @Test
+    void givenNoNewEvents_whenTheWaitEnds_shouldCompleteWithNoEvents() throws Exception {
+        // given
+        final var since = outboxRepository.latestSequence();
+        final var aFeed = new ChangeFeed(outboxRepository, Duration.ofHours(1), Duration.ofSeconds(5));
+
+        final var actualChanges = aFeed.changes(since, 10, Duration.ofMillis(1));
+
+        // when
+        Thread.sleep(5);
+        aFeed.poll();
+
+        // then
+        Assertions.assertTrue(actualChanges.isDone());
+        Assertions.assertTrue(actualChanges.join().isEmpty());
+    }
+
+    @Test
+    void givenARecentGap_whenCallsSettled_shouldStopBeforeItUntilItIsOld() {
+        // given
+        final var now = Instant.now();
+        final var aFeed = new ChangeFeed(outboxRepository, Duration.ofHours(1), Duration.ofSeconds(5));
+        final var events = List.of(
+                event(11, now),
+                event(12, now),
+                event(14, now)
+        );
+
+        // when
+        final var beforeTheGap = aFeed.settled(10, events, now);
+        final var pastTheGap = aFeed.settled(10, events, now.plusSeconds(5));
+
+        // then
+        Assertions.assertEquals(List.of(11L, 12L), beforeTheGap.stream().map(OutboxEvent::sequence).toList());
+        Assertions.assertEquals(List.of(11L, 12L, 14L), pastTheGap.stream().map(OutboxEvent::sequence).toList());
+    }
+
+    @Test
+    void givenALateCommitBehindAnEventThatOccurredLongAgo_whenCallsSettled_shouldWaitForIt() {
+        // given
+        final var now = Instant.now();
+        final var longAgo = now.minus(Duration.ofMinutes(10));
+        final var aFeed = new ChangeFeed(outboxRepository, Duration.ofHours(1), Duration.ofSeconds(5));
+        final var beforeTheCommit = List.of(
+                event(11, longAgo),
+                event(13, longAgo)
+        );
+        final var afterTheCommit = List.of(
+                event(11, longAgo),
+                event(12, longAgo),
+                event(13, longAgo)
+        );
+
+        // when
+        final var actualBefore = aFeed.settled(10, beforeTheCommit, now);
+        final var actualStillBefore = aFeed.settled(10, beforeTheCommit, now.plusSeconds(4));
+        final var actualAfter = aFeed.settled(10, afterTheCommit, now.plusSeconds(4));
+
+        // then
+        Assertions.assertEquals(List.of(11L), actualBefore.stream().map(OutboxEvent::sequence).toList());
+        Assertions.assertEquals(List.of(11L), actualStillBefore.stream().map(OutboxEvent::sequence).toList());
+        Assertions.assertEquals(List.of(11L, 12L, 13L), actualAfter.stream().map(OutboxEvent::sequence).toList());
+    }
+
+    private static OutboxEvent event(final long sequence, final Instant occurredOn) {
+        return new OutboxEvent(sequence, "Category", "id-" + sequence, DomainEvent.Type.UPDATED, occurredOn);
+    }
+}
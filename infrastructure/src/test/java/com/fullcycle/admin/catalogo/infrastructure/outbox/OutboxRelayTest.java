@@ -0,0 +1,85 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.events.DomainEvent;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@MySQLGatewayTest
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.markPublished(outboxRepository.findUnpublished(Integer.MAX_VALUE), Instant.now());
+    }
+
+    @Test
+    void givenUnpublishedEvents_whenCallsRelay_shouldPublishThemInOrderAndMarkThem() {
+        // given
+        final var expectedIds = appendCreatedCategories(5);
+        final var aSink = new InMemoryEventSink(100);
+        final var aRelay = new OutboxRelay(outboxRepository, aSink, 2, Duration.ofHours(1));
+
+        // when
+        final var actualPublished = aRelay.relay();
+
+        // then
+        Assertions.assertEquals(5, actualPublished);
+        Assertions.assertEquals(expectedIds, aSink.events().stream().map(OutboxEvent::aggregateId).toList());
+        Assertions.assertTrue(outboxRepository.findUnpublished(100).isEmpty());
+        Assertions.assertEquals(0, aRelay.relay());
+    }
+
+    @Test
+    void givenAFailingSink_whenCallsRelay_shouldKeepTheBatchForTheNextRun() {
+        // given
+        final var expectedIds = appendCreatedCategories(3);
+        final var aSink = new InMemoryEventSink(100);
+        final var aFailingRelay = new OutboxRelay(outboxRepository, events -> {
+            throw new IllegalStateException("Sink is down");
+        }, 10, Duration.ofHours(1));
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, aFailingRelay::relay);
+        final var actualPublished = new OutboxRelay(outboxRepository, aSink, 10, Duration.ofHours(1)).relay();
+
+        // then
+        Assertions.assertEquals(3, actualPublished);
+        Assertions.assertEquals(expectedIds, aSink.events().stream().map(OutboxEvent::aggregateId).toList());
+    }
+
+    @Test
+    void givenAFullInMemorySink_whenPublishes_shouldDropTheOldestEvents() {
+        // given
+        final var aSink = new InMemoryEventSink(2);
+        final var events = IntStream.rangeClosed(1, 3)
+                .mapToObj(it -> new OutboxEvent(it, "Category", "id-" + it, DomainEvent.Type.CREATED, Instant.now()))
+                .toList();
+
+        // when
+        aSink.publish(events);
+
+        // then
+        Assertions.assertEquals(List.of(2L, 3L), aSink.events().stream().map(OutboxEvent::sequence).toList());
+    }
+
+    private List<String> appendCreatedCategories(final int count) {
+        final var categories = IntStream.range(0, count)
+                .mapToObj(it -> Category.newCategory("Category " + it, null, true))
+                .toList();
+        outboxRepository.appendPending(categories);
+        return categories.stream().map(it -> it.getId().getValue()).toList();
+    }
+}
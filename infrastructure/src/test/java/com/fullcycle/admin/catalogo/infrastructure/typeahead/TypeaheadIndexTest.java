@@ -0,0 +1,123 @@
+package com.fullcycle.admin.catalogo.infrastructure.typeahead;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class TypeaheadIndexTest {
+
+    private static final EnumSet<TypeaheadIndex.Type> ALL = EnumSet.allOf(TypeaheadIndex.Type.class);
+
+    private final TypeaheadIndex index = new TypeaheadIndex();
+
+    @Test
+    public void givenIndexedNames_whenCallsSearch_shouldMatchWordPrefixesIgnoringCaseAndAccents() {
+        // given
+        final var acao = GenreID.unique();
+        final var ficcao = GenreID.unique();
+        index.put(TypeaheadIndex.Type.GENRE, acao, "Ação");
+        index.put(TypeaheadIndex.Type.GENRE, ficcao, "Ficção científica");
+        index.put(TypeaheadIndex.Type.GENRE, GenreID.unique(), "Drama");
+
+        // when
+        final var actualAcao = index.search("AC", ALL, 10);
+        final var actualFiccao = index.search("cien fic", ALL, 10);
+        final var actualNone = index.search("ciencia terror", ALL, 10);
+        final var actualInfix = index.search("ama", ALL, 10);
+
+        // then
+        Assertions.assertEquals(List.of(acao.getValue()), ids(actualAcao));
+        Assertions.assertEquals(List.of(ficcao.getValue()), ids(actualFiccao));
+        Assertions.assertTrue(actualNone.isEmpty());
+        Assertions.assertTrue(actualInfix.isEmpty());
+    }
+
+    @Test
+    public void givenNamesOfManyTypes_whenCallsSearch_shouldReturnTheFirstByNameOfTheRequestedTypes() {
+        // given
+        final var marvel = CategoryID.unique();
+        final var martin = CastMemberID.unique();
+        final var marcial = GenreID.unique();
+        index.put(TypeaheadIndex.Type.CATEGORY, marvel, "Marvel");
+        index.put(TypeaheadIndex.Type.CAST_MEMBER, martin, "Martin Scorsese");
+        index.put(TypeaheadIndex.Type.GENRE, marcial, "Artes marciais");
+
+        // when
+        final var actualAll = index.search("mar", ALL, 2);
+        final var actualMembers = index.search("mar", EnumSet.of(TypeaheadIndex.Type.CAST_MEMBER), 10);
+
+        // then
+        Assertions.assertEquals(List.of(marcial.getValue(), martin.getValue()), ids(actualAll));
+        Assertions.assertEquals(TypeaheadIndex.Type.GENRE, actualAll.get(0).type());
+        Assertions.assertEquals(List.of(martin.getValue()), ids(actualMembers));
+    }
+
+    @Test
+    public void givenARenamedAndARemovedEntry_whenCallsSearch_shouldOnlyFindCurrentNames() {
+        // given
+        final var renamed = CategoryID.unique();
+        final var removed = CategoryID.unique();
+        index.put(TypeaheadIndex.Type.CATEGORY, renamed, "Filmes");
+        index.put(TypeaheadIndex.Type.CATEGORY, removed, "Filmes antigos");
+
+        // when
+        index.put(TypeaheadIndex.Type.CATEGORY, renamed, "Séries");
+        index.remove(TypeaheadIndex.Type.CATEGORY, removed);
+
+        // then
+        Assertions.assertTrue(index.search("fil", ALL, 10).isEmpty());
+        Assertions.assertEquals(List.of("Séries"), index.search("ser", ALL, 10).stream().map(TypeaheadIndex.Suggestion::name).toList());
+        Assertions.assertEquals(1, index.size(TypeaheadIndex.Type.CATEGORY));
+    }
+
+    @Test
+    public void givenManyMatches_whenCallsSearch_shouldStopAtLimitInNameOrder() {
+        // given
+        IntStream.range(0, 100).forEach(i ->
+                index.put(TypeaheadIndex.Type.CAST_MEMBER, CastMemberID.unique(), "Actor %03d".formatted(i))
+        );
+
+        // when
+        final var actualSuggestions = index.search("actor", ALL, 3);
+
+        // then
+        Assertions.assertEquals(
+                List.of("Actor 000", "Actor 001", "Actor 002"),
+                actualSuggestions.stream().map(TypeaheadIndex.Suggestion::name).toList()
+        );
+    }
+
+    @Test
+    public void givenWritesDuringLoad_whenLoadingStaleRows_shouldKeepTheWrites() {
+        // given
+        final var renamed = GenreID.unique();
+        final var removed = GenreID.unique();
+        final var loaded = GenreID.unique();
+
+        index.startLoading(TypeaheadIndex.Type.GENRE);
+        index.put(TypeaheadIndex.Type.GENRE, renamed, "Terror");
+        index.remove(TypeaheadIndex.Type.GENRE, removed);
+
+        // when
+        index.load(TypeaheadIndex.Type.GENRE, renamed, "Suspense");
+        index.load(TypeaheadIndex.Type.GENRE, removed, "Drama");
+        index.load(TypeaheadIndex.Type.GENRE, loaded, "Comédia");
+        index.finishLoading(TypeaheadIndex.Type.GENRE);
+
+        // then
+        Assertions.assertEquals(List.of(renamed.getValue()), ids(index.search("ter", ALL, 10)));
+        Assertions.assertTrue(index.search("sus", ALL, 10).isEmpty());
+        Assertions.assertTrue(index.search("dra", ALL, 10).isEmpty());
+        Assertions.assertEquals(List.of(loaded.getValue()), ids(index.search("com", ALL, 10)));
+    }
+
+    private static List<String> ids(final List<TypeaheadIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(TypeaheadIndex.Suggestion::id).toList();
+    }
+}
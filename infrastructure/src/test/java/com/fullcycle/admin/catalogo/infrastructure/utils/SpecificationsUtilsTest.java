@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.dialect.H2FullTextFunctions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SpecificationsUtilsTest {
+
+    @Test
+    void givenWordsShorterThanTheMinimumTokenSize_whenCallsAgainst_shouldDropThem() {
+        Assertions.assertEquals("+Filmes* +Amazon*", SpecificationsUtils.against("Filmes da Amazon"));
+        Assertions.assertEquals("+sci* +fiction*", SpecificationsUtils.against("sci-fi, fiction!"));
+        Assertions.assertNull(SpecificationsUtils.against("o de da"));
+    }
+
+    @Test
+    void givenShortWordsOrPrefixes_whenCallsH2Score_shouldIgnoreThemLikeInnoDB() {
+        Assertions.assertEquals(1, H2FullTextFunctions.score("Filmes da Amazon", "+amazon*"));
+        Assertions.assertEquals(1, H2FullTextFunctions.score("Filmes da Amazon", "+da* +amazon*"));
+        Assertions.assertEquals(0, H2FullTextFunctions.score("Filmes da Amazon", "+da*"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class BoundedFileChannelTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    public void givenARegion_whenReads_shouldStopAtItsEnd() throws Exception {
+        // given
+        final var aFile = Files.writeString(root.resolve("media"), "0123456789", StandardCharsets.UTF_8);
+
+        try (final var file = FileChannel.open(aFile, StandardOpenOption.READ)) {
+            final var aChannel = BoundedFileChannel.of(file, 2, 5);
+            final var buffer = ByteBuffer.allocate(10);
+
+            // when
+            final var actualRead = aChannel.read(buffer);
+
+            // then
+            Assertions.assertEquals(5, actualRead);
+            Assertions.assertEquals("23456", new String(buffer.array(), 0, actualRead, StandardCharsets.UTF_8));
+            Assertions.assertEquals(-1, aChannel.read(ByteBuffer.allocate(1)));
+        }
+    }
+
+    @Test
+    public void givenARegion_whenWritesOrLocksExclusively_shouldThrowNonWritableChannel() throws Exception {
+        // given
+        final var aFile = Files.writeString(root.resolve("media"), "0123456789", StandardCharsets.UTF_8);
+
+        try (final var file = FileChannel.open(aFile, StandardOpenOption.READ)) {
+            final var aChannel = BoundedFileChannel.of(file, 0, 10);
+            final var aBuffer = ByteBuffer.wrap(new byte[]{1});
+
+            // when / then
+            Assertions.assertThrows(NonWritableChannelException.class, () -> aChannel.write(aBuffer));
+            Assertions.assertThrows(NonWritableChannelException.class, () -> aChannel.write(aBuffer, 0));
+            Assertions.assertThrows(NonWritableChannelException.class, () -> aChannel.write(new ByteBuffer[]{aBuffer}, 0, 1));
+            Assertions.assertThrows(NonWritableChannelException.class, () -> aChannel.truncate(0));
+            Assertions.assertThrows(NonWritableChannelException.class, () -> aChannel.lock(0, 10, false));
+            Assertions.assertThrows(NonWritableChannelException.class, () -> aChannel.map(FileChannel.MapMode.READ_WRITE, 0, 10));
+            Assertions.assertEquals(10, file.size());
+        }
+    }
+}
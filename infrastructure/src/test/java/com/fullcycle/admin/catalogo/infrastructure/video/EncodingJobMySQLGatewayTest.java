@@ -0,0 +1,122 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJob;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJobID;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.EncodingJobRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+
+@MySQLGatewayTest
+public class EncodingJobMySQLGatewayTest {
+
+    @Autowired
+    private EncodingJobMySQLGateway encodingJobGateway;
+
+    @Autowired
+    private VideoMySQLGateway videoGateway;
+
+    @Autowired
+    private EncodingJobRepository encodingJobRepository;
+
+    @Test
+    public void givenAValidJob_whenCallsCreate_shouldPersistIt() {
+        // given
+        final var aVideo = videoGateway.create(newVideo());
+        final var aJob = EncodingJob.newJob(aVideo.getId(), VideoMediaType.VIDEO, aVideo.getVideo().get());
+
+        Assertions.assertEquals(0, encodingJobRepository.count());
+
+        // when
+        encodingJobGateway.create(aJob);
+
+        // then
+        final var actualJob = encodingJobGateway.findById(aJob.getId()).get();
+
+        Assertions.assertEquals(aVideo.getId(), actualJob.getVideoId());
+        Assertions.assertEquals(VideoMediaType.VIDEO, actualJob.getMediaType());
+        Assertions.assertEquals(aJob.getChecksum(), actualJob.getChecksum());
+        Assertions.assertEquals(aJob.getRawLocation(), actualJob.getRawLocation());
+        Assertions.assertEquals(MediaStatus.PENDING, actualJob.getStatus());
+        Assertions.assertEquals(0, actualJob.getAttempts());
+        Assertions.assertEquals(aJob.getCreatedAt(), actualJob.getCreatedAt());
+    }
+
+    @Test
+    public void givenAProcessingJob_whenCallsFindRetryable_shouldReturnItWithItsAttempts() {
+        // given
+        final var aVideo = videoGateway.create(newVideo());
+        final var aJob = encodingJobGateway.create(EncodingJob.newJob(aVideo.getId(), VideoMediaType.VIDEO, aVideo.getVideo().get()));
+
+        // when
+        encodingJobGateway.update(aJob.processing());
+        final var actualJobs = encodingJobGateway.findRetryable(10);
+
+        // then
+        Assertions.assertEquals(1, actualJobs.size());
+        Assertions.assertEquals(aJob.getId(), actualJobs.get(0).getId());
+        Assertions.assertEquals(MediaStatus.PROCESSING, actualJobs.get(0).getStatus());
+        Assertions.assertEquals(1, actualJobs.get(0).getAttempts());
+    }
+
+    @Test
+    public void givenExhaustedJobs_whenCallsFindRetryable_shouldReturnOnlyTheOldestRetryableOnes() {
+        // given
+        final var aVideo = videoGateway.create(newVideo());
+        final var aMedia = aVideo.getVideo().get();
+        final var aFailedJob = encodingJobGateway.create(EncodingJob.newJob(aVideo.getId(), VideoMediaType.VIDEO, aMedia));
+        final var aRetriedJob = encodingJobGateway.create(EncodingJob.newJob(aVideo.getId(), VideoMediaType.VIDEO, aMedia));
+        final var aPendingJob = encodingJobGateway.create(EncodingJob.newJob(aVideo.getId(), VideoMediaType.VIDEO, aMedia));
+        final var aLatestJob = encodingJobGateway.create(EncodingJob.newJob(aVideo.getId(), VideoMediaType.VIDEO, aMedia));
+
+        for (int i = 0; i < EncodingJob.MAX_ATTEMPTS; i++) {
+            aFailedJob.processing().failed();
+        }
+        encodingJobGateway.update(aFailedJob);
+        encodingJobGateway.update(aRetriedJob.processing().failed());
+
+        // when
+        final var actualJobs = encodingJobGateway.findRetryable(2);
+
+        // then
+        Assertions.assertEquals(MediaStatus.ERROR, encodingJobGateway.findById(aFailedJob.getId()).get().getStatus());
+        Assertions.assertEquals(
+                List.of(aRetriedJob.getId(), aPendingJob.getId()),
+                actualJobs.stream().map(EncodingJob::getId).toList()
+        );
+        Assertions.assertTrue(encodingJobGateway.findRetryable(10).stream()
+                .noneMatch(it -> it.getId().equals(aFailedJob.getId())));
+        Assertions.assertTrue(encodingJobGateway.findRetryable(10).stream()
+                .anyMatch(it -> it.getId().equals(aLatestJob.getId())));
+    }
+
+    @Test
+    public void givenAJob_whenCallsDeleteById_shouldDeleteIt() {
+        // given
+        final var aVideo = videoGateway.create(newVideo());
+        final var aJob = encodingJobGateway.create(EncodingJob.newJob(aVideo.getId(), VideoMediaType.VIDEO, aVideo.getVideo().get()));
+
+        // when
+        encodingJobGateway.deleteById(aJob.getId());
+        encodingJobGateway.deleteById(EncodingJobID.unique());
+
+        // then
+        Assertions.assertEquals(0, encodingJobRepository.count());
+        Assertions.assertTrue(encodingJobGateway.findById(aJob.getId()).isEmpty());
+    }
+
+    private static Video newVideo() {
+        return Video.newVideo("System Design", "Estudo de caso", Year.of(2022), 120.0, true, true, Rating.L, Set.of(), Set.of(), Set.of())
+                .setVideo(AudioVideoMedia.with("abc", "video.mp4", "/videos/video", "", MediaStatus.PENDING));
+    }
+}
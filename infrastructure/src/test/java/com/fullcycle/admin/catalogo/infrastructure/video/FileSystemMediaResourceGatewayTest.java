@@ -0,0 +1,298 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+public class FileSystemMediaResourceGatewayTest {
+
+    @TempDir
+    Path root;
+
+    private FileSystemMediaResourceGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        this.gateway = new FileSystemMediaResourceGateway(root.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.gateway.destroy();
+    }
+
+    @Test
+    public void givenAStreamedResource_whenCallsStoreAudioVideo_shouldWriteItUnderTheVideoDirectory() throws Exception {
+        // given
+        final var anId = VideoID.unique();
+        final var expectedContent = "Conteudo do video".getBytes(StandardCharsets.UTF_8);
+        final var expectedChecksum = sha256(expectedContent);
+        final var expectedName = "video.mp4";
+        final var expectedLocation = root.resolve(anId.getValue()).resolve("video");
+
+        final var aResource = streamed(expectedContent, expectedContent.length, expectedName);
+
+        // when
+        final var actualMedia = gateway.storeAudioVideo(anId, VideoResource.with(aResource, VideoMediaType.VIDEO));
+
+        // then
+        Assertions.assertEquals(expectedChecksum, actualMedia.checksum());
+        Assertions.assertEquals(expectedName, actualMedia.name());
+        Assertions.assertEquals(expectedLocation.toString(), actualMedia.rawLocation());
+        Assertions.assertEquals("", actualMedia.encodedLocation());
+        Assertions.assertEquals(MediaStatus.PENDING, actualMedia.status());
+        Assertions.assertArrayEquals(expectedContent, Files.readAllBytes(expectedLocation));
+
+        try (final var files = Files.list(expectedLocation.getParent())) {
+            Assertions.assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void givenAStoredImage_whenCallsStoreImageAgain_shouldReplaceIt() throws Exception {
+        // given
+        final var anId = VideoID.unique();
+        final var expectedContent = "Banner novo".getBytes(StandardCharsets.UTF_8);
+
+        gateway.storeImage(anId, VideoResource.with(
+                Resource.with("Banner antigo".getBytes(StandardCharsets.UTF_8), "abc", "image/png", "banner.png"),
+                VideoMediaType.BANNER
+        ));
+
+        // when
+        final var actualMedia = gateway.storeImage(anId, VideoResource.with(
+                Resource.with(expectedContent, "abc", "image/png", "banner.png"),
+                VideoMediaType.BANNER
+        ));
+
+        // then
+        Assertions.assertEquals(sha256(expectedContent), actualMedia.checksum());
+        Assertions.assertArrayEquals(expectedContent, Files.readAllBytes(Path.of(actualMedia.location())));
+    }
+
+    @Test
+    public void givenATruncatedStream_whenCallsStoreAudioVideo_shouldFailWithoutLeavingFiles() throws Exception {
+        // given
+        final var anId = VideoID.unique();
+        final var content = "Conteudo".getBytes(StandardCharsets.UTF_8);
+        final var aResource = streamed(content, content.length + 10, "video.mp4");
+
+        // when
+        Assertions.assertThrows(
+                UncheckedIOException.class,
+                () -> gateway.storeAudioVideo(anId, VideoResource.with(aResource, VideoMediaType.VIDEO))
+        );
+
+        // then
+        Assertions.assertTrue(Files.notExists(gateway.location(anId, VideoMediaType.VIDEO)));
+        Assertions.assertEquals(0, countBlobs());
+    }
+
+    @Test
+    public void givenStoredMedias_whenCallsClearResources_shouldRemoveTheVideoDirectory() throws Exception {
+        // given
+        final var anId = VideoID.unique();
+        final var content = "Conteudo".getBytes(StandardCharsets.UTF_8);
+
+        gateway.storeAudioVideo(anId, VideoResource.with(streamed(content, content.length, "a.mp4"), VideoMediaType.VIDEO));
+        gateway.storeImage(anId, VideoResource.with(streamed(content, content.length, "b.png"), VideoMediaType.THUMBNAIL));
+
+        // when
+        gateway.clearResources(anId);
+
+        // then
+        Assertions.assertTrue(Files.notExists(root.resolve(anId.getValue())));
+        Assertions.assertEquals(0, countBlobs());
+
+        final var trash = root.resolve(".trash");
+        final var deadline = System.currentTimeMillis() + 5_000;
+        while (isNotEmpty(trash) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertFalse(isNotEmpty(trash));
+    }
+
+    @Test
+    public void givenTheSameContentForTwoVideos_whenCallsStore_shouldKeepASingleBlob() throws Exception {
+        // given
+        final var aVideo = VideoID.unique();
+        final var anotherVideo = VideoID.unique();
+        final var content = "Trailer compartilhado".getBytes(StandardCharsets.UTF_8);
+        final var expectedChecksum = sha256(content);
+
+        // when
+        final var aMedia = gateway.storeAudioVideo(aVideo, VideoResource.with(streamed(content, content.length, "a.mp4"), VideoMediaType.TRAILER));
+        final var anotherMedia = gateway.storeAudioVideo(anotherVideo, VideoResource.with(streamed(content, content.length, "b.mp4"), VideoMediaType.TRAILER));
+
+        // then
+        Assertions.assertEquals(expectedChecksum, aMedia.checksum());
+        Assertions.assertEquals(expectedChecksum, anotherMedia.checksum());
+        Assertions.assertEquals(1, countBlobs());
+        Assertions.assertTrue(Files.isSameFile(Path.of(aMedia.rawLocation()), Path.of(anotherMedia.rawLocation())));
+        Assertions.assertArrayEquals(content, Files.readAllBytes(Path.of(anotherMedia.rawLocation())));
+    }
+
+    @Test
+    public void givenAnAnnouncedChecksumAlreadyStored_whenCallsStore_shouldNotWriteItAgain() throws Exception {
+        // given
+        final var content = "Banner compartilhado".getBytes(StandardCharsets.UTF_8);
+        final var expectedChecksum = sha256(content);
+
+        gateway.storeImage(VideoID.unique(), VideoResource.with(streamed(content, content.length, "a.png"), VideoMediaType.BANNER));
+        final var blob = gateway.blob(expectedChecksum);
+        final var expectedFileKey = Files.readAttributes(blob, BasicFileAttributes.class).fileKey();
+        final var expectedModifiedTime = Files.getLastModifiedTime(blob);
+
+        // when
+        final var actualMedia = gateway.storeImage(
+                VideoID.unique(),
+                VideoResource.with(Resource.with(content, expectedChecksum, "image/png", "b.png"), VideoMediaType.BANNER)
+        );
+
+        // then
+        Assertions.assertEquals(expectedChecksum, actualMedia.checksum());
+        Assertions.assertEquals(expectedFileKey, Files.readAttributes(blob, BasicFileAttributes.class).fileKey());
+        Assertions.assertEquals(expectedModifiedTime, Files.getLastModifiedTime(blob));
+        Assertions.assertEquals(1, countBlobs());
+    }
+
+    @Test
+    public void givenAnAnnouncedChecksumThatDoesNotMatch_whenCallsStore_shouldFailAndKeepTheStoredBlob() throws Exception {
+        // given
+        final var content = "Banner original".getBytes(StandardCharsets.UTF_8);
+        final var checksum = sha256(content);
+        final var tampered = "Banner alterado".getBytes(StandardCharsets.UTF_8);
+        final var anId = VideoID.unique();
+
+        final var aMedia = gateway.storeImage(VideoID.unique(), VideoResource.with(streamed(content, content.length, "a.png"), VideoMediaType.BANNER));
+
+        // when
+        Assertions.assertThrows(
+                UncheckedIOException.class,
+                () -> gateway.storeImage(anId, VideoResource.with(Resource.with(tampered, checksum, "image/png", "b.png"), VideoMediaType.BANNER))
+        );
+
+        // then
+        Assertions.assertTrue(Files.notExists(gateway.location(anId, VideoMediaType.BANNER), LinkOption.NOFOLLOW_LINKS));
+        Assertions.assertArrayEquals(content, Files.readAllBytes(Path.of(aMedia.location())));
+    }
+
+    @Test
+    public void givenASharedBlob_whenCallsClearResources_shouldKeepItUntilTheLastReferenceIsGone() throws Exception {
+        // given
+        final var aVideo = VideoID.unique();
+        final var anotherVideo = VideoID.unique();
+        final var content = "Trailer compartilhado".getBytes(StandardCharsets.UTF_8);
+
+        gateway.storeAudioVideo(aVideo, VideoResource.with(streamed(content, content.length, "a.mp4"), VideoMediaType.TRAILER));
+        final var anotherMedia = gateway.storeAudioVideo(anotherVideo, VideoResource.with(streamed(content, content.length, "b.mp4"), VideoMediaType.TRAILER));
+
+        // when
+        gateway.clearResources(aVideo);
+
+        // then
+        Assertions.assertEquals(1, countBlobs());
+        Assertions.assertArrayEquals(content, Files.readAllBytes(Path.of(anotherMedia.rawLocation())));
+
+        // when
+        gateway.clearResources(anotherVideo);
+
+        // then
+        Assertions.assertEquals(0, countBlobs());
+    }
+
+    @Test
+    public void givenAReplacedMedia_whenCallsStore_shouldReleaseThePreviousBlob() throws Exception {
+        // given
+        final var anId = VideoID.unique();
+        final var previous = "Thumbnail antiga".getBytes(StandardCharsets.UTF_8);
+        final var expectedContent = "Thumbnail nova".getBytes(StandardCharsets.UTF_8);
+
+        gateway.storeImage(anId, VideoResource.with(streamed(previous, previous.length, "a.png"), VideoMediaType.THUMBNAIL));
+
+        // when
+        gateway.storeImage(anId, VideoResource.with(streamed(expectedContent, expectedContent.length, "b.png"), VideoMediaType.THUMBNAIL));
+
+        // then
+        Assertions.assertEquals(1, countBlobs());
+        Assertions.assertTrue(Files.notExists(gateway.blob(sha256(previous))));
+        Assertions.assertArrayEquals(expectedContent, Files.readAllBytes(gateway.location(anId, VideoMediaType.THUMBNAIL)));
+    }
+
+    @Test
+    public void givenAStoredMedia_whenCallsGetResource_shouldReturnAFileChannelOverItsBlob() throws Exception {
+        // given
+        final var anId = VideoID.unique();
+        final var expectedContent = "Conteudo do trailer".getBytes(StandardCharsets.UTF_8);
+
+        gateway.storeAudioVideo(anId, VideoResource.with(streamed(expectedContent, expectedContent.length, "trailer.mp4"), VideoMediaType.TRAILER));
+
+        // when
+        final var actualResource = gateway.getResource(anId, VideoMediaType.TRAILER).orElseThrow();
+
+        // then
+        Assertions.assertEquals(expectedContent.length, actualResource.length());
+        Assertions.assertEquals(sha256(expectedContent), actualResource.checksum());
+        try (final var channel = actualResource.openChannel()) {
+            Assertions.assertTrue(channel instanceof FileChannel);
+        }
+        try (final var in = actualResource.openStream()) {
+            Assertions.assertArrayEquals(expectedContent, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void givenAMissingMedia_whenCallsGetResource_shouldReturnEmpty() {
+        Assertions.assertTrue(gateway.getResource(VideoID.unique(), VideoMediaType.VIDEO).isEmpty());
+    }
+
+    @Test
+    public void givenAVideoWithoutMedias_whenCallsClearResources_shouldBeIgnored() {
+        Assertions.assertDoesNotThrow(() -> gateway.clearResources(VideoID.unique()));
+    }
+
+    private static Resource streamed(final byte[] content, final long length, final String name) {
+        return Resource.with(() -> new ByteArrayInputStream(content), length, null, "video/mp4", name);
+    }
+
+    private long countBlobs() throws Exception {
+        final var blobs = root.resolve(".blobs");
+        if (Files.notExists(blobs)) {
+            return 0;
+        }
+        try (final var files = Files.walk(blobs)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(it -> !it.getParent().getFileName().toString().endsWith(".refs"))
+                    .filter(it -> !it.getParent().equals(blobs))
+                    .count();
+        }
+    }
+
+    private static boolean isNotEmpty(final Path directory) throws Exception {
+        try (final var files = Files.list(directory)) {
+            return files.findAny().isPresent();
+        }
+    }
+
+    private static String sha256(final byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
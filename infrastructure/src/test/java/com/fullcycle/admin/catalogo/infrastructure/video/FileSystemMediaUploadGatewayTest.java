@@ -0,0 +1,132 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadID;
+import com.fullcycle.admin.catalogo.domain.video.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+public class FileSystemMediaUploadGatewayTest {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    @TempDir
+    Path root;
+
+    private FileSystemMediaUploadGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        this.gateway = new FileSystemMediaUploadGateway(root.toString());
+    }
+
+    @Test
+    public void givenAValidUpload_whenCallsCreate_shouldPersistIt() {
+        // given
+        final var anUpload = upload(3L * CHUNK_SIZE);
+
+        // when
+        gateway.create(anUpload);
+
+        // then
+        final var actualUpload = gateway.findById(anUpload.getId()).orElseThrow();
+
+        Assertions.assertEquals(anUpload.getId(), actualUpload.getId());
+        Assertions.assertEquals(anUpload.getVideoId(), actualUpload.getVideoId());
+        Assertions.assertEquals(anUpload.getMediaType(), actualUpload.getMediaType());
+        Assertions.assertEquals(anUpload.getName(), actualUpload.getName());
+        Assertions.assertEquals(anUpload.getContentType(), actualUpload.getContentType());
+        Assertions.assertEquals(anUpload.getLength(), actualUpload.getLength());
+        Assertions.assertEquals(anUpload.getChunkSize(), actualUpload.getChunkSize());
+        Assertions.assertEquals(anUpload.getCreatedAt(), actualUpload.getCreatedAt());
+        Assertions.assertTrue(gateway.receivedChunks(actualUpload).isEmpty());
+    }
+
+    @Test
+    public void givenAnUnknownUpload_whenCallsFindById_shouldReturnEmpty() {
+        Assertions.assertTrue(gateway.findById(MediaUploadID.unique()).isEmpty());
+    }
+
+    @Test
+    public void givenChunksOutOfOrder_whenCallsContent_shouldStreamTheAssembledFile() throws Exception {
+        // given
+        final var expectedContent = new byte[2 * CHUNK_SIZE + 100];
+        new Random(42).nextBytes(expectedContent);
+
+        final var anUpload = gateway.create(upload(expectedContent.length));
+
+        // when
+        for (final var chunk : List.of(2, 0, 1)) {
+            final var bytes = slice(anUpload, expectedContent, chunk);
+            final var actualChecksum = gateway.storeChunk(anUpload, chunk, streamed(bytes));
+            Assertions.assertEquals(sha256(bytes), actualChecksum);
+            gateway.markChunkReceived(anUpload, chunk);
+        }
+
+        // then
+        Assertions.assertEquals(List.of(0, 1, 2), List.copyOf(gateway.receivedChunks(anUpload)));
+
+        final var actualContent = gateway.content(anUpload);
+        Assertions.assertEquals(expectedContent.length, actualContent.length());
+        Assertions.assertArrayEquals(expectedContent, actualContent.content());
+    }
+
+    @Test
+    public void givenAReceivedChunk_whenCallsStoreChunkAgain_shouldNoLongerCountItUntilMarked() {
+        // given
+        final var anUpload = gateway.create(upload(CHUNK_SIZE));
+        final var bytes = new byte[CHUNK_SIZE];
+
+        gateway.storeChunk(anUpload, 0, streamed(bytes));
+        gateway.markChunkReceived(anUpload, 0);
+
+        // when
+        gateway.storeChunk(anUpload, 0, streamed(bytes));
+
+        // then
+        Assertions.assertTrue(gateway.receivedChunks(anUpload).isEmpty());
+    }
+
+    @Test
+    public void givenAnUpload_whenCallsDeleteById_shouldRemoveIt() {
+        // given
+        final var anUpload = gateway.create(upload(CHUNK_SIZE));
+
+        // when
+        gateway.deleteById(anUpload.getId());
+
+        // then
+        Assertions.assertTrue(gateway.findById(anUpload.getId()).isEmpty());
+        Assertions.assertTrue(Files.notExists(root.resolve(anUpload.getId().getValue())));
+    }
+
+    private static MediaUpload upload(final long length) {
+        return MediaUpload.newUpload(VideoID.unique(), VideoMediaType.VIDEO, "master.mov", "video/quicktime", length, CHUNK_SIZE);
+    }
+
+    private static byte[] slice(final MediaUpload anUpload, final byte[] content, final int chunk) {
+        final var from = (int) anUpload.chunkOffset(chunk);
+        return Arrays.copyOfRange(content, from, from + anUpload.chunkLength(chunk));
+    }
+
+    private static Resource streamed(final byte[] content) {
+        return Resource.with(() -> new ByteArrayInputStream(content), content.length, null, "application/octet-stream", "chunk");
+    }
+
+    private static String sha256(final byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
@@ -0,0 +1,97 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJob;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+public class LocalMediaEncoderTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    public void givenNoCommand_whenCallsEncode_shouldCopyTheRawMedia() throws Exception {
+        // given
+        final var aJob = job("Conteudo do video");
+        final var encoder = new LocalMediaEncoder(root.resolve("encoded").toString(), "", "mp4", Duration.ofMinutes(1));
+        final var expectedLocation = root.resolve("encoded")
+                .resolve(aJob.getVideoId().getValue())
+                .resolve("video")
+                .resolve(aJob.getChecksum());
+
+        // when
+        final var actualLocation = encoder.encode(aJob);
+
+        // then
+        Assertions.assertEquals(expectedLocation.toString(), actualLocation);
+        Assertions.assertEquals("Conteudo do video", Files.readString(expectedLocation, StandardCharsets.UTF_8));
+        try (final var files = Files.list(expectedLocation.getParent())) {
+            Assertions.assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void givenACommand_whenCallsEncode_shouldRunItWithTheInputAndOutput() throws Exception {
+        // given
+        final var aJob = job("Conteudo do trailer");
+        final var encoder = new LocalMediaEncoder(root.resolve("encoded").toString(), "cp {input} {output}", "mp4", Duration.ofMinutes(1));
+
+        // when
+        final var actualLocation = Path.of(encoder.encode(aJob));
+
+        // then
+        Assertions.assertEquals(aJob.getChecksum() + ".mp4", actualLocation.getFileName().toString());
+        Assertions.assertEquals("Conteudo do trailer", Files.readString(actualLocation, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void givenAFailingCommand_whenCallsEncode_shouldFailWithoutLeavingFiles() throws Exception {
+        // given
+        final var aJob = job("Conteudo do video");
+        final var encoder = new LocalMediaEncoder(root.resolve("encoded").toString(), "false {input} {output}", "mp4", Duration.ofMinutes(1));
+
+        // when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> encoder.encode(aJob));
+
+        // then
+        Assertions.assertTrue(actualException.getMessage().startsWith("Encoder exited with 1"));
+        try (final var files = Files.list(root.resolve("encoded").resolve(aJob.getVideoId().getValue()).resolve("video"))) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void givenAnAlreadyEncodedMedia_whenCallsEncodeAgain_shouldReuseIt() throws Exception {
+        // given
+        final var aJob = job("Conteudo do video");
+        final var encoder = new LocalMediaEncoder(root.resolve("encoded").toString(), "", "mp4", Duration.ofMinutes(1));
+        final var expectedLocation = encoder.encode(aJob);
+
+        Files.delete(Path.of(aJob.getRawLocation()));
+
+        // when
+        final var actualLocation = encoder.encode(aJob);
+
+        // then
+        Assertions.assertEquals(expectedLocation, actualLocation);
+    }
+
+    private EncodingJob job(final String content) throws Exception {
+        final var raw = Files.writeString(root.resolve("raw-" + System.nanoTime()), content, StandardCharsets.UTF_8);
+        return EncodingJob.newJob(
+                VideoID.unique(),
+                VideoMediaType.VIDEO,
+                AudioVideoMedia.with("abc" + System.nanoTime(), "video.mp4", raw.toString(), "", MediaStatus.PENDING)
+        );
+    }
+}
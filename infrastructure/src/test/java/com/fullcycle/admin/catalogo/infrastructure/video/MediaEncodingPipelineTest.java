@@ -0,0 +1,105 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.application.video.media.encode.EncodeMediaCommand;
+import com.fullcycle.admin.catalogo.application.video.media.encode.EncodeMediaUseCase;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJob;
+import com.fullcycle.admin.catalogo.domain.video.EncodingJobGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class MediaEncodingPipelineTest {
+
+    private final EncodingJobGateway encodingJobGateway = mock(EncodingJobGateway.class);
+    private final EncodeMediaUseCase encodeMediaUseCase = mock(EncodeMediaUseCase.class);
+
+    private MediaEncodingPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (this.pipeline != null) {
+            this.pipeline.stop();
+        }
+    }
+
+    @Test
+    public void givenRetryableJobs_whenStarts_shouldResumeThemUpToTheQueueCapacity() {
+        // given
+        final var aPendingJob = job();
+        final var aProcessingJob = job().processing();
+        final var expectedLimit = 8;
+
+        when(encodingJobGateway.findRetryable(anyInt()))
+                .thenReturn(List.of(aPendingJob, aProcessingJob));
+
+        this.pipeline = new MediaEncodingPipeline(encodingJobGateway, encodeMediaUseCase, 2, 8, Duration.ofHours(1));
+
+        // when
+        this.pipeline.start();
+
+        // then
+        verify(encodeMediaUseCase, timeout(5000)).execute(argThat(cmd -> cmd.jobId().equals(aPendingJob.getId().getValue())));
+        verify(encodeMediaUseCase, timeout(5000)).execute(argThat(cmd -> cmd.jobId().equals(aProcessingJob.getId().getValue())));
+        verify(encodingJobGateway, atLeastOnce()).findRetryable(expectedLimit);
+    }
+
+    @Test
+    public void givenAFullQueue_whenCallsSubmit_shouldRejectTheJobAndNeverQueueAJobTwice() throws Exception {
+        // given
+        final var release = new CountDownLatch(1);
+        final var started = new CountDownLatch(1);
+
+        when(encodingJobGateway.findRetryable(anyInt()))
+                .thenReturn(List.of());
+
+        doAnswer(it -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(encodeMediaUseCase).execute(any(EncodeMediaCommand.class));
+
+        this.pipeline = new MediaEncodingPipeline(encodingJobGateway, encodeMediaUseCase, 1, 1, Duration.ofHours(1));
+        this.pipeline.start();
+
+        final var aRunningJob = job();
+        final var aQueuedJob = job();
+
+        Assertions.assertTrue(this.pipeline.submit(aRunningJob.getId()));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // when
+        final var actualQueued = this.pipeline.submit(aQueuedJob.getId());
+        final var actualDuplicated = this.pipeline.submit(aQueuedJob.getId());
+        final var actualRejected = this.pipeline.submit(job().getId());
+
+        release.countDown();
+
+        // then
+        Assertions.assertTrue(actualQueued);
+        Assertions.assertFalse(actualDuplicated);
+        Assertions.assertFalse(actualRejected);
+        verify(encodeMediaUseCase, timeout(5000).times(2)).execute(any());
+    }
+
+    private static EncodingJob job() {
+        return EncodingJob.newJob(
+                VideoID.unique(),
+                VideoMediaType.VIDEO,
+                AudioVideoMedia.with("abc", "video.mp4", "/videos/video", "", MediaStatus.PENDING)
+        );
+    }
+}
@@ -0,0 +1,526 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.CastMemberMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UUIDUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@MySQLGatewayTest
+public class VideoMySQLGatewayTest {
+
+    @Autowired
+    private VideoMySQLGateway videoGateway;
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private CastMemberMySQLGateway castMemberGateway;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testDependencies() {
+        Assertions.assertNotNull(videoGateway);
+        Assertions.assertNotNull(categoryGateway);
+        Assertions.assertNotNull(genreGateway);
+        Assertions.assertNotNull(castMemberGateway);
+        Assertions.assertNotNull(videoRepository);
+    }
+
+    @Test
+    public void givenAValidVideo_whenCallsCreate_shouldPersistItWithRelationsAndMedias() {
+        // given
+        final var aulas = categoryGateway.create(Category.newCategory("Aulas", null, true));
+        final var tech = genreGateway.create(Genre.newGenre("Tech", true));
+        final var wesley = castMemberGateway.create(CastMember.newMember("Wesley", CastMemberType.ACTOR));
+
+        final var expectedVideo = audioVideo("video");
+        final var expectedTrailer = audioVideo("trailer");
+        final var expectedBanner = image("banner");
+        final var expectedThumb = image("thumbnail");
+        final var expectedThumbHalf = image("thumbnail_half");
+
+        final var aVideo = newVideo("System Design", Set.of(aulas), Set.of(tech), Set.of(wesley))
+                .setVideo(expectedVideo)
+                .setTrailer(expectedTrailer)
+                .setBanner(expectedBanner)
+                .setThumbnail(expectedThumb)
+                .setThumbnailHalf(expectedThumbHalf);
+
+        Assertions.assertEquals(0, videoRepository.count());
+
+        // when
+        final var actualVideo = videoGateway.create(aVideo);
+
+        // then
+        Assertions.assertEquals(1, videoRepository.count());
+        Assertions.assertEquals(aVideo.getId(), actualVideo.getId());
+
+        final var persistedVideo = videoGateway.findById(aVideo.getId()).get();
+
+        Assertions.assertEquals(aVideo.getTitle(), persistedVideo.getTitle());
+        Assertions.assertEquals(aVideo.getDescription(), persistedVideo.getDescription());
+        Assertions.assertEquals(aVideo.getLaunchedAt(), persistedVideo.getLaunchedAt());
+        Assertions.assertEquals(aVideo.getDuration(), persistedVideo.getDuration());
+        Assertions.assertEquals(aVideo.getRating(), persistedVideo.getRating());
+        Assertions.assertEquals(aVideo.getOpened(), persistedVideo.getOpened());
+        Assertions.assertEquals(aVideo.getPublished(), persistedVideo.getPublished());
+        Assertions.assertEquals(Set.of(aulas.getId()), persistedVideo.getCategories());
+        Assertions.assertEquals(Set.of(tech.getId()), persistedVideo.getGenres());
+        Assertions.assertEquals(Set.of(wesley.getId()), persistedVideo.getCastMembers());
+        Assertions.assertEquals(expectedVideo, persistedVideo.getVideo().get());
+        Assertions.assertEquals(expectedVideo.status(), persistedVideo.getVideo().get().status());
+        Assertions.assertEquals(expectedTrailer, persistedVideo.getTrailer().get());
+        Assertions.assertEquals(expectedBanner, persistedVideo.getBanner().get());
+        Assertions.assertEquals(expectedThumb, persistedVideo.getThumbnail().get());
+        Assertions.assertEquals(expectedThumbHalf, persistedVideo.getThumbnailHalf().get());
+        Assertions.assertEquals(aVideo.getCreatedAt(), persistedVideo.getCreatedAt());
+        Assertions.assertEquals(aVideo.getUpdatedAt(), persistedVideo.getUpdatedAt());
+    }
+
+    @Test
+    public void givenAValidVideo_whenCallsCreate_shouldStoreIdentifiersAsSixteenBytes() {
+        // given
+        final var aulas = categoryGateway.create(Category.newCategory("Aulas", null, true));
+        final var aVideo = newVideo("System Design", Set.of(aulas), Set.of(), Set.of());
+
+        // when
+        videoGateway.create(aVideo);
+
+        // then
+        final var actualVideoId = jdbcTemplate.queryForObject("SELECT id FROM videos", byte[].class);
+        final var actualRelation = jdbcTemplate.queryForMap("SELECT video_id, category_id FROM videos_categories");
+
+        Assertions.assertArrayEquals(UUIDUtils.toBytes(aVideo.getId().getValue()), actualVideoId);
+        Assertions.assertArrayEquals(actualVideoId, (byte[]) actualRelation.get("video_id"));
+        Assertions.assertArrayEquals(UUIDUtils.toBytes(aulas.getId().getValue()), (byte[]) actualRelation.get("category_id"));
+        Assertions.assertEquals(aVideo.getId().getValue(), UUIDUtils.fromBytes(actualVideoId));
+    }
+
+    @Test
+    public void givenAValidVideoWithoutRelations_whenCallsCreate_shouldPersistIt() {
+        // given
+        final var aVideo = newVideo("System Design", Set.of(), Set.of(), Set.of());
+
+        // when
+        videoGateway.create(aVideo);
+
+        // then
+        final var persistedVideo = videoGateway.findById(aVideo.getId()).get();
+
+        Assertions.assertTrue(persistedVideo.getCategories().isEmpty());
+        Assertions.assertTrue(persistedVideo.getGenres().isEmpty());
+        Assertions.assertTrue(persistedVideo.getCastMembers().isEmpty());
+        Assertions.assertTrue(persistedVideo.getVideo().isEmpty());
+        Assertions.assertTrue(persistedVideo.getTrailer().isEmpty());
+        Assertions.assertTrue(persistedVideo.getBanner().isEmpty());
+        Assertions.assertTrue(persistedVideo.getThumbnail().isEmpty());
+        Assertions.assertTrue(persistedVideo.getThumbnailHalf().isEmpty());
+    }
+
+    @Test
+    public void givenAPersistedVideo_whenCallsUpdate_shouldReplaceRelationsAndMedias() {
+        // given
+        final var aulas = categoryGateway.create(Category.newCategory("Aulas", null, true));
+        final var lives = categoryGateway.create(Category.newCategory("Lives", null, true));
+        final var tech = genreGateway.create(Genre.newGenre("Tech", true));
+        final var wesley = castMemberGateway.create(CastMember.newMember("Wesley", CastMemberType.ACTOR));
+        final var gabriel = castMemberGateway.create(CastMember.newMember("Gabriel", CastMemberType.DIRECTOR));
+
+        final var aVideo = videoGateway.create(
+                newVideo("System Design", Set.of(aulas), Set.of(tech), Set.of(wesley))
+                        .setVideo(audioVideo("video"))
+                        .setBanner(image("banner"))
+        );
+
+        final var expectedTitle = "Microsserviços";
+        final var expectedTrailer = audioVideo("trailer");
+        final var expectedThumb = image("thumbnail");
+
+        final var anUpdatedVideo = Video.with(aVideo)
+                .update(
+                        expectedTitle,
+                        aVideo.getDescription(),
+                        aVideo.getLaunchedAt(),
+                        aVideo.getDuration(),
+                        aVideo.getOpened(),
+                        aVideo.getPublished(),
+                        aVideo.getRating(),
+                        Set.of(lives.getId()),
+                        Set.of(),
+                        Set.of(wesley.getId(), gabriel.getId())
+                )
+                .setVideo(null)
+                .setBanner(null)
+                .setTrailer(expectedTrailer)
+                .setThumbnail(expectedThumb);
+
+        // when
+        videoGateway.update(anUpdatedVideo);
+
+        // then
+        Assertions.assertEquals(1, videoRepository.count());
+
+        final var persistedVideo = videoGateway.findById(aVideo.getId()).get();
+
+        Assertions.assertEquals(expectedTitle, persistedVideo.getTitle());
+        Assertions.assertEquals(Set.of(lives.getId()), persistedVideo.getCategories());
+        Assertions.assertTrue(persistedVideo.getGenres().isEmpty());
+        Assertions.assertEquals(Set.of(wesley.getId(), gabriel.getId()), persistedVideo.getCastMembers());
+        Assertions.assertTrue(persistedVideo.getVideo().isEmpty());
+        Assertions.assertTrue(persistedVideo.getBanner().isEmpty());
+        Assertions.assertEquals(expectedTrailer, persistedVideo.getTrailer().get());
+        Assertions.assertEquals(expectedThumb, persistedVideo.getThumbnail().get());
+        Assertions.assertEquals(aVideo.getCreatedAt(), persistedVideo.getCreatedAt());
+        Assertions.assertTrue(aVideo.getUpdatedAt().isBefore(persistedVideo.getUpdatedAt()));
+    }
+
+    @Test
+    public void givenAPersistedVideo_whenCallsDeleteById_shouldDeleteItAndItsRelations() {
+        // given
+        final var aulas = categoryGateway.create(Category.newCategory("Aulas", null, true));
+        final var aVideo = videoGateway.create(
+                newVideo("System Design", Set.of(aulas), Set.of(), Set.of())
+                        .setBanner(image("banner"))
+        );
+
+        Assertions.assertEquals(1, videoRepository.count());
+
+        // when
+        videoGateway.deleteById(aVideo.getId());
+
+        // then
+        Assertions.assertEquals(0, videoRepository.count());
+        Assertions.assertEquals(0, count("videos_categories"));
+        Assertions.assertEquals(0, count("videos_image_media"));
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsDeleteById_shouldBeIgnored() {
+        // given
+        videoGateway.create(newVideo("System Design", Set.of(), Set.of(), Set.of()));
+
+        Assertions.assertEquals(1, videoRepository.count());
+
+        // when
+        videoGateway.deleteById(VideoID.from("123"));
+
+        // then
+        Assertions.assertEquals(1, videoRepository.count());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsFindById_shouldReturnEmpty() {
+        // given
+        videoGateway.create(newVideo("System Design", Set.of(), Set.of(), Set.of()));
+
+        // when
+        final var actualVideo = videoGateway.findById(VideoID.from("123"));
+
+        // then
+        Assertions.assertTrue(actualVideo.isEmpty());
+    }
+
+    @Test
+    public void givenPersistedVideos_whenCallsFindAll_shouldLoadRelationsForTheWholePage() {
+        // given
+        final var aulas = categoryGateway.create(Category.newCategory("Aulas", null, true));
+        final var tech = genreGateway.create(Genre.newGenre("Tech", true));
+        final var wesley = castMemberGateway.create(CastMember.newMember("Wesley", CastMemberType.ACTOR));
+
+        final var expectedBanner = image("banner");
+
+        videoGateway.create(newVideo("Aula 1", Set.of(aulas), Set.of(tech), Set.of(wesley)).setBanner(expectedBanner));
+        videoGateway.create(newVideo("Aula 2", Set.of(aulas), Set.of(), Set.of(wesley)));
+        videoGateway.create(newVideo("Aula 3", Set.of(), Set.of(tech), Set.of()));
+
+        final var aQuery = new VideoSearchQuery(0, 2, "", "title", "asc");
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(0, actualPage.currentPage());
+        Assertions.assertEquals(2, actualPage.perPage());
+        Assertions.assertEquals(3, actualPage.total());
+        Assertions.assertEquals(2, actualPage.items().size());
+
+        final var first = actualPage.items().get(0);
+        Assertions.assertEquals("Aula 1", first.getTitle());
+        Assertions.assertEquals(Set.of(aulas.getId()), first.getCategories());
+        Assertions.assertEquals(Set.of(tech.getId()), first.getGenres());
+        Assertions.assertEquals(Set.of(wesley.getId()), first.getCastMembers());
+        Assertions.assertEquals(expectedBanner, first.getBanner().get());
+
+        final var second = actualPage.items().get(1);
+        Assertions.assertEquals("Aula 2", second.getTitle());
+        Assertions.assertEquals(Set.of(aulas.getId()), second.getCategories());
+        Assertions.assertTrue(second.getGenres().isEmpty());
+        Assertions.assertEquals(Set.of(wesley.getId()), second.getCastMembers());
+        Assertions.assertTrue(second.getBanner().isEmpty());
+    }
+
+    @Test
+    public void givenEmptyVideos_whenCallsFindAll_shouldReturnEmptyPage() {
+        // given
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc");
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(0, actualPage.total());
+        Assertions.assertTrue(actualPage.items().isEmpty());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "design,1,System Design",
+            "micro,1,Microsserviços",
+            "aula,2,Aula de Testes",
+    })
+    public void givenAValidTerm_whenCallsFindAll_shouldReturnFiltered(
+            final String expectedTerms,
+            final int expectedTotal,
+            final String expectedTitle
+    ) {
+        // given
+        videoGateway.create(newVideo("System Design", Set.of(), Set.of(), Set.of()));
+        videoGateway.create(newVideo("Microsserviços", Set.of(), Set.of(), Set.of()));
+        videoGateway.create(newVideo("Aula de Testes", Set.of(), Set.of(), Set.of()));
+        videoGateway.create(newVideo("Aula de Unidade", Set.of(), Set.of(), Set.of()));
+
+        final var aQuery = new VideoSearchQuery(0, 10, expectedTerms, "title", "asc");
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(expectedTotal, actualPage.total());
+        Assertions.assertEquals(expectedTitle, actualPage.items().get(0).getTitle());
+    }
+
+    @Test
+    public void givenRelevanceSort_whenCallsFindAll_shouldReturnBestMatchesFirst() {
+        // given
+        videoGateway.create(newVideo("Testes de integração", Set.of(), Set.of(), Set.of()));
+        final var expectedVideo =
+                videoGateway.create(newVideo("Testes unitários e testes de integração", Set.of(), Set.of(), Set.of()));
+        videoGateway.create(newVideo("Microsserviços", Set.of(), Set.of(), Set.of()));
+
+        final var aQuery = new VideoSearchQuery(0, 10, "testes integra", "relevance", "asc");
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(expectedVideo.getId(), actualPage.items().get(0).getId());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenFilters_whenCallsFindAll_shouldReturnVideosMatchingEveryFacetAndAnyOfItsValues() {
+        // given
+        final var aulas = categoryGateway.create(Category.newCategory("Aulas", null, true));
+        final var lives = categoryGateway.create(Category.newCategory("Lives", null, true));
+        final var tech = genreGateway.create(Genre.newGenre("Tech", true));
+
+        videoGateway.create(newVideo("Aula 1", Year.of(2020), Rating.L, true, Set.of(aulas), Set.of(tech)));
+        final var expectedSecond =
+                videoGateway.create(newVideo("Aula 2", Year.of(2021), Rating.AGE_12, true, Set.of(lives), Set.of(tech)));
+        final var expectedFirst =
+                videoGateway.create(newVideo("Aula 3", Year.of(2022), Rating.L, true, Set.of(aulas), Set.of()));
+        videoGateway.create(newVideo("Aula 4", Year.of(2022), Rating.L, false, Set.of(aulas), Set.of()));
+        videoGateway.create(newVideo("Aula 5", Year.of(2019), Rating.AGE_12, true, Set.of(lives), Set.of()));
+
+        final var aQuery = new VideoSearchQuery(
+                0, 10, "", "yearLaunched", "desc",
+                Set.of(Rating.L, Rating.AGE_12), Year.of(2020), null, true, null,
+                Set.of(aulas.getId(), lives.getId()), Set.of(), Set.of()
+        );
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(3, actualPage.total());
+        Assertions.assertEquals(
+                List.of(expectedFirst.getId(), expectedSecond.getId()),
+                actualPage.items().subList(0, 2).stream().map(Video::getId).toList()
+        );
+        Assertions.assertEquals(Set.of(lives.getId()), actualPage.items().get(1).getCategories());
+        Assertions.assertEquals(Set.of(tech.getId()), actualPage.items().get(1).getGenres());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenFiltersAndTerms_whenCallsFacets_shouldCountEachFacetIgnoringItsOwnFilter() {
+        // given
+        final var aulas = categoryGateway.create(Category.newCategory("Aulas", null, true));
+        final var lives = categoryGateway.create(Category.newCategory("Lives", null, true));
+
+        videoGateway.create(newVideo("Testes 1", Year.of(2020), Rating.L, true, Set.of(aulas), Set.of()));
+        videoGateway.create(newVideo("Testes 2", Year.of(2021), Rating.AGE_12, true, Set.of(lives), Set.of()));
+        videoGateway.create(newVideo("Testes 3", Year.of(2021), Rating.L, false, Set.of(aulas), Set.of()));
+        videoGateway.create(newVideo("Microsserviços", Year.of(2021), Rating.L, true, Set.of(aulas), Set.of()));
+
+        final var aQuery = new VideoSearchQuery(
+                0, 10, "testes", "title", "asc",
+                Set.of(Rating.L), null, null, null, null,
+                Set.of(), Set.of(), Set.of()
+        );
+
+        // when
+        final var actualFacets = videoGateway.facets(aQuery);
+
+        // then
+        Assertions.assertEquals(2, actualFacets.total());
+        Assertions.assertEquals(Map.of(Rating.L, 2L, Rating.AGE_12, 1L), actualFacets.ratings());
+        Assertions.assertEquals(Map.of(Year.of(2020), 1L, Year.of(2021), 1L), actualFacets.launchedAt());
+        Assertions.assertEquals(Map.of(true, 1L, false, 1L), actualFacets.published());
+        Assertions.assertEquals(Map.of(aulas.getId(), 2L), actualFacets.categories());
+    }
+
+    @Test
+    public void givenAnUncommittedVideo_whenCallsFacets_shouldNotCountIt() {
+        // given
+        videoGateway.create(newVideo("Aula 1", Year.of(2020), Rating.L, true, Set.of(), Set.of()));
+
+        final var aQuery = new VideoSearchQuery(
+                0, 10, "", "title", "asc",
+                Set.of(Rating.L), null, null, null, null,
+                Set.of(), Set.of(), Set.of()
+        );
+
+        // when
+        final var actualFacets = videoGateway.facets(aQuery);
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(0, actualFacets.total());
+        Assertions.assertEquals(0, actualPage.total());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenADeletedCategoryAndGenre_whenCallsFacets_shouldNoLongerCountThem() {
+        // given
+        final var aulas = categoryGateway.create(Category.newCategory("Aulas", null, true));
+        final var tech = genreGateway.create(Genre.newGenre("Tech", true));
+
+        final var aVideo = videoGateway.create(newVideo("Aula 1", Year.of(2020), Rating.L, true, Set.of(aulas), Set.of(tech)));
+
+        categoryGateway.deleteById(aulas.getId());
+        genreGateway.deleteById(tech.getId());
+
+        final var aFilteredQuery = new VideoSearchQuery(
+                0, 10, "", "title", "asc",
+                Set.of(), null, null, null, null,
+                Set.of(aulas.getId()), Set.of(), Set.of()
+        );
+        final var anUnfilteredQuery = new VideoSearchQuery(
+                0, 10, "", "title", "asc",
+                Set.of(), null, null, null, null,
+                Set.of(), Set.of(), Set.of()
+        );
+
+        // when
+        final var actualPage = videoGateway.findAll(aFilteredQuery);
+        final var actualFacets = videoGateway.facets(anUnfilteredQuery);
+
+        // then
+        Assertions.assertEquals(0, actualPage.total());
+        Assertions.assertEquals(1, actualFacets.total());
+        Assertions.assertTrue(actualFacets.categories().isEmpty());
+        Assertions.assertTrue(actualFacets.genres().isEmpty());
+        Assertions.assertEquals(Map.of(Rating.L, 1L), actualFacets.ratings());
+
+        // and the video can still be written without them
+        videoGateway.update(videoGateway.findById(aVideo.getId()).orElseThrow());
+        Assertions.assertEquals(1, videoGateway.facets(anUnfilteredQuery).total());
+    }
+
+    private Video newVideo(
+            final String aTitle,
+            final Year aLaunchYear,
+            final Rating aRating,
+            final boolean published,
+            final Set<Category> categories,
+            final Set<Genre> genres
+    ) {
+        return Video.newVideo(
+                aTitle,
+                "Some description",
+                aLaunchYear,
+                120.0,
+                true,
+                published,
+                aRating,
+                categories.stream().map(Category::getId).collect(Collectors.toSet()),
+                genres.stream().map(Genre::getId).collect(Collectors.toSet()),
+                Set.of()
+        );
+    }
+
+    private Video newVideo(
+            final String aTitle,
+            final Set<Category> categories,
+            final Set<Genre> genres,
+            final Set<CastMember> members
+    ) {
+        return Video.newVideo(
+                aTitle,
+                "Some description",
+                Year.of(2022),
+                120.0,
+                true,
+                false,
+                Rating.L,
+                categories.stream().map(Category::getId).collect(Collectors.toSet()),
+                genres.stream().map(Genre::getId).collect(Collectors.toSet()),
+                members.stream().map(CastMember::getId).collect(Collectors.toSet())
+        );
+    }
+
+    private AudioVideoMedia audioVideo(final String aName) {
+        return AudioVideoMedia.with("checksum-" + aName, aName, "/videos/" + aName, "", MediaStatus.PENDING);
+    }
+
+    private ImageMedia image(final String aName) {
+        return ImageMedia.with("checksum-" + aName, aName, "/images/" + aName);
+    }
+
+    private int count(final String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
@@ -0,0 +1,180 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.index;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class VideoBitmapIndexTest {
+
+    private final VideoBitmapIndex index = new VideoBitmapIndex();
+
+    @Test
+    public void givenIndexedVideos_whenCallsSearchWithFilters_shouldReturnTheRequestedPageAndTotal() {
+        // given
+        final var aulas = CategoryID.unique();
+        final var tech = GenreID.unique();
+
+        final var first = put("Aula 1", 2020, Rating.L, Set.of(aulas), Set.of(tech));
+        final var second = put("Aula 2", 2021, Rating.AGE_12, Set.of(aulas), Set.of());
+        final var third = put("Aula 3", 2022, Rating.L, Set.of(aulas), Set.of(tech));
+        put("Aula 4", 2022, Rating.L, Set.of(), Set.of(tech));
+
+        // when
+        final var actualByTitle = index.search(query(0, 2, "title", "desc", Set.of(), Set.of(aulas), Set.of()), null);
+        final var actualByCreation = index.search(query(1, 2, "createdAt", "asc", Set.of(), Set.of(aulas), Set.of()), null);
+        final var actualTech = index.search(query(0, 10, "yearLaunched", "asc", Set.of(Rating.L), Set.of(aulas), Set.of(tech)), null);
+
+        // then
+        Assertions.assertEquals(3, actualByTitle.total());
+        Assertions.assertEquals(List.of(third, second), actualByTitle.ids());
+        Assertions.assertEquals(3, actualByCreation.total());
+        Assertions.assertEquals(List.of(third), actualByCreation.ids());
+        Assertions.assertEquals(List.of(first, third), actualTech.ids());
+    }
+
+    @Test
+    public void givenTermMatches_whenCallsSearchByRelevance_shouldReturnOnlyMatchesBestFirst() {
+        // given
+        final var good = put("Testes", 2020, Rating.L, Set.of(), Set.of());
+        final var best = put("Testes e mais testes", 2020, Rating.L, Set.of(), Set.of());
+        put("Microsserviços", 2020, Rating.L, Set.of(), Set.of());
+
+        final var aQuery = query(0, 10, "relevance", "asc", Set.of(Rating.L), Set.of(), Set.of());
+
+        // when
+        final var actualPage = index.search(aQuery, Map.of(good, 1.0, best, 2.0));
+
+        // then
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(List.of(best, good), actualPage.ids());
+    }
+
+    @Test
+    public void givenUpdatedAndRemovedVideos_whenCallsFacets_shouldCountEachFacetIgnoringItsOwnFilter() {
+        // given
+        final var aulas = CategoryID.unique();
+        final var lives = CategoryID.unique();
+
+        final var aVideo = newVideo("Aula 1", 2020, Rating.L, Set.of(lives), Set.of());
+        index.put(aVideo);
+        index.put(Video.with(aVideo).update(
+                aVideo.getTitle(),
+                aVideo.getDescription(),
+                Year.of(2021),
+                aVideo.getDuration(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getRating(),
+                Set.of(aulas),
+                Set.of(),
+                Set.of()
+        ));
+        put("Aula 2", 2021, Rating.AGE_12, Set.of(aulas), Set.of());
+        put("Aula 3", 2022, Rating.L, Set.of(lives), Set.of());
+        index.remove(VideoID.from(put("Aula 4", 2021, Rating.L, Set.of(aulas), Set.of())));
+
+        final var aQuery = query(0, 10, "title", "asc", Set.of(Rating.L), Set.of(aulas), Set.of());
+
+        // when
+        final var actualFacets = index.facets(aQuery, null);
+
+        // then
+        Assertions.assertEquals(3, index.size());
+        Assertions.assertEquals(1, actualFacets.total());
+        Assertions.assertEquals(Map.of(Rating.L, 1L, Rating.AGE_12, 1L), actualFacets.ratings());
+        Assertions.assertEquals(Map.of(Year.of(2021), 1L), actualFacets.launchedAt());
+        Assertions.assertEquals(Map.of(aulas, 1L, lives, 1L), actualFacets.categories());
+        Assertions.assertEquals(Map.of(false, 1L), actualFacets.published());
+    }
+
+    @Test
+    public void givenARemovedCategory_whenCallsFacets_shouldNoLongerFilterOrCountIt() {
+        // given
+        final var aulas = CategoryID.unique();
+        final var lives = CategoryID.unique();
+
+        final var aVideo = newVideo("Aula 1", 2020, Rating.L, Set.of(aulas, lives), Set.of());
+        index.put(aVideo);
+        put("Aula 2", 2021, Rating.L, Set.of(aulas), Set.of());
+
+        index.removeCategory(aulas);
+        index.put(Video.with(aVideo).update(
+                aVideo.getTitle(),
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                aVideo.getRating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ));
+
+        // when
+        final var actualFiltered = index.search(query(0, 10, "title", "asc", Set.of(), Set.of(aulas), Set.of()), null);
+        final var actualFacets = index.facets(query(0, 10, "title", "asc", Set.of(), Set.of(), Set.of()), null);
+
+        // then
+        Assertions.assertEquals(0, actualFiltered.total());
+        Assertions.assertEquals(2, actualFacets.total());
+        Assertions.assertTrue(actualFacets.categories().isEmpty());
+    }
+
+    @Test
+    public void givenAnUnknownSort_whenCallsSearch_shouldThrowDomainException() {
+        // given
+        final var aQuery = query(0, 10, "description", "asc", Set.of(), Set.of(), Set.of());
+
+        // when
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> index.search(aQuery, null));
+
+        // then
+        Assertions.assertEquals("'description' is not a sortable video field", actualException.getErrors().get(0).message());
+    }
+
+    private String put(
+            final String aTitle,
+            final int aYear,
+            final Rating aRating,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres
+    ) {
+        final var aVideo = newVideo(aTitle, aYear, aRating, categories, genres);
+        index.put(aVideo);
+        return aVideo.getId().getValue();
+    }
+
+    private static Video newVideo(
+            final String aTitle,
+            final int aYear,
+            final Rating aRating,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres
+    ) {
+        return Video.newVideo(aTitle, "Some description", Year.of(aYear), 120.0, true, false, aRating, categories, genres, Set.of());
+    }
+
+    private static VideoSearchQuery query(
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final Set<Rating> ratings,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres
+    ) {
+        return new VideoSearchQuery(page, perPage, "", sort, direction, ratings, null, null, null, null, categories, genres, Set.of());
+    }
+}